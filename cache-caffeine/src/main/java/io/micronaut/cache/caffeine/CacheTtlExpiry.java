@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.caffeine;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micronaut.cache.CacheTtlResolver;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Expires each entry after the time to live resolved from its value by a {@link CacheTtlResolver}, or after the
+ * default duration when the resolver doesn't return one.
+ *
+ * @since 5.1.0
+ */
+final class CacheTtlExpiry implements Expiry<Object, Object> {
+
+    private final CacheTtlResolver resolver;
+    private final long defaultNanos;
+
+    /**
+     * @param resolver     The resolver
+     * @param defaultNanos The time to live of the values the resolver doesn't return one for, in nanoseconds
+     */
+    CacheTtlExpiry(CacheTtlResolver resolver, long defaultNanos) {
+        this.resolver = resolver;
+        this.defaultNanos = defaultNanos;
+    }
+
+    @Override
+    public long expireAfterCreate(Object key, Object value, long currentTime) {
+        return timeToLive(key, value);
+    }
+
+    @Override
+    public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+        return timeToLive(key, value);
+    }
+
+    @Override
+    public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+
+    private long timeToLive(Object key, Object value) {
+        Optional<Duration> ttl = resolver.resolveTtl(key, value);
+        if (ttl.isEmpty()) {
+            return defaultNanos;
+        }
+        Duration duration = ttl.get();
+        if (duration.isNegative()) {
+            return 0;
+        }
+        return duration.compareTo(Duration.ofNanos(Long.MAX_VALUE)) >= 0 ? Long.MAX_VALUE : duration.toNanos();
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.caffeine;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micronaut.cache.AsyncCache;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.convert.ConversionContext;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.Argument;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * <p>An {@link AsyncCache} backed by a Caffeine {@link com.github.benmanes.caffeine.cache.AsyncCache}, which caches
+ * the future of each value.</p>
+ *
+ * <p>A value that isn't cached is loaded by {@link #get(Object, Argument, Supplier)} in the background, and its
+ * future is cached straight away, so that concurrent loads of the same key wait for the same value without blocking.
+ * {@link #getOrLoad(Object, Argument, Supplier)} caches the future returned by its loader in the same way, without
+ * occupying a thread while it completes. A load that fails or returns null is removed from the cache. Lookups ignore
+ * the values that are still loading, and {@link #putIfAbsent(Object, Object)} replaces a load that failed.</p>
+ *
+ * @since 5.1.0
+ */
+public class DefaultAsyncCache implements AsyncCache<Cache> {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.AsyncCache<Object, Object> cache;
+    private final Executor loadExecutor;
+    private final ConversionService conversionService;
+
+    /**
+     * @param name              The name of the cache
+     * @param cache             The Caffeine cache
+     * @param loadExecutor      The executor that loads the values
+     * @param conversionService To convert the value from the cache into given required type
+     */
+    public DefaultAsyncCache(@NonNull String name,
+                             @NonNull com.github.benmanes.caffeine.cache.AsyncCache<Object, Object> cache,
+                             @NonNull Executor loadExecutor,
+                             @NonNull ConversionService conversionService) {
+        this.name = name;
+        this.cache = cache;
+        this.loadExecutor = loadExecutor;
+        this.conversionService = conversionService;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The synchronous view of the Caffeine cache, as returned by {@link DefaultSyncCache#getNativeCache()}
+     */
+    @Override
+    public Cache getNativeCache() {
+        return cache.synchronous();
+    }
+
+    /**
+     * @return The Caffeine cache
+     */
+    @NonNull
+    public com.github.benmanes.caffeine.cache.AsyncCache<Object, Object> getNativeAsyncCache() {
+        return cache;
+    }
+
+    @Override
+    public <T> CompletableFuture<Optional<T>> get(Object key, Argument<T> requiredType) {
+        CompletableFuture<Object> future = cache.getIfPresent(key);
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        Object value = future.join();
+        if (value == null) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        return CompletableFuture.completedFuture(conversionService.convert(value, ConversionContext.of(requiredType)));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> get(Object key, Argument<T> requiredType, Supplier<T> supplier) {
+        return convert(cache.get(key, (k, executor) -> CompletableFuture.supplyAsync(supplier, loadExecutor)), requiredType);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> CompletableFuture<T> getOrLoad(Object key, Argument<T> requiredType, Supplier<? extends CompletionStage<T>> loader) {
+        return convert(cache.get(key, (k, executor) -> {
+            try {
+                return (CompletableFuture<Object>) loader.get().toCompletableFuture();
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }), requiredType);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> convert(CompletableFuture<Object> future, Argument<T> requiredType) {
+        return future
+            .thenApply(value -> {
+                if (value == null) {
+                    return null;
+                }
+                Optional<T> converted = conversionService.convert(value, ConversionContext.of(requiredType));
+                return converted.orElseThrow(() ->
+                    new IllegalArgumentException("Cache supplier returned a value that cannot be converted to type: " + requiredType.getName())
+                );
+            });
+    }
+
+    @Override
+    public <T> CompletableFuture<Map<Object, T>> getAll(Collection<?> keys, Argument<T> requiredType) {
+        Map<Object, T> values = new LinkedHashMap<>(keys.size());
+        for (Object key : keys) {
+            get(key, requiredType).join().ifPresent(value -> values.put(key, value));
+        }
+        return CompletableFuture.completedFuture(values);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> CompletableFuture<Optional<T>> putIfAbsent(Object key, T value) {
+        CompletableFuture<Object> previous = cache.asMap().putIfAbsent(key, CompletableFuture.completedFuture(value));
+        if (previous == null) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        return previous.handle((previousValue, error) -> {
+            if (error == null && previousValue != null) {
+                return CompletableFuture.completedFuture(Optional.of((T) previousValue));
+            }
+            // a load that failed or returned null is not a value, so it is replaced
+            cache.asMap().remove(key, previous);
+            return putIfAbsent(key, value);
+        }).thenCompose(Function.identity());
+    }
+
+    @Override
+    public CompletableFuture<Boolean> put(Object key, Object value) {
+        if (value == null) {
+            // null is the same as removal
+            cache.synchronous().invalidate(key);
+        } else {
+            cache.put(key, CompletableFuture.completedFuture(value));
+        }
+        return CompletableFuture.completedFuture(true);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> putAll(Map<?, ?> values) {
+        List<Object> nullKeys = new ArrayList<>();
+        values.forEach((key, value) -> {
+            if (value == null) {
+                nullKeys.add(key);
+            } else {
+                cache.put(key, CompletableFuture.completedFuture(value));
+            }
+        });
+        if (!nullKeys.isEmpty()) {
+            cache.synchronous().invalidateAll(nullKeys);
+        }
+        return CompletableFuture.completedFuture(true);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> invalidate(Object key) {
+        cache.synchronous().invalidate(key);
+        return CompletableFuture.completedFuture(true);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> invalidateAll(Collection<?> keys) {
+        cache.synchronous().invalidateAll(keys);
+        return CompletableFuture.completedFuture(true);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> invalidateAll() {
+        cache.synchronous().invalidateAll();
+        return CompletableFuture.completedFuture(true);
+    }
+}
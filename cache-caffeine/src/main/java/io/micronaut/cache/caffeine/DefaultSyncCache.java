@@ -17,10 +17,18 @@ package io.micronaut.cache.caffeine;
 
 import com.github.benmanes.caffeine.cache.*;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micronaut.cache.AsyncCache;
 import io.micronaut.cache.CacheConfiguration;
+import io.micronaut.cache.CacheExecutorResolver;
 import io.micronaut.cache.CacheInfo;
+import io.micronaut.cache.CacheTtlResolver;
+import io.micronaut.cache.ResizableCache;
 import io.micronaut.cache.SyncCache;
 import io.micronaut.cache.caffeine.configuration.CaffeineCacheConfiguration;
+import io.micronaut.cache.caffeine.snapshot.CacheSnapshot;
+import io.micronaut.cache.caffeine.snapshot.CacheSnapshotMetrics;
+import io.micronaut.cache.serialize.CacheValueCodec;
+import io.micronaut.cache.serialize.JdkCacheValueCodec;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.annotation.EachBean;
 import io.micronaut.core.annotation.NonNull;
@@ -29,14 +37,29 @@ import io.micronaut.core.convert.ConversionContext;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.type.Argument;
 import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.TaskScheduler;
+import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
 import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -49,12 +72,19 @@ import java.util.function.Supplier;
  * @since 1.0
  */
 @EachBean(CacheConfiguration.class)
-public class DefaultSyncCache implements SyncCache<Cache> {
+public class DefaultSyncCache implements SyncCache<Cache>, ResizableCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultSyncCache.class);
 
     private final CacheConfiguration cacheConfiguration;
     private final com.github.benmanes.caffeine.cache.Cache cache;
+    private final DefaultAsyncCache asyncCache;
     private final ApplicationContext applicationContext;
     private final ConversionService conversionService;
+    private final Map<Object, Function<Object, ?>> loaders = new ConcurrentHashMap<>();
+    private final Executor loadExecutor;
+    private final CacheSnapshot snapshot;
+    private final ScheduledFuture<?> snapshotTask;
 
     /**
      * Construct a sync cache implementation with given configurations.
@@ -85,7 +115,26 @@ public class DefaultSyncCache implements SyncCache<Cache> {
         this.cacheConfiguration = cacheConfiguration;
         this.applicationContext = applicationContext;
         this.conversionService = conversionService;
-        this.cache = buildCache(cacheConfiguration);
+        this.loadExecutor = cacheConfiguration.isTestMode() ? Runnable::run
+            : applicationContext.getBean(CacheExecutorResolver.class).resolve(cacheConfiguration.getCacheName());
+        if (cacheConfiguration instanceof CaffeineCacheConfiguration caffeineCacheConfiguration && caffeineCacheConfiguration.isAsync()) {
+            com.github.benmanes.caffeine.cache.AsyncCache<Object, Object> nativeAsyncCache = buildAsyncCache(cacheConfiguration);
+            this.asyncCache = new DefaultAsyncCache(cacheConfiguration.getCacheName(), nativeAsyncCache, loadExecutor, conversionService);
+            this.cache = nativeAsyncCache.synchronous();
+        } else {
+            this.asyncCache = null;
+            this.cache = buildCache(cacheConfiguration);
+        }
+        this.snapshot = createSnapshot();
+        if (snapshot != null) {
+            snapshot.restore(cache);
+            this.snapshotTask = ((CaffeineCacheConfiguration) cacheConfiguration).getSnapshotInterval()
+                .map(interval -> applicationContext.getBean(TaskScheduler.class, Qualifiers.byName(TaskExecutors.SCHEDULED))
+                    .scheduleAtFixedRate(interval, interval, () -> snapshot.write(cache)))
+                .orElse(null);
+        } else {
+            this.snapshotTask = null;
+        }
     }
 
     @Override
@@ -113,11 +162,41 @@ public class DefaultSyncCache implements SyncCache<Cache> {
         return cacheConfiguration.getCacheName();
     }
 
+    @Override
+    public boolean isNonBlocking() {
+        return true;
+    }
+
     @Override
     public com.github.benmanes.caffeine.cache.Cache getNativeCache() {
         return cache;
     }
 
+    @NonNull
+    @Override
+    public OptionalLong getMaximum() {
+        Optional<Policy.Eviction<Object, Object>> eviction = cache.policy().eviction();
+        return eviction.isPresent() ? OptionalLong.of(eviction.get().getMaximum()) : OptionalLong.empty();
+    }
+
+    @Override
+    public void setMaximum(long maximum) {
+        cache.policy().eviction().ifPresent(eviction -> ((Policy.Eviction<?, ?>) eviction).setMaximum(maximum));
+    }
+
+    /**
+     * Returns a cache backed by the Caffeine {@link com.github.benmanes.caffeine.cache.AsyncCache} of this cache, if
+     * it is {@link CaffeineCacheConfiguration#isAsync() asynchronous}, or otherwise a view that runs the operations
+     * in the current thread.
+     *
+     * @return The asynchronous cache
+     */
+    @NonNull
+    @Override
+    public AsyncCache<Cache> async() {
+        return asyncCache != null ? asyncCache : SyncCache.super.async();
+    }
+
     @Override
     public <T> Optional<T> get(Object key, Argument<T> requiredType) {
         Object value = cache.getIfPresent(key);
@@ -129,7 +208,14 @@ public class DefaultSyncCache implements SyncCache<Cache> {
 
     @Override
     public <T> T get(Object key, Argument<T> requiredType, Supplier<T> supplier) {
-        Object value = cache.get(key, o -> supplier.get());
+        Object value = cache.get(key, o -> {
+            T loaded = supplier.get();
+            if (loaded != null && cache instanceof LoadingCache) {
+                // the loader is only kept when it loads the value, so that hits don't write to the loaders
+                loaders.put(key, k -> supplier.get());
+            }
+            return loaded;
+        });
         if (value != null) {
             Optional<T> converted = conversionService.convert(value, ConversionContext.of(requiredType));
             return converted.orElseThrow(() ->
@@ -139,14 +225,63 @@ public class DefaultSyncCache implements SyncCache<Cache> {
         return (T) value;
     }
 
+    @SuppressWarnings("unchecked")
+    @NonNull
+    @Override
+    public <T> Map<Object, T> getAll(@NonNull Collection<?> keys, @NonNull Argument<T> requiredType) {
+        Map<Object, Object> entries = cache.getAllPresent(keys);
+        Map<Object, T> values = new LinkedHashMap<>(entries.size());
+        for (Object key : keys) {
+            Object value = entries.get(key);
+            if (value != null) {
+                conversionService.convert(value, ConversionContext.of(requiredType))
+                    .ifPresent(converted -> values.put(key, converted));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * <p>Cache the specified values using their keys. Keys that are associated with a null value are invalidated.</p>
+     *
+     * @param values the values to be associated with their keys
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void putAll(@NonNull Map<?, ?> values) {
+        Map<Object, Object> nonNullValues = new LinkedHashMap<>(values.size());
+        List<Object> nullKeys = new ArrayList<>();
+        values.forEach((key, value) -> {
+            if (value == null) {
+                nullKeys.add(key);
+            } else {
+                nonNullValues.put(key, value);
+            }
+        });
+        cache.putAll(nonNullValues);
+        if (!nullKeys.isEmpty()) {
+            invalidateAll(nullKeys);
+        }
+    }
+
+    @Override
+    public void invalidateAll(@NonNull Collection<?> keys) {
+        cache.invalidateAll(keys);
+        if (!loaders.isEmpty()) {
+            keys.forEach(loaders::remove);
+        }
+    }
+
     @Override
     public void invalidate(Object key) {
         cache.invalidate(key);
+        loaders.remove(key);
     }
 
     @Override
     public void invalidateAll() {
         cache.invalidateAll();
+        loaders.clear();
     }
 
     /**
@@ -161,12 +296,26 @@ public class DefaultSyncCache implements SyncCache<Cache> {
     public void put(@NonNull Object key, @Nullable Object value) {
         if (value == null) {
             // null is the same as removal
-            cache.invalidate(key);
+            invalidate(key);
         } else {
             cache.put(key, value);
         }
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public void put(Object key, Object value, Function<Object, ?> reloader) {
+        if (cache instanceof LoadingCache) {
+            loaders.put(key, reloader);
+        }
+        cache.put(key, value);
+    }
+
+    @Override
+    public boolean isRefreshedAfterWrite() {
+        return cache instanceof LoadingCache;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T> Optional<T> putIfAbsent(Object key, T value) {
@@ -181,6 +330,21 @@ public class DefaultSyncCache implements SyncCache<Cache> {
         return (T) val;
     }
 
+    /**
+     * Saves the entries of the cache to its snapshot file, if one is configured, and stops the periodic snapshots.
+     *
+     * @since 5.1.0
+     */
+    @PreDestroy
+    public void close() {
+        if (snapshotTask != null) {
+            snapshotTask.cancel(false);
+        }
+        if (snapshot != null) {
+            snapshot.write(cache);
+        }
+    }
+
     /**
      * Build a cache from the given configurations.
      *
@@ -188,9 +352,52 @@ public class DefaultSyncCache implements SyncCache<Cache> {
      * @return cache
      */
     protected com.github.benmanes.caffeine.cache.Cache buildCache(CacheConfiguration cacheConfiguration) {
+        Caffeine<Object, Object> builder = newBuilder(cacheConfiguration);
+        if (cacheConfiguration.getRefreshAfterWrite().isPresent()) {
+            return builder.build(new ReloadingCacheLoader());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Build an asynchronous cache from the given configurations, for the caches that are configured to be
+     * {@link CaffeineCacheConfiguration#isAsync() asynchronous}.
+     *
+     * @param cacheConfiguration The cache configurations
+     * @return The asynchronous cache
+     * @since 5.1.0
+     */
+    protected com.github.benmanes.caffeine.cache.AsyncCache<Object, Object> buildAsyncCache(CacheConfiguration cacheConfiguration) {
+        Caffeine<Object, Object> builder = newBuilder(cacheConfiguration);
+        if (cacheConfiguration.getRefreshAfterWrite().isPresent()) {
+            return builder.buildAsync(new ReloadingCacheLoader());
+        }
+        return builder.buildAsync();
+    }
+
+    private Caffeine<Object, Object> newBuilder(CacheConfiguration cacheConfiguration) {
         Caffeine<Object, Object> builder = Caffeine.newBuilder();
-        cacheConfiguration.getExpireAfterAccess().ifPresent(duration -> builder.expireAfterAccess(duration.toMillis(), TimeUnit.MILLISECONDS));
-        cacheConfiguration.getExpireAfterWrite().ifPresent(duration -> builder.expireAfterWrite(duration.toMillis(), TimeUnit.MILLISECONDS));
+        Expiry<Object, Object> expiry = findExpiry(cacheConfiguration);
+        if (expiry != null) {
+            if (cacheConfiguration.getExpireAfterAccess().isPresent() && LOG.isWarnEnabled()) {
+                LOG.warn("The expire-after-access of cache [{}] is ignored, because the cache has a variable expiry", cacheConfiguration.getCacheName());
+            }
+            // the expiry of a CacheTtlResolver uses the expire-after-write as its default, while an Expiry bean replaces it
+            if (!(expiry instanceof CacheTtlExpiry) && cacheConfiguration.getExpireAfterWrite().isPresent() && LOG.isWarnEnabled()) {
+                LOG.warn("The expire-after-write of cache [{}] is ignored, because the cache has a variable expiry", cacheConfiguration.getCacheName());
+            }
+            builder.expireAfter(new NegativeCacheEntryExpiry(expiry));
+        } else {
+            Optional<Duration> expireAfterWrite = cacheConfiguration.getExpireAfterWrite();
+            cacheConfiguration.getExpireAfterAccess().ifPresent(duration -> builder.expireAfterAccess(duration.toMillis(), TimeUnit.MILLISECONDS));
+            if (cacheConfiguration.getExpireAfterAccess().isEmpty()
+                && (isSnapshotEnabled(cacheConfiguration) && expireAfterWrite.isPresent() || cacheConfiguration.getNegativeTtl().isPresent())) {
+                // a variable expiry lets the restored entries keep the time they had left, and the empty results expire with their marker
+                builder.expireAfter(new NegativeCacheEntryExpiry(new WriteExpiry(expireAfterWrite.map(Duration::toNanos).orElse(Long.MAX_VALUE))));
+            } else {
+                expireAfterWrite.ifPresent(duration -> builder.expireAfterWrite(duration.toMillis(), TimeUnit.MILLISECONDS));
+            }
+        }
         cacheConfiguration.getInitialCapacity().ifPresent(builder::initialCapacity);
         cacheConfiguration.getMaximumSize().ifPresent(builder::maximumSize);
         cacheConfiguration.getMaximumWeight().ifPresent(weight -> {
@@ -198,16 +405,21 @@ public class DefaultSyncCache implements SyncCache<Cache> {
             builder.weigher(findWeigher());
         });
         CaffeineCacheConfiguration caffeineCacheConfiguration = cacheConfiguration instanceof CaffeineCacheConfiguration ? (CaffeineCacheConfiguration) cacheConfiguration : null;
-        if (caffeineCacheConfiguration != null) {
-            RemovalListener removalListener = findRemovalListener();
-            if (removalListener != null) {
-                if (caffeineCacheConfiguration.isListenToRemovals()) {
-                    builder.removalListener((key, value, cause) -> removalListener.onRemoval(key, value, cause));
-                }
-                if (caffeineCacheConfiguration.isListenToEvictions()) {
-                    builder.evictionListener((key, value, cause) -> removalListener.onRemoval(key, value, cause));
+        RemovalListener<Object, Object> removalListener = caffeineCacheConfiguration != null ? findRemovalListener() : null;
+        if (removalListener != null && caffeineCacheConfiguration.isListenToRemovals()) {
+            builder.removalListener((key, value, cause) -> removalListener.onRemoval(key, value, cause));
+        }
+        RemovalListener<Object, Object> evictionListener = removalListener != null && caffeineCacheConfiguration.isListenToEvictions() ? removalListener : null;
+        if (cacheConfiguration.getRefreshAfterWrite().isPresent()) {
+            // the loaders of evicted entries are released, while the loaders of replaced entries are kept to reload them
+            builder.evictionListener((key, value, cause) -> {
+                loaders.remove(key);
+                if (evictionListener != null) {
+                    evictionListener.onRemoval(key, value, cause);
                 }
-            }
+            });
+        } else if (evictionListener != null) {
+            builder.evictionListener((key, value, cause) -> evictionListener.onRemoval(key, value, cause));
         }
         if (cacheConfiguration.isRecordStats()) {
             builder.recordStats();
@@ -216,21 +428,72 @@ public class DefaultSyncCache implements SyncCache<Cache> {
             // run commands on same thread
             builder.executor(Runnable::run);
         }
-        return builder.build();
+        cacheConfiguration.getRefreshAfterWrite().ifPresent(builder::refreshAfterWrite);
+        return builder;
+    }
+
+    private static boolean isSnapshotEnabled(CacheConfiguration cacheConfiguration) {
+        return cacheConfiguration instanceof CaffeineCacheConfiguration caffeineCacheConfiguration
+            && caffeineCacheConfiguration.getSnapshotFile().isPresent();
+    }
+
+    private CacheSnapshot createSnapshot() {
+        if (!isSnapshotEnabled(cacheConfiguration)) {
+            return null;
+        }
+        String cacheName = cacheConfiguration.getCacheName();
+        CacheValueCodec codec = applicationContext.findBean(CacheValueCodec.class, Qualifiers.byName(cacheName))
+            .orElseGet(() -> applicationContext.findBean(CacheValueCodec.class)
+                .orElseGet(() -> new JdkCacheValueCodec(conversionService)));
+        CacheSnapshotMetrics.SnapshotMetrics metrics = applicationContext.findBean(CacheSnapshotMetrics.class)
+            .map(snapshotMetrics -> snapshotMetrics.forCache(cacheName))
+            .orElse(CacheSnapshotMetrics.SnapshotMetrics.NOOP);
+        return new CacheSnapshot(cacheName, ((CaffeineCacheConfiguration) cacheConfiguration).getSnapshotFile().get(), codec, metrics);
     }
 
     @SuppressWarnings("unchecked")
     private Weigher<Object, Object> findWeigher() {
         return applicationContext.findBean(Weigher.class, Qualifiers.byName(cacheConfiguration.getCacheName()))
-                .orElseGet(() -> applicationContext.findBean(Weigher.class)
-                        .orElse(Weigher.singletonWeigher()));
+                .or(() -> findUnqualifiedBean(Weigher.class))
+                .orElseGet(() -> cacheConfiguration instanceof CaffeineCacheConfiguration caffeineCacheConfiguration && caffeineCacheConfiguration.isWeighBySize()
+                        ? new ObjectSizeWeigher()
+                        : Weigher.singletonWeigher());
+    }
+
+    /**
+     * @return The {@link Expiry} bean of the cache, or an expiry that uses the {@link CacheTtlResolver} bean of the
+     * cache, or null if there is neither
+     */
+    @SuppressWarnings("unchecked")
+    private Expiry<Object, Object> findExpiry(CacheConfiguration cacheConfiguration) {
+        String cacheName = cacheConfiguration.getCacheName();
+        Expiry<Object, Object> expiry = applicationContext.findBean(Expiry.class, Qualifiers.byName(cacheName))
+            .or(() -> findUnqualifiedBean(Expiry.class))
+            .orElse(null);
+        if (expiry != null) {
+            return expiry;
+        }
+        return applicationContext.findBean(CacheTtlResolver.class, Qualifiers.byName(cacheName))
+            .or(() -> findUnqualifiedBean(CacheTtlResolver.class))
+            .map(resolver -> new CacheTtlExpiry(resolver, cacheConfiguration.getExpireAfterWrite().map(Duration::toNanos).orElse(Long.MAX_VALUE)))
+            .orElse(null);
+    }
+
+    /**
+     * @return The bean of the given type that isn't qualified, so that the beans named after other caches are ignored
+     */
+    private <T> Optional<T> findUnqualifiedBean(Class<T> beanType) {
+        return applicationContext.getBeanDefinitions(beanType).stream()
+            .filter(definition -> definition.getDeclaredQualifier() == null)
+            .findFirst()
+            .map(applicationContext::getBean);
     }
 
     @SuppressWarnings("unchecked")
     private RemovalListener<Object, Object> findRemovalListener() {
-         return applicationContext.findBean(RemovalListener.class, Qualifiers.byName(cacheConfiguration.getCacheName()))
-                .orElseGet(() -> applicationContext.findBean(RemovalListener.class)
-                        .orElse(null));
+        return applicationContext.findBean(RemovalListener.class, Qualifiers.byName(cacheConfiguration.getCacheName()))
+                .or(() -> findUnqualifiedBean(RemovalListener.class))
+                .orElse(null);
     }
 
     private Map<String, Object> getCaffeineCacheData(Cache caffeineCache) {
@@ -252,7 +515,8 @@ public class DefaultSyncCache implements SyncCache<Cache> {
         values.put("maximumWeight", maximumWeight);
         values.put("weightedSize", weightedSize);
         values.put("expireAfterAccess", getExpiresAfter(expireAfterAccess));
-        values.put("expireAfterWrite", getExpiresAfter(expireAfterWrite));
+        values.put("expireAfterWrite", expireAfterWrite.isPresent() || policy.expireVariably().isEmpty() ? getExpiresAfter(expireAfterWrite)
+            : cacheConfiguration.getExpireAfterWrite().map(Duration::toMillis).orElse(null));
         values.put("recordingStats", isRecordingStats);
 
         if (isRecordingStats) {
@@ -266,6 +530,64 @@ public class DefaultSyncCache implements SyncCache<Cache> {
         return expiration.map(e -> e.getExpiresAfter(TimeUnit.MILLISECONDS)).orElse(null);
     }
 
+    /**
+     * Expires entries a fixed duration after they were created or updated, as {@code expireAfterWrite} does, while
+     * allowing a different duration to be set for the entries that are restored from a snapshot.
+     */
+    private static final class WriteExpiry implements Expiry<Object, Object> {
+
+        private final long nanos;
+
+        WriteExpiry(long nanos) {
+            this.nanos = nanos;
+        }
+
+        @Override
+        public long expireAfterCreate(Object key, Object value, long currentTime) {
+            return nanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+            return nanos;
+        }
+
+        @Override
+        public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * Loads and reloads entries with the loader that last loaded or put their value, on the executor of the cache. An
+     * entry that was never loaded with a loader, such as an entry that was only put without one, is not loaded: the native
+     * {@link LoadingCache#get(Object)} returns null for it, and a refresh of it is cancelled so that it keeps its
+     * value and expires as configured.
+     */
+    private final class ReloadingCacheLoader implements CacheLoader<Object, Object> {
+
+        @Override
+        public Object load(Object key) {
+            Function<Object, ?> loader = loaders.get(key);
+            return loader != null ? loader.apply(key) : null;
+        }
+
+        @Override
+        public CompletableFuture<Object> asyncReload(Object key, Object oldValue, Executor executor) {
+            Function<Object, ?> loader = loaders.get(key);
+            if (loader == null) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Not refreshing the key [{}] of cache [{}], because it has no loader", key, getName());
+                }
+                // a cancelled refresh is not logged by Caffeine and keeps the write time of the entry
+                CompletableFuture<Object> cancelled = new CompletableFuture<>();
+                cancelled.cancel(false);
+                return cancelled;
+            }
+            return CompletableFuture.supplyAsync(() -> loader.apply(key), loadExecutor);
+        }
+    }
+
     private Map<String, Object> getStatsData(CacheStats stats) {
 
         Map<String, Object> values = new LinkedHashMap<>(13);
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.caffeine;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micronaut.cache.interceptor.NegativeCacheEntry;
+import io.micronaut.cache.interceptor.RefreshableValue;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Expires the empty results cached by the interceptor when their marker does, and passes the other values to the
+ * given expiry once unwrapped, so that the negative time to live doesn't depend on the expiry of the cache.
+ *
+ * @since 5.1.0
+ */
+final class NegativeCacheEntryExpiry implements Expiry<Object, Object> {
+
+    private final Expiry<Object, Object> delegate;
+
+    /**
+     * @param delegate The expiry of the values
+     */
+    NegativeCacheEntryExpiry(Expiry<Object, Object> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public long expireAfterCreate(Object key, Object value, long currentTime) {
+        if (value instanceof NegativeCacheEntry negativeCacheEntry) {
+            return timeToLive(negativeCacheEntry);
+        }
+        return delegate.expireAfterCreate(key, unwrap(value), currentTime);
+    }
+
+    @Override
+    public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+        if (value instanceof NegativeCacheEntry negativeCacheEntry) {
+            return timeToLive(negativeCacheEntry);
+        }
+        return delegate.expireAfterUpdate(key, unwrap(value), currentTime, currentDuration);
+    }
+
+    @Override
+    public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+        if (value instanceof NegativeCacheEntry) {
+            return currentDuration;
+        }
+        return delegate.expireAfterRead(key, unwrap(value), currentTime, currentDuration);
+    }
+
+    private static long timeToLive(NegativeCacheEntry negativeCacheEntry) {
+        return TimeUnit.MILLISECONDS.toNanos(negativeCacheEntry.getRemainingMillis());
+    }
+
+    private static Object unwrap(Object value) {
+        return value instanceof RefreshableValue refreshableValue ? refreshableValue.getValue() : value;
+    }
+}
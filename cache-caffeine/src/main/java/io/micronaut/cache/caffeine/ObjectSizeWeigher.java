@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.caffeine;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import io.micronaut.cache.ObjectSizeEstimator;
+import io.micronaut.cache.interceptor.NegativeCacheEntry;
+import io.micronaut.cache.interceptor.RefreshableValue;
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * Weighs each entry by the estimated number of bytes its key and value occupy on the heap, so that the
+ * {@code maximum-weight} of a cache is a size in bytes. The value cached by the interceptor is unwrapped before it is
+ * weighed, and a cached absence weighs as little as a {@code null} value. This is the weigher used when no {@link Weigher}
+ * bean is defined for a cache with {@code weigh-by-size} enabled.
+ *
+ * @see ObjectSizeEstimator
+ * @since 5.1.0
+ */
+public final class ObjectSizeWeigher implements Weigher<Object, Object> {
+
+    /**
+     * The approximate number of bytes used by the cache itself for each entry.
+     */
+    static final int ENTRY_OVERHEAD = 64;
+
+    @Override
+    public int weigh(@NonNull Object key, @NonNull Object value) {
+        if (value instanceof RefreshableValue refreshableValue) {
+            value = refreshableValue.getValue();
+        }
+        if (value instanceof NegativeCacheEntry) {
+            value = null;
+        }
+        long weight = ENTRY_OVERHEAD + ObjectSizeEstimator.estimate(key) + ObjectSizeEstimator.estimate(value);
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+}
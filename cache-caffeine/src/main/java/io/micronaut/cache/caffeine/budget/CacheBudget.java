@@ -0,0 +1,201 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.caffeine.budget;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micronaut.cache.CacheResizedEvent;
+import io.micronaut.cache.caffeine.DefaultSyncCache;
+import io.micronaut.cache.memory.MemoryPressureMonitor;
+import io.micronaut.context.BeanProvider;
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.TaskScheduler;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * <p>Shares a total maximum weight, or size, between the bounded Caffeine caches, and periodically moves it to the
+ * caches where it saves the most.</p>
+ *
+ * <p>Each cache is guaranteed an equal part of the {@link CacheBudgetConfiguration#getMinimumFraction() minimum
+ * fraction} of the budget. A cache that isn't full only gets the room it uses, with some headroom, since more room
+ * wouldn't save any miss. The rest of the budget is shared between the full caches in proportion to the number of
+ * misses they had during the last interval multiplied by the average time it took to load a value, which estimates
+ * the load time more room would save. When no full cache missed, the rest is shared in proportion to the current
+ * maximums. Each cache is then resized by the {@link CacheBudgetConfiguration#getDamping() damping} of the difference
+ * with its share, so that the allocation converges without oscillating.</p>
+ *
+ * <p>The caches must {@link io.micronaut.cache.CacheConfiguration#isRecordStats() record stats} for their misses and
+ * load times to be known, and should all be weighted in the same unit. A {@link CacheResizedEvent} is published for
+ * each resize.</p>
+ *
+ * <p>When the {@link MemoryPressureMonitor} is enabled, the budget is allocated through
+ * {@link MemoryPressureMonitor#resizeUnlessShrunk(Runnable)}, so the allocation is skipped while the caches are shrunk
+ * because of memory pressure and resumes from the maximums they are restored to.</p>
+ *
+ * @since 5.1.0
+ */
+@Context
+@Requires(property = CacheBudgetConfiguration.PREFIX + ".maximum")
+public class CacheBudget {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CacheBudget.class);
+    private static final double FULL_RATIO = 0.9;
+    private static final double HEADROOM = 1.2;
+
+    private final CacheBudgetConfiguration configuration;
+    private final BeanProvider<DefaultSyncCache> caches;
+    private final ApplicationEventPublisher<CacheResizedEvent> eventPublisher;
+    private final MemoryPressureMonitor memoryPressureMonitor;
+    private final Map<String, CacheStats> previousStats = new HashMap<>();
+    private final Set<String> warnedCaches = new HashSet<>();
+    private final ScheduledFuture<?> allocationTask;
+    private boolean allocated;
+
+    /**
+     * @param configuration         The configuration
+     * @param caches                The Caffeine caches
+     * @param eventPublisher        The publisher of the resize events
+     * @param scheduler             The scheduler that allocates the budget periodically
+     * @param memoryPressureMonitor The memory pressure monitor, if it is enabled
+     */
+    public CacheBudget(CacheBudgetConfiguration configuration,
+                       BeanProvider<DefaultSyncCache> caches,
+                       ApplicationEventPublisher<CacheResizedEvent> eventPublisher,
+                       @Named(TaskExecutors.SCHEDULED) TaskScheduler scheduler,
+                       @Nullable MemoryPressureMonitor memoryPressureMonitor) {
+        this.configuration = configuration;
+        this.caches = caches;
+        this.eventPublisher = eventPublisher;
+        this.memoryPressureMonitor = memoryPressureMonitor;
+        allocate();
+        this.allocationTask = scheduler.scheduleAtFixedRate(configuration.getInterval(), configuration.getInterval(), this::allocate);
+    }
+
+    /**
+     * Moves the budget to the caches where it saves the most load time, unless the caches are shrunk because of memory
+     * pressure.
+     */
+    public synchronized void allocate() {
+        if (memoryPressureMonitor == null) {
+            doAllocate();
+        } else if (!memoryPressureMonitor.resizeUnlessShrunk(this::doAllocate) && LOG.isDebugEnabled()) {
+            LOG.debug("Not allocating the budget, because the caches are shrunk because of memory pressure");
+        }
+    }
+
+    private void doAllocate() {
+        List<DefaultSyncCache> participants = caches.stream()
+            .filter(cache -> cache.getMaximum().isPresent())
+            .filter(cache -> configuration.getCaches().isEmpty() || configuration.getCaches().contains(cache.getName()))
+            .toList();
+        int count = participants.size();
+        if (count == 0) {
+            return;
+        }
+        long budget = configuration.getMaximum();
+        double floor = budget * configuration.getMinimumFraction() / count;
+        long[] current = new long[count];
+        long[] used = new long[count];
+        CacheStats[] stats = new CacheStats[count];
+        long loadCount = 0;
+        long loadTime = 0;
+        Set<Boolean> weighted = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            DefaultSyncCache cache = participants.get(i);
+            Cache<?, ?> nativeCache = cache.getNativeCache();
+            Policy.Eviction<?, ?> eviction = nativeCache.policy().eviction().orElseThrow();
+            current[i] = eviction.getMaximum();
+            used[i] = eviction.weightedSize().orElse(nativeCache.estimatedSize());
+            weighted.add(eviction.isWeighted());
+            CacheStats cacheStats = nativeCache.stats();
+            stats[i] = cacheStats.minus(previousStats.getOrDefault(cache.getName(), CacheStats.empty()));
+            previousStats.put(cache.getName(), cacheStats);
+            loadCount += stats[i].loadCount();
+            loadTime += stats[i].totalLoadTime();
+            if (!nativeCache.policy().isRecordingStats() && warnedCaches.add(cache.getName()) && LOG.isWarnEnabled()) {
+                LOG.warn("Cache [{}] doesn't record stats, so its share of the budget only depends on its usage", cache.getName());
+            }
+        }
+        if (weighted.size() > 1 && warnedCaches.add("") && LOG.isWarnEnabled()) {
+            LOG.warn("The caches sharing the budget mix maximum sizes and maximum weights");
+        }
+        double averageLoadTime = loadCount > 0 ? (double) loadTime / loadCount : 1;
+
+        double[] needs = new double[count];
+        double[] benefits = new double[count];
+        double totalNeeds = 0;
+        double totalBenefits = 0;
+        double totalCurrent = 0;
+        for (int i = 0; i < count; i++) {
+            if (used[i] >= current[i] * FULL_RATIO) {
+                double cost = stats[i].loadCount() > 0 ? stats[i].averageLoadPenalty() : averageLoadTime;
+                benefits[i] = stats[i].missCount() * cost;
+                totalBenefits += benefits[i];
+            } else {
+                needs[i] = Math.max(0, used[i] * HEADROOM - floor);
+                totalNeeds += needs[i];
+            }
+            totalCurrent += current[i];
+        }
+        double rest = budget - floor * count;
+        if (totalNeeds > rest) {
+            double scale = rest / totalNeeds;
+            for (int i = 0; i < count; i++) {
+                needs[i] *= scale;
+            }
+            totalNeeds = rest;
+        }
+        rest -= totalNeeds;
+        for (int i = 0; i < count; i++) {
+            double share = totalBenefits > 0 ? rest * benefits[i] / totalBenefits : rest * current[i] / totalCurrent;
+            double ideal = floor + needs[i] + share;
+            double target = allocated ? current[i] + configuration.getDamping() * (ideal - current[i]) : ideal;
+            long maximum = Math.max(1, Math.round(target));
+            if (maximum != current[i]) {
+                DefaultSyncCache cache = participants.get(i);
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Resizing cache [{}] from {} to {}", cache.getName(), current[i], maximum);
+                }
+                cache.setMaximum(maximum);
+                eventPublisher.publishEvent(new CacheResizedEvent(cache.getName(), current[i], maximum, CacheResizedEvent.Cause.BUDGET));
+            }
+        }
+        allocated = true;
+    }
+
+    /**
+     * Stops allocating the budget.
+     */
+    @PreDestroy
+    public void close() {
+        allocationTask.cancel(false);
+    }
+}
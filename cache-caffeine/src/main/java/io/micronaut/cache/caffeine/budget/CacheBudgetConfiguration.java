@@ -0,0 +1,143 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.caffeine.budget;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.convert.format.ReadableBytes;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Configuration of the {@link CacheBudget} shared by the Caffeine caches.
+ *
+ * @since 5.1.0
+ */
+@ConfigurationProperties(CacheBudgetConfiguration.PREFIX)
+public class CacheBudgetConfiguration {
+
+    /**
+     * The prefix for the budget configuration.
+     */
+    public static final String PREFIX = "micronaut.cache.caffeine.budget";
+
+    /**
+     * The default interval between two allocations in seconds.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_INTERVAL_SECONDS = 60;
+
+    /**
+     * The default minimum fraction.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final double DEFAULT_MINIMUM_FRACTION = 0.2;
+
+    /**
+     * The default damping.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final double DEFAULT_DAMPING = 0.5;
+
+    private long maximum;
+    private Duration interval = Duration.ofSeconds(DEFAULT_INTERVAL_SECONDS);
+    private double minimumFraction = DEFAULT_MINIMUM_FRACTION;
+    private double damping = DEFAULT_DAMPING;
+    private List<String> caches = Collections.emptyList();
+
+    /**
+     * @return The total maximum weight, or size, shared by the caches
+     */
+    public long getMaximum() {
+        return maximum;
+    }
+
+    /**
+     * Sets the total maximum weight shared by the caches, such as {@code 512MB} when the weights of the caches are
+     * their size in bytes. When the caches are not weighted, this is the total number of entries.
+     *
+     * @param maximum The total maximum weight
+     */
+    public void setMaximum(@ReadableBytes long maximum) {
+        this.maximum = maximum;
+    }
+
+    /**
+     * @return The interval between two allocations of the budget
+     */
+    public Duration getInterval() {
+        return interval;
+    }
+
+    /**
+     * Default value ({@value #DEFAULT_INTERVAL_SECONDS} seconds).
+     *
+     * @param interval The interval between two allocations of the budget
+     */
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    /**
+     * @return The fraction of the budget divided equally between the caches, whatever their hit rate
+     */
+    public double getMinimumFraction() {
+        return minimumFraction;
+    }
+
+    /**
+     * Default value ({@value #DEFAULT_MINIMUM_FRACTION}). Each cache is guaranteed its part of this fraction of the
+     * budget, so that a cache that stops missing keeps enough room to tell whether it would miss again.
+     *
+     * @param minimumFraction The fraction of the budget divided equally between the caches
+     */
+    public void setMinimumFraction(double minimumFraction) {
+        this.minimumFraction = minimumFraction;
+    }
+
+    /**
+     * @return The fraction of the difference between its current and its ideal share a cache is resized by
+     */
+    public double getDamping() {
+        return damping;
+    }
+
+    /**
+     * Default value ({@value #DEFAULT_DAMPING}). Lower values resize the caches more gradually.
+     *
+     * @param damping The fraction of the difference between its current and its ideal share a cache is resized by
+     */
+    public void setDamping(double damping) {
+        this.damping = damping;
+    }
+
+    /**
+     * @return The names of the caches that share the budget, or an empty list for all the bounded caches
+     */
+    @NonNull
+    public List<String> getCaches() {
+        return caches;
+    }
+
+    /**
+     * @param caches The names of the caches that share the budget. Defaults to all the caches with a maximum size or weight.
+     */
+    public void setCaches(@NonNull List<String> caches) {
+        this.caches = caches;
+    }
+}
@@ -17,8 +17,13 @@ package io.micronaut.cache.caffeine.configuration;
 
 import io.micronaut.cache.CacheConfiguration;
 import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.runtime.ApplicationConfiguration;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
 /**
  * Default cache configuration implementation used to configure instances of {@link io.micronaut.cache.caffeine.DefaultSyncCache}.
  *
@@ -29,6 +34,10 @@ public class CaffeineCacheConfiguration extends CacheConfiguration {
 
     private boolean listenToRemovals;
     private boolean listenToEvictions;
+    private boolean async;
+    private boolean weighBySize;
+    private Path snapshotFile;
+    private Duration snapshotInterval;
 
     /**
      * Creates a new cache with the given name.
@@ -73,4 +82,84 @@ public class CaffeineCacheConfiguration extends CacheConfiguration {
     public void setListenToEvictions(boolean listenToEvictions) {
         this.listenToEvictions = listenToEvictions;
     }
+
+    /**
+     * @return Whether the cache is backed by a Caffeine {@link com.github.benmanes.caffeine.cache.AsyncCache}
+     * @since 5.1.0
+     */
+    public boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * Sets whether the cache is backed by a Caffeine {@link com.github.benmanes.caffeine.cache.AsyncCache}. The
+     * values loaded through the {@link io.micronaut.cache.AsyncCache asynchronous view} of the cache are then loaded
+     * in the background, and concurrent loads of the same key share a single load. Defaults to false.
+     *
+     * @param async The async flag
+     * @since 5.1.0
+     */
+    public void setAsync(boolean async) {
+        this.async = async;
+    }
+
+    /**
+     * @return Whether the entries are weighed by their estimated size in bytes when no weigher bean is defined
+     * @since 5.1.0
+     */
+    public boolean isWeighBySize() {
+        return weighBySize;
+    }
+
+    /**
+     * Sets whether the entries of a cache with a {@code maximum-weight} are weighed by the estimated number of bytes
+     * their key and value occupy on the heap when no {@link com.github.benmanes.caffeine.cache.Weigher} bean is
+     * defined for the cache, so that the maximum weight is a size in bytes. Otherwise each entry weighs 1. Defaults
+     * to false.
+     *
+     * @param weighBySize The weigh by size flag
+     * @since 5.1.0
+     * @see io.micronaut.cache.caffeine.ObjectSizeWeigher
+     */
+    public void setWeighBySize(boolean weighBySize) {
+        this.weighBySize = weighBySize;
+    }
+
+    /**
+     * @return The file the entries of the cache are saved to on shutdown and restored from on startup
+     * @since 5.1.0
+     */
+    public Optional<Path> getSnapshotFile() {
+        return Optional.ofNullable(snapshotFile);
+    }
+
+    /**
+     * Sets the file the entries of the cache are saved to when the application stops, and restored from when it
+     * starts. Entries are not saved by default.
+     *
+     * @param snapshotFile The snapshot file
+     * @since 5.1.0
+     */
+    public void setSnapshotFile(@Nullable Path snapshotFile) {
+        this.snapshotFile = snapshotFile;
+    }
+
+    /**
+     * @return The interval at which the entries of the cache are saved to the snapshot file
+     * @since 5.1.0
+     */
+    public Optional<Duration> getSnapshotInterval() {
+        return Optional.ofNullable(snapshotInterval);
+    }
+
+    /**
+     * Sets the interval at which the entries of the cache are saved to the snapshot file, in addition to when the
+     * application stops. Requires a snapshot file.
+     *
+     * @param snapshotInterval The snapshot interval
+     * @since 5.1.0
+     */
+    public void setSnapshotInterval(@Nullable Duration snapshotInterval) {
+        this.snapshotInterval = snapshotInterval;
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.caffeine.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.cache.caffeine.snapshot.CacheSnapshotMetrics;
+import io.micronaut.configuration.metrics.annotation.RequiresMetrics;
+import io.micronaut.context.BeanProvider;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.StringUtils;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.micronaut.configuration.metrics.micrometer.MeterRegistryFactory.MICRONAUT_METRICS_BINDERS;
+
+/**
+ * Records the snapshots of the caches with Micrometer. The meters are tagged with the name of the cache:
+ *
+ * <ul>
+ *     <li>{@code cache.snapshot.write}, the time to save the entries of the cache</li>
+ *     <li>{@code cache.snapshot.restore}, the time to restore the entries of the cache</li>
+ *     <li>{@code cache.snapshot.entries}, the number of entries saved or restored, tagged with the {@code operation}</li>
+ *     <li>{@code cache.snapshot.size}, the size of the snapshot file</li>
+ * </ul>
+ *
+ * @since 5.1.0
+ */
+@Singleton
+@RequiresMetrics
+@Requires(property = MICRONAUT_METRICS_BINDERS + ".cache.enabled", notEquals = StringUtils.FALSE)
+public class MicrometerCacheSnapshotMetrics implements CacheSnapshotMetrics {
+
+    private final BeanProvider<MeterRegistry> meterRegistryProvider;
+
+    /**
+     * Default constructor.
+     *
+     * @param meterRegistryProvider The meter registry.
+     */
+    protected MicrometerCacheSnapshotMetrics(BeanProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    @Override
+    @NonNull
+    public SnapshotMetrics forCache(@NonNull String cacheName) {
+        MeterRegistry registry = meterRegistryProvider.get();
+        Tags tags = Tags.of("cache", cacheName);
+        return new MicrometerSnapshotMetrics(
+            Timer.builder("cache.snapshot.write").tags(tags)
+                .description("The time to save the entries of the cache").register(registry),
+            Timer.builder("cache.snapshot.restore").tags(tags)
+                .description("The time to restore the entries of the cache").register(registry),
+            DistributionSummary.builder("cache.snapshot.entries").tags(tags.and("operation", "write"))
+                .description("The number of entries of the cache saved or restored").register(registry),
+            DistributionSummary.builder("cache.snapshot.entries").tags(tags.and("operation", "restore"))
+                .description("The number of entries of the cache saved or restored").register(registry),
+            DistributionSummary.builder("cache.snapshot.size").tags(tags).baseUnit("bytes")
+                .description("The size of the snapshot file").register(registry)
+        );
+    }
+
+    /**
+     * The meters of a cache.
+     *
+     * @param write           The snapshot timer
+     * @param restore         The restore timer
+     * @param writtenEntries  The number of entries saved
+     * @param restoredEntries The number of entries restored
+     * @param size            The snapshot size summary
+     */
+    private record MicrometerSnapshotMetrics(Timer write,
+                                             Timer restore,
+                                             DistributionSummary writtenEntries,
+                                             DistributionSummary restoredEntries,
+                                             DistributionSummary size) implements SnapshotMetrics {
+
+        @Override
+        public void written(int entries, long bytes, long nanos) {
+            write.record(nanos, TimeUnit.NANOSECONDS);
+            writtenEntries.record(entries);
+            size.record(bytes);
+        }
+
+        @Override
+        public void restored(int entries, long nanos) {
+            restore.record(nanos, TimeUnit.NANOSECONDS);
+            restoredEntries.record(entries);
+        }
+    }
+}
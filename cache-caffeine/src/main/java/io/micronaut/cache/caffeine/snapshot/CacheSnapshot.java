@@ -0,0 +1,286 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.caffeine.snapshot;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import io.micronaut.cache.serialize.CacheValueCodec;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.type.Argument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * <p>Saves the entries of a Caffeine cache to a file and restores them, together with the time left before they
+ * expire.</p>
+ *
+ * <p>The file starts with a header holding a magic number, the format version and the time the snapshot was taken.
+ * Each entry follows as the number of nanoseconds before it expires (or -1 if it doesn't expire), then the length and
+ * bytes of its encoded key, then the length and bytes of its encoded value. Snapshots are written to a temporary file
+ * that replaces the previous snapshot once complete.</p>
+ *
+ * <p>Snapshots are restored from a memory-mapped file. The offsets of the entries are read first, then the entries are
+ * decoded and cached in parallel. The time elapsed since the snapshot was taken is deducted from the time left before
+ * each entry expires, and the entries that have expired in between are skipped.</p>
+ *
+ * @since 5.1.0
+ */
+@Internal
+public final class CacheSnapshot {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CacheSnapshot.class);
+    private static final int MAGIC = 0x4D434353;
+    private static final byte VERSION = 1;
+    private static final int HEADER_SIZE = 13;
+    private static final long NO_EXPIRY = -1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MIN_ENTRIES_PER_TASK = 1024;
+
+    private final String cacheName;
+    private final Path file;
+    private final CacheValueCodec codec;
+    private final CacheSnapshotMetrics.SnapshotMetrics metrics;
+
+    /**
+     * @param cacheName The name of the cache
+     * @param file      The snapshot file
+     * @param codec     The codec of the keys and values
+     * @param metrics   The snapshot metrics of the cache
+     */
+    public CacheSnapshot(@NonNull String cacheName,
+                         @NonNull Path file,
+                         @NonNull CacheValueCodec codec,
+                         @NonNull CacheSnapshotMetrics.SnapshotMetrics metrics) {
+        this.cacheName = cacheName;
+        this.file = file;
+        this.codec = codec;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Saves the entries of the cache. Entries that can't be encoded are skipped, and errors are logged rather than
+     * thrown so that a failed snapshot doesn't prevent the application from stopping.
+     *
+     * @param cache The cache
+     * @return The number of entries saved
+     */
+    public synchronized int write(@NonNull Cache<Object, Object> cache) {
+        long start = System.nanoTime();
+        Policy<Object, Object> policy = cache.policy();
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        int entries = 0;
+        int skipped = 0;
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile), BUFFER_SIZE))) {
+                out.writeInt(MAGIC);
+                out.writeByte(VERSION);
+                out.writeLong(System.currentTimeMillis());
+                for (Map.Entry<Object, Object> entry : cache.asMap().entrySet()) {
+                    long expiresIn = expiresIn(policy, entry.getKey());
+                    if (expiresIn == 0) {
+                        continue;
+                    }
+                    byte[] key;
+                    byte[] value;
+                    try {
+                        key = codec.encode(entry.getKey());
+                        value = codec.encode(entry.getValue());
+                    } catch (RuntimeException e) {
+                        if (LOG.isDebugEnabled()) {
+                            LOG.debug("Skipping entry of cache {} that can't be encoded: {}", cacheName, e.getMessage());
+                        }
+                        skipped++;
+                        continue;
+                    }
+                    out.writeLong(expiresIn);
+                    out.writeInt(key.length);
+                    out.write(key);
+                    out.writeInt(value.length);
+                    out.write(value);
+                    entries++;
+                }
+            }
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            long nanos = System.nanoTime() - start;
+            metrics.written(entries, Files.size(file), nanos);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Saved {} entries of cache {} to {} in {}ms, skipped {}", entries, cacheName, file, TimeUnit.NANOSECONDS.toMillis(nanos), skipped);
+            }
+        } catch (IOException | RuntimeException e) {
+            if (LOG.isErrorEnabled()) {
+                LOG.error("Error saving the entries of cache " + cacheName + " to " + file + ": " + e.getMessage(), e);
+            }
+            try {
+                Files.deleteIfExists(temporaryFile);
+            } catch (IOException ignored) {
+                // the next snapshot replaces it
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Restores the entries of the snapshot file into the cache, if it exists. Entries that are already cached are kept.
+     * A snapshot that can't be read is logged and ignored, so that the cache starts empty.
+     *
+     * @param cache The cache
+     * @return The number of entries restored
+     */
+    public int restore(@NonNull Cache<Object, Object> cache) {
+        if (!Files.isRegularFile(file)) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        AtomicInteger restored = new AtomicInteger();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot larger than 2GB");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (size < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.get(4) != VERSION) {
+                throw new IOException("Unknown snapshot format");
+            }
+            long elapsed = TimeUnit.MILLISECONDS.toNanos(Math.max(0, System.currentTimeMillis() - buffer.getLong(5)));
+            int[] offsets = readOffsets(buffer);
+            int tasks = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), offsets.length / MIN_ENTRIES_PER_TASK));
+            Optional<Policy.VarExpiration<Object, Object>> variableExpiration = cache.policy().expireVariably();
+            IntStream.range(0, tasks).parallel().forEach(task -> {
+                int from = (int) ((long) offsets.length * task / tasks);
+                int to = (int) ((long) offsets.length * (task + 1) / tasks);
+                for (int i = from; i < to; i++) {
+                    if (restoreEntry(buffer, offsets[i], elapsed, cache, variableExpiration)) {
+                        restored.incrementAndGet();
+                    }
+                }
+            });
+        } catch (IOException | RuntimeException e) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("Error restoring the entries of cache " + cacheName + " from " + file + ": " + e.getMessage(), e);
+            }
+        }
+        long nanos = System.nanoTime() - start;
+        metrics.restored(restored.get(), nanos);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Restored {} entries of cache {} from {} in {}ms", restored.get(), cacheName, file, TimeUnit.NANOSECONDS.toMillis(nanos));
+        }
+        return restored.get();
+    }
+
+    private boolean restoreEntry(MappedByteBuffer buffer,
+                                 int offset,
+                                 long elapsed,
+                                 Cache<Object, Object> cache,
+                                 Optional<Policy.VarExpiration<Object, Object>> variableExpiration) {
+        long expiresIn = buffer.getLong(offset);
+        if (expiresIn != NO_EXPIRY) {
+            expiresIn -= elapsed;
+            if (expiresIn <= 0) {
+                return false;
+            }
+        }
+        int keyOffset = offset + Long.BYTES;
+        byte[] keyBytes = new byte[buffer.getInt(keyOffset)];
+        buffer.get(keyOffset + Integer.BYTES, keyBytes);
+        int valueOffset = keyOffset + Integer.BYTES + keyBytes.length;
+        byte[] valueBytes = new byte[buffer.getInt(valueOffset)];
+        buffer.get(valueOffset + Integer.BYTES, valueBytes);
+        Optional<Object> key;
+        Optional<Object> value;
+        try {
+            key = codec.decode(keyBytes, Argument.OBJECT_ARGUMENT);
+            value = codec.decode(valueBytes, Argument.OBJECT_ARGUMENT);
+        } catch (RuntimeException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Skipping entry of cache {} that can't be decoded: {}", cacheName, e.getMessage());
+            }
+            return false;
+        }
+        if (key.isEmpty() || value.isEmpty()) {
+            return false;
+        }
+        if (variableExpiration.isPresent() && expiresIn != NO_EXPIRY) {
+            return variableExpiration.get().putIfAbsent(key.get(), value.get(), expiresIn, TimeUnit.NANOSECONDS) == null;
+        }
+        return cache.asMap().putIfAbsent(key.get(), value.get()) == null;
+    }
+
+    private static int[] readOffsets(MappedByteBuffer buffer) throws IOException {
+        int[] offsets = new int[1024];
+        int count = 0;
+        int limit = buffer.limit();
+        long offset = HEADER_SIZE;
+        while (offset < limit) {
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, count * 2);
+            }
+            offsets[count++] = (int) offset;
+            long keyOffset = offset + Long.BYTES;
+            int keyLength = keyOffset + Integer.BYTES <= limit ? buffer.getInt((int) keyOffset) : -1;
+            long valueOffset = keyOffset + Integer.BYTES + keyLength;
+            int valueLength = keyLength >= 0 && valueOffset + Integer.BYTES <= limit ? buffer.getInt((int) valueOffset) : -1;
+            offset = valueOffset + Integer.BYTES + valueLength;
+            if (valueLength < 0 || offset > limit) {
+                throw new IOException("Truncated snapshot");
+            }
+        }
+        return Arrays.copyOf(offsets, count);
+    }
+
+    /**
+     * @return The number of nanoseconds before the entry expires, 0 if it has expired or -1 if it doesn't expire
+     */
+    private static long expiresIn(Policy<Object, Object> policy, Object key) {
+        Optional<Policy.VarExpiration<Object, Object>> variableExpiration = policy.expireVariably();
+        if (variableExpiration.isPresent()) {
+            return Math.max(0, variableExpiration.get().getExpiresAfter(key, TimeUnit.NANOSECONDS).orElse(0));
+        }
+        long expiresIn = NO_EXPIRY;
+        for (Optional<Policy.FixedExpiration<Object, Object>> expiration : Arrays.asList(policy.expireAfterWrite(), policy.expireAfterAccess())) {
+            if (expiration.isPresent()) {
+                OptionalLong age = expiration.get().ageOf(key, TimeUnit.NANOSECONDS);
+                long remaining = age.isPresent() ? expiration.get().getExpiresAfter(TimeUnit.NANOSECONDS) - age.getAsLong() : 0;
+                if (remaining <= 0) {
+                    return 0;
+                }
+                expiresIn = expiresIn == NO_EXPIRY ? remaining : Math.min(expiresIn, remaining);
+            }
+        }
+        return expiresIn;
+    }
+}
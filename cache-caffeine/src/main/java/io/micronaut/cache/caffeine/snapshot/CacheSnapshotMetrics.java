@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.caffeine.snapshot;
+
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * Records the snapshots of the caches that are saved to disk. The metrics of a cache are resolved once, when the cache
+ * is created.
+ *
+ * @since 5.1.0
+ */
+public interface CacheSnapshotMetrics {
+
+    /**
+     * @param cacheName The name of the cache
+     * @return The metrics of the cache
+     */
+    @NonNull
+    SnapshotMetrics forCache(@NonNull String cacheName);
+
+    /**
+     * The snapshot metrics of a cache.
+     */
+    interface SnapshotMetrics {
+
+        /**
+         * Metrics that record nothing.
+         */
+        SnapshotMetrics NOOP = new SnapshotMetrics() {
+            @Override
+            public void written(int entries, long bytes, long nanos) {
+            }
+
+            @Override
+            public void restored(int entries, long nanos) {
+            }
+        };
+
+        /**
+         * @param entries The number of entries saved
+         * @param bytes   The size of the snapshot file
+         * @param nanos   The duration of the snapshot in nanoseconds
+         */
+        void written(int entries, long bytes, long nanos);
+
+        /**
+         * @param entries The number of entries restored
+         * @param nanos   The duration of the restore in nanoseconds
+         */
+        void restored(int entries, long nanos);
+    }
+}
@@ -0,0 +1,174 @@
+package io.micronaut.cache
+
+import io.micronaut.cache.annotation.Cacheable
+import io.micronaut.cache.caffeine.DefaultAsyncCache
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.type.Argument
+import io.micronaut.inject.qualifiers.Qualifiers
+import jakarta.inject.Singleton
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class AsyncCaffeineCacheSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext applicationContext = ApplicationContext.run(
+            'spec.name': AsyncCaffeineCacheSpec.simpleName,
+            'micronaut.caches.async-books.async': true,
+            'micronaut.caches.async-books.maximum-size': 100
+    )
+
+    void "test concurrent loads of a key share a single load"() {
+        given:
+        SyncCache<?> syncCache = applicationContext.getBean(SyncCache, Qualifiers.byName("async-books"))
+        AsyncCache<?> cache = syncCache.async()
+        CountDownLatch latch = new CountDownLatch(1)
+        AtomicInteger loads = new AtomicInteger()
+
+        expect:
+        cache instanceof DefaultAsyncCache
+
+        when:
+        CompletableFuture<String> first = cache.get("shared", String, {
+            loads.incrementAndGet()
+            latch.await(5, TimeUnit.SECONDS)
+            "value"
+        })
+        CompletableFuture<String> second = cache.get("shared", String, {
+            loads.incrementAndGet()
+            "other"
+        })
+
+        then: "the value is loaded in the background"
+        !first.done
+        !second.done
+        !cache.get("shared", String).get().present
+        !syncCache.get("shared", String).present
+
+        when:
+        latch.countDown()
+
+        then:
+        first.get(5, TimeUnit.SECONDS) == "value"
+        second.get(5, TimeUnit.SECONDS) == "value"
+        loads.get() == 1
+        cache.get("shared", String).get().get() == "value"
+        syncCache.get("shared", String).get() == "value"
+    }
+
+    void "test a failed load is not cached"() {
+        given:
+        AsyncCache<?> cache = applicationContext.getBean(SyncCache, Qualifiers.byName("async-books")).async()
+
+        when:
+        cache.get("failed", String, { throw new IllegalStateException("bad") }).join()
+
+        then:
+        CompletionException e = thrown()
+        e.cause instanceof IllegalStateException
+        new PollingConditions(timeout: 5).eventually {
+            assert !cache.get("failed", String).get().present
+            assert !((DefaultAsyncCache) cache).nativeAsyncCache.asMap().containsKey("failed")
+        }
+
+        when:
+        String value = cache.get("failed", String, { "value" }).get(5, TimeUnit.SECONDS)
+
+        then:
+        value == "value"
+        cache.get("failed", String).get().get() == "value"
+    }
+
+    void "test a load that fails is replaced by putIfAbsent"() {
+        given:
+        AsyncCache<?> cache = applicationContext.getBean(SyncCache, Qualifiers.byName("async-books")).async()
+        CompletableFuture<String> load = new CompletableFuture<>()
+        CompletableFuture<String> loaded = cache.getOrLoad("replaced", Argument.of(String), { load })
+
+        when:
+        CompletableFuture<Optional<String>> putIfAbsent = cache.putIfAbsent("replaced", "value")
+        load.completeExceptionally(new IllegalStateException("bad"))
+
+        then:
+        putIfAbsent.get(5, TimeUnit.SECONDS) == Optional.empty()
+        cache.get("replaced", String).get().get() == "value"
+
+        when:
+        loaded.join()
+
+        then:
+        CompletionException e = thrown()
+        e.cause instanceof IllegalStateException
+    }
+
+    void "test concurrent misses of a completion stage method share one invocation"() {
+        given:
+        BookService bookService = applicationContext.getBean(BookService)
+        bookService.latch = new CountDownLatch(1)
+
+        when:
+        CompletableFuture<String> first = bookService.findDelayedTitle(2)
+        CompletableFuture<String> second = bookService.findDelayedTitle(2)
+
+        then: "the second miss waits for the load of the first one"
+        !first.done
+        !second.done
+        bookService.delayedInvocations.get() == 1
+
+        when:
+        bookService.latch.countDown()
+
+        then:
+        first.get(5, TimeUnit.SECONDS) == "Delayed title 2"
+        second.get(5, TimeUnit.SECONDS) == "Delayed title 2"
+        bookService.findDelayedTitle(2).get(5, TimeUnit.SECONDS) == "Delayed title 2"
+        bookService.delayedInvocations.get() == 1
+    }
+
+    void "test the asynchronous cache with the interceptor"() {
+        given:
+        BookService bookService = applicationContext.getBean(BookService)
+
+        expect:
+        bookService.findTitle(1).get() == "Title 1"
+        bookService.findTitle(1).get() == "Title 1"
+        bookService.invocations.get() == 1
+        applicationContext.getBean(SyncCache, Qualifiers.byName("async-books")).get(1, String).get() == "Title 1"
+    }
+
+    @Requires(property = "spec.name", value = "AsyncCaffeineCacheSpec")
+    @Singleton
+    static class BookService {
+
+        AtomicInteger invocations = new AtomicInteger()
+
+        AtomicInteger delayedInvocations = new AtomicInteger()
+        volatile CountDownLatch latch
+
+        @Cacheable("async-books")
+        CompletableFuture<String> findTitle(int id) {
+            invocations.incrementAndGet()
+            CompletableFuture.supplyAsync { "Title $id".toString() }
+        }
+
+        @Cacheable("async-books")
+        CompletableFuture<String> findDelayedTitle(int id) {
+            delayedInvocations.incrementAndGet()
+            CountDownLatch started = latch
+            CompletableFuture.supplyAsync {
+                started.await(5, TimeUnit.SECONDS)
+                "Delayed title $id".toString()
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package io.micronaut.cache
+
+import io.micronaut.cache.caffeine.budget.CacheBudget
+import io.micronaut.cache.memory.MemoryPressureMonitor
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.event.ApplicationEventListener
+import io.micronaut.inject.qualifiers.Qualifiers
+import jakarta.inject.Singleton
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class CacheBudgetSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext applicationContext = ApplicationContext.run(
+            'spec.name': CacheBudgetSpec.simpleName,
+            'micronaut.cache.caffeine.budget.maximum': 1000,
+            'micronaut.cache.caffeine.budget.interval': '1h',
+            'micronaut.caches.hot.maximum-size': 500,
+            'micronaut.caches.hot.record-stats': true,
+            'micronaut.caches.hot.test-mode': true,
+            'micronaut.caches.cold.maximum-size': 500,
+            'micronaut.caches.cold.record-stats': true,
+            'micronaut.caches.cold.test-mode': true,
+            'micronaut.caches.unbounded.record-stats': true
+    )
+
+    void "test the budget moves to the caches whose misses cost the most"() {
+        given:
+        CacheBudget budget = applicationContext.getBean(CacheBudget)
+        ResizeListener listener = applicationContext.getBean(ResizeListener)
+        SyncCache<com.github.benmanes.caffeine.cache.Cache> hot = cache("hot")
+        SyncCache<com.github.benmanes.caffeine.cache.Cache> cold = cache("cold")
+
+        expect: "the budget is shared according to the configured maximums on startup"
+        maximum(hot) == 500
+        maximum(cold) == 500
+        !((ResizableCache) cache("unbounded")).maximum.present
+
+        when: "the hot cache misses while the cold cache is barely used"
+        (1..2000).each { key -> hot.get(key, Integer, { key }) }
+        (1..10).each { key -> cold.get(key, Integer, { key }) }
+        hot.nativeCache.cleanUp()
+        listener.events.clear()
+        budget.allocate()
+
+        then: "the hot cache gets most of the budget"
+        maximum(hot) == 700
+        maximum(cold) == 300
+        listener.events*.cause.unique() == [CacheResizedEvent.Cause.BUDGET]
+        listener.events.find { it.cacheName == "hot" }.previousMaximum == 500
+
+        when: "the hot cache keeps missing"
+        (2001..4000).each { key -> hot.get(key, Integer, { key }) }
+        hot.nativeCache.cleanUp()
+        budget.allocate()
+
+        then: "it gets closer to all but the minimum share of the other cache"
+        maximum(hot) == 800
+        maximum(cold) == 200
+    }
+
+    void "test the budget is not allocated while the caches are shrunk under memory pressure"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'micronaut.cache.caffeine.budget.maximum': 1000,
+                'micronaut.cache.caffeine.budget.interval': '1h',
+                'micronaut.cache.memory-pressure.enabled': true,
+                'micronaut.cache.memory-pressure.shrink-interval': '0s',
+                // the actual collections of the test JVM never cross the thresholds
+                'micronaut.cache.memory-pressure.recovery-threshold': 0.00001,
+                'micronaut.caches.hot.maximum-size': 500,
+                'micronaut.caches.hot.record-stats': true,
+                'micronaut.caches.hot.test-mode': true,
+                'micronaut.caches.cold.maximum-size': 500,
+                'micronaut.caches.cold.record-stats': true,
+                'micronaut.caches.cold.test-mode': true
+        )
+        CacheBudget budget = context.getBean(CacheBudget)
+        MemoryPressureMonitor monitor = context.getBean(MemoryPressureMonitor)
+        SyncCache<com.github.benmanes.caffeine.cache.Cache> hot = context.getBean(SyncCache, Qualifiers.byName("hot"))
+        SyncCache<com.github.benmanes.caffeine.cache.Cache> cold = context.getBean(SyncCache, Qualifiers.byName("cold"))
+
+        when:
+        monitor.evaluate(0.9)
+        (1..2000).each { key -> hot.get(key, Integer, { key }) }
+        hot.nativeCache.cleanUp()
+        budget.allocate()
+
+        then: "the budget doesn't undo the shrink"
+        monitor.shrunk
+        maximum(hot) == 250
+        maximum(cold) == 250
+
+        when:
+        monitor.evaluate(0)
+
+        then: "the caches are restored to the maximums the budget gave them"
+        !monitor.shrunk
+        maximum(hot) == 500
+        maximum(cold) == 500
+
+        when:
+        budget.allocate()
+
+        then: "the budget is allocated again"
+        maximum(hot) > 500
+        maximum(cold) < 500
+        maximum(hot) + maximum(cold) == 1000
+
+        cleanup:
+        context.close()
+    }
+
+    private SyncCache cache(String name) {
+        applicationContext.getBean(SyncCache, Qualifiers.byName(name))
+    }
+
+    private static long maximum(SyncCache cache) {
+        ((ResizableCache) cache).maximum.asLong
+    }
+
+    @Requires(property = "spec.name", value = "CacheBudgetSpec")
+    @Singleton
+    static class ResizeListener implements ApplicationEventListener<CacheResizedEvent> {
+
+        List<CacheResizedEvent> events = Collections.synchronizedList([])
+
+        @Override
+        void onApplicationEvent(CacheResizedEvent event) {
+            events << event
+        }
+    }
+}
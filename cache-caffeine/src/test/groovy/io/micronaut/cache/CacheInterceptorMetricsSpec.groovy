@@ -0,0 +1,231 @@
+package io.micronaut.cache
+
+import io.micrometer.core.instrument.MeterRegistry
+import io.micronaut.cache.annotation.Cacheable
+import io.micronaut.cache.annotation.CacheableAll
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import jakarta.inject.Singleton
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+
+class CacheInterceptorMetricsSpec extends Specification {
+
+    void "test the hits, misses and latencies of cached methods are recorded"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'spec.name': CacheInterceptorMetricsSpec.simpleName,
+                'micronaut.cache.interceptor.metrics.enabled': true
+        )
+        PriceService priceService = context.getBean(PriceService)
+        MeterRegistry registry = context.getBean(MeterRegistry)
+
+        when:
+        priceService.price("apple")
+        priceService.price("apple")
+        priceService.price("pear")
+        priceService.priceAtomic("plum")
+        priceService.priceAtomic("plum")
+        priceService.priceAsync("kiwi").get()
+        priceService.priceAsync("kiwi").get()
+        priceService.priceReactive("lime").block()
+        priceService.priceReactive("lime").block()
+
+        then:
+        gets(registry, method("price"), "hit") == 1
+        gets(registry, method("price"), "miss") == 2
+        registry.get("cache.method.lookup").tags("method", method("price"), "type", "sync").timer().count() == 3
+        registry.get("cache.method.load").tags("method", method("price")).timer().count() == 2
+        registry.get("cache.method.put").tags("method", method("price")).timer().count() == 2
+
+        and:
+        gets(registry, method("priceAtomic"), "hit") == 1
+        gets(registry, method("priceAtomic"), "miss") == 1
+        registry.get("cache.method.load").tags("method", method("priceAtomic")).timer().count() == 1
+
+        and:
+        gets(registry, method("priceAsync"), "hit") == 1
+        gets(registry, method("priceAsync"), "miss") == 1
+        registry.get("cache.method.load").tags("method", method("priceAsync"), "type", "async").timer().count() == 1
+        registry.get("cache.method.put").tags("method", method("priceAsync")).timer().count() == 1
+
+        and:
+        gets(registry, method("priceReactive"), "hit") == 1
+        gets(registry, method("priceReactive"), "miss") == 1
+        registry.get("cache.method.load").tags("method", method("priceReactive"), "type", "reactive").timer().count() == 1
+        registry.get("cache.method.put").tags("method", method("priceReactive")).timer().count() == 1
+
+        cleanup:
+        context.close()
+    }
+
+    void "test overloaded methods have their own metrics"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'spec.name': CacheInterceptorMetricsSpec.simpleName,
+                'micronaut.cache.interceptor.metrics.enabled': true
+        )
+        PriceService priceService = context.getBean(PriceService)
+        MeterRegistry registry = context.getBean(MeterRegistry)
+
+        when:
+        priceService.price("apple")
+        priceService.price("apple", 2)
+        priceService.price("apple", 2)
+
+        then:
+        gets(registry, method("price"), "miss") == 1
+        gets(registry, method("price"), "hit") == 0
+        gets(registry, method("price", "String,int"), "miss") == 1
+        gets(registry, method("price", "String,int"), "hit") == 1
+
+        cleanup:
+        context.close()
+    }
+
+    void "test the metrics of methods that return several elements and of bulk methods are recorded"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'spec.name': CacheInterceptorMetricsSpec.simpleName,
+                'micronaut.cache.interceptor.metrics.enabled': true
+        )
+        PriceService priceService = context.getBean(PriceService)
+        MeterRegistry registry = context.getBean(MeterRegistry)
+
+        when:
+        priceService.priceHistory("fig").collectList().block()
+        priceService.priceHistory("fig").collectList().block()
+        priceService.prices(["apple", "pear"])
+        priceService.prices(["apple", "plum"])
+
+        then:
+        gets(registry, method("priceHistory"), "miss") == 1
+        gets(registry, method("priceHistory"), "hit") == 1
+        registry.get("cache.method.load").tags("method", method("priceHistory")).timer().count() == 1
+        registry.get("cache.method.put").tags("method", method("priceHistory")).timer().count() == 1
+
+        and:
+        gets(registry, method("prices", "List"), "miss") == 3
+        gets(registry, method("prices", "List"), "hit") == 1
+        registry.get("cache.method.lookup").tags("method", method("prices", "List")).timer().count() == 2
+        registry.get("cache.method.load").tags("method", method("prices", "List")).timer().count() == 2
+        registry.get("cache.method.put").tags("method", method("prices", "List")).timer().count() == 2
+
+        cleanup:
+        context.close()
+    }
+
+    void "test the lookup time doesn't include the time to load the value"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'spec.name': CacheInterceptorMetricsSpec.simpleName,
+                'micronaut.cache.interceptor.metrics.enabled': true,
+                'micronaut.caches.slow-prices.async': true
+        )
+        PriceService priceService = context.getBean(PriceService)
+        MeterRegistry registry = context.getBean(MeterRegistry)
+
+        when:
+        priceService.slowPriceAtomic("melon")
+        CompletableFuture<Integer> first = priceService.slowPriceAsync("mango")
+        CompletableFuture<Integer> second = priceService.slowPriceAsync("mango")
+        first.get()
+        second.get()
+
+        then:
+        registry.get("cache.method.lookup").tags("method", method("slowPriceAtomic")).timer().totalTime(TimeUnit.MILLISECONDS) < 150
+        registry.get("cache.method.load").tags("method", method("slowPriceAtomic")).timer().totalTime(TimeUnit.MILLISECONDS) >= 300
+
+        and: "the caller that shares the load in flight records a hit without waiting for it"
+        registry.get("cache.method.gets").tags("method", method("slowPriceAsync"), "result", "hit").counter().count() == 1
+        registry.get("cache.method.gets").tags("method", method("slowPriceAsync"), "result", "miss").counter().count() == 1
+        registry.get("cache.method.lookup").tags("method", method("slowPriceAsync")).timer().totalTime(TimeUnit.MILLISECONDS) < 150
+        registry.get("cache.method.load").tags("method", method("slowPriceAsync")).timer().count() == 1
+
+        cleanup:
+        context.close()
+    }
+
+    void "test no metrics are recorded by default"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'spec.name': CacheInterceptorMetricsSpec.simpleName
+        )
+        PriceService priceService = context.getBean(PriceService)
+
+        when:
+        priceService.price("apple")
+
+        then:
+        !context.getBean(MeterRegistry).find("cache.method.gets").counter()
+
+        cleanup:
+        context.close()
+    }
+
+    private static String method(String name, String parameterTypes = "String") {
+        "${PriceService.name}.${name}(${parameterTypes})"
+    }
+
+    private static double gets(MeterRegistry registry, String method, String result) {
+        registry.get("cache.method.gets").tags("cache", "prices", "method", method, "result", result).counter().count()
+    }
+
+    @Requires(property = "spec.name", value = "CacheInterceptorMetricsSpec")
+    @Singleton
+    static class PriceService {
+
+        @Cacheable("prices")
+        Integer price(String name) {
+            return name.length()
+        }
+
+        @Cacheable("prices")
+        Integer price(String name, int quantity) {
+            return name.length() * quantity
+        }
+
+        @Cacheable(value = "prices", atomic = true)
+        Integer priceAtomic(String name) {
+            return name.length() * 2
+        }
+
+        @Cacheable(value = "slow-prices", atomic = true)
+        Integer slowPriceAtomic(String name) {
+            Thread.sleep(300)
+            return name.length()
+        }
+
+        @Cacheable("slow-prices")
+        CompletableFuture<Integer> slowPriceAsync(String name) {
+            return CompletableFuture.supplyAsync {
+                Thread.sleep(300)
+                name.length() * 2
+            }
+        }
+
+        @Cacheable("prices")
+        CompletableFuture<Integer> priceAsync(String name) {
+            return CompletableFuture.completedFuture(name.length() * 3)
+        }
+
+        @Cacheable("prices")
+        Mono<Integer> priceReactive(String name) {
+            return Mono.just(name.length() * 4)
+        }
+
+        @Cacheable("prices")
+        Flux<Integer> priceHistory(String name) {
+            return Flux.just(name.length(), name.length() * 5)
+        }
+
+        @CacheableAll("prices")
+        Map<String, Integer> prices(List<String> names) {
+            return names.collectEntries { [(it): it.length() * 6] }
+        }
+    }
+}
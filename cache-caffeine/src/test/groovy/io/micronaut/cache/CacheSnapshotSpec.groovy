@@ -0,0 +1,113 @@
+package io.micronaut.cache
+
+import com.github.benmanes.caffeine.cache.Cache
+import io.micronaut.context.ApplicationContext
+import io.micronaut.inject.qualifiers.Qualifiers
+import spock.lang.Specification
+import spock.lang.TempDir
+import spock.util.concurrent.PollingConditions
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.concurrent.TimeUnit
+
+class CacheSnapshotSpec extends Specification {
+
+    @TempDir
+    Path directory
+
+    void "test the entries are saved on shutdown and restored on startup"() {
+        given:
+        Path file = directory.resolve("snapshots/books.snapshot")
+        ApplicationContext context = ApplicationContext.run(
+                'micronaut.caches.books.snapshot-file': file.toString()
+        )
+        SyncCache<?> cache = context.getBean(SyncCache, Qualifiers.byName("books"))
+        (1..5000).each { cache.put(it, "book $it".toString()) }
+        cache.put("list", [1, 2, 3])
+
+        when:
+        context.close()
+
+        then:
+        Files.exists(file)
+
+        when:
+        context = ApplicationContext.run(
+                'micronaut.caches.books.snapshot-file': file.toString()
+        )
+        cache = context.getBean(SyncCache, Qualifiers.byName("books"))
+
+        then:
+        cache.get(1, String).get() == "book 1"
+        cache.get(5000, String).get() == "book 5000"
+        cache.get("list", List).get() == [1, 2, 3]
+        ((Cache) cache.nativeCache).estimatedSize() == 5001
+
+        cleanup:
+        context.close()
+    }
+
+    void "test the restored entries keep the time they had left before they expire"() {
+        given:
+        Path file = directory.resolve("books.snapshot")
+        Map<String, Object> properties = [
+                'micronaut.caches.books.snapshot-file': file.toString(),
+                'micronaut.caches.books.expire-after-write': '10m'
+        ]
+        ApplicationContext context = ApplicationContext.run(properties)
+        context.getBean(SyncCache, Qualifiers.byName("books")).put("key", "value")
+        sleep(1000)
+        context.close()
+
+        when:
+        context = ApplicationContext.run(properties)
+        SyncCache<Cache> cache = context.getBean(SyncCache, Qualifiers.byName("books"))
+        long expiresAfter = cache.nativeCache.policy().expireVariably().get().getExpiresAfter("key", TimeUnit.SECONDS).asLong
+
+        then:
+        cache.get("key", String).get() == "value"
+        expiresAfter < 600
+        expiresAfter > 590
+
+        when: "entries written after the restore expire after the full duration"
+        cache.put("other", "value")
+
+        then:
+        cache.nativeCache.policy().expireVariably().get().getExpiresAfter("other", TimeUnit.SECONDS).asLong > 598
+
+        cleanup:
+        context.close()
+    }
+
+    void "test the entries are saved periodically"() {
+        given:
+        Path file = directory.resolve("books.snapshot")
+        ApplicationContext context = ApplicationContext.run(
+                'micronaut.caches.books.snapshot-file': file.toString(),
+                'micronaut.caches.books.snapshot-interval': '100ms'
+        )
+        SyncCache<?> cache = context.getBean(SyncCache, Qualifiers.byName("books"))
+
+        when:
+        cache.put("key", "value")
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            assert Files.exists(file)
+            assert Files.size(file) > 13
+        }
+
+        when: "the snapshot is restored into a new cache"
+        ApplicationContext other = ApplicationContext.run(
+                'micronaut.caches.books.snapshot-file': file.toString()
+        )
+
+        then:
+        other.getBean(SyncCache, Qualifiers.byName("books")).get("key", String).get() == "value"
+
+        cleanup:
+        other.close()
+        context.close()
+    }
+}
@@ -0,0 +1,135 @@
+package io.micronaut.cache
+
+import io.micronaut.cache.annotation.CacheableAll
+import io.micronaut.cache.annotation.Cacheable
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.async.annotation.SingleResult
+import jakarta.inject.Singleton
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Mono
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionStage
+
+class CacheableAllSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext applicationContext = ApplicationContext.run(
+            'spec.name': CacheableAllSpec.simpleName,
+            'micronaut.caches.books.test-mode': true,
+            'micronaut.caches.future-books.test-mode': true,
+            'micronaut.caches.mono-books.test-mode': true
+    )
+
+    @Shared
+    BookService bookService = applicationContext.getBean(BookService)
+
+    void setup() {
+        bookService.requested.clear()
+        applicationContext.getBean(CacheManager).cacheNames.each {
+            applicationContext.getBean(CacheManager).getCache(it).invalidateAll()
+        }
+    }
+
+    void "test only the missing keys are loaded"() {
+        expect:
+        bookService.findAll([1L, 2L]) == [1L: "Book 1", 2L: "Book 2"]
+        bookService.requested == [[1L, 2L]]
+
+        when:
+        Map<Long, String> books = bookService.findAll([3L, 2L, 1L, 4L])
+
+        then:
+        books == [3L: "Book 3", 2L: "Book 2", 1L: "Book 1", 4L: "Book 4"]
+        books.keySet().toList() == [3L, 2L, 1L, 4L]
+        bookService.requested == [[1L, 2L], [3L, 4L]]
+
+        when:
+        books = bookService.findAll([4L, 1L] as Set)
+
+        then: "all the values are cached"
+        books == [4L: "Book 4", 1L: "Book 1"]
+        bookService.requested.size() == 2
+    }
+
+    void "test values are shared with @Cacheable methods"() {
+        given:
+        bookService.findAll([1L, 2L])
+
+        expect:
+        bookService.find(2L) == "Book 2"
+        bookService.requested == [[1L, 2L]]
+
+        when:
+        bookService.find(3L)
+
+        then:
+        bookService.findAll([3L]) == [3L: "Book 3"]
+        bookService.requested == [[1L, 2L], [3L]]
+    }
+
+    void "test keys without a value are not cached"() {
+        expect:
+        bookService.findAll([1L, 99L]) == [1L: "Book 1"]
+        bookService.findAll([1L, 99L]) == [1L: "Book 1"]
+        bookService.requested == [[1L, 99L], [99L]]
+    }
+
+    void "test completion stage methods only load the missing keys"() {
+        expect:
+        bookService.findAllAsync([1L, 2L]).toCompletableFuture().get() == [1L: "Book 1", 2L: "Book 2"]
+        bookService.findAllAsync([2L, 3L]).toCompletableFuture().get() == [2L: "Book 2", 3L: "Book 3"]
+        bookService.findAllAsync([3L, 1L]).toCompletableFuture().get() == [3L: "Book 3", 1L: "Book 1"]
+        bookService.requested == [[1L, 2L], [3L]]
+    }
+
+    void "test publisher methods only load the missing keys"() {
+        expect:
+        Mono.from(bookService.findAllReactive([1L, 2L])).block() == [1L: "Book 1", 2L: "Book 2"]
+        Mono.from(bookService.findAllReactive([2L, 3L])).block() == [2L: "Book 2", 3L: "Book 3"]
+        Mono.from(bookService.findAllReactive([3L, 1L])).block() == [3L: "Book 3", 1L: "Book 1"]
+        bookService.requested == [[1L, 2L], [3L]]
+    }
+
+    @Requires(property = "spec.name", value = "CacheableAllSpec")
+    @Singleton
+    static class BookService {
+        final List<Collection<Long>> requested = Collections.synchronizedList([])
+
+        @CacheableAll("books")
+        Map<Long, String> findAll(Collection<Long> ids) {
+            requested << new ArrayList<>(ids)
+            load(ids)
+        }
+
+        @Cacheable("books")
+        String find(Long id) {
+            requested << [id]
+            "Book $id".toString()
+        }
+
+        @CacheableAll("future-books")
+        CompletionStage<Map<Long, String>> findAllAsync(List<Long> ids) {
+            requested << new ArrayList<>(ids)
+            CompletableFuture.completedFuture(load(ids))
+        }
+
+        @CacheableAll("mono-books")
+        @SingleResult
+        Publisher<Map<Long, String>> findAllReactive(List<Long> ids) {
+            Mono.fromCallable {
+                requested << new ArrayList<>(ids)
+                load(ids)
+            }
+        }
+
+        static Map<Long, String> load(Collection<Long> ids) {
+            ids.findAll { it < 10 }.collectEntries { [(it): "Book $it".toString()] }
+        }
+    }
+}
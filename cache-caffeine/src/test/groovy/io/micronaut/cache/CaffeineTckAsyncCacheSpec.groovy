@@ -0,0 +1,16 @@
+package io.micronaut.cache
+
+import io.micronaut.cache.tck.AbstractAsyncCacheSpec
+import io.micronaut.context.ApplicationContext
+
+class CaffeineTckAsyncCacheSpec extends AbstractAsyncCacheSpec {
+
+    @Override
+    ApplicationContext createApplicationContext() {
+        return ApplicationContext.run(
+                "micronaut.caches.counter.test-mode": true,
+                "micronaut.caches.counter2.test-mode": true,
+                "micronaut.caches.test.test-mode": true
+        )
+    }
+}
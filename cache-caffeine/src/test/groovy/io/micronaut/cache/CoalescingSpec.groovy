@@ -0,0 +1,103 @@
+package io.micronaut.cache
+
+import io.micronaut.cache.annotation.Cacheable
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.async.annotation.SingleResult
+import jakarta.inject.Singleton
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Mono
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class CoalescingSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext applicationContext = ApplicationContext.run(
+            'spec.name': CoalescingSpec.simpleName,
+            'micronaut.cache.interceptor.coalescing.enabled': true
+    )
+
+    @Shared
+    CoalescedService coalescedService = applicationContext.getBean(CoalescedService)
+
+    void "test concurrent completion stage misses share one invocation"() {
+        given:
+        coalescedService.invocations.set(0)
+
+        when:
+        def futures = (1..8).collect { coalescedService.future("future") }
+
+        then:
+        futures.collect { it.get(5, TimeUnit.SECONDS) }.every { it == "loaded future" }
+        coalescedService.invocations.get() == 1
+    }
+
+    void "test concurrent publisher misses share one invocation and cancellation is isolated"() {
+        given:
+        coalescedService.invocations.set(0)
+
+        when:
+        def cancelled = Mono.from(coalescedService.mono("mono")).subscribe()
+        def monos = (1..8).collect { Mono.from(coalescedService.mono("mono")).toFuture() }
+        cancelled.dispose()
+
+        then:
+        monos.collect { it.get(5, TimeUnit.SECONDS) }.every { it == "loaded mono" }
+        coalescedService.invocations.get() == 1
+    }
+
+    void "test a failed invocation is shared and then cleaned up"() {
+        given:
+        coalescedService.invocations.set(0)
+
+        when:
+        def futures = (1..4).collect { coalescedService.failing("failing") }
+        futures.each { it.get(5, TimeUnit.SECONDS) }
+
+        then:
+        ExecutionException e = thrown()
+        e.cause instanceof IllegalStateException
+        coalescedService.invocations.get() == 1
+
+        when:
+        coalescedService.failing("failing").get(5, TimeUnit.SECONDS)
+
+        then:
+        thrown(ExecutionException)
+        coalescedService.invocations.get() == 2
+    }
+
+    @Requires(property = "spec.name", value = "CoalescingSpec")
+    @Singleton
+    static class CoalescedService {
+        final AtomicInteger invocations = new AtomicInteger()
+
+        @Cacheable("coalesced")
+        CompletableFuture<String> future(String key) {
+            invocations.incrementAndGet()
+            CompletableFuture.supplyAsync({ "loaded $key".toString() }, CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS))
+        }
+
+        @Cacheable("coalesced")
+        @SingleResult
+        Publisher<String> mono(String key) {
+            invocations.incrementAndGet()
+            Mono.just("loaded $key".toString()).delayElement(Duration.ofMillis(200))
+        }
+
+        @Cacheable("coalesced")
+        CompletableFuture<String> failing(String key) {
+            invocations.incrementAndGet()
+            CompletableFuture.supplyAsync({ throw new IllegalStateException("failed $key") }, CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS))
+        }
+    }
+}
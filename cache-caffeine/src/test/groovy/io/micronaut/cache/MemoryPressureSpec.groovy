@@ -0,0 +1,116 @@
+package io.micronaut.cache
+
+import io.micronaut.cache.memory.MemoryPressureMonitor
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.event.ApplicationEventListener
+import io.micronaut.inject.qualifiers.Qualifiers
+import jakarta.inject.Singleton
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.lang.management.ManagementFactory
+import java.lang.management.MemoryPoolMXBean
+import java.lang.management.MemoryType
+
+class MemoryPressureSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext applicationContext = ApplicationContext.run(
+            'spec.name': MemoryPressureSpec.simpleName,
+            'micronaut.cache.memory-pressure.enabled': true,
+            'micronaut.cache.memory-pressure.shrink-interval': '0s',
+            // the actual collections of the test JVM never cross the thresholds
+            'micronaut.cache.memory-pressure.recovery-threshold': 0.00001,
+            'micronaut.cache.memory-pressure.priorities.important': 4,
+            'micronaut.caches.books.maximum-size': 1000,
+            'micronaut.caches.important.maximum-size': 1000,
+            'micronaut.caches.unbounded.expire-after-write': '1h'
+    )
+
+    void "test the caches are shrunk under memory pressure and restored once it subsides"() {
+        given:
+        MemoryPressureMonitor monitor = applicationContext.getBean(MemoryPressureMonitor)
+        ResizeListener listener = applicationContext.getBean(ResizeListener)
+        listener.events.clear()
+
+        when:
+        monitor.evaluate(0.9)
+
+        then: "the caches are shrunk according to their priority"
+        maximum("books") == 500
+        maximum("important") == 875
+        !maximum("unbounded")
+        listener.events*.cause.unique() == [CacheResizedEvent.Cause.MEMORY_PRESSURE]
+        listener.events.find { it.cacheName == "books" }.previousMaximum == 1000
+
+        when: "the pressure persists"
+        monitor.evaluate(0.9)
+        monitor.evaluate(0.8)
+
+        then: "the caches are shrunk again, but not between the thresholds"
+        maximum("books") == 250
+        listener.events.size() == 4
+
+        when: "the pressure continues"
+        20.times { monitor.evaluate(0.95) }
+
+        then: "the caches are not shrunk below the minimum fraction"
+        maximum("books") == 100
+
+        when:
+        listener.events.clear()
+        monitor.evaluate(0)
+
+        then: "the caches are restored to their configured maximum"
+        maximum("books") == 1000
+        maximum("important") == 1000
+        listener.events*.cause.unique() == [CacheResizedEvent.Cause.MEMORY_RECOVERED]
+    }
+
+    void "test the collection usage thresholds are only set when enabled"() {
+        expect: "the thresholds of the shared context are left alone"
+        heapPools().every { it.collectionUsageThreshold == 0 }
+
+        when:
+        ApplicationContext context = ApplicationContext.run(
+                'micronaut.cache.memory-pressure.enabled': true,
+                'micronaut.cache.memory-pressure.collection-usage-threshold': true
+        )
+        context.getBean(MemoryPressureMonitor)
+
+        then:
+        heapPools().every { it.collectionUsageThreshold > 0 }
+
+        when:
+        context.close()
+
+        then: "they are restored when the monitor is closed"
+        heapPools().every { it.collectionUsageThreshold == 0 }
+    }
+
+    private static List<MemoryPoolMXBean> heapPools() {
+        ManagementFactory.memoryPoolMXBeans.findAll {
+            it.type == MemoryType.HEAP && it.collectionUsageThresholdSupported && it.usage.max > 0
+        }
+    }
+
+    private Long maximum(String cacheName) {
+        ResizableCache cache = (ResizableCache) applicationContext.getBean(SyncCache, Qualifiers.byName(cacheName))
+        cache.maximum.present ? cache.maximum.asLong : null
+    }
+
+    @Requires(property = "spec.name", value = "MemoryPressureSpec")
+    @Singleton
+    static class ResizeListener implements ApplicationEventListener<CacheResizedEvent> {
+
+        List<CacheResizedEvent> events = Collections.synchronizedList([])
+
+        @Override
+        void onApplicationEvent(CacheResizedEvent event) {
+            events << event
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package io.micronaut.cache
+
+import com.github.benmanes.caffeine.cache.Expiry
+import io.micronaut.cache.annotation.Cacheable
+import io.micronaut.cache.interceptor.NegativeCacheEntry
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import jakarta.inject.Named
+import jakarta.inject.Singleton
+import reactor.core.publisher.Mono
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class NegativeCachingSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext applicationContext = ApplicationContext.run(
+            'spec.name': NegativeCachingSpec.simpleName,
+            'micronaut.caches.configured.negative-ttl': '200ms',
+            'micronaut.caches.configured.expire-after-write': '1h'
+    )
+
+    @Shared
+    LookupService lookupService = applicationContext.getBean(LookupService)
+
+    @Shared
+    CacheManager cacheManager = applicationContext.getBean(CacheManager)
+
+    void "test null results are cached until the negative ttl expires"() {
+        expect:
+        lookupService.find("missing") == null
+        lookupService.find("missing") == null
+        lookupService.invocations.get() == 1
+        cacheManager.getCache("lookups").get("missing", Object).get() instanceof NegativeCacheEntry
+
+        when:
+        sleep(300)
+
+        then:
+        lookupService.find("missing") == null
+        lookupService.invocations.get() == 2
+    }
+
+    void "test the negative ttl of the cache configuration is used"() {
+        expect:
+        lookupService.findConfigured("missing") == Optional.empty()
+        lookupService.findConfigured("missing") == Optional.empty()
+        lookupService.configuredInvocations.get() == 1
+
+        when:
+        sleep(300)
+
+        then:
+        lookupService.findConfigured("missing") == Optional.empty()
+        lookupService.configuredInvocations.get() == 2
+    }
+
+    void "test the empty results expire from the cache with their marker"() {
+        when:
+        lookupService.findConfigured("expiring")
+        lookupService.findCustomExpiry("expiring")
+        def configured = cacheManager.getCache("configured").nativeCache
+        def customExpiry = cacheManager.getCache("custom-expiry").nativeCache
+
+        then:
+        configured.policy().expireVariably().get().getExpiresAfter("expiring", TimeUnit.MILLISECONDS).asLong <= 200
+        customExpiry.policy().expireVariably().get().getExpiresAfter("expiring", TimeUnit.MILLISECONDS).asLong <= 200
+
+        when:
+        sleep(300)
+
+        then:
+        configured.getIfPresent("expiring") == null
+        customExpiry.getIfPresent("expiring") == null
+    }
+
+    void "test atomic null results are cached"() {
+        expect:
+        lookupService.findAtomic("missing") == null
+        lookupService.findAtomic("missing") == null
+        lookupService.atomicInvocations.get() == 1
+
+        when:
+        sleep(300)
+
+        then:
+        lookupService.findAtomic("missing") == null
+        lookupService.atomicInvocations.get() == 2
+    }
+
+    void "test null completion stage and empty publisher results are cached"() {
+        expect:
+        lookupService.findFuture("missing").get() == null
+        lookupService.findFuture("missing").get() == null
+        lookupService.futureInvocations.get() == 1
+        lookupService.findMono("missing").block() == null
+        lookupService.findMono("missing").block() == null
+        lookupService.monoInvocations.get() == 1
+    }
+
+    void "test caches without a negative ttl don't cache null results"() {
+        expect:
+        lookupService.findUncached("missing") == null
+        lookupService.findUncached("missing") == null
+        lookupService.uncachedInvocations.get() == 2
+        !cacheManager.getCache("uncached").get("missing", Object).isPresent()
+    }
+
+    @Requires(property = "spec.name", value = "NegativeCachingSpec")
+    @Singleton
+    static class LookupService {
+
+        AtomicInteger invocations = new AtomicInteger()
+        AtomicInteger configuredInvocations = new AtomicInteger()
+        AtomicInteger atomicInvocations = new AtomicInteger()
+        AtomicInteger futureInvocations = new AtomicInteger()
+        AtomicInteger monoInvocations = new AtomicInteger()
+        AtomicInteger uncachedInvocations = new AtomicInteger()
+
+        @Cacheable(value = "lookups", negativeTtl = "200ms")
+        String find(String name) {
+            invocations.incrementAndGet()
+            return null
+        }
+
+        @Cacheable("configured")
+        Optional<String> findConfigured(String name) {
+            configuredInvocations.incrementAndGet()
+            return Optional.empty()
+        }
+
+        @Cacheable(value = "atomic-lookups", atomic = true, negativeTtl = "200ms")
+        String findAtomic(String name) {
+            atomicInvocations.incrementAndGet()
+            return null
+        }
+
+        @Cacheable(value = "future-lookups", negativeTtl = "1m")
+        CompletableFuture<String> findFuture(String name) {
+            futureInvocations.incrementAndGet()
+            return CompletableFuture.completedFuture(null)
+        }
+
+        @Cacheable(value = "mono-lookups", negativeTtl = "1m")
+        Mono<String> findMono(String name) {
+            Mono.fromSupplier { monoInvocations.incrementAndGet() }.then(Mono.<String>empty())
+        }
+
+        @Cacheable(value = "custom-expiry", negativeTtl = "200ms")
+        String findCustomExpiry(String name) {
+            return null
+        }
+
+        @Cacheable("uncached")
+        String findUncached(String name) {
+            uncachedInvocations.incrementAndGet()
+            return null
+        }
+    }
+
+    @Requires(property = "spec.name", value = "NegativeCachingSpec")
+    @Singleton
+    @Named("custom-expiry")
+    static class HourExpiry implements Expiry<Object, Object> {
+
+        @Override
+        long expireAfterCreate(Object key, Object value, long currentTime) {
+            TimeUnit.HOURS.toNanos(1)
+        }
+
+        @Override
+        long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+            TimeUnit.HOURS.toNanos(1)
+        }
+
+        @Override
+        long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+            currentDuration
+        }
+    }
+}
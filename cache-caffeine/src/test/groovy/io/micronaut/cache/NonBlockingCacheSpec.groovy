@@ -0,0 +1,158 @@
+package io.micronaut.cache
+
+import io.micronaut.cache.annotation.Cacheable
+import io.micronaut.cache.interceptor.CacheKeyGenerator
+import io.micronaut.cache.tck.AbstractSyncCacheSpec
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Primary
+import io.micronaut.context.annotation.Replaces
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.AnnotationMetadata
+import jakarta.inject.Singleton
+import reactor.core.Fuseable
+import reactor.core.publisher.Mono
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.atomic.AtomicInteger
+
+class NonBlockingCacheSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext applicationContext = ApplicationContext.run(
+            'spec.name': NonBlockingCacheSpec.simpleName,
+            'micronaut.caches.configured.negative-ttl': '1m',
+            'micronaut.caches.counted-prices.record-stats': true
+    )
+
+    @Shared
+    PriceService priceService = applicationContext.getBean(PriceService)
+
+    void "test caffeine caches are non-blocking"() {
+        expect:
+        applicationContext.getBean(CacheManager).getCache("prices").isNonBlocking()
+    }
+
+    void "test a cache hit is returned as a scalar publisher"() {
+        when:
+        Mono<Integer> miss = priceService.price("a")
+
+        then:
+        !(miss instanceof Fuseable.ScalarCallable)
+        priceService.invocations.get() == 0
+        miss.block() == 1
+        priceService.invocations.get() == 1
+
+        when:
+        Mono<Integer> hit = priceService.price("a")
+
+        then:
+        hit instanceof Fuseable.ScalarCallable
+        hit.block() == 1
+        priceService.invocations.get() == 1
+    }
+
+    void "test a miss of the inline lookup is not looked up again"() {
+        given:
+        SyncCache<com.github.benmanes.caffeine.cache.Cache> cache = applicationContext.getBean(CacheManager).getCache("counted-prices")
+
+        when:
+        Mono<Integer> miss = priceService.countedPrice("c")
+
+        then:
+        miss.block() == 1
+        cache.nativeCache.stats().requestCount() == 1
+        cache.nativeCache.stats().missCount() == 1
+
+        when: "the publisher is subscribed again"
+        miss.block()
+
+        then: "the key is looked up again"
+        cache.nativeCache.stats().requestCount() == 2
+        cache.nativeCache.stats().hitCount() == 1
+    }
+
+    void "test an empty result is returned from the negative cache entry"() {
+        expect:
+        priceService.missing("b").block() == null
+        priceService.missing("b").block() == null
+        priceService.missingInvocations.get() == 1
+    }
+
+    void "test an error of the inline lookup is passed to the error handler"() {
+        when:
+        Integer price = priceService.broken("abc").block()
+
+        then: "the method is invoked once the error is handled, without looking up the cache again"
+        price == 3
+        applicationContext.getBean(RecordingErrorHandler).loadErrors.get() == 1
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'NonBlockingCacheSpec')
+    static class PriceService {
+
+        AtomicInteger invocations = new AtomicInteger()
+        AtomicInteger missingInvocations = new AtomicInteger()
+
+        @Cacheable("prices")
+        Mono<Integer> price(String name) {
+            return Mono.fromCallable(() -> invocations.incrementAndGet())
+        }
+
+        @Cacheable("counted-prices")
+        Mono<Integer> countedPrice(String name) {
+            return Mono.just(name.length())
+        }
+
+        @Cacheable("configured")
+        Mono<Integer> missing(String name) {
+            return Mono.fromRunnable(() -> missingInvocations.incrementAndGet())
+        }
+
+        @Cacheable(value = "broken", keyGenerator = BrokenKeyGenerator)
+        Mono<Integer> broken(String name) {
+            return Mono.just(name.length())
+        }
+    }
+
+    static class BrokenKeyGenerator implements CacheKeyGenerator {
+
+        @Override
+        Object generateKey(AnnotationMetadata annotationMetadata, Object... params) {
+            return new Object() {
+                @Override
+                int hashCode() {
+                    throw new IllegalStateException("Broken key")
+                }
+
+                @Override
+                String toString() {
+                    return "broken"
+                }
+            }
+        }
+    }
+
+    @Singleton
+    @Primary
+    @Replaces(AbstractSyncCacheSpec.LoggingErrorHandler)
+    @Requires(property = 'spec.name', value = 'NonBlockingCacheSpec')
+    static class RecordingErrorHandler implements CacheErrorHandler {
+
+        AtomicInteger loadErrors = new AtomicInteger()
+
+        @Override
+        boolean handleLoadError(Cache<?> cache, Object key, RuntimeException e) {
+            loadErrors.incrementAndGet()
+            return false
+        }
+
+        @Override
+        boolean handlePutError(Cache<?> cache, Object key, Object result, RuntimeException e) {
+            return false
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package io.micronaut.cache
+
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Weigher
+import io.micronaut.cache.caffeine.ObjectSizeWeigher
+import io.micronaut.cache.interceptor.NegativeCacheEntry
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.Introspected
+import io.micronaut.inject.qualifiers.Qualifiers
+import jakarta.inject.Named
+import jakarta.inject.Singleton
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class ObjectSizeWeigherSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext applicationContext = ApplicationContext.run(
+            'spec.name': ObjectSizeWeigherSpec.simpleName,
+            'micronaut.caches.pages.maximum-weight': '64KB',
+            'micronaut.caches.pages.weigh-by-size': true,
+            'micronaut.caches.counted.maximum-weight': 16,
+            'micronaut.caches.heavy.maximum-weight': '64KB'
+    )
+
+    ObjectSizeWeigher weigher = new ObjectSizeWeigher()
+
+    void "test strings and byte arrays weigh about their size"() {
+        expect:
+        weigher.weigh("key", "a" * 1000) > 2000
+        weigher.weigh("key", "a" * 1000) < 2200
+        weigher.weigh("key", new byte[1000]) > 1000
+        weigher.weigh("key", new byte[1000]) < 1200
+    }
+
+    void "test the values referenced by introspected beans and records are weighed"() {
+        given:
+        int empty = weigher.weigh("key", new Page(title: "", body: new byte[0], tags: []))
+
+        expect:
+        weigher.weigh("key", new Page(title: "title", body: new byte[4096], tags: ["a", "b"])) > empty + 4096
+        weigher.weigh("key", new Author("name", [new Page(title: "", body: new byte[4096], tags: [])])) > 4096
+    }
+
+    void "test a cached absence weighs as little as a null value"() {
+        expect:
+        weigher.weigh("key", new NegativeCacheEntry(System.currentTimeMillis())) == weigher.weigh("key", null)
+    }
+
+    void "test a cache with a maximum weight holds about that many bytes"() {
+        given:
+        SyncCache<Cache> cache = applicationContext.getBean(SyncCache, Qualifiers.byName("pages"))
+
+        when:
+        100.times { cache.put(it, new byte[4096]) }
+        cache.nativeCache.cleanUp()
+
+        then:
+        cache.nativeCache.policy().eviction().get().maximum == 64 * 1024
+        cache.nativeCache.estimatedSize() < 16
+        cache.nativeCache.policy().eviction().get().weightedSize().asLong <= 64 * 1024
+    }
+
+    void "test the entries weigh 1 unless weighing by size is enabled"() {
+        given:
+        SyncCache<Cache> cache = applicationContext.getBean(SyncCache, Qualifiers.byName("counted"))
+
+        when:
+        100.times { cache.put(it, new byte[4096]) }
+        cache.nativeCache.cleanUp()
+
+        then:
+        cache.nativeCache.policy().eviction().get().weightOf(99).asInt == 1
+        cache.nativeCache.estimatedSize() == 16
+    }
+
+    void "test a weigher named after another cache is not used"() {
+        given:
+        SyncCache<Cache> pages = applicationContext.getBean(SyncCache, Qualifiers.byName("pages"))
+        SyncCache<Cache> heavy = applicationContext.getBean(SyncCache, Qualifiers.byName("heavy"))
+
+        when:
+        pages.put("page", "page")
+        heavy.put("page", "page")
+
+        then:
+        pages.nativeCache.policy().eviction().get().weightOf("page").asInt != HeavyWeigher.WEIGHT
+        heavy.nativeCache.policy().eviction().get().weightOf("page").asInt == HeavyWeigher.WEIGHT
+    }
+
+    @Requires(property = "spec.name", value = "ObjectSizeWeigherSpec")
+    @Singleton
+    @Named("heavy")
+    static class HeavyWeigher implements Weigher<Object, Object> {
+
+        static final int WEIGHT = 12345
+
+        @Override
+        int weigh(Object key, Object value) {
+            WEIGHT
+        }
+    }
+
+    @Introspected
+    static class Page {
+        String title
+        byte[] body
+        List<String> tags
+    }
+
+    static record Author(String name, List<Page> pages) {
+    }
+}
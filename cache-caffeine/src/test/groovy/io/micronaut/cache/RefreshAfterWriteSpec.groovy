@@ -0,0 +1,182 @@
+package io.micronaut.cache
+
+import com.github.benmanes.caffeine.cache.LoadingCache
+import io.micronaut.cache.annotation.Cacheable
+import io.micronaut.cache.caffeine.DefaultSyncCache
+import io.micronaut.cache.interceptor.ParametersKey
+import io.micronaut.cache.interceptor.RefreshableValue
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import jakarta.inject.Singleton
+import reactor.core.publisher.Mono
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.atomic.AtomicInteger
+
+class RefreshAfterWriteSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext applicationContext = ApplicationContext.run(
+            'spec.name': RefreshAfterWriteSpec.simpleName,
+            'micronaut.caches.native-refresh.refresh-after-write': '200ms',
+            'micronaut.caches.native-refresh.test-mode': true
+    )
+
+    @Shared
+    RefreshingService refreshingService = applicationContext.getBean(RefreshingService)
+
+    PollingConditions conditions = new PollingConditions(timeout: 5)
+
+    void "test caffeine refreshes entries natively"() {
+        expect:
+        refreshingService.nativeRefresh("key") == "value 1"
+        refreshingService.nativeRefresh("key") == "value 1"
+
+        when:
+        sleep(300)
+
+        then: "the test mode executor reloads the entry on the reading thread"
+        refreshingService.nativeRefresh("key") == "value 2"
+        refreshingService.nativeRefresh("key") == "value 2"
+    }
+
+    void "test the reloader is kept when a value is loaded and shared by the keys of the method"() {
+        given:
+        DefaultSyncCache cache = applicationContext.getBean(CacheManager).getCache("native-refresh")
+
+        when:
+        refreshingService.nativeRefresh("first", 1)
+        refreshingService.nativeRefresh("second", 2)
+        def reloader = cache.loaders[ParametersKey.of("first", 1)]
+
+        then:
+        reloader != null
+        cache.loaders[ParametersKey.of("second", 2)].is(reloader)
+
+        when: "the loader of a key is removed, it isn't restored by a hit"
+        cache.loaders.remove(ParametersKey.of("first", 1))
+        refreshingService.nativeRefresh("first", 1)
+
+        then:
+        !cache.loaders.containsKey(ParametersKey.of("first", 1))
+
+        when: "the value is reloaded"
+        cache.loaders[ParametersKey.of("first", 1)] = reloader
+        cache.nativeCache.refresh(ParametersKey.of("first", 1)).get()
+
+        then: "the method is invoked again with the arguments of the key"
+        cache.nativeCache.getIfPresent(ParametersKey.of("first", 1)) == "first 1 ${refreshingService.nativeCounter.get()}"
+    }
+
+    void "test the native loading cache loads with the loader of the entry"() {
+        given:
+        SyncCache<LoadingCache> cache = applicationContext.getBean(CacheManager).getCache("native-refresh")
+
+        expect: "keys without a loader are not loaded"
+        cache.nativeCache.get("unknown") == null
+        cache.nativeCache.getAll(["unknown"]).isEmpty()
+
+        when:
+        refreshingService.nativeRefresh("other")
+        cache.nativeCache.refresh("other").get()
+
+        then:
+        cache.nativeCache.getIfPresent("other") == "value ${refreshingService.nativeCounter.get()}"
+
+        when: "an entry that was only put is due for refresh"
+        cache.put("put", "value")
+        sleep(300)
+
+        then: "it is not reloaded"
+        cache.nativeCache.getIfPresent("put") == "value"
+        cache.nativeCache.getIfPresent("put") == "value"
+    }
+
+    void "test the interceptor refreshes entries of any cache"() {
+        given:
+        CacheManager cacheManager = applicationContext.getBean(CacheManager)
+
+        expect:
+        refreshingService.annotationRefresh("key") == "value 1"
+        refreshingService.annotationRefresh("key") == "value 1"
+        cacheManager.getCache("annotation-refresh").get("key", Object).get() instanceof RefreshableValue
+
+        when:
+        sleep(300)
+
+        then: "the stale value is returned while it is reloaded"
+        refreshingService.annotationRefresh("key") == "value 1"
+        conditions.eventually {
+            assert refreshingService.annotationRefresh("key") == "value 2"
+        }
+    }
+
+    void "test the interceptor refreshes entries of completion stage methods"() {
+        expect:
+        refreshingService.futureRefresh("key").get() == "value 1"
+        refreshingService.futureRefresh("key").get() == "value 1"
+
+        when:
+        sleep(300)
+
+        then: "the stale value is returned while it is reloaded"
+        refreshingService.futureRefresh("key").get() == "value 1"
+        conditions.eventually {
+            assert refreshingService.futureRefresh("key").get() == "value 2"
+        }
+    }
+
+    void "test the interceptor refreshes entries of single result publisher methods"() {
+        expect:
+        refreshingService.monoRefresh("key").block() == "value 1"
+        refreshingService.monoRefresh("key").block() == "value 1"
+
+        when:
+        sleep(300)
+
+        then: "the stale value is returned while it is reloaded"
+        refreshingService.monoRefresh("key").block() == "value 1"
+        conditions.eventually {
+            assert refreshingService.monoRefresh("key").block() == "value 2"
+        }
+    }
+
+    @Requires(property = "spec.name", value = "RefreshAfterWriteSpec")
+    @Singleton
+    static class RefreshingService {
+        final AtomicInteger nativeCounter = new AtomicInteger()
+        final AtomicInteger annotationCounter = new AtomicInteger()
+        final AtomicInteger futureCounter = new AtomicInteger()
+        final AtomicInteger monoCounter = new AtomicInteger()
+
+        @Cacheable("native-refresh")
+        String nativeRefresh(String key) {
+            "value ${nativeCounter.incrementAndGet()}".toString()
+        }
+
+        @Cacheable("native-refresh")
+        String nativeRefresh(String name, int id) {
+            "$name $id ${nativeCounter.incrementAndGet()}".toString()
+        }
+
+        @Cacheable(value = "annotation-refresh", refreshAfterWrite = "200ms")
+        String annotationRefresh(String key) {
+            "value ${annotationCounter.incrementAndGet()}".toString()
+        }
+
+        @Cacheable(value = "future-refresh", refreshAfterWrite = "200ms")
+        CompletableFuture<String> futureRefresh(String key) {
+            CompletableFuture.completedFuture("value ${futureCounter.incrementAndGet()}".toString())
+        }
+
+        @Cacheable(value = "mono-refresh", refreshAfterWrite = "200ms")
+        Mono<String> monoRefresh(String key) {
+            Mono.fromCallable { "value ${monoCounter.incrementAndGet()}".toString() }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package io.micronaut.cache
+
+import io.micronaut.cache.annotation.Cacheable
+import io.micronaut.cache.interceptor.CacheInterceptorConfiguration
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.convert.ConversionService
+import io.micronaut.core.type.Argument
+import jakarta.inject.Singleton
+import spock.lang.AutoCleanup
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.time.Duration
+import java.util.concurrent.Callable
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class SingleFlightSpec extends Specification {
+
+    @AutoCleanup("shutdownNow")
+    def executor = Executors.newFixedThreadPool(8)
+
+    void "test the single-flight configuration"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'micronaut.cache.interceptor.single-flight.enabled': true,
+                'micronaut.cache.interceptor.single-flight.timeout': '5s',
+                'micronaut.cache.interceptor.single-flight.on-failure': 'retry'
+        )
+
+        when:
+        CacheInterceptorConfiguration.SingleFlightConfiguration configuration = applicationContext.getBean(CacheInterceptorConfiguration).singleFlight
+
+        then:
+        configuration.enabled
+        configuration.timeout == Duration.ofSeconds(5)
+        configuration.onFailure == CacheInterceptorConfiguration.FailureMode.RETRY
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "test concurrent misses for the same key invoke the method once"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'spec.name': SingleFlightSpec.simpleName,
+                'micronaut.cache.interceptor.single-flight.enabled': enabled
+        )
+        SlowService slowService = applicationContext.getBean(SlowService)
+
+        when:
+        def results = invokeConcurrently(8) { slowService.load("key") }
+
+        then:
+        results.every { it == "loaded key" }
+        (slowService.invocations.get() == 1) == singleInvocation
+
+        cleanup:
+        applicationContext.close()
+
+        where:
+        enabled | singleInvocation
+        true    | true
+        false   | false
+    }
+
+    void "test waiting callers receive the failure of the invocation"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'spec.name': SingleFlightSpec.simpleName,
+                'micronaut.cache.interceptor.single-flight.enabled': true
+        )
+        SlowService slowService = applicationContext.getBean(SlowService)
+
+        when:
+        invokeConcurrently(4) { slowService.fail("key") }
+
+        then:
+        ExecutionException e = thrown()
+        e.cause instanceof IllegalStateException
+        slowService.invocations.get() == 1
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "test a miss that races the completion of a flight doesn't invoke the method again"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'spec.name': SingleFlightSpec.simpleName,
+                'micronaut.cache.interceptor.single-flight.enabled': true
+        )
+        SlowService slowService = applicationContext.getBean(SlowService)
+        RacingCache cache = applicationContext.getBean(RacingCache)
+        CountDownLatch loaded = new CountDownLatch(1)
+
+        when: "the lookup of the second caller misses, and the first flight completes before it joins"
+        def first = executor.submit({ slowService.race("key") } as Callable<Object>)
+        new PollingConditions(timeout: 5).eventually {
+            assert slowService.invocations.get() == 1
+        }
+        cache.onMiss = { loaded.await(10, TimeUnit.SECONDS) }
+        def second = executor.submit({ slowService.race("key") } as Callable<Object>)
+        first.get(10, TimeUnit.SECONDS)
+        loaded.countDown()
+
+        then:
+        second.get(10, TimeUnit.SECONDS) == "loaded key"
+        slowService.invocations.get() == 1
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    private List<Object> invokeConcurrently(int callers, Callable<Object> callable) {
+        CountDownLatch start = new CountDownLatch(1)
+        def futures = (1..callers).collect {
+            executor.submit({
+                start.await()
+                callable.call()
+            } as Callable<Object>)
+        }
+        start.countDown()
+        futures.collect { it.get(10, TimeUnit.SECONDS) }
+    }
+
+    @Requires(property = "spec.name", value = "SingleFlightSpec")
+    @Singleton
+    static class SlowService {
+        final AtomicInteger invocations = new AtomicInteger()
+
+        @Cacheable("slow")
+        String load(String key) {
+            invocations.incrementAndGet()
+            Thread.sleep(200)
+            "loaded $key".toString()
+        }
+
+        @Cacheable("racing")
+        String race(String key) {
+            invocations.incrementAndGet()
+            Thread.sleep(200)
+            "loaded $key".toString()
+        }
+
+        @Cacheable("slow-failing")
+        String fail(String key) {
+            invocations.incrementAndGet()
+            Thread.sleep(200)
+            throw new IllegalStateException("failed $key")
+        }
+    }
+
+    @Requires(property = "spec.name", value = "SingleFlightSpec")
+    @Singleton
+    static class RacingCache extends AbstractMapBasedSyncCache<Map<Object, Object>> {
+        volatile Runnable onMiss
+
+        RacingCache(ConversionService conversionService) {
+            super(conversionService, new ConcurrentHashMap<>())
+        }
+
+        @Override
+        String getName() {
+            return "racing"
+        }
+
+        @Override
+        <T> Optional<T> get(Object key, Argument<T> requiredType) {
+            Optional<T> value = super.get(key, requiredType)
+            Runnable action = onMiss
+            if (value.isEmpty() && action != null) {
+                onMiss = null
+                action.run()
+            }
+            return value
+        }
+    }
+}
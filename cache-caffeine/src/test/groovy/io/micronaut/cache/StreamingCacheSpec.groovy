@@ -0,0 +1,162 @@
+package io.micronaut.cache
+
+import io.micronaut.cache.annotation.CachePut
+import io.micronaut.cache.annotation.Cacheable
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import jakarta.inject.Singleton
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.atomic.AtomicInteger
+
+class StreamingCacheSpec extends Specification {
+
+    void "test the elements of a flux are emitted individually"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'spec.name': StreamingCacheSpec.simpleName,
+                'micronaut.cache.interceptor.streaming.enabled': streaming
+        )
+        StreamingService streamingService = applicationContext.getBean(StreamingService)
+
+        expect:
+        Flux.from(streamingService.values(3)).collectList().block() == ["1", "2", "3"]
+        Flux.from(streamingService.values(3)).collectList().block() == ["1", "2", "3"]
+        streamingService.invocations.get() == 1
+        applicationContext.getBean(CacheManager).getCache("streaming").get(3, List).get() == ["1", "2", "3"]
+
+        when:
+        Flux.from(streamingService.put("key")).collectList().block()
+
+        then:
+        applicationContext.getBean(CacheManager).getCache("streaming").get("key", List).get() == ["key"]
+
+        cleanup:
+        applicationContext.close()
+
+        where:
+        streaming << [false, true]
+    }
+
+    void "test elements are emitted before the stream completes"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'spec.name': StreamingCacheSpec.simpleName,
+                'micronaut.cache.interceptor.streaming.enabled': true
+        )
+        StreamingService streamingService = applicationContext.getBean(StreamingService)
+        CacheManager cacheManager = applicationContext.getBean(CacheManager)
+
+        expect:
+        Flux.from(streamingService.slow("slow")).blockFirst(Duration.ofSeconds(1)) == "first"
+        !cacheManager.getCache("streaming").get("slow", List).isPresent()
+
+        when:
+        List<String> values = Flux.from(streamingService.slow("slow")).collectList().block()
+
+        then:
+        values == ["first", "last"]
+        cacheManager.getCache("streaming").get("slow", List).get() == ["first", "last"]
+        Flux.from(streamingService.slow("slow")).collectList().block() == ["first", "last"]
+        streamingService.invocations.get() == 2
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "test streams that exceed the limits are not cached"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'spec.name': StreamingCacheSpec.simpleName,
+                'micronaut.cache.interceptor.streaming.enabled': true,
+                'micronaut.cache.interceptor.streaming.max-elements': 5,
+                'micronaut.cache.interceptor.streaming.max-bytes': 500
+        )
+        StreamingService streamingService = applicationContext.getBean(StreamingService)
+
+        expect:
+        Flux.from(streamingService.values(6)).collectList().block().size() == 6
+        Flux.from(streamingService.values(6)).collectList().block().size() == 6
+        streamingService.invocations.get() == 2
+
+        and: "an element is estimated to occupy more than 100 bytes"
+        Flux.from(streamingService.large(5)).collectList().block().size() == 5
+        Flux.from(streamingService.large(5)).collectList().block().size() == 5
+        streamingService.invocations.get() == 4
+
+        and:
+        Flux.from(streamingService.values(5)).collectList().block().size() == 5
+        Flux.from(streamingService.values(5)).collectList().block().size() == 5
+        streamingService.invocations.get() == 5
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "test a put of a stream that exceeds the limits invalidates the previous value"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'spec.name': StreamingCacheSpec.simpleName,
+                'micronaut.cache.interceptor.streaming.enabled': true,
+                'micronaut.cache.interceptor.streaming.max-elements': 5
+        )
+        StreamingService streamingService = applicationContext.getBean(StreamingService)
+        CacheManager cacheManager = applicationContext.getBean(CacheManager)
+
+        when:
+        Flux.from(streamingService.putValues(3)).collectList().block()
+
+        then:
+        cacheManager.getCache("streaming").get(3, List).get() == ["1", "2", "3"]
+
+        when:
+        streamingService.count = 6
+        List<String> values = Flux.from(streamingService.putValues(3)).collectList().block()
+
+        then: "the elements are emitted, and the stale list is no longer cached"
+        values.size() == 6
+        !cacheManager.getCache("streaming").get(3, List).isPresent()
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    @Requires(property = "spec.name", value = "StreamingCacheSpec")
+    @Singleton
+    static class StreamingService {
+        final AtomicInteger invocations = new AtomicInteger()
+
+        @Cacheable("streaming")
+        Flux<String> values(int count) {
+            invocations.incrementAndGet()
+            Flux.range(1, count).map(String::valueOf)
+        }
+
+        @Cacheable("streaming")
+        Flux<String> large(int count) {
+            invocations.incrementAndGet()
+            Flux.range(1, count).map(i -> "x" * 100)
+        }
+
+        @Cacheable("streaming")
+        Flux<String> slow(String name) {
+            invocations.incrementAndGet()
+            Flux.concat(Mono.just("first"), Mono.delay(Duration.ofSeconds(2)).thenReturn("last"))
+        }
+
+        int count
+
+        @CachePut("streaming")
+        Flux<String> putValues(int key) {
+            Flux.range(1, count ?: key).map(String::valueOf)
+        }
+
+        @CachePut("streaming")
+        Flux<String> put(String key) {
+            Flux.just(key)
+        }
+    }
+}
@@ -24,6 +24,7 @@ import io.micronaut.cache.annotation.Cacheable
 import io.micronaut.cache.annotation.InvalidateOperations
 import io.micronaut.cache.annotation.PutOperations
 import io.micronaut.context.ApplicationContext
+import io.micronaut.core.type.Argument
 import io.micronaut.inject.qualifiers.Qualifiers
 import jakarta.inject.Singleton
 import org.reactivestreams.Publisher
@@ -253,6 +254,30 @@ class SyncCacheSpec extends Specification {
         applicationContext.stop()
     }
 
+    void "test bulk operations"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'micronaut.caches.test.test-mode':true,
+        )
+
+        when:
+        SyncCache syncCache = applicationContext.getBean(SyncCache, Qualifiers.byName('test'))
+        syncCache.putAll(one: 1, two: 2, three: 3, four: null)
+
+        then:
+        syncCache.getAll(["three", "one", "four"], Argument.of(Integer)) == [three: 3, one: 1]
+        syncCache.async().getAll(["two"], Argument.of(Integer)).get() == [two: 2]
+
+        when:
+        syncCache.invalidateAll(["one", "three"])
+
+        then:
+        syncCache.getAll(["one", "two", "three"], Argument.of(Integer)) == [two: 2]
+
+        cleanup:
+        applicationContext.stop()
+    }
+
     void "test exception isn't thrown if non configured cache is retrieved"() {
         given:
         ApplicationContext applicationContext = ApplicationContext.run(
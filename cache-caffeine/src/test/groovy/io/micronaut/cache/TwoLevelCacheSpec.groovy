@@ -0,0 +1,204 @@
+package io.micronaut.cache
+
+import com.github.benmanes.caffeine.cache.Cache
+import io.micronaut.cache.annotation.Cacheable
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.exceptions.ConfigurationException
+import io.micronaut.core.convert.ConversionService
+import io.micronaut.core.type.Argument
+import jakarta.inject.Singleton
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.atomic.AtomicInteger
+
+class TwoLevelCacheSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext applicationContext = ApplicationContext.run(
+            'spec.name': TwoLevelCacheSpec.simpleName,
+            'micronaut.caches.books.two-level': true,
+            'micronaut.caches.books.maximum-size': 10
+    )
+
+    @Shared
+    BookService bookService = applicationContext.getBean(BookService)
+
+    @Shared
+    RemoteCacheManager remoteCacheManager = applicationContext.getBean(RemoteCacheManager)
+
+    @Shared
+    TestInvalidationChannel channel = applicationContext.getBean(TestInvalidationChannel)
+
+    @Shared
+    TwoLevelSyncCache<Cache> cache = (TwoLevelSyncCache<Cache>) applicationContext.getBean(CacheManager).getCache("books")
+
+    void "test results are cached in both levels"() {
+        expect:
+        bookService.find(1) == "Book 1"
+        bookService.find(1) == "Book 1"
+        bookService.invocations.get() == 1
+        cache.nativeCache.getIfPresent(1) == "Book 1"
+        remoteCacheManager.entries.get(1) == "Book 1"
+        channel.published.contains(1)
+    }
+
+    void "test second level hits are copied to the first level"() {
+        given:
+        remoteCacheManager.entries.put(2, "Remote book 2")
+
+        expect:
+        bookService.find(2) == "Remote book 2"
+        cache.nativeCache.getIfPresent(2) == "Remote book 2"
+        bookService.invocations.get() == 1
+    }
+
+    void "test invalidations of other nodes invalidate the first level"() {
+        given:
+        bookService.find(3)
+        remoteCacheManager.entries.put(3, "Updated book 3")
+
+        expect:
+        bookService.find(3) == "Book 3"
+
+        when:
+        channel.listeners.each { it.onInvalidate(3) }
+
+        then:
+        cache.nativeCache.getIfPresent(3) == null
+        bookService.find(3) == "Updated book 3"
+
+        when:
+        channel.listeners.each { it.onInvalidateAll() }
+
+        then:
+        cache.nativeCache.estimatedSize() == 0
+        remoteCacheManager.entries.size() > 0
+    }
+
+    void "test invalidations are applied to both levels and published"() {
+        when:
+        cache.put(4, "Book 4")
+        cache.invalidate(4)
+
+        then:
+        cache.nativeCache.getIfPresent(4) == null
+        !remoteCacheManager.entries.containsKey(4)
+        channel.published.count(4) == 2
+
+        when:
+        cache.invalidateAll()
+
+        then:
+        remoteCacheManager.entries.isEmpty()
+        channel.published.last() == '*'
+    }
+
+    void "test values read before an invalidation are not kept in the first level"() {
+        given:
+        remoteCacheManager.entries.put(5, "Book 5")
+        remoteCacheManager.onRead = {
+            remoteCacheManager.entries.put(5, "Updated book 5")
+            channel.listeners.each { it.onInvalidate(5) }
+        }
+
+        expect:
+        cache.get(5, String).get() == "Book 5"
+        cache.nativeCache.getIfPresent(5) == null
+        cache.get(5, String).get() == "Updated book 5"
+        cache.nativeCache.getIfPresent(5) == "Updated book 5"
+    }
+
+    void "test a local second level is rejected"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'micronaut.caches.books.two-level': true
+        )
+        TwoLevelSyncCache<Cache> localCache = (TwoLevelSyncCache<Cache>) context.getBean(CacheManager).getCache("books")
+
+        when:
+        localCache.secondLevel
+
+        then:
+        ConfigurationException e = thrown()
+        e.message.contains("is a local cache")
+
+        cleanup:
+        context.close()
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'TwoLevelCacheSpec')
+    static class BookService {
+
+        AtomicInteger invocations = new AtomicInteger()
+
+        @Cacheable("books")
+        String find(int id) {
+            invocations.incrementAndGet()
+            return "Book " + id
+        }
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'TwoLevelCacheSpec')
+    static class RemoteCacheManager implements DynamicCacheManager<Map<Object, Object>> {
+
+        final Map<Object, Object> entries = new ConcurrentHashMap<>()
+        final ConversionService conversionService
+        volatile Runnable onRead
+
+        RemoteCacheManager(ConversionService conversionService) {
+            this.conversionService = conversionService
+        }
+
+        @Override
+        SyncCache<Map<Object, Object>> getCache(String name) {
+            return new AbstractMapBasedSyncCache<Map<Object, Object>>(conversionService, entries) {
+                @Override
+                String getName() {
+                    return name
+                }
+
+                @Override
+                <T> Optional<T> get(Object key, Argument<T> requiredType) {
+                    Optional<T> value = super.get(key, requiredType)
+                    Runnable action = onRead
+                    if (action != null) {
+                        onRead = null
+                        action.run()
+                    }
+                    return value
+                }
+            }
+        }
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'TwoLevelCacheSpec')
+    static class TestInvalidationChannel implements CacheInvalidationChannel {
+
+        final List<Object> published = new CopyOnWriteArrayList<>()
+        final List<CacheInvalidationChannel.Listener> listeners = new CopyOnWriteArrayList<>()
+
+        @Override
+        void publish(String cacheName, Object key) {
+            published.add(key)
+        }
+
+        @Override
+        void publishAll(String cacheName) {
+            published.add('*')
+        }
+
+        @Override
+        void subscribe(String cacheName, CacheInvalidationChannel.Listener listener) {
+            listeners.add(listener)
+        }
+    }
+}
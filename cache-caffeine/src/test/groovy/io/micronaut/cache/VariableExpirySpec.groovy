@@ -0,0 +1,123 @@
+package io.micronaut.cache
+
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Expiry
+import io.micronaut.cache.annotation.Cacheable
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.inject.qualifiers.Qualifiers
+import jakarta.inject.Named
+import jakarta.inject.Singleton
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+
+class VariableExpirySpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext applicationContext = ApplicationContext.run(
+            'spec.name': VariableExpirySpec.simpleName,
+            'micronaut.caches.prices.maximum-size': 100,
+            'micronaut.caches.tokens.expire-after-write': '1h',
+            'micronaut.caches.fixed.expire-after-write': '1h'
+    )
+
+    void "test an expiry bean named after a cache sets the expiry of its entries"() {
+        given:
+        SyncCache<Cache> cache = applicationContext.getBean(SyncCache, Qualifiers.byName("prices"))
+
+        when:
+        cache.put("cheap", 5)
+        cache.put("expensive", 500)
+
+        then:
+        expiresAfterSeconds(cache, "cheap") <= 10
+        expiresAfterSeconds(cache, "expensive") > 90
+        expiresAfterSeconds(cache, "expensive") <= 100
+    }
+
+    void "test the values cached by the interceptor expire after the time to live resolved from them"() {
+        given:
+        SyncCache<Cache> cache = applicationContext.getBean(SyncCache, Qualifiers.byName("tokens"))
+        TokenService tokenService = applicationContext.getBean(TokenService)
+
+        when:
+        tokenService.token("short")
+        tokenService.token("long")
+        tokenService.token("default")
+
+        then:
+        expiresAfterSeconds(cache, "short") <= 30
+        expiresAfterSeconds(cache, "short") > 20
+        expiresAfterSeconds(cache, "long") > 590
+        expiresAfterSeconds(cache, "default") > 3590
+
+        and: "the cached tokens are returned"
+        tokenService.token("short").value == "short"
+        tokenService.invocations == 3
+    }
+
+    void "test the caches without an expiry bean or resolver have a fixed expiry"() {
+        expect:
+        applicationContext.getBean(SyncCache, Qualifiers.byName("fixed")).nativeCache.policy().expireAfterWrite().present
+    }
+
+    private static long expiresAfterSeconds(SyncCache<Cache> cache, Object key) {
+        cache.nativeCache.policy().expireVariably().get().getExpiresAfter(key, TimeUnit.SECONDS).asLong
+    }
+
+    static class Token {
+        String value
+        Duration expiresIn
+    }
+
+    @Requires(property = "spec.name", value = "VariableExpirySpec")
+    @Singleton
+    static class TokenService {
+
+        int invocations
+        Map<String, Duration> expiries = [short: Duration.ofSeconds(30), long: Duration.ofMinutes(10)]
+
+        @Cacheable("tokens")
+        Token token(String value) {
+            invocations++
+            new Token(value: value, expiresIn: expiries[value])
+        }
+    }
+
+    @Requires(property = "spec.name", value = "VariableExpirySpec")
+    @Singleton
+    @Named("tokens")
+    static class TokenTtlResolver implements CacheTtlResolver {
+
+        @Override
+        Optional<Duration> resolveTtl(Object key, Object value) {
+            Optional.ofNullable(((Token) value).expiresIn)
+        }
+    }
+
+    @Requires(property = "spec.name", value = "VariableExpirySpec")
+    @Singleton
+    @Named("prices")
+    static class PriceExpiry implements Expiry<Object, Integer> {
+
+        @Override
+        long expireAfterCreate(Object key, Integer value, long currentTime) {
+            TimeUnit.SECONDS.toNanos(value < 100 ? 10 : 100)
+        }
+
+        @Override
+        long expireAfterUpdate(Object key, Integer value, long currentTime, long currentDuration) {
+            expireAfterCreate(key, value, currentTime)
+        }
+
+        @Override
+        long expireAfterRead(Object key, Integer value, long currentTime, long currentDuration) {
+            currentDuration
+        }
+    }
+}
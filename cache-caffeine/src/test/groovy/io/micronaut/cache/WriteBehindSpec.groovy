@@ -0,0 +1,190 @@
+package io.micronaut.cache
+
+import io.micrometer.core.instrument.MeterRegistry
+import io.micronaut.cache.annotation.CacheInvalidate
+import io.micronaut.cache.annotation.CachePut
+import io.micronaut.cache.interceptor.WriteBehind
+import io.micronaut.cache.interceptor.WriteBehindQueue
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import jakarta.inject.Singleton
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+class WriteBehindSpec extends Specification {
+
+    PollingConditions conditions = new PollingConditions(timeout: 5)
+
+    void "test asynchronous writes are batched"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'spec.name': WriteBehindSpec.simpleName,
+                'micronaut.cache.interceptor.write-behind.enabled': true,
+                'micronaut.cache.interceptor.write-behind.max-batch-size': 100,
+                'micronaut.cache.interceptor.write-behind.flush-interval': '1s'
+        )
+        BookService bookService = context.getBean(BookService)
+        SyncCache cache = context.getBean(CacheManager).getCache("books")
+        WriteBehind writeBehind = context.getBean(WriteBehind)
+
+        when:
+        bookService.save("one", "first")
+        bookService.save("one", "second")
+        bookService.save("two", "first")
+        bookService.delete("two")
+        WriteBehindQueue queue = writeBehind.queues.first()
+
+        then: "only the last write of each key is kept"
+        queue.writeCount == 4
+        queue.coalescedCount == 2
+
+        and: "they are flushed in a single batch"
+        conditions.eventually {
+            assert cache.get("one", String).get() == "second"
+            assert queue.pendingCount == 0
+        }
+        !cache.get("two", String).isPresent()
+        queue.batchCount == 1
+        queue.flushedCount == 2
+
+        and: "the queue is instrumented"
+        context.getBean(MeterRegistry).get("cache.write.behind.coalesced").tags("cache", "books").functionCounter().count() == 2
+
+        cleanup:
+        context.close()
+    }
+
+    void "test full batches are flushed and pending writes are flushed on shutdown"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'spec.name': WriteBehindSpec.simpleName,
+                'micronaut.cache.interceptor.write-behind.enabled': true,
+                'micronaut.cache.interceptor.write-behind.max-batch-size': 2,
+                'micronaut.cache.interceptor.write-behind.flush-interval': '1h'
+        )
+        BookService bookService = context.getBean(BookService)
+        SyncCache cache = context.getBean(CacheManager).getCache("books")
+
+        when:
+        bookService.save("one", "first")
+        bookService.save("two", "first")
+
+        then:
+        conditions.eventually {
+            assert cache.get("one", String).isPresent()
+            assert cache.get("two", String).isPresent()
+        }
+
+        when:
+        bookService.save("three", "first")
+        context.close()
+
+        then:
+        cache.get("three", String).get() == "first"
+    }
+
+    void "test puts are dropped by default when the queue is full"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'spec.name': WriteBehindSpec.simpleName,
+                'micronaut.cache.interceptor.write-behind.enabled': true,
+                'micronaut.cache.interceptor.write-behind.max-batch-size': 100,
+                'micronaut.cache.interceptor.write-behind.capacity': 100,
+                'micronaut.cache.interceptor.write-behind.flush-interval': '1h'
+        )
+        BookService bookService = context.getBean(BookService)
+        WriteBehind writeBehind = context.getBean(WriteBehind)
+
+        when:
+        99.times { bookService.save("book-$it", "value") }
+        WriteBehindQueue queue = writeBehind.queues.first()
+
+        then:
+        queue.pendingCount == 99
+
+        when: "the batch fills up while it is being flushed"
+        101.times { bookService.save("other-$it", "value") }
+
+        then:
+        queue.writeCount + queue.droppedCount == 200
+
+        cleanup:
+        context.close()
+    }
+
+    void "test a dropped put invalidates its key so that no stale value is read"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'spec.name': WriteBehindSpec.simpleName,
+                'micronaut.cache.interceptor.write-behind.enabled': true,
+                'micronaut.cache.interceptor.write-behind.max-batch-size': 100,
+                'micronaut.cache.interceptor.write-behind.capacity': 100,
+                'micronaut.cache.interceptor.write-behind.flush-interval': '1h'
+        )
+        BookService bookService = context.getBean(BookService)
+        SyncCache cache = context.getBean(CacheManager).getCache("books")
+        cache.put("dropped", "stale")
+        bookService.save("book-0", "value")
+        WriteBehindQueue queue = context.getBean(WriteBehind).queues.first()
+
+        when: "the queue fills up while a flush is in progress"
+        queue.flushing = true
+        (1..99).each { bookService.save("book-$it", "value") }
+        bookService.save("dropped", "new")
+
+        then:
+        queue.droppedCount == 1
+        queue.pendingCount == 101
+
+        when:
+        queue.flushing = false
+        queue.flushPending()
+
+        then:
+        conditions.eventually {
+            assert cache.get("book-99", String).get() == "value"
+            assert !cache.get("dropped", String).isPresent()
+        }
+
+        cleanup:
+        context.close()
+    }
+
+    void "test only the configured caches batch their writes"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'spec.name': WriteBehindSpec.simpleName,
+                'micronaut.cache.interceptor.write-behind.enabled': true,
+                'micronaut.cache.interceptor.write-behind.caches': ['authors'],
+                'micronaut.cache.interceptor.write-behind.flush-interval': '1h'
+        )
+        BookService bookService = context.getBean(BookService)
+        SyncCache cache = context.getBean(CacheManager).getCache("books")
+
+        when:
+        bookService.save("one", "first")
+
+        then:
+        conditions.eventually {
+            assert cache.get("one", String).get() == "first"
+        }
+        context.getBean(WriteBehind).queues.isEmpty()
+
+        cleanup:
+        context.close()
+    }
+
+    @Requires(property = "spec.name", value = "WriteBehindSpec")
+    @Singleton
+    static class BookService {
+
+        @CachePut(value = "books", parameters = "id", async = true)
+        String save(String id, String title) {
+            return title
+        }
+
+        @CacheInvalidate(value = "books", async = true)
+        void delete(String id) {
+        }
+    }
+}
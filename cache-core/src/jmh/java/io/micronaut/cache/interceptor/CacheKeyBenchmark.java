@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.interceptor;
+
+import io.micronaut.core.annotation.AnnotationMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares building a key and looking it up in a map for the array based {@link ParametersKey}, the
+ * arity-specialized keys and the {@link LongHashCacheKeyGenerator}. Run with {@code ./gradlew cache-core:jmh} and
+ * {@code -prof gc} to compare the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheKeyBenchmark {
+
+    @Param({"2", "3", "4"})
+    int arity;
+
+    private final CacheKeyGenerator defaultKeyGenerator = new DefaultCacheKeyGenerator();
+    private final CacheKeyGenerator longHashKeyGenerator = new LongHashCacheKeyGenerator();
+    private final Map<Object, Object> arrayKeyCache = new ConcurrentHashMap<>();
+    private final Map<Object, Object> specializedKeyCache = new ConcurrentHashMap<>();
+    private final Map<Object, Object> longHashKeyCache = new ConcurrentHashMap<>();
+    private Object[] params;
+
+    @Setup
+    public void setup() {
+        Object[] all = {"customer", 42, 7L, Boolean.TRUE};
+        params = new Object[arity];
+        System.arraycopy(all, 0, params, 0, arity);
+        arrayKeyCache.put(new ParametersKey(params), "value");
+        specializedKeyCache.put(defaultKeyGenerator.generateKey(AnnotationMetadata.EMPTY_METADATA, params), "value");
+        longHashKeyCache.put(longHashKeyGenerator.generateKey(AnnotationMetadata.EMPTY_METADATA, params), "value");
+    }
+
+    @Benchmark
+    public Object arrayKey() {
+        return arrayKeyCache.get(new ParametersKey(params));
+    }
+
+    @Benchmark
+    public Object specializedKey() {
+        return specializedKeyCache.get(defaultKeyGenerator.generateKey(AnnotationMetadata.EMPTY_METADATA, params));
+    }
+
+    @Benchmark
+    public Object longHashKey() {
+        return longHashKeyCache.get(longHashKeyGenerator.generateKey(AnnotationMetadata.EMPTY_METADATA, params));
+    }
+}
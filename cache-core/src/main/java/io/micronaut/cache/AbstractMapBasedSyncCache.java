@@ -15,12 +15,17 @@
  */
 package io.micronaut.cache;
 
+import io.micronaut.cache.serialize.CacheValueCodec;
+import io.micronaut.cache.serialize.CacheValueConverter;
 import io.micronaut.core.annotation.NonNull;
-import io.micronaut.core.convert.ConversionContext;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.ArgumentUtils;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -34,7 +39,7 @@ import java.util.function.Supplier;
  */
 public abstract class AbstractMapBasedSyncCache<C extends Map<Object, Object>> implements SyncCache<C> {
 
-    private final ConversionService conversionService;
+    private final CacheValueConverter valueConverter;
     private final C nativeCache;
 
     /**
@@ -42,7 +47,17 @@ public abstract class AbstractMapBasedSyncCache<C extends Map<Object, Object>> i
      * @param nativeCache the native cache
      */
     public AbstractMapBasedSyncCache(ConversionService conversionService, C nativeCache) {
-        this.conversionService = conversionService;
+        this(conversionService, nativeCache, null);
+    }
+
+    /**
+     * @param conversionService the conversion service
+     * @param nativeCache the native cache
+     * @param codec the codec of the stored values, or null to store them as they are
+     * @since 5.1.0
+     */
+    public AbstractMapBasedSyncCache(ConversionService conversionService, C nativeCache, @Nullable CacheValueCodec codec) {
+        this.valueConverter = new CacheValueConverter(conversionService, codec);
         this.nativeCache = nativeCache;
     }
 
@@ -50,18 +65,22 @@ public abstract class AbstractMapBasedSyncCache<C extends Map<Object, Object>> i
      * @return The conversion service
      */
     public ConversionService getConversionService() {
-        return conversionService;
+        return valueConverter.getConversionService();
+    }
+
+    /**
+     * @return The converter of the stored values
+     * @since 5.1.0
+     */
+    protected CacheValueConverter getValueConverter() {
+        return valueConverter;
     }
 
     @NonNull
     @Override
     public <T> Optional<T> get(@NonNull Object key, @NonNull Argument<T> requiredType) {
         ArgumentUtils.requireNonNull("key", key);
-        Object value = nativeCache.get(key);
-        if (value != null) {
-            return conversionService.convert(value, ConversionContext.of(requiredType));
-        }
-        return Optional.empty();
+        return valueConverter.decode(nativeCache.get(key), requiredType);
     }
 
     @Override
@@ -83,9 +102,9 @@ public abstract class AbstractMapBasedSyncCache<C extends Map<Object, Object>> i
     public <T> Optional<T> putIfAbsent(@NonNull Object key, @NonNull T value) {
         ArgumentUtils.requireNonNull("key", key);
         ArgumentUtils.requireNonNull("value", value);
-        final T v = (T) nativeCache.putIfAbsent(key, value);
+        final Object v = nativeCache.putIfAbsent(key, valueConverter.encode(value));
         final Class<T> aClass = (Class<T>) value.getClass();
-        return conversionService.convert(v, aClass);
+        return valueConverter.decode(v, Argument.of(aClass));
     }
 
     @NonNull
@@ -95,9 +114,9 @@ public abstract class AbstractMapBasedSyncCache<C extends Map<Object, Object>> i
         ArgumentUtils.requireNonNull("value", value);
         final Object v = nativeCache.get(key);
         if (v == null) {
-            return (T) nativeCache.put(key, value.get());
+            return (T) valueConverter.decode(nativeCache.put(key, valueConverter.encode(value.get())), Argument.OBJECT_ARGUMENT).orElse(null);
         } else {
-            return (T) v;
+            return (T) valueConverter.decode(v, Argument.OBJECT_ARGUMENT).orElse(null);
         }
     }
 
@@ -105,7 +124,24 @@ public abstract class AbstractMapBasedSyncCache<C extends Map<Object, Object>> i
     public void put(@NonNull Object key, @NonNull Object value) {
         ArgumentUtils.requireNonNull("key", key);
         ArgumentUtils.requireNonNull("value", value);
-        nativeCache.put(key, value);
+        nativeCache.put(key, valueConverter.encode(value));
+    }
+
+    @Override
+    public void putAll(@NonNull Map<?, ?> values) {
+        ArgumentUtils.requireNonNull("values", values);
+        Map<Object, Object> nonNullValues = new LinkedHashMap<>(values.size());
+        List<Object> nullKeys = new ArrayList<>();
+        values.forEach((key, value) -> {
+            ArgumentUtils.requireNonNull("key", key);
+            if (value != null) {
+                nonNullValues.put(key, value);
+            } else {
+                nullKeys.add(key);
+            }
+        });
+        nativeCache.putAll(valueConverter.encodeAll(nonNullValues));
+        nullKeys.forEach(nativeCache::remove);
     }
 
     @Override
@@ -17,8 +17,14 @@ package io.micronaut.cache;
 
 import io.micronaut.core.type.Argument;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 
 /**
@@ -53,6 +59,32 @@ public interface AsyncCache<C> extends Cache<C> {
      */
     <T> CompletableFuture<T> get(Object key, Argument<T> requiredType, Supplier<T> supplier);
 
+    /**
+     * <p>Resolve the given value for the given key. If the value is not found, the future returned by the specified
+     * loader is awaited without blocking and its value cached, or the key invalidated if the value is null.</p>
+     *
+     * <p>The default implementation looks up the value, then stores the loaded value. Implementations that cache the
+     * future itself, such as the Caffeine one, should override this method so that the concurrent loads of a key share
+     * a single invocation of the loader.</p>
+     *
+     * @param key          The cache key
+     * @param requiredType The required type
+     * @param loader       The loader that should be invoked if the value is not found
+     * @param <T>          The concrete type
+     * @return A future with the cached or loaded value, which may be null
+     * @since 5.1.0
+     */
+    default <T> CompletableFuture<T> getOrLoad(Object key, Argument<T> requiredType, Supplier<? extends CompletionStage<T>> loader) {
+        return get(key, requiredType).thenCompose(existing -> {
+            if (existing.isPresent()) {
+                return CompletableFuture.completedFuture(existing.get());
+            }
+            return loader.get().thenCompose(value -> value == null
+                ? invalidate(key).thenApply(ignore -> (T) null)
+                : put(key, value).thenApply(ignore -> value));
+        });
+    }
+
     /**
      * <p>Cache the specified value using the specified key if it is not already present.</p>
      *
@@ -87,6 +119,65 @@ public interface AsyncCache<C> extends Cache<C> {
      */
     CompletableFuture<Boolean> invalidateAll();
 
+    /**
+     * Resolve the values for the given keys. Implementations that access a remote cache should override this method
+     * to retrieve all the values in a single operation.
+     *
+     * @param keys         The cache keys
+     * @param requiredType The required type
+     * @param <T>          The concrete type
+     * @return A future with a map of the keys that are present in the cache to their values, in the iteration order of the keys
+     * @since 5.1.0
+     */
+    default <T> CompletableFuture<Map<Object, T>> getAll(Collection<?> keys, Argument<T> requiredType) {
+        List<Object> keyList = new ArrayList<>(keys);
+        List<CompletableFuture<Optional<T>>> futures = new ArrayList<>(keyList.size());
+        for (Object key : keyList) {
+            futures.add(get(key, requiredType));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(ignore -> {
+            Map<Object, T> values = new LinkedHashMap<>(keyList.size());
+            for (int i = 0; i < keyList.size(); i++) {
+                Object key = keyList.get(i);
+                futures.get(i).join().ifPresent(value -> values.put(key, value));
+            }
+            return values;
+        });
+    }
+
+    /**
+     * <p>Cache the specified values using their keys. Implementations that access a remote cache should override this
+     * method to store all the values in a single operation.</p>
+     *
+     * <p>Keys that are associated with a {@code null} value are invalidated, so that they are not left with a previous
+     * value. All the implementations follow this contract.</p>
+     *
+     * @param values The values to be associated with their keys
+     * @return A future with a boolean indicating whether the operation was successful or not
+     * @since 5.1.0
+     */
+    default CompletableFuture<Boolean> putAll(Map<?, ?> values) {
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>(values.size());
+        values.forEach((key, value) -> futures.add(value == null ? invalidate(key) : put(key, value)));
+        return allSucceeded(futures);
+    }
+
+    /**
+     * Invalidate the values for the given keys. Implementations that access a remote cache should override this
+     * method to invalidate all the keys in a single operation.
+     *
+     * @param keys The keys to invalidate
+     * @return A future with a boolean indicating whether the operation was successful or not
+     * @since 5.1.0
+     */
+    default CompletableFuture<Boolean> invalidateAll(Collection<?> keys) {
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>(keys.size());
+        for (Object key : keys) {
+            futures.add(invalidate(key));
+        }
+        return allSucceeded(futures);
+    }
+
     /**
      * Resolve the given value for the given key.
      *
@@ -112,4 +203,9 @@ public interface AsyncCache<C> extends Cache<C> {
     default <T> CompletableFuture<T> get(Object key, Class<T> requiredType, Supplier<T> supplier) {
         return get(key, Argument.of(requiredType), supplier);
     }
+
+    private static CompletableFuture<Boolean> allSucceeded(List<CompletableFuture<Boolean>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+            .thenApply(ignore -> futures.stream().allMatch(CompletableFuture::join));
+    }
 }
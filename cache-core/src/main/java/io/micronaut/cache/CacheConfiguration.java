@@ -16,6 +16,7 @@
 package io.micronaut.cache;
 
 import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.convert.format.ReadableBytes;
 import io.micronaut.runtime.ApplicationConfiguration;
 
 import java.nio.charset.Charset;
@@ -56,6 +57,10 @@ public class CacheConfiguration {
     private Long maximumWeight;
     private Duration expireAfterWrite;
     private Duration expireAfterAccess;
+    private Duration refreshAfterWrite;
+    private Duration negativeTtl;
+    private String executor;
+    private boolean twoLevel;
     private boolean recordStats = DEFAULT_RECORD_STATS;
     private boolean testMode = DEFAULT_TESTMODE;
     private final String cacheName;
@@ -117,6 +122,51 @@ public class CacheConfiguration {
         return Optional.ofNullable(expireAfterAccess);
     }
 
+    /**
+     * Some caches support refreshing entries once a fixed duration has elapsed after the entry's creation or the most
+     * recent replacement of its value. The current value is returned while the new value is loaded in the background.
+     *
+     * @return The {@link Duration}
+     * @since 5.1.0
+     */
+    public Optional<Duration> getRefreshAfterWrite() {
+        return Optional.ofNullable(refreshAfterWrite);
+    }
+
+    /**
+     * The duration for which empty results of {@link io.micronaut.cache.annotation.Cacheable} methods are cached. Empty
+     * results are not cached when not set.
+     *
+     * @return The {@link Duration}
+     * @since 5.1.0
+     */
+    public Optional<Duration> getNegativeTtl() {
+        return Optional.ofNullable(negativeTtl);
+    }
+
+    /**
+     * The name of the executor that runs the blocking operations of the asynchronous view of the cache, such as
+     * {@code virtual}. See {@link CacheExecutorResolver}.
+     *
+     * @return The executor name
+     * @since 5.1.0
+     */
+    public Optional<String> getExecutor() {
+        return Optional.ofNullable(executor);
+    }
+
+    /**
+     * Whether this cache is the first level of a two-level cache. Entries that are not found in this cache are read from
+     * the cache of the same name of the {@link DynamicCacheManager}, such as a remote cache, and writes are propagated
+     * to the first level of the other nodes through the {@link CacheInvalidationChannel}. See {@link TwoLevelSyncCache}.
+     *
+     * @return True if this cache is the first level of a two-level cache
+     * @since 5.1.0
+     */
+    public boolean isTwoLevel() {
+        return twoLevel;
+    }
+
     /**
      * Some caches support recording statistics. For example to record hit and miss ratio's fine tune the cache characteristics.
      *
@@ -153,7 +203,7 @@ public class CacheConfiguration {
      *
      * @param maximumWeight Specifies the maximum weight of entries
      */
-    public void setMaximumWeight(Long maximumWeight) {
+    public void setMaximumWeight(@ReadableBytes Long maximumWeight) {
         this.maximumWeight = maximumWeight;
     }
 
@@ -172,6 +222,38 @@ public class CacheConfiguration {
         this.expireAfterAccess = expireAfterAccess;
     }
 
+    /**
+     * @param refreshAfterWrite The duration after writing an entry after which it is reloaded on access
+     * @since 5.1.0
+     */
+    public void setRefreshAfterWrite(Duration refreshAfterWrite) {
+        this.refreshAfterWrite = refreshAfterWrite;
+    }
+
+    /**
+     * @param negativeTtl The duration for which empty results are cached
+     * @since 5.1.0
+     */
+    public void setNegativeTtl(Duration negativeTtl) {
+        this.negativeTtl = negativeTtl;
+    }
+
+    /**
+     * @param executor The name of the executor that runs the blocking operations of the asynchronous view of the cache
+     * @since 5.1.0
+     */
+    public void setExecutor(String executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * @param twoLevel Whether this cache is the first level of a two-level cache
+     * @since 5.1.0
+     */
+    public void setTwoLevel(boolean twoLevel) {
+        this.twoLevel = twoLevel;
+    }
+
     /**
      * Set whether record stats is enabled. Default value ({@value io.micronaut.cache.CacheConfiguration#DEFAULT_RECORD_STATS}).
      *
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.scheduling.TaskExecutors;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * <p>Resolves the executor that runs the blocking operations of the asynchronous view of a cache, such as a
+ * {@link DelegatingAsyncCache}.</p>
+ *
+ * <p>The executor is the named {@link ExecutorService} bean set with the {@code executor} property of the
+ * {@link CacheConfiguration} of the cache, or with {@code micronaut.cache.executor} for all the caches. For example
+ * {@value TaskExecutors#VIRTUAL} runs each operation in a new virtual thread on JDK 21 and above. The
+ * {@value TaskExecutors#IO} executor is used when none is set, or when the configured executor doesn't exist.</p>
+ *
+ * @since 5.1.0
+ */
+@Singleton
+public class CacheExecutorResolver {
+
+    /**
+     * The property that sets the executor of all the caches.
+     */
+    public static final String EXECUTOR = "micronaut.cache.executor";
+
+    private static final Logger LOG = LoggerFactory.getLogger(CacheExecutorResolver.class);
+
+    private final BeanContext beanContext;
+    private final ExecutorService ioExecutor;
+    private final String defaultExecutor;
+    private final Map<String, ExecutorService> executors = new ConcurrentHashMap<>();
+    private final Map<String, ExecutorService> cacheExecutors = new ConcurrentHashMap<>();
+
+    /**
+     * @param beanContext     The bean context
+     * @param ioExecutor      The IO executor
+     * @param defaultExecutor The name of the executor of all the caches
+     */
+    public CacheExecutorResolver(BeanContext beanContext,
+                                 @Named(TaskExecutors.IO) ExecutorService ioExecutor,
+                                 @Value("${" + EXECUTOR + ":" + TaskExecutors.IO + "}") String defaultExecutor) {
+        this.beanContext = beanContext;
+        this.ioExecutor = ioExecutor;
+        this.defaultExecutor = defaultExecutor;
+    }
+
+    /**
+     * @param cacheName The cache name
+     * @return The executor of the cache
+     */
+    @NonNull
+    public ExecutorService resolve(@NonNull String cacheName) {
+        ExecutorService executor = cacheExecutors.get(cacheName);
+        if (executor == null) {
+            executor = cacheExecutors.computeIfAbsent(cacheName, name -> resolve(name, null));
+        }
+        return executor;
+    }
+
+    /**
+     * @param cacheName    The cache name
+     * @param executorName The name of the executor set by the configuration of the cache implementation, if any
+     * @return The executor of the cache
+     */
+    @NonNull
+    public ExecutorService resolve(@NonNull String cacheName, @Nullable String executorName) {
+        String name = executorName;
+        if (StringUtils.isEmpty(name)) {
+            name = beanContext.findBean(CacheConfiguration.class, Qualifiers.byName(cacheName))
+                .flatMap(CacheConfiguration::getExecutor)
+                .orElse(defaultExecutor);
+        }
+        return executors.computeIfAbsent(name, this::findExecutor);
+    }
+
+    private ExecutorService findExecutor(String name) {
+        if (TaskExecutors.IO.equals(name)) {
+            return ioExecutor;
+        }
+        return beanContext.findBean(ExecutorService.class, Qualifiers.byName(name)).orElseGet(() -> {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("No executor named [{}] is available for the caches, the [{}] executor is used instead", name, TaskExecutors.IO);
+            }
+            return ioExecutor;
+        });
+    }
+}
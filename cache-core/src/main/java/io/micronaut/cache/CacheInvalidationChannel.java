@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache;
+
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * <p>Propagates the invalidation of cache entries between the nodes of a cluster, so that the first level of a
+ * {@link TwoLevelSyncCache} stays consistent with its second level.</p>
+ *
+ * <p>Implementations don't need to deliver the invalidations published by a node to the listeners of the same
+ * node.</p>
+ *
+ * @since 5.1.0
+ */
+public interface CacheInvalidationChannel {
+
+    /**
+     * Publishes the invalidation of a key to the other nodes.
+     *
+     * @param cacheName The name of the cache
+     * @param key       The key
+     */
+    void publish(@NonNull String cacheName, @NonNull Object key);
+
+    /**
+     * Publishes the invalidation of all the entries of a cache to the other nodes.
+     *
+     * @param cacheName The name of the cache
+     */
+    void publishAll(@NonNull String cacheName);
+
+    /**
+     * Subscribes to the invalidations of a cache published by the other nodes.
+     *
+     * @param cacheName The name of the cache
+     * @param listener  The listener
+     */
+    void subscribe(@NonNull String cacheName, @NonNull Listener listener);
+
+    /**
+     * Receives the invalidations of a cache.
+     */
+    interface Listener {
+
+        /**
+         * @param key The invalidated key
+         */
+        void onInvalidate(@NonNull Object key);
+
+        /**
+         * Invoked when all the entries of the cache are invalidated.
+         */
+        void onInvalidateAll();
+    }
+}
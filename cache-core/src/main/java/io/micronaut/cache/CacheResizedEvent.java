@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache;
+
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * An event published when the maximum size or weight of a {@link ResizableCache} is changed.
+ *
+ * @since 5.1.0
+ */
+public final class CacheResizedEvent {
+
+    private final String cacheName;
+    private final long previousMaximum;
+    private final long maximum;
+    private final Cause cause;
+
+    /**
+     * @param cacheName       The name of the cache
+     * @param previousMaximum The previous maximum size or weight
+     * @param maximum         The new maximum size or weight
+     * @param cause           The cause of the resize
+     */
+    public CacheResizedEvent(@NonNull String cacheName, long previousMaximum, long maximum, @NonNull Cause cause) {
+        this.cacheName = cacheName;
+        this.previousMaximum = previousMaximum;
+        this.maximum = maximum;
+        this.cause = cause;
+    }
+
+    /**
+     * @return The name of the cache
+     */
+    @NonNull
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    /**
+     * @return The previous maximum size or weight
+     */
+    public long getPreviousMaximum() {
+        return previousMaximum;
+    }
+
+    /**
+     * @return The new maximum size or weight
+     */
+    public long getMaximum() {
+        return maximum;
+    }
+
+    /**
+     * @return The cause of the resize
+     */
+    @NonNull
+    public Cause getCause() {
+        return cause;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheResizedEvent{cacheName=" + cacheName + ", previousMaximum=" + previousMaximum + ", maximum=" + maximum + ", cause=" + cause + "}";
+    }
+
+    /**
+     * The cause of a resize.
+     */
+    public enum Cause {
+        /**
+         * The cache was shrunk because the heap is nearly full.
+         */
+        MEMORY_PRESSURE,
+        /**
+         * The cache was restored to its configured maximum because the heap is no longer nearly full.
+         */
+        MEMORY_RECOVERED,
+        /**
+         * The share of the cache in a memory budget shared with other caches was changed.
+         */
+        BUDGET
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * <p>Resolves the time to live of each value stored in a cache from the value itself, for example from the
+ * {@code max-age} of an upstream response or the expiry of a token. This lets the values cached by
+ * {@link io.micronaut.cache.annotation.Cacheable} methods expire according to the result of the method.</p>
+ *
+ * <p>A resolver applies to the cache whose name is the {@link jakarta.inject.Named} qualifier of the bean, or to all
+ * the caches that don't have a named resolver when the bean isn't qualified. The values cached by the interceptor are
+ * passed to the resolver unwrapped. Only the cache implementations that support per entry expiry, such as Caffeine,
+ * use the resolvers.</p>
+ *
+ * @since 5.1.0
+ */
+@FunctionalInterface
+public interface CacheTtlResolver {
+
+    /**
+     * @param key   The key
+     * @param value The value that is stored
+     * @return The time to live of the value, or an empty optional to use the expiry configured for the cache
+     */
+    @NonNull
+    Optional<Duration> resolveTtl(@NonNull Object key, @NonNull Object value);
+}
@@ -25,6 +25,8 @@ import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -56,10 +58,36 @@ public class DefaultCacheManager<C> implements CacheManager<C> {
      *
      * @param caches List of synchronous cache implementations
      * @param dynamicCacheManager The dynamic cache manager
+     * @deprecated Use {@link #DefaultCacheManager(List, BeanProvider, List, BeanProvider)} instead
      */
-    @Inject
+    @Deprecated(since = "5.1.0", forRemoval = true)
     public DefaultCacheManager(List<SyncCache<C>> caches, @Nullable BeanProvider<DynamicCacheManager<C>> dynamicCacheManager) {
+        this(caches, dynamicCacheManager, Collections.emptyList(), null);
+    }
+
+    /**
+     * Create default cache manager for the given caches. The caches whose configuration is
+     * {@link CacheConfiguration#isTwoLevel() two-level} are used as the first level of a {@link TwoLevelSyncCache}
+     * whose second level is the cache of the same name of the dynamic cache manager.
+     *
+     * @param caches List of synchronous cache implementations
+     * @param dynamicCacheManager The dynamic cache manager
+     * @param cacheConfigurations The cache configurations
+     * @param invalidationChannel The channel that invalidates the first level of two-level caches on other nodes
+     * @since 5.1.0
+     */
+    @Inject
+    public DefaultCacheManager(List<SyncCache<C>> caches,
+                               @Nullable BeanProvider<DynamicCacheManager<C>> dynamicCacheManager,
+                               List<CacheConfiguration> cacheConfigurations,
+                               @Nullable BeanProvider<CacheInvalidationChannel> invalidationChannel) {
         this.dynamicCacheManager = dynamicCacheManager;
+        Set<String> twoLevelCacheNames = new HashSet<>();
+        for (CacheConfiguration cacheConfiguration : cacheConfigurations) {
+            if (cacheConfiguration.isTwoLevel()) {
+                twoLevelCacheNames.add(cacheConfiguration.getCacheName());
+            }
+        }
         if (CollectionUtils.isEmpty(caches)) {
             this.cacheMap = new LinkedHashMap<>();
         } else {
@@ -68,6 +96,15 @@ public class DefaultCacheManager<C> implements CacheManager<C> {
                 final String cacheName = cache.getName();
                 if (cacheMap.containsKey(cacheName)) {
                     throw new ConfigurationException("Cannot registry duplicate cache [" + cache + "] with cache manager. Ensure configured cache names are unique. Cache already configured for name [" + cacheName + "]: " + cacheMap.get(cacheName));
+                } else if (twoLevelCacheNames.contains(cacheName)) {
+                    if (dynamicCacheManager == null) {
+                        throw new ConfigurationException("Cache [" + cacheName + "] is configured as a two-level cache but there is no dynamic cache manager to provide its second level");
+                    }
+                    this.cacheMap.put(cacheName, new TwoLevelSyncCache<>(
+                        cache,
+                        () -> dynamicCacheManager.get().getCache(cacheName),
+                        () -> invalidationChannel != null && invalidationChannel.isPresent() ? invalidationChannel.get() : null
+                    ));
                 } else {
                     this.cacheMap.put(cacheName, cache);
                 }
@@ -81,7 +118,7 @@ public class DefaultCacheManager<C> implements CacheManager<C> {
      * @param caches List of synchronous cache implementations
      */
     public DefaultCacheManager(SyncCache<C>... caches) {
-        this(Arrays.asList(caches), null);
+        this(Arrays.asList(caches), null, Collections.emptyList(), null);
     }
 
     @Override
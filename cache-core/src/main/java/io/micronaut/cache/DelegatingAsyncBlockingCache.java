@@ -18,6 +18,8 @@ package io.micronaut.cache;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.type.Argument;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
@@ -60,6 +62,15 @@ public class DelegatingAsyncBlockingCache<C> implements AsyncCache<C> {
         }
     }
 
+    @Override
+    public <T> CompletableFuture<Map<Object, T>> getAll(Collection<?> keys, Argument<T> requiredType) {
+        try {
+            return CompletableFuture.completedFuture(delegate.getAll(keys, requiredType));
+        } catch (Exception e) {
+            return handleException(e);
+        }
+    }
+
     @Override
     public <T> CompletableFuture<Optional<T>> putIfAbsent(Object key, T value) {
         try {
@@ -99,6 +110,26 @@ public class DelegatingAsyncBlockingCache<C> implements AsyncCache<C> {
         }
     }
 
+    @Override
+    public CompletableFuture<Boolean> putAll(Map<?, ?> values) {
+        try {
+            delegate.putAll(values);
+            return CompletableFuture.completedFuture(true);
+        } catch (Exception e) {
+            return handleException(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> invalidateAll(Collection<?> keys) {
+        try {
+            delegate.invalidateAll(keys);
+            return CompletableFuture.completedFuture(true);
+        } catch (Exception e) {
+            return handleException(e);
+        }
+    }
+
     @Override
     public CompletableFuture<Boolean> invalidateAll() {
         try {
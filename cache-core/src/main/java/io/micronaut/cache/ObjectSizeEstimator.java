@@ -0,0 +1,222 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanIntrospector;
+import io.micronaut.core.beans.BeanProperty;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * <p>Estimates the number of bytes a value occupies on the heap, assuming compressed object pointers.</p>
+ *
+ * <p>Strings, boxed primitives, arrays, collections and maps are walked up to a limited depth. Other objects are
+ * estimated from the fields declared by their class. The values they reference are followed through the properties
+ * of {@link io.micronaut.core.annotation.Introspected} beans and the components of public records, so that no field
+ * is accessed reflectively. The size of the fields and the readers of the properties of each class are computed
+ * once.</p>
+ *
+ * @since 5.1.0
+ */
+@Internal
+public final class ObjectSizeEstimator {
+
+    private static final int MAX_DEPTH = 8;
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int STRING_SHALLOW = 24;
+    private static final int COLLECTION_SHALLOW = 40;
+    private static final int COLLECTION_ELEMENT = 16;
+    private static final int MAP_SHALLOW = 48;
+    private static final int MAP_ENTRY = 32;
+
+    private static final ClassValue<Shape> SHAPES = new ClassValue<>() {
+        @Override
+        protected Shape computeValue(Class<?> type) {
+            long size = OBJECT_HEADER;
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        size += fieldSize(field.getType());
+                    }
+                }
+            }
+            return new Shape(align(size), referenceReaders(type));
+        }
+    };
+
+    private ObjectSizeEstimator() {
+    }
+
+    /**
+     * @param value The value
+     * @return The estimated number of bytes the value occupies
+     */
+    public static long estimate(@Nullable Object value) {
+        return estimate(value, 0);
+    }
+
+    private static long estimate(@Nullable Object value, int depth) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String string) {
+            return STRING_SHALLOW + align(ARRAY_HEADER + 2L * string.length());
+        }
+        if (value instanceof Long || value instanceof Double) {
+            return 24;
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return 16;
+        }
+        Class<?> type = value.getClass();
+        if (type.isArray()) {
+            int length = Array.getLength(value);
+            Class<?> componentType = type.getComponentType();
+            if (componentType.isPrimitive()) {
+                return align(ARRAY_HEADER + (long) length * fieldSize(componentType));
+            }
+            long size = align(ARRAY_HEADER + (long) length * REFERENCE);
+            if (depth < MAX_DEPTH) {
+                for (Object element : (Object[]) value) {
+                    size += estimate(element, depth + 1);
+                }
+            }
+            return size;
+        }
+        if (value instanceof Collection<?> collection) {
+            long size = COLLECTION_SHALLOW + (long) collection.size() * COLLECTION_ELEMENT;
+            if (depth < MAX_DEPTH) {
+                for (Object element : collection) {
+                    size += estimate(element, depth + 1);
+                }
+            }
+            return size;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long size = MAP_SHALLOW + (long) map.size() * MAP_ENTRY;
+            if (depth < MAX_DEPTH) {
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    size += estimate(entry.getKey(), depth + 1) + estimate(entry.getValue(), depth + 1);
+                }
+            }
+            return size;
+        }
+        if (value instanceof Optional<?> optional) {
+            return 16 + (depth < MAX_DEPTH ? estimate(optional.orElse(null), depth + 1) : 0);
+        }
+        if (value instanceof CharSequence charSequence) {
+            return STRING_SHALLOW + align(ARRAY_HEADER + 2L * charSequence.length());
+        }
+        if (value instanceof Enum<?>) {
+            // constants are shared
+            return 0;
+        }
+        Shape shape = SHAPES.get(type);
+        long size = shape.size();
+        if (depth < MAX_DEPTH) {
+            for (Function<Object, Object> reader : shape.references()) {
+                size += estimate(reader.apply(value), depth + 1);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * @return The readers of the values referenced by the instances of the given type, through their bean properties or
+     * record components
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Function<Object, Object>> referenceReaders(Class<?> type) {
+        List<Function<Object, Object>> readers = new ArrayList<>();
+        Optional<BeanIntrospection<Object>> introspection = BeanIntrospector.SHARED.findIntrospection((Class<Object>) type);
+        if (introspection.isPresent()) {
+            for (BeanProperty<Object, Object> property : introspection.get().getBeanProperties()) {
+                if (!property.isWriteOnly() && !property.getType().isPrimitive()) {
+                    readers.add(bean -> {
+                        try {
+                            return property.get(bean);
+                        } catch (RuntimeException e) {
+                            return null;
+                        }
+                    });
+                }
+            }
+        } else if (type.isRecord() && Modifier.isPublic(type.getModifiers())) {
+            try {
+                for (RecordComponent component : type.getRecordComponents()) {
+                    if (!component.getType().isPrimitive()) {
+                        MethodHandle accessor = MethodHandles.publicLookup().unreflect(component.getAccessor())
+                            .asType(MethodType.methodType(Object.class, Object.class));
+                        readers.add(record -> {
+                            try {
+                                return accessor.invokeExact(record);
+                            } catch (Throwable e) {
+                                return null;
+                            }
+                        });
+                    }
+                }
+            } catch (IllegalAccessException | RuntimeException e) {
+                // the components are not accessible, so only the record itself is estimated
+                readers.clear();
+            }
+        }
+        return readers.isEmpty() ? List.of() : List.copyOf(readers);
+    }
+
+    private static int fieldSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        } else if (type == int.class || type == float.class) {
+            return 4;
+        } else if (type == short.class || type == char.class) {
+            return 2;
+        } else if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return REFERENCE;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    /**
+     * The estimate of the instances of a class.
+     *
+     * @param size       The size of an instance itself
+     * @param references The readers of the values an instance references
+     */
+    private record Shape(long size, List<Function<Object, Object>> references) {
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.OptionalLong;
+
+/**
+ * A cache whose maximum size, or maximum weight for weighted caches, can be changed while it is in use, for example
+ * to release memory when the heap is nearly full. The caches that implement this interface are resized by the
+ * services that manage the memory of the caches.
+ *
+ * @since 5.1.0
+ */
+public interface ResizableCache {
+
+    /**
+     * @return The name of the cache
+     */
+    @NonNull
+    String getName();
+
+    /**
+     * @return The current maximum size or weight of the cache, or an empty optional if the cache is unbounded
+     */
+    @NonNull
+    OptionalLong getMaximum();
+
+    /**
+     * Sets the maximum size or weight of the cache, evicting entries if the cache exceeds it. Has no effect if the
+     * cache is unbounded.
+     *
+     * @param maximum The maximum size or weight
+     */
+    void setMaximum(long maximum);
+}
@@ -19,8 +19,12 @@ import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.type.Argument;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -64,6 +68,24 @@ public interface SyncCache<C> extends Cache<C> {
      */
     <T> T get(@NonNull Object key, @NonNull Argument<T> requiredType, @NonNull Supplier<T> supplier);
 
+    /**
+     * <p>Cache the specified value using the specified key, and keep the specified reloader to reload the value in the
+     * background once it is due for refresh. Caches that don't natively refresh entries after write ignore the
+     * reloader.</p>
+     *
+     * <p>The reloader is given the key to reload, so that a single reloader can be shared by all the keys of a
+     * method.</p>
+     *
+     * @param key      the key with which the specified value is to be associated
+     * @param value    the value to be associated with the specified key
+     * @param reloader the function that reloads the value of a key
+     * @see #isRefreshedAfterWrite()
+     * @since 5.1.0
+     */
+    default void put(@NonNull Object key, @NonNull Object value, @NonNull Function<Object, ?> reloader) {
+        put(key, value);
+    }
+
     /**
      * <p>Cache the specified value using the specified key if it is not already present.</p>
      *
@@ -109,6 +131,56 @@ public interface SyncCache<C> extends Cache<C> {
      */
     void invalidateAll();
 
+    /**
+     * Resolve the values for the given keys. Implementations that access a remote cache should override this method
+     * to retrieve all the values in a single operation.
+     *
+     * @param keys         The cache keys
+     * @param requiredType The required type
+     * @param <T>          The concrete type
+     * @return A map of the keys that are present in the cache to their values, in the iteration order of the keys
+     * @since 5.1.0
+     */
+    @NonNull
+    default <T> Map<Object, T> getAll(@NonNull Collection<?> keys, @NonNull Argument<T> requiredType) {
+        Map<Object, T> values = new LinkedHashMap<>(keys.size());
+        for (Object key : keys) {
+            get(key, requiredType).ifPresent(value -> values.put(key, value));
+        }
+        return values;
+    }
+
+    /**
+     * <p>Cache the specified values using their keys. Implementations that access a remote cache should override this
+     * method to store all the values in a single operation.</p>
+     *
+     * <p>Keys that are associated with a {@code null} value are invalidated, so that they are not left with a previous
+     * value. All the implementations follow this contract.</p>
+     *
+     * @param values The values to be associated with their keys
+     * @since 5.1.0
+     */
+    default void putAll(@NonNull Map<?, ?> values) {
+        values.forEach((key, value) -> {
+            if (value == null) {
+                invalidate(key);
+            } else {
+                put(key, value);
+            }
+        });
+    }
+
+    /**
+     * Invalidate the values for the given keys. Implementations that access a remote cache should override this
+     * method to invalidate all the keys in a single operation.
+     *
+     * @param keys The keys to invalidate
+     * @since 5.1.0
+     */
+    default void invalidateAll(@NonNull Collection<?> keys) {
+        keys.forEach(this::invalidate);
+    }
+
     /**
      * Resolve the given value for the given key. If the value is not found the specified {@link Supplier} will
      * be invoked and the return value cached.
@@ -145,6 +217,28 @@ public interface SyncCache<C> extends Cache<C> {
         return null;
     }
 
+    /**
+     * <p>Whether the operations of this cache are local and never block, such as those of an in-memory cache.</p>
+     *
+     * <p>The operations of a non-blocking cache may be invoked inline from reactive and asynchronous code instead
+     * of through {@link #async()}.</p>
+     *
+     * @return True if the operations of this cache never block
+     * @since 5.1.0
+     */
+    default boolean isNonBlocking() {
+        return false;
+    }
+
+    /**
+     * @return True if this cache natively refreshes its entries after write with the reloader they were
+     * {@link #put(Object, Object, Function) put} with
+     * @since 5.1.0
+     */
+    default boolean isRefreshedAfterWrite() {
+        return false;
+    }
+
     /**
      * <p>This method returns an async version of this cache interface implementation.</p>
      * <p>
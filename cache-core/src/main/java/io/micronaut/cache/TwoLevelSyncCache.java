@@ -0,0 +1,320 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache;
+
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.SupplierUtil;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * <p>A {@link SyncCache} made of a local first level, such as a Caffeine cache, in front of a second level, such as a
+ * remote cache.</p>
+ *
+ * <p>Reads are served by the first level, and entries that it doesn't hold are read from the second level and copied
+ * to the first level. Writes and invalidations are applied to the second level, then to the first level, and are
+ * published with the {@link CacheInvalidationChannel} so that the other nodes invalidate the entry of their first
+ * level.</p>
+ *
+ * <p>An entry read from the second level is only kept in the first level if no write or invalidation of its key,
+ * local or received from the channel, happened meanwhile, so that a value read before an invalidation doesn't
+ * outlive it.</p>
+ *
+ * <p>The second level and the channel are only resolved when the cache is first used. The second level must be a
+ * remote cache: a {@link SyncCache#isNonBlocking() non-blocking} second level is local to the node and is rejected
+ * with a {@link ConfigurationException}.</p>
+ *
+ * @param <C> The native cache of the first level
+ * @since 5.1.0
+ */
+public class TwoLevelSyncCache<C> implements SyncCache<C> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TwoLevelSyncCache.class);
+    private static final int VERSION_STRIPES = 64;
+
+    private final SyncCache<C> firstLevel;
+    private final Supplier<SyncCache<?>> secondLevel;
+    private volatile CacheInvalidationChannel invalidationChannel;
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private final AtomicLong allVersion = new AtomicLong();
+
+    /**
+     * @param firstLevel          The first level
+     * @param secondLevel         Supplies the second level
+     * @param invalidationChannel Supplies the invalidation channel, or null if the first levels of the other nodes
+     *                            should not be invalidated
+     */
+    public TwoLevelSyncCache(@NonNull SyncCache<C> firstLevel,
+                             @NonNull Supplier<? extends SyncCache<?>> secondLevel,
+                             @NonNull Supplier<? extends CacheInvalidationChannel> invalidationChannel) {
+        this.firstLevel = firstLevel;
+        this.secondLevel = SupplierUtil.memoized(() -> {
+            SyncCache<?> cache = secondLevel.get();
+            if (cache.isNonBlocking()) {
+                throw new ConfigurationException("Cache [" + getName() + "] is configured as a two-level cache but its second level [" + cache.getClass().getName() + "] is a local cache. Add a remote cache module, such as Hazelcast or Infinispan, to provide the second level");
+            }
+            CacheInvalidationChannel channel = invalidationChannel.get();
+            if (channel == null) {
+                if (LOG.isWarnEnabled()) {
+                    LOG.warn("No cache invalidation channel is available, the first level of the cache [{}] is not invalidated by the writes of other nodes", getName());
+                }
+            } else {
+                channel.subscribe(getName(), new CacheInvalidationChannel.Listener() {
+                    @Override
+                    public void onInvalidate(Object key) {
+                        written(key);
+                        firstLevel.invalidate(key);
+                    }
+
+                    @Override
+                    public void onInvalidateAll() {
+                        allVersion.incrementAndGet();
+                        firstLevel.invalidateAll();
+                    }
+                });
+                this.invalidationChannel = channel;
+            }
+            return cache;
+        });
+    }
+
+    /**
+     * @return The first level
+     */
+    @NonNull
+    public SyncCache<C> getFirstLevel() {
+        return firstLevel;
+    }
+
+    /**
+     * @return The second level
+     */
+    @NonNull
+    public SyncCache<?> getSecondLevel() {
+        return secondLevel.get();
+    }
+
+    @Override
+    public String getName() {
+        return firstLevel.getName();
+    }
+
+    @Override
+    public C getNativeCache() {
+        return firstLevel.getNativeCache();
+    }
+
+    @Override
+    public Publisher<CacheInfo> getCacheInfo() {
+        return firstLevel.getCacheInfo();
+    }
+
+    @NonNull
+    @Override
+    public <T> Optional<T> get(@NonNull Object key, @NonNull Argument<T> requiredType) {
+        Optional<T> value = firstLevel.get(key, requiredType);
+        if (value.isPresent()) {
+            return value;
+        }
+        long version = version(key);
+        value = secondLevel.get().get(key, requiredType);
+        value.ifPresent(v -> backFill(key, v, version));
+        return value;
+    }
+
+    @Override
+    public <T> T get(@NonNull Object key, @NonNull Argument<T> requiredType, @NonNull Supplier<T> supplier) {
+        Optional<T> existing = firstLevel.get(key, requiredType);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        long version = version(key);
+        boolean[] supplied = new boolean[1];
+        T value = secondLevel.get().get(key, requiredType, () -> {
+            supplied[0] = true;
+            return supplier.get();
+        });
+        if (value != null) {
+            backFill(key, value, version);
+            if (supplied[0]) {
+                publish(key);
+            }
+        }
+        return value;
+    }
+
+    @NonNull
+    @Override
+    public <T> Optional<T> putIfAbsent(@NonNull Object key, @NonNull T value) {
+        long version = version(key);
+        Optional<T> existing = secondLevel.get().putIfAbsent(key, value);
+        if (existing.isPresent()) {
+            backFill(key, existing.get(), version);
+        } else {
+            written(key);
+            firstLevel.put(key, value);
+            publish(key);
+        }
+        return existing;
+    }
+
+    @Override
+    public void put(@NonNull Object key, @NonNull Object value) {
+        secondLevel.get().put(key, value);
+        written(key);
+        firstLevel.put(key, value);
+        publish(key);
+    }
+
+    @Override
+    public void invalidate(@NonNull Object key) {
+        secondLevel.get().invalidate(key);
+        written(key);
+        firstLevel.invalidate(key);
+        publish(key);
+    }
+
+    @Override
+    public void invalidateAll() {
+        secondLevel.get().invalidateAll();
+        allVersion.incrementAndGet();
+        firstLevel.invalidateAll();
+        CacheInvalidationChannel channel = invalidationChannel;
+        if (channel != null) {
+            channel.publishAll(getName());
+        }
+    }
+
+    @NonNull
+    @Override
+    public <T> Map<Object, T> getAll(@NonNull Collection<?> keys, @NonNull Argument<T> requiredType) {
+        Map<Object, T> values = new HashMap<>(firstLevel.getAll(keys, requiredType));
+        if (values.size() < keys.size()) {
+            Map<Object, Long> missing = new HashMap<>();
+            for (Object key : keys) {
+                if (!values.containsKey(key)) {
+                    missing.put(key, version(key));
+                }
+            }
+            Map<Object, T> secondLevelValues = secondLevel.get().getAll(missing.keySet(), requiredType);
+            if (!secondLevelValues.isEmpty()) {
+                firstLevel.putAll(secondLevelValues);
+                List<Object> stale = new ArrayList<>();
+                for (Object key : secondLevelValues.keySet()) {
+                    if (version(key) != missing.get(key)) {
+                        stale.add(key);
+                    }
+                }
+                if (!stale.isEmpty()) {
+                    firstLevel.invalidateAll(stale);
+                }
+                values.putAll(secondLevelValues);
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public void putAll(@NonNull Map<?, ?> values) {
+        secondLevel.get().putAll(values);
+        for (Object key : values.keySet()) {
+            written(key);
+        }
+        firstLevel.putAll(values);
+        for (Object key : values.keySet()) {
+            publish(key);
+        }
+    }
+
+    @Override
+    public void invalidateAll(@NonNull Collection<?> keys) {
+        secondLevel.get().invalidateAll(keys);
+        for (Object key : keys) {
+            written(key);
+        }
+        firstLevel.invalidateAll(keys);
+        for (Object key : keys) {
+            publish(key);
+        }
+    }
+
+    /**
+     * The operations of the second level may block, so the asynchronous view of this cache runs on its executor.
+     *
+     * @return The executor service of the second level
+     */
+    @Nullable
+    @Override
+    public ExecutorService getExecutorService() {
+        return secondLevel.get().getExecutorService();
+    }
+
+    /**
+     * Copies a value read from the second level to the first level, unless the key was written or invalidated since
+     * the value was read. A key that is written or invalidated after the value is copied is invalidated again, since
+     * its version is changed before its first level entry is.
+     *
+     * @param key     The key
+     * @param value   The value read from the second level
+     * @param version The version of the key before the value was read
+     */
+    private void backFill(Object key, Object value, long version) {
+        firstLevel.put(key, value);
+        if (version(key) != version) {
+            firstLevel.invalidate(key);
+        }
+    }
+
+    /**
+     * Changes the version of a key. It is called after the second level is written, and before the first level is.
+     *
+     * @param key The key
+     */
+    private void written(Object key) {
+        versions.incrementAndGet(stripe(key));
+    }
+
+    private long version(Object key) {
+        return allVersion.get() + versions.get(stripe(key));
+    }
+
+    private static int stripe(Object key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (VERSION_STRIPES - 1);
+    }
+
+    private void publish(Object key) {
+        CacheInvalidationChannel channel = invalidationChannel;
+        if (channel != null) {
+            channel.publish(getName(), key);
+        }
+    }
+}
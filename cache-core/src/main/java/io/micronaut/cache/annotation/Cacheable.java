@@ -96,4 +96,31 @@ public @interface Cacheable {
      * @since 4.2.0
      */
     String condition() default "";
+
+    /**
+     * <p>The duration after which a cached value is reloaded, for example {@code 5m}. A value older than the duration is
+     * still returned, while the method is invoked in the background to replace it.</p>
+     *
+     * <p>The write time is stored in the cache together with the value, so this works with any cache implementation.
+     * Only values cached by this annotation are refreshed, and methods that return a publisher of several elements are
+     * not refreshed.</p>
+     *
+     * @return The refresh duration, or an empty string for no refresh
+     * @since 5.1.0
+     */
+    String refreshAfterWrite() default "";
+
+    /**
+     * <p>The duration for which a {@code null} result, or an empty {@link java.util.Optional} or single result
+     * {@link org.reactivestreams.Publisher}, is cached, for example {@code 30s}. Until it expires, the method is not
+     * invoked again for the same key and the empty result is returned.</p>
+     *
+     * <p>The expiry is stored in the cache together with a marker, so this works with any cache implementation and is
+     * independent of the expiry configured for the cache. When not set, the {@code negative-ttl} of the cache
+     * configuration is used, if any.</p>
+     *
+     * @return The duration, or an empty string to use the cache configuration
+     * @since 5.1.0
+     */
+    String negativeTtl() default "";
 }
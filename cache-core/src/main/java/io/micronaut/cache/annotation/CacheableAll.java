@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.annotation;
+
+import io.micronaut.context.annotation.AliasFor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>An annotation that can be applied to a method that loads several values at once, such as
+ * {@code Map<Long, Book> findAll(Collection<Long> ids)}, to indicate that each entry of the returned {@link java.util.Map}
+ * should be cached individually for the configured {@link #cacheNames()}.</p>
+ *
+ * <p>Each element of the collection parameter is used as the key of its value, so the entries are shared with
+ * {@link Cacheable} methods that take a single id. The cached entries are retrieved with a single bulk lookup, and the
+ * method is invoked only with the elements that are not cached. The entries it returns are then cached with a single
+ * bulk operation and merged with the cached ones.</p>
+ *
+ * <p>The method must return a {@link java.util.Map}, a {@link java.util.concurrent.CompletionStage} of a
+ * {@link java.util.Map} or a single result {@link org.reactivestreams.Publisher} of a {@link java.util.Map}.</p>
+ *
+ * @since 5.1.0
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@CacheConfig
+@CacheAnnotation
+public @interface CacheableAll {
+
+    /**
+     * Alias for {@link CacheConfig#cacheNames}.
+     *
+     * @return The cache names
+     */
+    @AliasFor(member = "cacheNames")
+    @AliasFor(annotation = CacheConfig.class, member = "cacheNames")
+    String[] value() default {};
+
+    /**
+     * Alias for {@link CacheConfig#cacheNames}.
+     *
+     * @return The cache names
+     */
+    @AliasFor(annotation = CacheConfig.class, member = "cacheNames")
+    String[] cacheNames() default {};
+
+    /**
+     * The name of the parameter that holds the keys. Defaults to the first parameter that is a {@link java.util.Collection}.
+     *
+     * @return The name of the collection parameter
+     */
+    String parameter() default "";
+
+    /**
+     * Evaluated expression that can be used to indicate whether the values should be cached.
+     * Will be evaluated each time the method is called, and if the condition evaluates to false the cache will not be used.
+     * @see <a href="https://docs.micronaut.io/latest/guide/#evaluatedExpressions">Evaluated Expressions</a>.
+     * @return The condition
+     */
+    String condition() default "";
+}
@@ -22,6 +22,7 @@ import io.micronaut.aop.MethodInterceptor;
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.cache.AsyncCache;
 import io.micronaut.cache.AsyncCacheErrorHandler;
+import io.micronaut.cache.CacheConfiguration;
 import io.micronaut.cache.CacheErrorHandler;
 import io.micronaut.cache.CacheManager;
 import io.micronaut.cache.SyncCache;
@@ -30,17 +31,23 @@ import io.micronaut.cache.annotation.CacheConfig;
 import io.micronaut.cache.annotation.CacheInvalidate;
 import io.micronaut.cache.annotation.CachePut;
 import io.micronaut.cache.annotation.Cacheable;
+import io.micronaut.cache.annotation.CacheableAll;
+import io.micronaut.cache.exceptions.CacheSystemException;
 import io.micronaut.context.BeanContext;
 import io.micronaut.core.annotation.AnnotationValue;
-import io.micronaut.core.annotation.AnnotationValueResolver;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.reflect.InstantiationUtils;
+import io.micronaut.core.type.MutableArgumentValue;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.type.ReturnType;
 import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.core.util.CollectionUtils;
+import io.micronaut.core.util.StringUtils;
 import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.scheduling.TaskExecutors;
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
@@ -49,7 +56,13 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.lang.annotation.Annotation;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -59,11 +72,16 @@ import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
  * <p>An AOP {@link MethodInterceptor} implementation for the Cache annotations {@link Cacheable},
- * {@link CachePut} and {@link CacheInvalidate}.</p>
+ * {@link CacheableAll}, {@link CachePut} and {@link CacheInvalidate}.</p>
  *
  * @author Graeme Rocher
  * @since 1.0
@@ -83,6 +101,13 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
     private static final String MEMBER_PARAMETERS = "parameters";
     private static final String MEMBER_ALL = "all";
     private static final String MEMBER_KEY_GENERATOR = "keyGenerator";
+    private static final String MEMBER_REFRESH_AFTER_WRITE = "refreshAfterWrite";
+    private static final String MEMBER_NEGATIVE_TTL = "negativeTtl";
+    private static final String MEMBER_PARAMETER = "parameter";
+    /**
+     * Marks the invocation of a method by its reloader, so that it proceeds without reading the cache.
+     */
+    private static final ThreadLocal<Boolean> RELOADING = new ThreadLocal<>();
 
     private final CacheManager cacheManager;
     private final Map<Class<? extends CacheKeyGenerator>, CacheKeyGenerator> keyGenerators = new ConcurrentHashMap<>();
@@ -91,6 +116,13 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
     private final ExecutorService ioExecutor;
     private final CacheErrorHandler errorHandler;
     private final AsyncCacheErrorHandler asyncCacheErrorHandler;
+    private final SingleFlight singleFlight;
+    private final Coalescer coalescer;
+    private final ExecutorService refreshExecutor;
+    private final CacheInterceptorConfiguration.StreamingConfiguration streaming;
+    private final WriteBehind writeBehind;
+    private final CacheInterceptorMetrics interceptorMetrics;
+    private final Set<InFlightKey> refreshing = ConcurrentHashMap.newKeySet();
 
     /**
      * Create Cache Interceptor with given arguments.
@@ -100,17 +132,52 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
      * @param asyncCacheErrorHandler Async cache error handlers
      * @param ioExecutor             The executor to create tasks
      * @param beanContext            The bean context to allow DI
+     * @deprecated Use {@link #CacheInterceptor(CacheManager, CacheErrorHandler, AsyncCacheErrorHandler, ExecutorService, BeanContext, CacheInterceptorConfiguration)} instead
      */
+    @Deprecated(since = "5.1.0", forRemoval = true)
     public CacheInterceptor(CacheManager cacheManager,
                             CacheErrorHandler errorHandler,
                             AsyncCacheErrorHandler asyncCacheErrorHandler,
-                            @Named(TaskExecutors.IO) ExecutorService ioExecutor,
+                            ExecutorService ioExecutor,
                             BeanContext beanContext) {
+        this(cacheManager, errorHandler, asyncCacheErrorHandler, ioExecutor, beanContext, new CacheInterceptorConfiguration());
+    }
+
+    /**
+     * Create Cache Interceptor with given arguments.
+     *
+     * @param cacheManager           The cache manager
+     * @param errorHandler           Cache error handler
+     * @param asyncCacheErrorHandler Async cache error handlers
+     * @param ioExecutor             The executor to create tasks
+     * @param beanContext            The bean context to allow DI
+     * @param configuration          The interceptor configuration
+     * @since 5.1.0
+     */
+    @Inject
+    public CacheInterceptor(CacheManager cacheManager,
+                            CacheErrorHandler errorHandler,
+                            AsyncCacheErrorHandler asyncCacheErrorHandler,
+                            @Named(TaskExecutors.IO) ExecutorService ioExecutor,
+                            BeanContext beanContext,
+                            CacheInterceptorConfiguration configuration) {
         this.cacheManager = cacheManager;
         this.errorHandler = errorHandler;
         this.asyncCacheErrorHandler = asyncCacheErrorHandler;
         this.beanContext = beanContext;
         this.ioExecutor = ioExecutor;
+        CacheInterceptorConfiguration.SingleFlightConfiguration singleFlightConfiguration = configuration.getSingleFlight();
+        this.singleFlight = singleFlightConfiguration.isEnabled() ? new SingleFlight(singleFlightConfiguration) : null;
+        this.coalescer = configuration.getCoalescing().isEnabled() ? new Coalescer() : null;
+        this.streaming = configuration.getStreaming().isEnabled() ? configuration.getStreaming() : null;
+        this.writeBehind = configuration.getWriteBehind().isEnabled() ? beanContext.findBean(WriteBehind.class).orElse(null) : null;
+        this.interceptorMetrics = configuration.getMetrics().isEnabled() ? beanContext.findBean(CacheInterceptorMetrics.class).orElse(null) : null;
+        if (configuration.getMetrics().isEnabled() && interceptorMetrics == null && LOG.isWarnEnabled()) {
+            LOG.warn("Cache interceptor metrics are enabled, but no CacheInterceptorMetrics bean is available");
+        }
+        String refreshExecutorName = configuration.getRefresh().getExecutor();
+        this.refreshExecutor = TaskExecutors.IO.equals(refreshExecutorName) ? ioExecutor
+            : beanContext.getBean(ExecutorService.class, Qualifiers.byName(refreshExecutorName));
     }
 
     @Override
@@ -120,7 +187,7 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
 
     @Override
     public Object intercept(MethodInvocationContext<Object, Object> context) {
-        if (context.hasStereotype(CacheAnnotation.class)) {
+        if (cacheOperations.containsKey(context.getExecutableMethod()) || context.hasStereotype(CacheAnnotation.class)) {
             InterceptedMethod interceptedMethod = InterceptedMethod.of(context, beanContext.getConversionService());
 
             try {
@@ -138,7 +205,15 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
                                                                       returnType.isVoid() || returnTypeValue
                                                                               .equalsType(Argument.VOID_OBJECT));
 
-                    if (cacheOperation.cacheable && isCacheableDueToCondition(context)) {
+                    if (cacheOperation.cacheableAll != null && cacheOperation.cacheableAll.isCacheable(context)) {
+                        Mono<Object> cachingMono = Mono.defer(() -> Mono.fromCompletionStage(interceptCacheableAllAsync(
+                            context,
+                            cacheOperation.cacheableAll,
+                            returnTypeValue,
+                            () -> Mono.from(interceptedMethod.interceptResultAsPublisher()).toFuture()
+                        )));
+                        return interceptedMethod.handleResult(handleSingleWriteOperations(context, cacheOperation, cachingMono));
+                    } else if (cacheOperation.cacheable && isCacheableDueToCondition(context, cacheOperation)) {
                         if (returnType.isSingleResult()) {
                             return interceptSingle(context, interceptedMethod, returnTypeValue, cacheOperation);
                         } else {
@@ -174,22 +249,53 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
                                    InterceptedMethod interceptedMethod,
                                    Argument<?> returnTypeValue,
                                    CacheOperation cacheOperation) {
-        AsyncCache<?> asyncCache = cacheManager.getCache(cacheOperation.cacheableCacheName).async();
         Object key = getCacheableKey(context, cacheOperation);
-        Mono<Object> cachingMono = Mono.defer(() ->
-                                                      Mono.fromCompletionStage(asyncCacheGet(asyncCache,
-                                                                                             key,
-                                                                                             returnTypeValue,
-                                                                                             errorHandler))
-        ).flatMap((result) -> {
+        SyncCache<?> syncCache = cacheOperation.cacheableCaches.sync(0);
+        boolean lookupFailed = false;
+        AtomicBoolean inlineMiss = null;
+        if (!cacheOperation.hasWriteOperations() && syncCache.isNonBlocking()) {
+            try {
+                Mono<Object> hit = getSingleNonBlocking(context, returnTypeValue, cacheOperation, syncCache, key);
+                if (hit != null) {
+                    return interceptedMethod.handleResult(hit);
+                }
+                // the first subscription loads the value without looking up the key again
+                inlineMiss = new AtomicBoolean(true);
+            } catch (RuntimeException e) {
+                if (errorHandler.handleLoadError(syncCache, key, e)) {
+                    throw e;
+                }
+                // the error was handled, so the method is invoked without looking up the cache again
+                lookupFailed = true;
+            }
+        }
+        AsyncCache<?> asyncCache = cacheOperation.cacheableCaches.async(0);
+        boolean skipLookup = lookupFailed;
+        AtomicBoolean missed = inlineMiss;
+        Mono<Object> cachingMono = Mono.defer(() -> {
+            if (skipLookup || (missed != null && missed.getAndSet(false))) {
+                return Mono.just(Optional.empty());
+            }
+            long lookupStart = startTime(cacheOperation);
+            if (cacheOperation.refreshAfterWriteMillis < 0 && cacheOperation.negativeTtlMillis < 0) {
+                return Mono.fromCompletionStage(recordLookup(cacheOperation, lookupStart,
+                    asyncCacheGet(asyncCache, key, returnTypeValue, errorHandler)));
+            }
+            return Mono.fromCompletionStage(recordLookup(cacheOperation, lookupStart,
+                asyncCacheGet(asyncCache, key, Argument.OBJECT_ARGUMENT, errorHandler)
+                    .thenApply(o -> o.flatMap(cached -> cached instanceof NegativeCacheEntry
+                        ? fromNegative(cached, returnTypeValue)
+                        : fromRefreshable(context, cacheOperation, key, cached, returnTypeValue)))));
+        }).flatMap((result) -> {
             if (result.isPresent()) {
                 // cache hit, return result
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("Value found in cache [{}] for invocation: {}", cacheOperation.cacheableCacheName, context);
                 }
-                return Mono.just(result.get());
+                Object value = result.get();
+                return value instanceof NegativeCacheEntry ? Mono.empty() : Mono.just(value);
             } else {
-                return Mono.from(interceptedMethod.interceptResultAsPublisher())
+                Mono<Object> loadingMono = recordLoad(cacheOperation, Mono.defer(() -> Mono.from(interceptedMethod.interceptResultAsPublisher())))
                         .flatMap((object) -> {
                             if (LOG.isTraceEnabled()) {
                                 LOG.trace("Storing in the cache [{}] with key [{}] the result of invocation [{}]: {}",
@@ -198,10 +304,16 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
                                           context,
                                           object);
                             }
-                            return Mono.fromCompletionStage(asyncCachePut(asyncCache, key, object, errorHandler))
+                            long putStart = startTime(cacheOperation);
+                            return Mono.fromCompletionStage(recordPut(cacheOperation, putStart,
+                                        asyncCachePut(asyncCache, key, cacheableValue(cacheOperation, object), errorHandler)))
                                     .thenReturn(object);
 
                         }).switchIfEmpty(Mono.defer(() -> {
+                            if (cacheOperation.negativeTtlMillis >= 0) {
+                                return Mono.fromCompletionStage(asyncCachePut(asyncCache, key, cacheableValue(cacheOperation, null), errorHandler))
+                                        .then(Mono.empty());
+                            }
                             if (LOG.isTraceEnabled()) {
                                 LOG.trace(
                                     "Invalidating the key [{}] of the cache [{}] since the result of invocation [{}] was null",
@@ -213,69 +325,86 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
                             return Mono.fromCompletionStage(asyncCacheInvalidate(asyncCache, key, errorHandler))
                                     .then(Mono.empty());
                         }));
+                return coalesce(asyncCache, key, loadingMono);
             }
         });
         cachingMono = handleSingleWriteOperations(context, cacheOperation, cachingMono);
         return interceptedMethod.handleResult(cachingMono);
     }
 
+    /**
+     * Looks up the value of a single result publisher inline when the cache is local and non-blocking, so that a hit
+     * is returned as a plain {@link Mono#just(Object)} without going through a {@link CompletableFuture}. A miss is
+     * recorded here and carried to the deferred load, while errors are thrown to be passed to the
+     * {@link CacheErrorHandler}.
+     *
+     * @return The publisher of the cached value, or null if the value is not cached
+     */
+    @Nullable
+    private Mono<Object> getSingleNonBlocking(MethodInvocationContext<Object, Object> context,
+                                              Argument<?> returnTypeValue,
+                                              CacheOperation cacheOperation,
+                                              SyncCache<?> syncCache,
+                                              Object key) {
+        Optional<?> result;
+        long lookupStart = startTime(cacheOperation);
+        if (cacheOperation.refreshAfterWriteMillis < 0 && cacheOperation.negativeTtlMillis < 0) {
+            result = syncCache.get(key, returnTypeValue);
+        } else {
+            result = syncCache.get(key, Argument.OBJECT_ARGUMENT)
+                .flatMap(cached -> cached instanceof NegativeCacheEntry
+                    ? fromNegative(cached, returnTypeValue)
+                    : fromRefreshable(context, cacheOperation, key, cached, returnTypeValue));
+        }
+        if (result.isEmpty()) {
+            recordLookup(cacheOperation, lookupStart, false);
+            return null;
+        }
+        recordLookup(cacheOperation, lookupStart, true);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Value found in cache [{}] for invocation: {}", cacheOperation.cacheableCacheName, context);
+        }
+        Object value = result.get();
+        return value instanceof NegativeCacheEntry ? Mono.empty() : Mono.just(value);
+    }
+
     private Mono<Object> handleSingleWriteOperations(MethodInvocationContext<Object, Object> context,
                                                      CacheOperation cacheOperation,
                                                      Mono<Object> cachingMono) {
         if (cacheOperation.hasWriteOperations()) {
-            List<AnnotationValue<CachePut>> putOperations = cacheOperation.getPutOperations(context);
+            List<CachePutOperation> putOperations = cacheOperation.getPutOperations(context);
             if (CollectionUtils.isNotEmpty(putOperations)) {
-                for (AnnotationValue<CachePut> putOperation : putOperations) {
-                    String[] cacheNames = cacheOperation.getCachePutNames(putOperation);
-                    if (ArrayUtils.isNotEmpty(cacheNames)) {
-                        boolean isAsync = putOperation.isTrue(MEMBER_ASYNC);
-                        if (isAsync) {
+                for (CachePutOperation putOperation : putOperations) {
+                    if (ArrayUtils.isNotEmpty(putOperation.cacheNames)) {
+                        if (putOperation.async) {
                             cachingMono = cachingMono.doOnNext((result) -> Mono.fromCompletionStage(
-                                putAsync(context, cacheOperation, putOperation, cacheNames, result, asyncCacheErrorHandler)
+                                putAsync(context, putOperation, result, asyncCacheErrorHandler)
                             ));
                         } else {
                             cachingMono = cachingMono.flatMap(result -> Mono.fromCompletionStage(
-                                putAsync(context, cacheOperation, putOperation, cacheNames, result, asyncCacheErrorHandler)
+                                putAsync(context, putOperation, result, asyncCacheErrorHandler)
                             ).thenReturn(result));
                         }
                     }
                 }
             }
-            List<AnnotationValue<CacheInvalidate>> invalidateOperations = cacheOperation.getInvalidateOperations(context);
+            List<CacheInvalidateOperation> invalidateOperations = cacheOperation.getInvalidateOperations(context);
             if (CollectionUtils.isNotEmpty(invalidateOperations)) {
-                for (AnnotationValue<CacheInvalidate> invalidateOperation : invalidateOperations) {
-                    String[] cacheNames = cacheOperation.getCacheInvalidateNames(invalidateOperation);
-                    if (ArrayUtils.isNotEmpty(cacheNames)) {
-                        boolean isAsync = invalidateOperation.isTrue(MEMBER_ASYNC);
-                        if (isAsync) {
+                for (CacheInvalidateOperation invalidateOperation : invalidateOperations) {
+                    if (ArrayUtils.isNotEmpty(invalidateOperation.cacheNames)) {
+                        if (invalidateOperation.async) {
                             cachingMono = cachingMono.doOnNext((result) -> Mono.fromCompletionStage(
-                                    invalidateAsync(context,
-                                                    cacheOperation,
-                                                    invalidateOperation,
-                                                    cacheNames,
-                                                    asyncCacheErrorHandler)
+                                    invalidateAsync(context, invalidateOperation, asyncCacheErrorHandler)
                             )).switchIfEmpty(Mono.defer(() -> {
                                 return Mono.fromCompletionStage(
-                                        invalidateAsync(context,
-                                                cacheOperation,
-                                                invalidateOperation,
-                                                cacheNames,
-                                                asyncCacheErrorHandler));
+                                        invalidateAsync(context, invalidateOperation, asyncCacheErrorHandler));
                             }));
                         } else {
                             cachingMono = cachingMono.flatMap(result -> Mono.fromCompletionStage(
-                                    invalidateAsync(context,
-                                                    cacheOperation,
-                                                    invalidateOperation,
-                                                    cacheNames,
-                                                    asyncCacheErrorHandler)
+                                    invalidateAsync(context, invalidateOperation, asyncCacheErrorHandler)
                             ).thenReturn(result)).switchIfEmpty(Mono.defer(() -> {
                                 return Mono.fromCompletionStage(
-                                        invalidateAsync(context,
-                                                cacheOperation,
-                                                invalidateOperation,
-                                                cacheNames,
-                                                asyncCacheErrorHandler));
+                                        invalidateAsync(context, invalidateOperation, asyncCacheErrorHandler));
                             }));
                         }
                     }
@@ -289,13 +418,15 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
                                   InterceptedMethod interceptedMethod,
                                   Argument<?> returnTypeValue,
                                   CacheOperation cacheOperation) {
-        AsyncCache<?> asyncCache = cacheManager.getCache(cacheOperation.cacheableCacheName).async();
+        AsyncCache<?> asyncCache = cacheOperation.cacheableCaches.async(0);
         Object key = getCacheableKey(context, cacheOperation);
         Flux<Object> cachingFlux = Mono.defer(() ->
-              Mono.fromCompletionStage(asyncCacheGet(asyncCache,
-                                                     key,
-                                                     returnTypeValue,
-                                                     errorHandler))
+              Mono.fromCompletionStage(recordLookup(cacheOperation,
+                                                    startTime(cacheOperation),
+                                                    asyncCacheGet(asyncCache,
+                                                                  key,
+                                                                  Argument.OBJECT_ARGUMENT,
+                                                                  errorHandler)))
         ).flatMapMany((result) -> {
             if (result.isPresent()) {
                 // cache hit, return result
@@ -303,10 +434,24 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
                     LOG.debug("Value found in cache [" + cacheOperation.cacheableCacheName + "] for "
                                       + "invocation: " + context);
                 }
-                return Mono.just(result.get());
+                return replay(result.get(), returnTypeValue);
+            } else if (streaming != null) {
+                Flux<Object> loadingFlux = recordLoad(cacheOperation, Flux.defer(() -> Flux.from(interceptedMethod.interceptResultAsPublisher())));
+                return afterCompletion(context, loadingFlux, null, elements -> {
+                    if (LOG.isTraceEnabled()) {
+                        LOG.trace("Storing in the cache [{}] with key [{}] the {} elements emitted by invocation [{}]",
+                                  asyncCache.getName(),
+                                  key,
+                                  elements.size(),
+                                  context);
+                    }
+                    long putStart = startTime(cacheOperation);
+                    return Mono.fromCompletionStage(recordPut(cacheOperation, putStart, asyncCachePut(asyncCache, key, elements, errorHandler)));
+                });
             } else {
-                return Flux.from(interceptedMethod.interceptResultAsPublisher())
+                Mono<Object> loadingMono = recordLoad(cacheOperation, Flux.defer(interceptedMethod::interceptResultAsPublisher)
                         .collectList()
+                        .map(Object.class::cast))
                         .flatMap((object) -> {
                             if (LOG.isTraceEnabled()) {
                                 LOG.trace("Storing in the cache [{}] with key [{}] the result of invocation [{}]: {}",
@@ -315,55 +460,99 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
                                           context,
                                           object);
                             }
-                            return Mono.fromCompletionStage(asyncCachePut(asyncCache, key, object, errorHandler))
+                            long putStart = startTime(cacheOperation);
+                            return Mono.fromCompletionStage(recordPut(cacheOperation, putStart, asyncCachePut(asyncCache, key, object, errorHandler)))
                                     .thenReturn(object);
 
-                        }).switchIfEmpty(Mono.defer(() -> {
-                            if (LOG.isTraceEnabled()) {
-                                LOG.trace(
-                                    "Invalidating the key [{}] of the cache [{}] since the result of invocation [{}] was null",
-                                    key,
-                                    asyncCache.getName(),
-                                    context
-                                );
-                            }
-                            return Mono.fromCompletionStage(asyncCacheInvalidate(asyncCache, key, errorHandler))
-                                    .then(Mono.empty());
-                        }));
+                        });
+                return coalesce(asyncCache, key, loadingMono).flatMapIterable(elements -> (List<?>) elements);
             }
         });
         cachingFlux = handleMultiWriteOperations(context, cacheOperation, cachingFlux);
         return interceptedMethod.handleResult(cachingFlux);
     }
 
+    /**
+     * Emits the elements of a cached stream. The cached list is iterated as is, without copying it.
+     *
+     * @param cached      The cached value
+     * @param elementType The element type
+     * @return The elements
+     */
+    private Flux<Object> replay(Object cached, Argument<?> elementType) {
+        if (cached instanceof Iterable<?> iterable) {
+            return Flux.fromIterable(iterable);
+        }
+        return Mono.<Object>justOrEmpty(beanContext.getConversionService().convert(cached, elementType)).flux();
+    }
+
+    /**
+     * Runs the given action with the elements of the stream once it completes. When streaming is enabled the elements
+     * are emitted as soon as they are produced, and if the stream exceeds the streaming limits the overflow action
+     * runs instead of the action. Otherwise the elements are collected and emitted after the action completes.
+     *
+     * @param context  The invocation context
+     * @param flux     The stream
+     * @param overflow The action to run if the stream exceeds the streaming limits, or null to do nothing
+     * @param action   The action
+     * @return The stream running the action on completion
+     */
+    private Flux<Object> afterCompletion(MethodInvocationContext<Object, Object> context,
+                                         Flux<Object> flux,
+                                         @Nullable Supplier<Mono<?>> overflow,
+                                         Function<List<Object>, Mono<?>> action) {
+        if (streaming == null) {
+            return flux.collectList()
+                    .flatMap(elements -> action.apply(elements).thenReturn(elements))
+                    .flatMapIterable(elements -> elements);
+        }
+        return Flux.defer(() -> {
+            StreamingBuffer buffer = new StreamingBuffer(streaming.getMaxElements(), streaming.getMaxBytes());
+            return flux.doOnNext(buffer::record).concatWith(Mono.defer(() -> {
+                List<Object> elements = buffer.getElements();
+                if (elements == null) {
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Not caching the result of invocation [{}] since it exceeds the streaming limits", context);
+                    }
+                    return overflow == null ? Mono.empty() : overflow.get().then(Mono.empty());
+                }
+                return action.apply(elements).then(Mono.empty());
+            }));
+        });
+    }
+
     private Flux<Object> handleMultiWriteOperations(MethodInvocationContext<Object, Object> context,
                                                     CacheOperation cacheOperation,
                                                     Flux<Object> cachingFlux) {
         if (cacheOperation.hasWriteOperations()) {
-            List<AnnotationValue<CachePut>> putOperations = cacheOperation.getPutOperations(context);
+            List<CachePutOperation> putOperations = cacheOperation.getPutOperations(context);
             if (CollectionUtils.isNotEmpty(putOperations)) {
-                for (AnnotationValue<CachePut> putOperation : putOperations) {
-                    String[] cacheNames = cacheOperation.getCachePutNames(putOperation);
-                    if (ArrayUtils.isNotEmpty(cacheNames)) {
-                        boolean isAsync = putOperation.isTrue(MEMBER_ASYNC);
-                        if (isAsync) {
-                            cachingFlux = cachingFlux.collectList().doOnNext((result) -> Mono.fromCompletionStage(
-                                    putAsync(context, cacheOperation, putOperation, cacheNames, result, asyncCacheErrorHandler)
-                            )).flatMapIterable(objects -> objects);
+                for (CachePutOperation putOperation : putOperations) {
+                    if (ArrayUtils.isNotEmpty(putOperation.cacheNames)) {
+                        // a result that isn't cached replaces the previous one by invalidating the key
+                        if (putOperation.async) {
+                            cachingFlux = afterCompletion(context, cachingFlux, () -> {
+                                putAsync(context, putOperation, null, asyncCacheErrorHandler);
+                                return Mono.empty();
+                            }, (result) -> {
+                                putAsync(context, putOperation, result, asyncCacheErrorHandler);
+                                return Mono.empty();
+                            });
                         } else {
-                            cachingFlux = cachingFlux.collectList().flatMap(result -> Mono.fromCompletionStage(
-                                    putAsync(context, cacheOperation, putOperation, cacheNames, result, asyncCacheErrorHandler)
-                            ).thenReturn(result)).flatMapIterable(objects -> objects);
+                            cachingFlux = afterCompletion(context, cachingFlux, () -> Mono.fromCompletionStage(
+                                    putAsync(context, putOperation, null, asyncCacheErrorHandler)
+                            ), result -> Mono.fromCompletionStage(
+                                    putAsync(context, putOperation, result, asyncCacheErrorHandler)
+                            ));
                         }
                     }
                 }
             }
-            List<AnnotationValue<CacheInvalidate>> invalidateOperations = cacheOperation.getInvalidateOperations(context);
+            List<CacheInvalidateOperation> invalidateOperations = cacheOperation.getInvalidateOperations(context);
             if (CollectionUtils.isNotEmpty(invalidateOperations)) {
-                for (AnnotationValue<CacheInvalidate> invalidateOperation : invalidateOperations) {
-                    String[] cacheNames = cacheOperation.getCacheInvalidateNames(invalidateOperation);
+                for (CacheInvalidateOperation invalidateOperation : invalidateOperations) {
                     cachingFlux = cachingFlux.doOnComplete(() -> Mono.fromCompletionStage(
-                            invalidateAsync(context, cacheOperation, invalidateOperation, cacheNames, asyncCacheErrorHandler)
+                            invalidateAsync(context, invalidateOperation, asyncCacheErrorHandler)
                     ));
                 }
             }
@@ -381,23 +570,71 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
     protected Object interceptSync(MethodInvocationContext context, ReturnType<?> returnType) {
         final ValueWrapper wrapper = new ValueWrapper();
         CacheOperation cacheOperation = getCacheOperation(context, returnType.isVoid());
+        if (cacheOperation.reloadsFromKey && cacheOperation.cacheableCaches.sync(0).isRefreshedAfterWrite() && RELOADING.get() != null) {
+            RELOADING.remove();
+            return context.proceed();
+        }
 
-        boolean cacheableCondition = isCacheableDueToCondition(context);
-        if (cacheOperation.cacheable && cacheableCondition) {
+        boolean cacheableCondition = isCacheableDueToCondition(context, cacheOperation);
+        if (cacheOperation.cacheableAll != null && cacheOperation.cacheableAll.isCacheable(context)) {
+            wrapper.value = interceptCacheableAllSync(context, cacheOperation.cacheableAll, returnType.asArgument());
+        } else if (cacheOperation.cacheable && cacheableCondition) {
             Object key = getCacheableKey(context, cacheOperation);
             Argument returnArgument = returnType.asArgument();
-            if (context.isTrue(Cacheable.class, MEMBER_ATOMIC)) {
-                SyncCache syncCache = cacheManager.getCache(cacheOperation.cacheableCacheName);
+            if (cacheOperation.atomic) {
+                SyncCache syncCache = cacheOperation.cacheableCaches.sync(0);
 
                 try {
-                    wrapper.value = syncCache.get(key, returnArgument, () -> {
-                        try {
-                            doProceed(context, wrapper);
-                            return wrapper.value;
-                        } catch (RuntimeException e) {
-                            throw new ValueSupplierException(key, e);
+                    long lookupStart = startTime(cacheOperation);
+                    if (cacheOperation.refreshAfterWriteMillis < 0 && cacheOperation.negativeTtlMillis < 0) {
+                        wrapper.value = syncCache.get(key, returnArgument, () -> {
+                            try {
+                                ValueWrapper loaded = new ValueWrapper();
+                                long loadStart = startTime(cacheOperation);
+                                // the lookup ends where the load starts, so that its time doesn't include the load
+                                wrapper.lookupEnd = loadStart;
+                                doProceed(context, loaded);
+                                recordLoad(cacheOperation, loadStart);
+                                wrapper.optional = loaded.optional;
+                                wrapper.invoked = true;
+                                return loaded.value;
+                            } catch (RuntimeException e) {
+                                throw new ValueSupplierException(key, e);
+                            }
+                        });
+                    } else {
+                        Supplier<Object> supplier = () -> {
+                            try {
+                                ValueWrapper loaded = new ValueWrapper();
+                                long loadStart = startTime(cacheOperation);
+                                // the lookup ends where the load starts, so that its time doesn't include the load
+                                wrapper.lookupEnd = loadStart;
+                                doProceed(context, loaded);
+                                recordLoad(cacheOperation, loadStart);
+                                wrapper.optional = loaded.optional;
+                                wrapper.invoked = true;
+                                return cacheableValue(cacheOperation, loaded.value);
+                            } catch (RuntimeException e) {
+                                throw new ValueSupplierException(key, e);
+                            }
+                        };
+                        Object cached = syncCache.get(key, Argument.OBJECT_ARGUMENT, supplier);
+                        if (cached instanceof NegativeCacheEntry negative && negative.isExpired()) {
+                            syncCache.invalidate(key);
+                            cached = syncCache.get(key, Argument.OBJECT_ARGUMENT, supplier);
                         }
-                    });
+                        if (cached instanceof NegativeCacheEntry) {
+                            wrapper.value = null;
+                            wrapper.optional = returnArgument.isOptional();
+                        } else {
+                            wrapper.value = fromRefreshable(context, cacheOperation, key, cached, returnArgument).orElse(null);
+                        }
+                    }
+                    if (wrapper.invoked) {
+                        recordLookup(cacheOperation, lookupStart, wrapper.lookupEnd, false);
+                    } else {
+                        recordLookup(cacheOperation, lookupStart, true);
+                    }
                 } catch (ValueSupplierException e) {
                     throw e.getCause();
                 } catch (RuntimeException e) {
@@ -405,35 +642,28 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
                     throw e;
                 }
             } else {
-                String[] cacheNames = resolveCacheNames(
-                    cacheOperation.defaultCacheNames,
-                    context.stringValues(Cacheable.class, MEMBER_CACHE_NAMES)
-                );
-                boolean cacheHit = false;
-                for (String cacheName : cacheNames) {
-                    SyncCache syncCache = cacheManager.getCache(cacheName);
-                    try {
-                        Optional optional = syncCache.get(key, returnArgument);
-                        if (optional.isPresent()) {
-                            if (LOG.isDebugEnabled()) {
-                                LOG.debug("Value found in cache [{}] for invocation: {}", cacheName, context);
-                            }
-                            cacheHit = true;
-                            wrapper.value = optional.get();
-                            break;
-                        }
-                    } catch (RuntimeException e) {
-                        if (errorHandler.handleLoadError(syncCache, key, e)) {
-                            throw e;
-                        }
-                    }
-                }
+                CacheBinding caches = cacheOperation.cacheableCaches;
+                long lookupStart = startTime(cacheOperation);
+                boolean cacheHit = syncLookup(context, cacheOperation, key, returnArgument, wrapper);
+                recordLookup(cacheOperation, lookupStart, cacheHit);
                 if (!cacheHit) {
                     if (LOG.isDebugEnabled()) {
                         LOG.debug("Value not found in cache for invocation: {}", context);
                     }
-                    doProceed(context, wrapper);
-                    syncPut(cacheNames, key, wrapper.value);
+                    if (singleFlight == null) {
+                        loadAndPut(context, cacheOperation, key, wrapper);
+                    } else {
+                        ValueWrapper loaded = singleFlight.load(caches.cacheNames[0], key, () -> {
+                            ValueWrapper result = new ValueWrapper();
+                            // a flight that completed after the lookup missed has already cached the value
+                            if (!syncLookup(context, cacheOperation, key, returnArgument, result)) {
+                                loadAndPut(context, cacheOperation, key, result);
+                            }
+                            return result;
+                        });
+                        wrapper.value = loaded.value;
+                        wrapper.optional = loaded.optional;
+                    }
                 }
             }
         } else {
@@ -444,23 +674,85 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
             }
         }
 
-        List<AnnotationValue<CachePut>> cachePuts = cacheOperation.getPutOperations(context);
+        List<CachePutOperation> cachePuts = cacheOperation.getPutOperations(context);
         if (CollectionUtils.isNotEmpty(cachePuts)) {
-            for (AnnotationValue<CachePut> cachePut : cachePuts) {
-                processCachePut(context, wrapper, cachePut, cacheOperation);
+            for (CachePutOperation cachePut : cachePuts) {
+                processCachePut(context, wrapper, cachePut);
             }
         }
 
-        List<AnnotationValue<CacheInvalidate>> cacheInvalidates = cacheOperation.getInvalidateOperations(context);
+        List<CacheInvalidateOperation> cacheInvalidates = cacheOperation.getInvalidateOperations(context);
         if (CollectionUtils.isNotEmpty(cacheInvalidates)) {
-            for (AnnotationValue<CacheInvalidate> cacheInvalidate : cacheInvalidates) {
-                processCacheEvict(context, cacheOperation, cacheInvalidate);
+            for (CacheInvalidateOperation cacheInvalidate : cacheInvalidates) {
+                processCacheEvict(context, cacheInvalidate);
             }
         }
 
         return wrapper.optional ? Optional.ofNullable(wrapper.value) : wrapper.value;
     }
 
+    /**
+     * Looks up the key in the cacheable caches in order, and sets the first value found in the wrapper.
+     *
+     * @param context        The invocation context
+     * @param cacheOperation The cache operation
+     * @param key            The key
+     * @param returnArgument The return type
+     * @param wrapper        The wrapper of the value
+     * @return Whether the key was found
+     */
+    private boolean syncLookup(MethodInvocationContext context,
+                               CacheOperation cacheOperation,
+                               Object key,
+                               Argument returnArgument,
+                               ValueWrapper wrapper) {
+        CacheBinding caches = cacheOperation.cacheableCaches;
+        for (int i = 0; i < caches.size(); i++) {
+            SyncCache syncCache = caches.sync(i);
+            try {
+                Optional optional;
+                if (cacheOperation.refreshAfterWriteMillis < 0 && cacheOperation.negativeTtlMillis < 0) {
+                    optional = syncCache.get(key, returnArgument);
+                } else {
+                    optional = syncCache.get(key, Argument.OBJECT_ARGUMENT)
+                        .flatMap(cached -> cached instanceof NegativeCacheEntry
+                            ? fromNegative(cached, returnArgument)
+                            : fromRefreshable(context, cacheOperation, key, cached, returnArgument));
+                }
+                if (optional.isPresent()) {
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Value found in cache [{}] for invocation: {}", syncCache.getName(), context);
+                    }
+                    if (optional.get() instanceof NegativeCacheEntry) {
+                        wrapper.value = null;
+                        wrapper.optional = returnArgument.isOptional();
+                    } else {
+                        wrapper.value = optional.get();
+                    }
+                    return true;
+                }
+            } catch (RuntimeException e) {
+                if (errorHandler.handleLoadError(syncCache, key, e)) {
+                    throw e;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void loadAndPut(MethodInvocationContext context, CacheOperation cacheOperation, Object key, ValueWrapper wrapper) {
+        long loadStart = startTime(cacheOperation);
+        doProceed(context, wrapper);
+        recordLoad(cacheOperation, loadStart);
+        long putStart = startTime(cacheOperation);
+        if (cacheOperation.refreshAfterWriteMillis < 0 && cacheOperation.negativeTtlMillis < 0) {
+            syncPut(cacheOperation.cacheableCaches, key, wrapper.value, cacheOperation, context);
+        } else {
+            syncPut(cacheOperation.cacheableCaches, key, cacheableValue(cacheOperation, wrapper.value));
+        }
+        recordPut(cacheOperation, putStart);
+    }
+
     /**
      * Intercept the async method invocation.
      *
@@ -477,49 +769,14 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
         CacheOperation cacheOperation = getCacheOperation(context,
                                                           returnTypeObject.isVoid() || requiredType
                                                                   .equalsType(Argument.VOID_OBJECT));
-        boolean cacheableCondition = isCacheableDueToCondition(context);
+        boolean cacheableCondition = isCacheableDueToCondition(context, cacheOperation);
         CompletionStage<?> returnFuture;
-        if (cacheOperation.cacheable && cacheableCondition) {
-            AsyncCache<?> asyncCache = cacheManager.getCache(cacheOperation.cacheableCacheName).async();
+        if (cacheOperation.cacheableAll != null && cacheOperation.cacheableAll.isCacheable(context)) {
+            returnFuture = interceptCacheableAllAsync(context, cacheOperation.cacheableAll, requiredType, intercept);
+        } else if (cacheOperation.cacheable && cacheableCondition) {
+            AsyncCache<?> asyncCache = cacheOperation.cacheableCaches.async(0);
             Object key = getCacheableKey(context, cacheOperation);
-            returnFuture = asyncCacheGet(asyncCache, key, requiredType, errorHandler)
-                    .thenCompose(o -> {
-                        if (o.isPresent()) {
-                            // cache hit, return result
-                            if (LOG.isDebugEnabled()) {
-                                LOG.debug("Value found in cache [" + asyncCache.getName() + "] for invocation: " + context);
-                            }
-                            return CompletableFuture.completedFuture(o.get());
-                        } else {
-                            // cache miss proceed with original future
-                            CompletionStage<?> completableFuture = intercept.get();
-                            if (completableFuture == null) {
-                                return CompletableFuture.completedFuture(null);
-                            }
-                            return completableFuture.thenCompose(o1 -> {
-                                if (o1 == null) {
-                                    if (LOG.isTraceEnabled()) {
-                                        LOG.trace(
-                                                "Invalidating the key [{}] of the cache [{}] since the result of invocation "
-                                                        + "[{}] was null",
-                                                key,
-                                                asyncCache.getName(),
-                                                context);
-                                    }
-                                    return asyncCacheInvalidate(asyncCache, key, errorHandler).thenApply(ignore -> null);
-                                } else {
-                                    if (LOG.isTraceEnabled()) {
-                                        LOG.trace("Storing in the cache [{}] with key [{}] the result of invocation [{}]: {}",
-                                                  asyncCache.getName(),
-                                                  key,
-                                                  context,
-                                                  o1);
-                                    }
-                                    return asyncCachePut(asyncCache, key, o1, errorHandler).thenApply(ignore -> o1);
-                                }
-                            });
-                        }
-                    }).toCompletableFuture();
+            returnFuture = getOrLoad(context, cacheOperation, intercept, asyncCache, key, requiredType, true);
         } else {
             returnFuture = intercept.get();
         }
@@ -530,8 +787,585 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
         return returnFuture;
     }
 
-    private boolean isCacheableDueToCondition(MethodInvocationContext<?, ?> context) {
-        if (!context.isPresent(Cacheable.class, MEMBER_CONDITION)) {
+    /**
+     * Resolves the value of a {@link CompletionStage} method with {@link AsyncCache#getOrLoad(Object, Argument, Supplier)},
+     * so that a cache that caches the future of a load shares a single invocation between the concurrent misses of a key.
+     *
+     * @param context        The invocation context
+     * @param cacheOperation The cache operation
+     * @param intercept      Invokes the method
+     * @param asyncCache     The cache
+     * @param key            The key
+     * @param requiredType   The type of the value
+     * @param retryExpired   Whether an expired negative cache entry is invalidated and the value loaded again
+     * @return The future of the value
+     */
+    private CompletableFuture<Object> getOrLoad(MethodInvocationContext<Object, Object> context,
+                                                CacheOperation cacheOperation,
+                                                Supplier<CompletionStage<?>> intercept,
+                                                AsyncCache<?> asyncCache,
+                                                Object key,
+                                                Argument<?> requiredType,
+                                                boolean retryExpired) {
+        long lookupStart = startTime(cacheOperation);
+        AsyncLoad load = new AsyncLoad();
+        CompletableFuture<Object> cached;
+        try {
+            cached = asyncCache.getOrLoad(key, Argument.OBJECT_ARGUMENT, () -> {
+                load.invoked = true;
+                recordLookup(cacheOperation, lookupStart, false);
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Value not found in cache [{}] for invocation: {}", asyncCache.getName(), context);
+                }
+                long loadStart = startTime(cacheOperation);
+                CompletionStage<?> invocation;
+                try {
+                    invocation = coalescer == null ? intercept.get() : coalescer.coalesce(asyncCache.getName(), key, intercept);
+                } catch (RuntimeException e) {
+                    throw new InvocationException(e);
+                }
+                if (invocation == null) {
+                    invocation = CompletableFuture.completedFuture(null);
+                }
+                return invocation.handle((result, error) -> {
+                    if (error != null) {
+                        throw new InvocationException(error instanceof CompletionException ? error.getCause() : error);
+                    }
+                    recordLoad(cacheOperation, loadStart);
+                    load.result = result;
+                    load.loaded = true;
+                    load.putStart = startTime(cacheOperation);
+                    return cacheableValue(cacheOperation, result);
+                });
+            });
+        } catch (RuntimeException e) {
+            cached = CompletableFuture.failedFuture(e);
+        }
+        if (!load.invoked && cacheOperation.cacheableCaches.sync(0).isNonBlocking()) {
+            // the future of a local cache is either the cached value or a load in flight, whose time isn't part of the lookup
+            load.lookupRecorded = true;
+            recordLookup(cacheOperation, lookupStart, true);
+        }
+        return cached.handle((value, error) -> {
+            if (error == null) {
+                if (load.invoked) {
+                    recordPut(cacheOperation, load.putStart);
+                    return CompletableFuture.completedFuture(load.result);
+                }
+                if (!load.lookupRecorded) {
+                    recordLookup(cacheOperation, lookupStart, true);
+                }
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Value found in cache [{}] for invocation: {}", asyncCache.getName(), context);
+                }
+                if (value instanceof NegativeCacheEntry negative) {
+                    if (negative.isExpired() && retryExpired) {
+                        return asyncCacheInvalidate(asyncCache, key, errorHandler)
+                            .thenCompose(ignore -> getOrLoad(context, cacheOperation, intercept, asyncCache, key, requiredType, false));
+                    }
+                    return CompletableFuture.completedFuture(null);
+                }
+                return CompletableFuture.completedFuture(value == null ? null : fromRefreshable(context, cacheOperation, key, value, requiredType).orElse(null));
+            }
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            if (cause instanceof InvocationException) {
+                // the method failed, either in this invocation or in the one whose load was shared
+                return CompletableFuture.failedFuture(cause.getCause());
+            }
+            RuntimeException e = asRuntimeException(cause);
+            if (load.loaded) {
+                if (errorHandler.handlePutError(asyncCache, key, load.result, e)) {
+                    return CompletableFuture.failedFuture(e);
+                }
+                return CompletableFuture.completedFuture(load.result);
+            }
+            if (errorHandler.handleLoadError(asyncCache, key, e)) {
+                return CompletableFuture.failedFuture(e);
+            }
+            return loadAndCache(context, cacheOperation, intercept, asyncCache, key).toCompletableFuture();
+        }).thenCompose(Function.identity());
+    }
+
+    private CompletionStage<Object> loadAndCache(MethodInvocationContext<Object, Object> context,
+                                                 CacheOperation cacheOperation,
+                                                 Supplier<CompletionStage<?>> intercept,
+                                                 AsyncCache<?> asyncCache,
+                                                 Object key) {
+        long loadStart = startTime(cacheOperation);
+        CompletionStage<?> completableFuture = intercept.get();
+        if (completableFuture == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return completableFuture.<Object>thenCompose(o1 -> {
+            recordLoad(cacheOperation, loadStart);
+            if (o1 == null && cacheOperation.negativeTtlMillis >= 0) {
+                return asyncCachePut(asyncCache, key, cacheableValue(cacheOperation, null), errorHandler).thenApply(ignore -> null);
+            } else if (o1 == null) {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace(
+                            "Invalidating the key [{}] of the cache [{}] since the result of invocation "
+                                    + "[{}] was null",
+                            key,
+                            asyncCache.getName(),
+                            context);
+                }
+                return asyncCacheInvalidate(asyncCache, key, errorHandler).thenApply(ignore -> null);
+            } else {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Storing in the cache [{}] with key [{}] the result of invocation [{}]: {}",
+                              asyncCache.getName(),
+                              key,
+                              context,
+                              o1);
+                }
+                long putStart = startTime(cacheOperation);
+                return recordPut(cacheOperation, putStart, asyncCachePut(asyncCache, key, cacheableValue(cacheOperation, o1), errorHandler))
+                    .thenApply(ignore -> o1);
+            }
+        });
+    }
+
+    private static long startTime(CacheOperation cacheOperation) {
+        return startTime(cacheOperation.metrics);
+    }
+
+    private static long startTime(CacheInterceptorMetrics.MethodMetrics metrics) {
+        return metrics == null ? 0 : System.nanoTime();
+    }
+
+    private static void recordLookup(CacheOperation cacheOperation, long start, boolean hit) {
+        if (cacheOperation.metrics != null) {
+            recordLookup(cacheOperation, start, System.nanoTime(), hit);
+        }
+    }
+
+    private static void recordLookup(CacheOperation cacheOperation, long start, long end, boolean hit) {
+        CacheInterceptorMetrics.MethodMetrics metrics = cacheOperation.metrics;
+        if (metrics != null) {
+            metrics.lookup(end - start);
+            if (hit) {
+                metrics.hit();
+            } else {
+                metrics.miss();
+            }
+        }
+    }
+
+    private static <T extends Optional<?>> CompletableFuture<T> recordLookup(CacheOperation cacheOperation,
+                                                                          long start,
+                                                                          CompletableFuture<T> lookup) {
+        if (cacheOperation.metrics == null) {
+            return lookup;
+        }
+        return lookup.whenComplete((result, throwable) -> recordLookup(cacheOperation, start, result != null && result.isPresent()));
+    }
+
+    /**
+     * Records a bulk lookup, with a hit or a miss per key.
+     *
+     * @param metrics The metrics, or null if they are disabled
+     * @param start   The start time of the lookup
+     * @param hits    The number of keys found
+     * @param misses  The number of keys not found
+     */
+    private static void recordLookup(CacheInterceptorMetrics.MethodMetrics metrics, long start, int hits, int misses) {
+        if (metrics != null) {
+            metrics.lookup(System.nanoTime() - start);
+            for (int i = 0; i < hits; i++) {
+                metrics.hit();
+            }
+            for (int i = 0; i < misses; i++) {
+                metrics.miss();
+            }
+        }
+    }
+
+    private static void recordLoad(CacheOperation cacheOperation, long start) {
+        recordLoad(cacheOperation.metrics, start);
+    }
+
+    private static void recordLoad(CacheInterceptorMetrics.MethodMetrics metrics, long start) {
+        if (metrics != null) {
+            metrics.load(System.nanoTime() - start);
+        }
+    }
+
+    private static Mono<Object> recordLoad(CacheOperation cacheOperation, Mono<Object> loading) {
+        CacheInterceptorMetrics.MethodMetrics metrics = cacheOperation.metrics;
+        if (metrics == null) {
+            return loading;
+        }
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return loading.doFinally(signal -> metrics.load(System.nanoTime() - start));
+        });
+    }
+
+    private static Flux<Object> recordLoad(CacheOperation cacheOperation, Flux<Object> loading) {
+        CacheInterceptorMetrics.MethodMetrics metrics = cacheOperation.metrics;
+        if (metrics == null) {
+            return loading;
+        }
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            return loading.doFinally(signal -> metrics.load(System.nanoTime() - start));
+        });
+    }
+
+    private static void recordPut(CacheOperation cacheOperation, long start) {
+        recordPut(cacheOperation.metrics, start);
+    }
+
+    private static void recordPut(CacheInterceptorMetrics.MethodMetrics metrics, long start) {
+        if (metrics != null) {
+            metrics.put(System.nanoTime() - start);
+        }
+    }
+
+    private static <T> CompletableFuture<T> recordPut(CacheOperation cacheOperation, long start, CompletableFuture<T> put) {
+        if (cacheOperation.metrics == null) {
+            return put;
+        }
+        return put.whenComplete((result, throwable) -> recordPut(cacheOperation, start));
+    }
+
+    /**
+     * Resolves the entries of a {@link CacheableAll} method from the caches with a bulk lookup, and invokes the method
+     * for the missing keys only.
+     *
+     * @param context   The invocation context
+     * @param operation The operation
+     * @param mapType   The map type returned by the method
+     * @return The merged entries
+     */
+    private Object interceptCacheableAllSync(MethodInvocationContext<Object, Object> context,
+                                             CacheableAllOperation operation,
+                                             Argument<?> mapType) {
+        List<Object> keys = operation.keys(context);
+        if (keys == null) {
+            return doContextProceed(context);
+        }
+        Argument<?> valueType = mapValueType(mapType);
+        CacheBinding caches = operation.caches;
+        Map<Object, Object> found = new HashMap<>();
+        List<Object> missing = keys;
+        long lookupStart = startTime(operation.metrics);
+        for (int i = 0; i < caches.size() && !missing.isEmpty(); i++) {
+            SyncCache<?> syncCache = caches.sync(i);
+            try {
+                found.putAll(syncCache.getAll(missing, valueType));
+                missing = missingKeys(missing, found);
+            } catch (RuntimeException e) {
+                if (errorHandler.handleLoadError(syncCache, missing, e)) {
+                    throw e;
+                }
+            }
+        }
+        recordLookup(operation.metrics, lookupStart, keys.size() - missing.size(), missing.size());
+        if (missing.isEmpty()) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("All values found in cache [{}] for invocation: {}", caches.cacheNames[0], context);
+            }
+            return asMapType(mergeEntries(keys, found, Map.of()), mapType);
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("{} of {} values not found in cache [{}] for invocation: {}", missing.size(), keys.size(), caches.cacheNames[0], context);
+        }
+        long loadStart = startTime(operation.metrics);
+        Map<?, ?> loaded = toMap(operation.proceedWith(context, missing, () -> doContextProceed(context)));
+        recordLoad(operation.metrics, loadStart);
+        if (!loaded.isEmpty()) {
+            long putStart = startTime(operation.metrics);
+            for (int i = 0; i < caches.size(); i++) {
+                SyncCache<?> syncCache = caches.sync(i);
+                try {
+                    syncCache.putAll(loaded);
+                } catch (RuntimeException e) {
+                    if (errorHandler.handlePutError(syncCache, loaded.keySet(), loaded, e)) {
+                        throw e;
+                    }
+                }
+            }
+            recordPut(operation.metrics, putStart);
+        }
+        return asMapType(mergeEntries(keys, found, loaded), mapType);
+    }
+
+    /**
+     * Resolves the entries of a {@link CacheableAll} method that returns a {@link CompletionStage} or a
+     * {@link Publisher} from the caches with a bulk lookup, and invokes the method for the missing keys only.
+     *
+     * @param context   The invocation context
+     * @param operation The operation
+     * @param mapType   The map type emitted by the method
+     * @param intercept Invokes the method and returns its result as a completion stage
+     * @return A completion stage of the merged entries
+     */
+    private CompletionStage<Object> interceptCacheableAllAsync(MethodInvocationContext<Object, Object> context,
+                                                               CacheableAllOperation operation,
+                                                               Argument<?> mapType,
+                                                               Supplier<? extends CompletionStage<?>> intercept) {
+        List<Object> keys = operation.keys(context);
+        if (keys == null) {
+            return intercept.get().thenApply(value -> value);
+        }
+        Argument<?> valueType = mapValueType(mapType);
+        CacheBinding caches = operation.caches;
+        CompletableFuture<Map<Object, Object>> lookup = CompletableFuture.completedFuture(new HashMap<>());
+        long lookupStart = startTime(operation.metrics);
+        for (int i = 0; i < caches.size(); i++) {
+            int index = i;
+            lookup = lookup.thenCompose(found -> {
+                List<Object> missing = missingKeys(keys, found);
+                if (missing.isEmpty()) {
+                    return CompletableFuture.completedFuture(found);
+                }
+                return asyncCacheGetAll(caches.async(index), missing, valueType).thenApply(values -> {
+                    found.putAll(values);
+                    return found;
+                });
+            });
+        }
+        return lookup.thenCompose(found -> {
+            List<Object> missing = missingKeys(keys, found);
+            recordLookup(operation.metrics, lookupStart, keys.size() - missing.size(), missing.size());
+            if (missing.isEmpty()) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("All values found in cache [{}] for invocation: {}", caches.cacheNames[0], context);
+                }
+                return CompletableFuture.completedFuture(asMapType(mergeEntries(keys, found, Map.of()), mapType));
+            }
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("{} of {} values not found in cache [{}] for invocation: {}", missing.size(), keys.size(), caches.cacheNames[0], context);
+            }
+            long loadStart = startTime(operation.metrics);
+            CompletionStage<?> loading = operation.proceedWith(context, missing, intercept);
+            if (loading == null) {
+                return CompletableFuture.completedFuture(asMapType(mergeEntries(keys, found, Map.of()), mapType));
+            }
+            return loading.thenCompose(result -> {
+                recordLoad(operation.metrics, loadStart);
+                Map<?, ?> loaded = toMap(result);
+                if (loaded.isEmpty()) {
+                    return CompletableFuture.completedFuture(asMapType(mergeEntries(keys, found, loaded), mapType));
+                }
+                long putStart = startTime(operation.metrics);
+                CompletableFuture<?>[] puts = new CompletableFuture[caches.size()];
+                for (int i = 0; i < caches.size(); i++) {
+                    puts[i] = asyncCachePutAll(caches.async(i), loaded);
+                }
+                return CompletableFuture.allOf(puts).thenApply(ignore -> {
+                    recordPut(operation.metrics, putStart);
+                    return asMapType(mergeEntries(keys, found, loaded), mapType);
+                });
+            });
+        });
+    }
+
+    private Object asMapType(Map<Object, Object> entries, Argument<?> mapType) {
+        if (mapType.getType().isInstance(entries)) {
+            return entries;
+        }
+        return beanContext.getConversionService().convert(entries, mapType).map(Object.class::cast).orElse(entries);
+    }
+
+    private static Argument<?> mapValueType(Argument<?> mapType) {
+        Argument<?>[] typeParameters = mapType.getTypeParameters();
+        return typeParameters.length == 2 ? typeParameters[1] : Argument.OBJECT_ARGUMENT;
+    }
+
+    private static List<Object> missingKeys(List<Object> keys, Map<Object, Object> found) {
+        if (found.isEmpty()) {
+            return keys;
+        }
+        List<Object> missing = new ArrayList<>(keys.size());
+        for (Object key : keys) {
+            if (!found.containsKey(key)) {
+                missing.add(key);
+            }
+        }
+        return missing;
+    }
+
+    private static Map<?, ?> toMap(Object result) {
+        if (result instanceof Optional<?> optional) {
+            result = optional.orElse(null);
+        }
+        if (result == null) {
+            return Map.of();
+        }
+        if (result instanceof Map<?, ?> map) {
+            for (Object value : map.values()) {
+                if (value == null) {
+                    // null values can't be cached, and are not returned for cached keys either
+                    Map<Object, Object> nonNullValues = new LinkedHashMap<>(map.size());
+                    map.forEach((k, v) -> {
+                        if (v != null) {
+                            nonNullValues.put(k, v);
+                        }
+                    });
+                    return nonNullValues;
+                }
+            }
+            return map;
+        }
+        throw new CacheSystemException("Methods annotated with @CacheableAll must return a Map, but the result was: " + result.getClass().getName());
+    }
+
+    private static Map<Object, Object> mergeEntries(List<Object> keys, Map<Object, Object> found, Map<?, ?> loaded) {
+        Map<Object, Object> merged = new LinkedHashMap<>(keys.size() + loaded.size());
+        for (Object key : keys) {
+            Object value = found.get(key);
+            if (value == null) {
+                value = loaded.get(key);
+            }
+            if (value != null) {
+                merged.put(key, value);
+            }
+        }
+        if (merged.size() < found.size() + loaded.size()) {
+            // the method may return entries that were not requested
+            loaded.forEach(merged::putIfAbsent);
+        }
+        return merged;
+    }
+
+    /**
+     * Invokes the intercepted method again to reload a cached value in the background.
+     *
+     * @param context The context of the invocation that found the value
+     * @return The new value
+     */
+    private Object reload(MethodInvocationContext<Object, Object> context) {
+        Object result = context.proceed(this);
+        if (result instanceof Optional<?> optional) {
+            return optional.orElse(null);
+        }
+        return result;
+    }
+
+    private Object cacheableValue(CacheOperation cacheOperation, Object value) {
+        if (value == null) {
+            return cacheOperation.negativeTtlMillis < 0 ? null : new NegativeCacheEntry(System.currentTimeMillis() + cacheOperation.negativeTtlMillis);
+        }
+        return cacheOperation.refreshAfterWriteMillis < 0 ? value : toRefreshable(value);
+    }
+
+    /**
+     * Resolves a cached value that may be a {@link NegativeCacheEntry}. An expired marker is a cache miss, while a
+     * marker that has not expired is returned as is.
+     *
+     * @param cached       The cached value
+     * @param requiredType The required type
+     * @return The marker or the converted value
+     */
+    private Optional<?> fromNegative(Object cached, Argument<?> requiredType) {
+        if (cached instanceof NegativeCacheEntry negative) {
+            return negative.isExpired() ? Optional.empty() : Optional.of(negative);
+        }
+        return beanContext.getConversionService().convert(cached, requiredType);
+    }
+
+    private static Object toRefreshable(Object value) {
+        return value == null ? null : new RefreshableValue(value, System.currentTimeMillis());
+    }
+
+    /**
+     * Unwraps a value cached with its write time, and starts reloading it in the background if it is due.
+     *
+     * @param context        The invocation context
+     * @param cacheOperation The cache operation
+     * @param key            The key
+     * @param cached         The cached value
+     * @param requiredType   The required type
+     * @param <T>            The required type
+     * @return The converted value
+     */
+    private <T> Optional<T> fromRefreshable(MethodInvocationContext<Object, Object> context,
+                                            CacheOperation cacheOperation,
+                                            Object key,
+                                            Object cached,
+                                            Argument<T> requiredType) {
+        Object value = cached;
+        if (cached instanceof RefreshableValue refreshable) {
+            value = refreshable.getValue();
+            if (System.currentTimeMillis() - refreshable.getWriteTime() >= cacheOperation.refreshAfterWriteMillis) {
+                refreshAsync(context, cacheOperation, key);
+            }
+        }
+        return beanContext.getConversionService().convert(value, requiredType);
+    }
+
+    private void refreshAsync(MethodInvocationContext<Object, Object> context, CacheOperation cacheOperation, Object key) {
+        CacheBinding caches = cacheOperation.cacheableCaches;
+        InFlightKey inFlightKey = new InFlightKey(caches.cacheNames[0], key);
+        if (!refreshing.add(inFlightKey)) {
+            return;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Refreshing the key [{}] of the cache [{}] for invocation: {}", key, inFlightKey.cacheName(), context);
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    Object result = reload(context);
+                    if (result instanceof Publisher<?> publisher) {
+                        result = Mono.from(publisher).toFuture();
+                    }
+                    if (result instanceof CompletionStage<?> stage) {
+                        AsyncCache<?> asyncCache = caches.async(0);
+                        stage.whenComplete((value, throwable) -> {
+                            if (throwable != null) {
+                                refreshing.remove(inFlightKey);
+                                LOG.warn("Error refreshing the key [{}] of the cache [{}]: {}", key, inFlightKey.cacheName(), throwable.getMessage(), throwable);
+                                return;
+                            }
+                            CompletableFuture<Boolean> write = value == null && cacheOperation.negativeTtlMillis < 0
+                                ? asyncCacheInvalidate(asyncCache, key, asyncCacheErrorHandler)
+                                : asyncCachePut(asyncCache, key, cacheableValue(cacheOperation, value), asyncCacheErrorHandler);
+                            // the key stays in flight until the new value is stored, so that the stale value doesn't trigger another refresh
+                            write.whenComplete((stored, writeError) -> refreshing.remove(inFlightKey));
+                        });
+                    } else {
+                        try {
+                            syncPut(caches, key, cacheableValue(cacheOperation, result));
+                        } finally {
+                            refreshing.remove(inFlightKey);
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    refreshing.remove(inFlightKey);
+                    LOG.warn("Error refreshing the key [{}] of the cache [{}]: {}", key, inFlightKey.cacheName(), e.getMessage(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(inFlightKey);
+            LOG.warn("Refresh of the key [{}] of the cache [{}] was rejected: {}", key, inFlightKey.cacheName(), e.getMessage());
+        }
+    }
+
+    private long resolveNegativeTtlMillis(ExecutableMethod<?, ?> method, String cacheName) {
+        Optional<Duration> negativeTtl = method.stringValue(Cacheable.class, MEMBER_NEGATIVE_TTL)
+            .filter(StringUtils::isNotEmpty)
+            .map(value -> beanContext.getConversionService().convert(value, Duration.class).orElseThrow(() ->
+                new CacheSystemException("Invalid negativeTtl duration [" + value + "] for method: " + method)
+            ));
+        if (negativeTtl.isEmpty()) {
+            negativeTtl = beanContext.findBean(CacheConfiguration.class, Qualifiers.byName(cacheName))
+                .flatMap(CacheConfiguration::getNegativeTtl);
+        }
+        return negativeTtl.map(Duration::toMillis).orElse(-1L);
+    }
+
+    private Mono<Object> coalesce(AsyncCache<?> asyncCache, Object key, Mono<Object> loadingMono) {
+        if (coalescer == null) {
+            return loadingMono;
+        }
+        return Mono.fromFuture(() -> coalescer.coalesce(asyncCache.getName(), key, loadingMono::toFuture));
+    }
+
+    private boolean isCacheableDueToCondition(MethodInvocationContext<?, ?> context, CacheOperation cacheOperation) {
+        if (!cacheOperation.cacheableHasCondition) {
             return true;
         }
         boolean expressionResult = context.booleanValue(Cacheable.class, MEMBER_CONDITION).orElse(false);
@@ -565,8 +1399,7 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
         ExecutableMethod<Object, Object> method = context.getExecutableMethod();
         CacheOperation cacheOperation = cacheOperations.get(method);
         if (cacheOperation == null) {
-            cacheOperation = new CacheOperation(method, isVoid);
-            cacheOperations.put(method, cacheOperation);
+            cacheOperation = cacheOperations.computeIfAbsent(method, m -> new CacheOperation(m, isVoid));
         }
         return cacheOperation;
     }
@@ -574,25 +1407,18 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
     private CompletionStage<?> processFuturePutOperations(MethodInvocationContext<Object, Object> context,
                                                           CacheOperation cacheOperation,
                                                           CompletionStage<?> value) {
-        List<AnnotationValue<CachePut>> putOperations = cacheOperation.getPutOperations(context);
+        List<CachePutOperation> putOperations = cacheOperation.getPutOperations(context);
         if (CollectionUtils.isNotEmpty(putOperations)) {
-            for (AnnotationValue<CachePut> putOperation : putOperations) {
-                String[] cacheNames = cacheOperation.getCachePutNames(putOperation);
-                if (ArrayUtils.isNotEmpty(cacheNames)) {
-                    boolean isAsync = putOperation.isTrue(MEMBER_ASYNC);
-                    if (isAsync) {
+            for (CachePutOperation putOperation : putOperations) {
+                if (ArrayUtils.isNotEmpty(putOperation.cacheNames)) {
+                    if (putOperation.async) {
                         value.whenCompleteAsync((result, throwable) -> {
                             if (throwable == null) {
-                                putAsync(context, cacheOperation, putOperation, cacheNames, result, asyncCacheErrorHandler);
+                                putAsync(context, putOperation, result, asyncCacheErrorHandler);
                             }
                         }, ioExecutor);
                     } else {
-                        return value.thenCompose(result -> putAsync(context,
-                                                                    cacheOperation,
-                                                                    putOperation,
-                                                                    cacheNames,
-                                                                    result,
-                                                                    errorHandler));
+                        return value.thenCompose(result -> putAsync(context, putOperation, result, errorHandler));
                     }
                 }
             }
@@ -603,24 +1429,18 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
     private CompletionStage<?> processFutureInvalidateOperations(MethodInvocationContext<Object, Object> context,
                                                                  CacheOperation cacheOperation,
                                                                  CompletionStage<?> value) {
-        List<AnnotationValue<CacheInvalidate>> invalidateOperations = cacheOperation.getInvalidateOperations(context);
+        List<CacheInvalidateOperation> invalidateOperations = cacheOperation.getInvalidateOperations(context);
         if (CollectionUtils.isNotEmpty(invalidateOperations)) {
-            for (AnnotationValue<CacheInvalidate> invalidateOperation : invalidateOperations) {
-                String[] cacheNames = cacheOperation.getCacheInvalidateNames(invalidateOperation);
-                if (ArrayUtils.isNotEmpty(cacheNames)) {
-                    boolean isAsync = invalidateOperation.isTrue(MEMBER_ASYNC);
-                    if (isAsync) {
+            for (CacheInvalidateOperation invalidateOperation : invalidateOperations) {
+                if (ArrayUtils.isNotEmpty(invalidateOperation.cacheNames)) {
+                    if (invalidateOperation.async) {
                         value.whenCompleteAsync((result, throwable) -> {
                             if (throwable == null) {
-                                invalidateAsync(context, cacheOperation, invalidateOperation, cacheNames, asyncCacheErrorHandler);
+                                invalidateAsync(context, invalidateOperation, asyncCacheErrorHandler);
                             }
                         }, ioExecutor);
                     } else {
-                        return value.thenCompose(result -> invalidateAsync(context,
-                                                                           cacheOperation,
-                                                                           invalidateOperation,
-                                                                           cacheNames,
-                                                                           errorHandler)
+                        return value.thenCompose(result -> invalidateAsync(context, invalidateOperation, errorHandler)
                                 .thenApply(ignore -> result));
                     }
                 }
@@ -630,47 +1450,43 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
     }
 
     private CompletableFuture<Object> putAsync(MethodInvocationContext context,
-                                               CacheOperation cacheOperation,
-                                               AnnotationValue<CachePut> putOperation,
-                                               String[] cacheNames,
+                                               CachePutOperation putOperation,
                                                Object value,
                                                CacheErrorHandler errorHandler) {
-        Object key = getOperationKey(context, putOperation, cacheOperation.getCachePutKeyGenerator(putOperation));
+        Object key = putOperation.generateKey(context);
+        if (putOperation.async && writeBehind != null) {
+            return buildWriteBehindFutures(putOperation.caches, key, value, errorHandler).thenApply(ignore -> value);
+        }
         if (value == null) {
-            return buildInvalidateFutures(cacheNames, key, errorHandler).thenApply(ignore -> null);
+            return buildInvalidateFutures(putOperation.caches, key, errorHandler).thenApply(ignore -> null);
         }
-        return buildPutFutures(cacheNames, key, value, errorHandler).thenApply(ignore -> value);
+        return buildPutFutures(putOperation.caches, key, value, errorHandler).thenApply(ignore -> value);
     }
 
     private CompletableFuture<Boolean> invalidateAsync(MethodInvocationContext context,
-                                                       CacheOperation cacheOperation,
-                                                       AnnotationValue<CacheInvalidate> invalidateOperation,
-                                                       String[] cacheNames,
+                                                       CacheInvalidateOperation invalidateOperation,
                                                        CacheErrorHandler errorHandler) {
-        boolean invalidateAll = invalidateOperation.isTrue(MEMBER_ALL);
-        if (invalidateAll) {
-            return buildInvalidateAllFutures(cacheNames, errorHandler);
+        if (invalidateOperation.all) {
+            if (invalidateOperation.async && writeBehind != null) {
+                for (int i = 0; i < invalidateOperation.caches.size(); i++) {
+                    writeBehind.discard(invalidateOperation.caches.async(i));
+                }
+            }
+            return buildInvalidateAllFutures(invalidateOperation.caches, errorHandler);
         } else {
-            CacheKeyGenerator keyGenerator = cacheOperation.getCacheInvalidateKeyGenerator(invalidateOperation);
-            Object key = getOperationKey(context, invalidateOperation, keyGenerator);
-            return buildInvalidateFutures(cacheNames, key, errorHandler);
+            Object key = invalidateOperation.generateKey(context);
+            if (invalidateOperation.async && writeBehind != null) {
+                return buildWriteBehindFutures(invalidateOperation.caches, key, null, errorHandler);
+            }
+            return buildInvalidateFutures(invalidateOperation.caches, key, errorHandler);
         }
     }
 
     private Object getCacheableKey(MethodInvocationContext context, CacheOperation cacheOperation) {
-        CacheKeyGenerator keyGenerator = resolveKeyGenerator(cacheOperation.defaultKeyGenerator,
-                                                             context.classValue(Cacheable.class, MEMBER_KEY_GENERATOR)
-                                                                     .orElse(null));
-        Object[] parameterValues = resolveParams(context, context.stringValues(Cacheable.class, MEMBER_PARAMETERS));
-        return keyGenerator.generateKey(context, parameterValues);
-    }
-
-    private Object getOperationKey(MethodInvocationContext context,
-                                   AnnotationValueResolver annotationValueResolver,
-                                   CacheKeyGenerator keyGenerator) {
-        String[] parameterNames = annotationValueResolver.stringValues(MEMBER_PARAMETERS);
-        Object[] parameterValues = resolveParams(context, parameterNames);
-        return keyGenerator.generateKey(context, parameterValues);
+        return cacheOperation.cacheableKeyGenerator.generateKey(
+                context,
+                resolveParams(context.getParameterValues(), cacheOperation.cacheableParameterIndexes)
+        );
     }
 
     /**
@@ -692,34 +1508,64 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
         });
     }
 
-    private CompletableFuture<Boolean> buildPutFutures(String[] cacheNames,
+    private CompletableFuture<Boolean> buildPutFutures(CacheBinding caches,
                                                        Object key,
                                                        Object value,
                                                        CacheErrorHandler errorHandler) {
-        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
-        for (String cacheName : cacheNames) {
-            AsyncCache<?> asyncCache = cacheManager.getCache(cacheName).async();
-            futures.add(asyncCachePut(asyncCache, key, value, errorHandler));
+        CompletableFuture<?>[] futures = new CompletableFuture[caches.size()];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = asyncCachePut(caches.async(i), key, value, errorHandler);
         }
-        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).thenApply(ignore -> true);
+        return CompletableFuture.allOf(futures).thenApply(ignore -> true);
     }
 
-    private CompletableFuture<Boolean> buildInvalidateFutures(String[] cacheNames, Object key, CacheErrorHandler errorHandler) {
-        List<CompletableFuture<Boolean>> futures = new ArrayList<>(cacheNames.length);
-        for (String cacheName : cacheNames) {
-            AsyncCache<?> asyncCache = cacheManager.getCache(cacheName).async();
-            futures.add(asyncCacheInvalidate(asyncCache, key, errorHandler));
+    private CompletableFuture<Boolean> buildInvalidateFutures(CacheBinding caches, Object key, CacheErrorHandler errorHandler) {
+        CompletableFuture<?>[] futures = new CompletableFuture[caches.size()];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = asyncCacheInvalidate(caches.async(i), key, errorHandler);
+        }
+        return CompletableFuture.allOf(futures).thenApply(ignore -> true);
+    }
+
+    /**
+     * Queues a write in the write-behind queues of the caches that batch their writes, and writes it directly to the
+     * other caches.
+     *
+     * @param caches       The caches
+     * @param key          The key
+     * @param value        The value, or null to invalidate the key
+     * @param errorHandler The error handler of the direct writes
+     * @return A future completed once the write is queued or written
+     */
+    private CompletableFuture<Boolean> buildWriteBehindFutures(CacheBinding caches,
+                                                               Object key,
+                                                               Object value,
+                                                               CacheErrorHandler errorHandler) {
+        CompletableFuture<?>[] futures = new CompletableFuture[caches.size()];
+        for (int i = 0; i < futures.length; i++) {
+            AsyncCache<?> asyncCache = caches.async(i);
+            if (writeBehind.handles(asyncCache.getName())) {
+                try {
+                    writeBehind.put(asyncCache, key, value);
+                    futures[i] = CompletableFuture.completedFuture(true);
+                } catch (RuntimeException e) {
+                    futures[i] = CompletableFuture.failedFuture(e);
+                }
+            } else if (value == null) {
+                futures[i] = asyncCacheInvalidate(asyncCache, key, errorHandler);
+            } else {
+                futures[i] = asyncCachePut(asyncCache, key, value, errorHandler);
+            }
         }
-        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).thenApply(ignore -> true);
+        return CompletableFuture.allOf(futures).thenApply(ignore -> true);
     }
 
-    private CompletableFuture<Boolean> buildInvalidateAllFutures(String[] cacheNames, CacheErrorHandler errorHandler) {
-        List<CompletableFuture<Boolean>> futures = new ArrayList<>(cacheNames.length);
-        for (String cacheName : cacheNames) {
-            AsyncCache<?> asyncCache = cacheManager.getCache(cacheName).async();
-            futures.add(asyncCacheInvalidateAll(asyncCache, errorHandler));
+    private CompletableFuture<Boolean> buildInvalidateAllFutures(CacheBinding caches, CacheErrorHandler errorHandler) {
+        CompletableFuture<?>[] futures = new CompletableFuture[caches.size()];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = asyncCacheInvalidateAll(caches.async(i), errorHandler);
         }
-        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).thenApply(ignore -> true);
+        return CompletableFuture.allOf(futures).thenApply(ignore -> true);
     }
 
     private CacheKeyGenerator resolveKeyGenerator(CacheKeyGenerator defaultKeyGenerator, Class type) {
@@ -768,36 +1614,53 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
 
     private void processCachePut(MethodInvocationContext<?, ?> context,
                                  ValueWrapper wrapper,
-                                 AnnotationValue<CachePut> cacheConfig,
-                                 CacheOperation cacheOperation) {
-        String[] cacheNames = cacheOperation.getCachePutNames(cacheConfig);
-        if (!ArrayUtils.isEmpty(cacheNames)) {
-            boolean isAsync = cacheConfig.isTrue(MEMBER_ASYNC);
+                                 CachePutOperation cachePut) {
+        if (!ArrayUtils.isEmpty(cachePut.cacheNames)) {
             Object value = wrapper.value;
-            if (isAsync) {
+            if (cachePut.async && writeBehind != null) {
+                buildWriteBehindFutures(cachePut.caches, cachePut.generateKey(context), value, asyncCacheErrorHandler);
+            } else if (cachePut.async) {
                 ioExecutor.submit(() -> {
-                    CacheKeyGenerator keyGenerator = cacheOperation.getCachePutKeyGenerator(cacheConfig);
-                    Object key = getOperationKey(context, cacheConfig, keyGenerator);
+                    Object key = cachePut.generateKey(context);
                     if (value == null) {
-                        buildInvalidateFutures(cacheNames, key, asyncCacheErrorHandler);
+                        buildInvalidateFutures(cachePut.caches, key, asyncCacheErrorHandler);
                     } else {
-                        buildPutFutures(cacheNames, key, value, asyncCacheErrorHandler);
+                        buildPutFutures(cachePut.caches, key, value, asyncCacheErrorHandler);
                     }
                 });
             } else {
-                CacheKeyGenerator keyGenerator = cacheOperation.getCachePutKeyGenerator(cacheConfig);
-                Object key = getOperationKey(context, cacheConfig, keyGenerator);
-                syncPut(cacheNames, key, value);
+                Object key = cachePut.generateKey(context);
+                syncPut(cachePut.caches, key, value);
             }
         }
     }
 
-    private void syncPut(String[] cacheNames, Object key, Object value) {
-        for (String cacheName : cacheNames) {
-            SyncCache syncCache = cacheManager.getCache(cacheName);
+    private void syncPut(CacheBinding caches, Object key, Object value) {
+        syncPut(caches, key, value, null, null);
+    }
+
+    /**
+     * Puts a value in the given caches. The caches that natively refresh entries after write are given the reloader
+     * of the cacheable operation, if any, which is only resolved when such a cache is bound.
+     *
+     * @param caches         The caches
+     * @param key            The key
+     * @param value          The value
+     * @param cacheOperation The cacheable operation that loaded the value, or null
+     * @param context        The invocation context that loaded the value, or null
+     */
+    private void syncPut(CacheBinding caches,
+                         Object key,
+                         Object value,
+                         @Nullable CacheOperation cacheOperation,
+                         @Nullable MethodInvocationContext<Object, Object> context) {
+        for (int i = 0; i < caches.size(); i++) {
+            SyncCache syncCache = caches.sync(i);
             try {
                 if (value == null) {
                     syncCache.invalidate(key);
+                } else if (cacheOperation != null && syncCache.isRefreshedAfterWrite()) {
+                    syncCache.put(key, value, cacheOperation.reloader(context));
                 } else {
                     syncCache.put(key, value);
                 }
@@ -810,31 +1673,25 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
     }
 
     private void processCacheEvict(MethodInvocationContext context,
-                                   CacheOperation cacheOperation,
-                                   AnnotationValue<CacheInvalidate> cacheInvalidate) {
-        String[] cacheNames = cacheOperation.getCacheInvalidateNames(cacheInvalidate);
-        if (!ArrayUtils.isEmpty(cacheNames)) {
-            boolean isAsync = cacheInvalidate.isTrue(MEMBER_ASYNC);
-            if (isAsync) {
-                ioExecutor.submit(() -> invalidateAsync(context,
-                                                        cacheOperation,
-                                                        cacheInvalidate,
-                                                        cacheNames,
-                                                        asyncCacheErrorHandler));
+                                   CacheInvalidateOperation cacheInvalidate) {
+        if (!ArrayUtils.isEmpty(cacheInvalidate.cacheNames)) {
+            if (cacheInvalidate.async && writeBehind != null) {
+                invalidateAsync(context, cacheInvalidate, asyncCacheErrorHandler);
+            } else if (cacheInvalidate.async) {
+                ioExecutor.submit(() -> invalidateAsync(context, cacheInvalidate, asyncCacheErrorHandler));
             } else {
-                invalidateSync(context, cacheOperation, cacheInvalidate, cacheNames);
+                invalidateSync(context, cacheInvalidate);
             }
         }
     }
 
     private void invalidateSync(MethodInvocationContext context,
-                                CacheOperation cacheOperation,
-                                AnnotationValue<CacheInvalidate> cacheConfig,
-                                String[] cacheNames) {
-        boolean invalidateAll = cacheConfig.isTrue(MEMBER_ALL);
-        for (String cacheName : cacheNames) {
-            SyncCache syncCache = cacheManager.getCache(cacheName);
-            if (invalidateAll) {
+                                CacheInvalidateOperation cacheInvalidate) {
+        CacheBinding caches = cacheInvalidate.caches;
+        Object key = cacheInvalidate.all ? null : cacheInvalidate.generateKey(context);
+        for (int i = 0; i < caches.size(); i++) {
+            SyncCache syncCache = caches.sync(i);
+            if (cacheInvalidate.all) {
                 try {
                     if (LOG.isTraceEnabled()) {
                         LOG.trace("Invalidating all the entries of the cache [{}]", syncCache.getName());
@@ -846,8 +1703,6 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
                     }
                 }
             } else {
-                CacheKeyGenerator keyGenerator = cacheOperation.getCacheInvalidateKeyGenerator(cacheConfig);
-                Object key = getOperationKey(context, cacheConfig, keyGenerator);
                 try {
                     if (LOG.isTraceEnabled()) {
                         LOG.trace("Invalidating the key [{}] of the cache [{}]", key, syncCache.getName());
@@ -878,6 +1733,36 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
                                                           null));
     }
 
+    private CompletableFuture<Map<Object, Object>> asyncCacheGetAll(AsyncCache<?> asyncCache,
+                                                                    List<Object> keys,
+                                                                    Argument<?> valueType) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Getting the values for the keys {} of the cache [{}]", keys, asyncCache.getName());
+        }
+        return asyncCache.getAll(keys, valueType)
+                .<Map<Object, Object>>thenApply(values -> new HashMap<>(values))
+                .exceptionally(throwable ->
+                                       exceptionallyAsync(throwable,
+                                                          () -> errorHandler.handleLoadError(asyncCache,
+                                                                                             keys,
+                                                                                             asRuntimeException(throwable)),
+                                                          Map.of()));
+    }
+
+    private CompletableFuture<Boolean> asyncCachePutAll(AsyncCache<?> asyncCache, Map<?, ?> values) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Storing in the cache [{}] the values for the keys {}", asyncCache.getName(), values.keySet());
+        }
+        return asyncCache.putAll(values)
+                .exceptionally(throwable ->
+                                       exceptionallyAsync(throwable,
+                                                          () -> errorHandler.handlePutError(asyncCache,
+                                                                                            values.keySet(),
+                                                                                            values,
+                                                                                            asRuntimeException(throwable)),
+                                                          false));
+    }
+
     private CompletableFuture<Boolean> asyncCachePut(AsyncCache<?> asyncCache,
                                                      Object key,
                                                      Object value,
@@ -948,63 +1833,143 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
         }
     }
 
-    private Object[] resolveParams(MethodInvocationContext<?, ?> context, String[] parameterNames) {
-        Object[] parameterValues;
-        Object[] methodParameterValues = context.getParameterValues();
-        if (ArrayUtils.isEmpty(parameterNames)) {
-            parameterValues = methodParameterValues;
-        } else {
-            List<Object> list = new ArrayList<>();
-            Set<String> names = CollectionUtils.setOf(parameterNames);
-            Argument<?>[] arguments = context.getArguments();
-            for (int i = 0; i < arguments.length; i++) {
-                Argument<?> argument = arguments[i];
-                if (names.contains(argument.getName())) {
-                    list.add(methodParameterValues[i]);
-                }
-            }
-            parameterValues = list.toArray();
+    private static Object[] resolveParams(Object[] methodParameterValues, int[] parameterIndexes) {
+        if (parameterIndexes == null) {
+            return methodParameterValues;
+        }
+        Object[] parameterValues = new Object[parameterIndexes.length];
+        for (int i = 0; i < parameterIndexes.length; i++) {
+            parameterValues[i] = methodParameterValues[parameterIndexes[i]];
         }
         return parameterValues;
     }
 
     /**
+     * Resolves the indexes of the named parameters once so that keys can be built without matching names on each
+     * invocation.
      *
+     * @param method         The method
+     * @param parameterNames The parameter names, if any
+     * @return The indexes or {@code null} if all the parameters should be used
+     */
+    private static int[] resolveParameterIndexes(ExecutableMethod<?, ?> method, String[] parameterNames) {
+        if (ArrayUtils.isEmpty(parameterNames)) {
+            return null;
+        }
+        Set<String> names = CollectionUtils.setOf(parameterNames);
+        Argument<?>[] arguments = method.getArguments();
+        int[] indexes = new int[arguments.length];
+        int count = 0;
+        for (int i = 0; i < arguments.length; i++) {
+            if (names.contains(arguments[i].getName())) {
+                indexes[count++] = i;
+            }
+        }
+        if (count < names.size() && LOG.isWarnEnabled()) {
+            LOG.warn("Some of the parameters {} of the cache annotations of the method {} are not parameters of the method, they are left out of the cache key",
+                names, method);
+        }
+        return Arrays.copyOf(indexes, count);
+    }
+
+    /**
+     * The invocation plan of a cached method. Everything that can be derived from the annotation metadata is resolved
+     * once so that cache hits don't need to query the metadata again.
      */
     private class CacheOperation {
+        final ExecutableMethod<?, ?> method;
         final CacheKeyGenerator defaultKeyGenerator;
         final String[] defaultCacheNames;
         final boolean cacheable;
         String cacheableCacheName;
-
-        boolean putHasCondition; // if any of the put operations has a condition, then we need to filter
-        List<AnnotationValue<CachePut>> putOperations;
-
-        boolean invalidateHasCondition;
-        List<AnnotationValue<CacheInvalidate>> invalidateOperations;
+        final boolean atomic;
+        final long refreshAfterWriteMillis;
+        final long negativeTtlMillis;
+        final CacheInterceptorMetrics.MethodMetrics metrics;
+        final boolean cacheableHasCondition;
+        final CacheKeyGenerator cacheableKeyGenerator;
+        final int[] cacheableParameterIndexes;
+        final CacheBinding cacheableCaches;
+        final CacheableAllOperation cacheableAll;
+        /**
+         * Whether the arguments of an invocation can be rebuilt from its cache key, so that a single reloader can
+         * reload all the keys of the method.
+         */
+        final boolean reloadsFromKey;
+        private volatile KeyReloader keyReloader;
+
+        final boolean putHasCondition; // if any of the put operations has a condition, then we need to filter
+        final List<CachePutOperation> putOperations;
+
+        final boolean invalidateHasCondition;
+        final List<CacheInvalidateOperation> invalidateOperations;
 
         CacheOperation(ExecutableMethod<?, ?> method, boolean isVoid) {
+            this.method = method;
             this.defaultKeyGenerator = resolveKeyGenerator(
                     method.classValue(CacheConfig.class, MEMBER_KEY_GENERATOR).orElse(getDefaultKeyGenerator(method))
             );
-            this.putOperations = isVoid ? null : putOperations(method);
-            this.putHasCondition = this.putOperations != null && hasConditional(putOperations);
+            this.defaultCacheNames = method.stringValues(CacheConfig.class, MEMBER_CACHE_NAMES);
 
-            this.invalidateOperations = invalidateOperations(method);
-            this.invalidateHasCondition = hasConditional(invalidateOperations); // if any of the invalidate operations has a condition, then we need to filter
+            List<AnnotationValue<CachePut>> putValues = isVoid ? null : putOperations(method);
+            this.putHasCondition = putValues != null && hasConditional(putValues);
+            this.putOperations = putValues == null ? null : toOperations(putValues, CachePutOperation::new);
 
-            this.defaultCacheNames = method.stringValues(CacheConfig.class, MEMBER_CACHE_NAMES);
-            this.cacheable = method.hasStereotype(Cacheable.class);
-            if (!isVoid && cacheable) {
-                String[] names = resolveCacheNames(defaultCacheNames, method.stringValues(Cacheable.class, MEMBER_CACHE_NAMES));
-                if (ArrayUtils.isNotEmpty(names)) {
-                    this.cacheableCacheName = names[0];
+            List<AnnotationValue<CacheInvalidate>> invalidateValues = invalidateOperations(method);
+            this.invalidateHasCondition = hasConditional(invalidateValues); // if any of the invalidate operations has a condition, then we need to filter
+            this.invalidateOperations = invalidateValues == null ? null : toOperations(invalidateValues, CacheInvalidateOperation::new);
+
+            String[] cacheableCacheNames = resolveCacheNames(defaultCacheNames, method.stringValues(Cacheable.class, MEMBER_CACHE_NAMES));
+            boolean hasCacheable = method.hasStereotype(Cacheable.class);
+            if (!isVoid && hasCacheable) {
+                if (ArrayUtils.isNotEmpty(cacheableCacheNames)) {
+                    this.cacheableCacheName = cacheableCacheNames[0];
                 } else {
                     if (LOG.isWarnEnabled()) {
                         LOG.warn("No cache names defined for invocation [{}]. Skipping cache read operations.", method);
                     }
                 }
             }
+            this.cacheable = hasCacheable && ArrayUtils.isNotEmpty(cacheableCacheNames);
+            this.atomic = method.isTrue(Cacheable.class, MEMBER_ATOMIC);
+            this.refreshAfterWriteMillis = method.stringValue(Cacheable.class, MEMBER_REFRESH_AFTER_WRITE)
+                .filter(StringUtils::isNotEmpty)
+                .map(value -> beanContext.getConversionService().convert(value, Duration.class).orElseThrow(() ->
+                    new CacheSystemException("Invalid refreshAfterWrite duration [" + value + "] for method: " + method)
+                ).toMillis())
+                .orElse(-1L);
+            this.negativeTtlMillis = cacheable ? resolveNegativeTtlMillis(method, cacheableCacheNames[0]) : -1L;
+            this.metrics = cacheable && interceptorMetrics != null ? interceptorMetrics.forMethod(method, cacheableCacheNames[0]) : null;
+            this.cacheableHasCondition = method.isPresent(Cacheable.class, MEMBER_CONDITION);
+            this.cacheableKeyGenerator = resolveKeyGenerator(defaultKeyGenerator,
+                                                             method.classValue(Cacheable.class, MEMBER_KEY_GENERATOR).orElse(null));
+            this.cacheableParameterIndexes = resolveParameterIndexes(method, method.stringValues(Cacheable.class, MEMBER_PARAMETERS));
+            this.cacheableCaches = new CacheBinding(cacheableCacheNames);
+            this.cacheableAll = !isVoid && method.hasAnnotation(CacheableAll.class) ? new CacheableAllOperation(this) : null;
+            this.reloadsFromKey = cacheable && !atomic && cacheableAll == null
+                && cacheableKeyGenerator.getClass() == DefaultCacheKeyGenerator.class
+                && cacheableParameterIndexes == null;
+        }
+
+        /**
+         * Resolves the function that reloads the value of a key of a cache that natively refreshes entries after
+         * write. When the arguments can be rebuilt from the key, the reloader is shared by all the keys of the method
+         * and the target, otherwise it invokes the given context again.
+         *
+         * @param context The invocation context that loaded the value
+         * @return The reloader
+         */
+        Function<Object, ?> reloader(MethodInvocationContext<Object, Object> context) {
+            if (!reloadsFromKey) {
+                return key -> reload(context);
+            }
+            Object target = context.getTarget();
+            KeyReloader reloader = keyReloader;
+            if (reloader == null || reloader.target != target) {
+                reloader = new KeyReloader(method, target);
+                keyReloader = reloader;
+            }
+            return reloader;
         }
 
         private <T extends Annotation> boolean hasConditional(@NonNull List<AnnotationValue<T>> annotationValues) {
@@ -1014,6 +1979,15 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
             return annotationValues.stream().anyMatch(av -> av.isPresent(MEMBER_CONDITION));
         }
 
+        private <T extends Annotation, O> List<O> toOperations(List<AnnotationValue<T>> annotationValues,
+                                                               BiFunction<CacheOperation, AnnotationValue<T>, O> factory) {
+            List<O> operations = new ArrayList<>(annotationValues.size());
+            for (AnnotationValue<T> annotationValue : annotationValues) {
+                operations.add(factory.apply(this, annotationValue));
+            }
+            return operations;
+        }
+
         private Class<? extends CacheKeyGenerator> getDefaultKeyGenerator(ExecutableMethod<?, ?> method) {
             if (method.isSuspend()) {
                 return KotlinSuspendFunCacheKeyGenerator.class;
@@ -1022,34 +1996,34 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
             }
         }
 
-        List<AnnotationValue<CachePut>> getPutOperations(MethodInvocationContext<?, ?> context) {
+        List<CachePutOperation> getPutOperations(MethodInvocationContext<?, ?> context) {
             return this.putHasCondition ? filter(putOperations, context, CachePut.class) : putOperations;
         }
 
-        List<AnnotationValue<CacheInvalidate>> getInvalidateOperations(MethodInvocationContext<?, ?> context) {
+        List<CacheInvalidateOperation> getInvalidateOperations(MethodInvocationContext<?, ?> context) {
             return this.invalidateHasCondition ? filter(invalidateOperations, context, CacheInvalidate.class) : invalidateOperations;
         }
 
-        private <T extends Annotation, U extends AnnotationValue<T>> List<U> filter(
-            List<U> executableMethodAnnotations,
+        private <T extends Annotation, U extends AnnotatedCacheOperation<T>> List<U> filter(
+            List<U> operations,
             MethodInvocationContext<?, ?> context,
             Class<T> annotationClass
         ) {
-            if (CollectionUtils.isEmpty(executableMethodAnnotations)) {
-                return executableMethodAnnotations;
+            if (CollectionUtils.isEmpty(operations)) {
+                return operations;
             }
             if (LOG.isDebugEnabled()) {
-                LOG.debug("Filtering {} by expressions", executableMethodAnnotations);
+                LOG.debug("Filtering {} by expressions", operations);
             }
             // For each annotation on this method, we need to find the same annotation in the invocation context.
             // And then execute the condition in that annotation. If the condition is true, then we keep the annotation.
-            List<U> filtered = new ArrayList<>(executableMethodAnnotations.size());
-            for (U executableMethodAnnotation: executableMethodAnnotations) {
+            List<U> filtered = new ArrayList<>(operations.size());
+            for (U operation: operations) {
                 for (AnnotationValue<T> value: context.getAnnotationValuesByType(annotationClass)) {
-                    if (value.equals(executableMethodAnnotation)) {
+                    if (value.equals(operation.annotationValue)) {
                         // if the matching annotation has no condition, or the condition is true, then we keep it
                         if (!value.isPresent(MEMBER_CONDITION) || value.booleanValue(MEMBER_CONDITION).orElse(false)) {
-                            filtered.add(executableMethodAnnotation);
+                            filtered.add(operation);
                         }
                         break;
                     }
@@ -1062,32 +2036,6 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
             return CollectionUtils.isNotEmpty(putOperations) || CollectionUtils.isNotEmpty(invalidateOperations);
         }
 
-        String[] getCachePutNames(AnnotationValue<CachePut> cacheConfig) {
-            return getCacheNames(cacheConfig.stringValues(MEMBER_CACHE_NAMES));
-        }
-
-        String[] getCacheInvalidateNames(AnnotationValue<CacheInvalidate> cacheConfig) {
-            return getCacheNames(cacheConfig.stringValues(MEMBER_CACHE_NAMES));
-        }
-
-        CacheKeyGenerator getCacheInvalidateKeyGenerator(AnnotationValue<CacheInvalidate> cacheConfig) {
-            return cacheConfig.get(MEMBER_KEY_GENERATOR, CacheKeyGenerator.class).orElseGet(() ->
-                                                                                                    getKeyGenerator(cacheConfig
-                                                                                                                            .classValue(
-                                                                                                                                    MEMBER_KEY_GENERATOR)
-                                                                                                                            .orElse(null))
-            );
-        }
-
-        CacheKeyGenerator getCachePutKeyGenerator(AnnotationValue<CachePut> cacheConfig) {
-            return cacheConfig.get(MEMBER_KEY_GENERATOR, CacheKeyGenerator.class).orElseGet(() ->
-                                                                                                    getKeyGenerator(cacheConfig
-                                                                                                                            .classValue(
-                                                                                                                                    MEMBER_KEY_GENERATOR)
-                                                                                                                            .orElse(null))
-            );
-        }
-
         private String[] getCacheNames(String[] cacheNames) {
             if (ArrayUtils.isEmpty(cacheNames)) {
                 return defaultCacheNames;
@@ -1096,7 +2044,12 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
             }
         }
 
-        private CacheKeyGenerator getKeyGenerator(Class<?> alternateKeyGen) {
+        private CacheKeyGenerator getKeyGenerator(AnnotationValue<?> cacheConfig) {
+            Optional<CacheKeyGenerator> instance = cacheConfig.get(MEMBER_KEY_GENERATOR, CacheKeyGenerator.class);
+            if (instance.isPresent()) {
+                return instance.get();
+            }
+            Class<?> alternateKeyGen = cacheConfig.classValue(MEMBER_KEY_GENERATOR).orElse(null);
             CacheKeyGenerator keyGenerator = defaultKeyGenerator;
             if (alternateKeyGen != null && defaultKeyGenerator.getClass() != alternateKeyGen && CacheKeyGenerator.class
                 .isAssignableFrom(alternateKeyGen)) {
@@ -1107,11 +2060,280 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
         }
     }
 
+    /**
+     * A {@link CachePut} or {@link CacheInvalidate} operation resolved from its annotation.
+     *
+     * @param <T> The annotation type
+     */
+    private class AnnotatedCacheOperation<T extends Annotation> {
+        final AnnotationValue<T> annotationValue;
+        final String[] cacheNames;
+        final CacheBinding caches;
+        final CacheKeyGenerator keyGenerator;
+        final int[] parameterIndexes;
+        final boolean async;
+
+        AnnotatedCacheOperation(CacheOperation cacheOperation, AnnotationValue<T> annotationValue) {
+            ExecutableMethod<?, ?> method = cacheOperation.method;
+            this.annotationValue = annotationValue;
+            this.cacheNames = cacheOperation.getCacheNames(annotationValue.stringValues(MEMBER_CACHE_NAMES));
+            this.caches = new CacheBinding(cacheNames);
+            this.keyGenerator = cacheOperation.getKeyGenerator(annotationValue);
+            this.parameterIndexes = resolveParameterIndexes(method, annotationValue.stringValues(MEMBER_PARAMETERS));
+            this.async = annotationValue.isTrue(MEMBER_ASYNC);
+        }
+
+        Object generateKey(MethodInvocationContext<?, ?> context) {
+            return keyGenerator.generateKey(context, resolveParams(context.getParameterValues(), parameterIndexes));
+        }
+
+        @Override
+        public String toString() {
+            return annotationValue.toString();
+        }
+    }
+
+    /**
+     * A resolved {@link CachePut} operation.
+     */
+    private final class CachePutOperation extends AnnotatedCacheOperation<CachePut> {
+        CachePutOperation(CacheOperation cacheOperation, AnnotationValue<CachePut> annotationValue) {
+            super(cacheOperation, annotationValue);
+        }
+    }
+
+    /**
+     * A resolved {@link CacheInvalidate} operation.
+     */
+    private final class CacheInvalidateOperation extends AnnotatedCacheOperation<CacheInvalidate> {
+        final boolean all;
+
+        CacheInvalidateOperation(CacheOperation cacheOperation, AnnotationValue<CacheInvalidate> annotationValue) {
+            super(cacheOperation, annotationValue);
+            this.all = annotationValue.isTrue(MEMBER_ALL);
+        }
+    }
+
+    /**
+     * A resolved {@link CacheableAll} operation.
+     */
+    private final class CacheableAllOperation {
+        final CacheBinding caches;
+        final boolean hasCondition;
+        final int parameterIndex;
+        final Argument<?> parameter;
+        final CacheInterceptorMetrics.MethodMetrics metrics;
+
+        CacheableAllOperation(CacheOperation cacheOperation) {
+            ExecutableMethod<?, ?> method = cacheOperation.method;
+            String[] cacheNames = cacheOperation.getCacheNames(method.stringValues(CacheableAll.class, MEMBER_CACHE_NAMES));
+            if (ArrayUtils.isEmpty(cacheNames)) {
+                throw new CacheSystemException("No cache names defined for @CacheableAll method: " + method);
+            }
+            this.caches = new CacheBinding(cacheNames);
+            this.hasCondition = method.isPresent(CacheableAll.class, MEMBER_CONDITION);
+            String parameterName = method.stringValue(CacheableAll.class, MEMBER_PARAMETER).orElse(null);
+            Argument<?>[] arguments = method.getArguments();
+            int index = -1;
+            for (int i = 0; i < arguments.length; i++) {
+                Argument<?> argument = arguments[i];
+                if (parameterName == null ? Collection.class.isAssignableFrom(argument.getType()) : argument.getName().equals(parameterName)) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0 || !Collection.class.isAssignableFrom(arguments[index].getType())) {
+                throw new CacheSystemException("@CacheableAll method must declare a Collection parameter for the keys: " + method);
+            }
+            this.parameterIndex = index;
+            this.parameter = arguments[index];
+            this.metrics = interceptorMetrics != null ? interceptorMetrics.forMethod(method, cacheNames[0]) : null;
+        }
+
+        boolean isCacheable(MethodInvocationContext<?, ?> context) {
+            if (!hasCondition) {
+                return true;
+            }
+            boolean expressionResult = context.booleanValue(CacheableAll.class, MEMBER_CONDITION).orElse(false);
+            if (!expressionResult && LOG.isDebugEnabled()) {
+                LOG.debug("CacheableAll condition evaluated to false for invocation: {}", context);
+            }
+            return expressionResult;
+        }
+
+        /**
+         * @param context The invocation context
+         * @return The distinct keys of the invocation, or null if they can't be cached
+         */
+        List<Object> keys(MethodInvocationContext<?, ?> context) {
+            Collection<?> collection = (Collection<?>) context.getParameterValues()[parameterIndex];
+            if (collection == null) {
+                return null;
+            }
+            Set<Object> keys = new LinkedHashSet<>(collection.size());
+            for (Object key : collection) {
+                if (key == null) {
+                    return null;
+                }
+                keys.add(key);
+            }
+            return new ArrayList<>(keys);
+        }
+
+        /**
+         * Invokes the method with the given keys instead of the requested ones.
+         *
+         * @param context The invocation context
+         * @param keys    The keys to load
+         * @param proceed Invokes the method
+         * @param <R>     The result type
+         * @return The result
+         */
+        @SuppressWarnings("unchecked")
+        <R> R proceedWith(MethodInvocationContext<?, ?> context, List<Object> keys, Supplier<R> proceed) {
+            MutableArgumentValue<Object> argument = (MutableArgumentValue<Object>) context.getParameters().get(parameter.getName());
+            Object requested = argument.getValue();
+            argument.setValue(toParameterValue(keys));
+            try {
+                return proceed.get();
+            } finally {
+                argument.setValue(requested);
+            }
+        }
+
+        private Object toParameterValue(List<Object> keys) {
+            Class<?> type = parameter.getType();
+            if (type.isAssignableFrom(ArrayList.class)) {
+                return keys;
+            } else if (type.isAssignableFrom(LinkedHashSet.class)) {
+                return new LinkedHashSet<>(keys);
+            }
+            return beanContext.getConversionService().convert(keys, parameter).orElseThrow(() ->
+                new CacheSystemException("Cannot convert the missing keys to the parameter type " + type.getName())
+            );
+        }
+    }
+
+    /**
+     * The caches for a set of cache names. Each cache is looked up on first use and then kept, so that the cache
+     * manager is not queried on each invocation.
+     */
+    private final class CacheBinding {
+        private final String[] cacheNames;
+        private final AtomicReferenceArray<SyncCache<?>> syncCaches;
+        private final AtomicReferenceArray<AsyncCache<?>> asyncCaches;
+
+        CacheBinding(String[] cacheNames) {
+            this.cacheNames = cacheNames == null ? new String[0] : cacheNames;
+            this.syncCaches = new AtomicReferenceArray<>(this.cacheNames.length);
+            this.asyncCaches = new AtomicReferenceArray<>(this.cacheNames.length);
+        }
+
+        int size() {
+            return cacheNames.length;
+        }
+
+        SyncCache<?> sync(int index) {
+            SyncCache<?> syncCache = syncCaches.get(index);
+            if (syncCache == null) {
+                syncCache = cacheManager.getCache(cacheNames[index]);
+                syncCaches.set(index, syncCache);
+            }
+            return syncCache;
+        }
+
+        AsyncCache<?> async(int index) {
+            AsyncCache<?> asyncCache = asyncCaches.get(index);
+            if (asyncCache == null) {
+                asyncCache = sync(index).async();
+                asyncCaches.set(index, asyncCache);
+            }
+            return asyncCache;
+        }
+    }
+
+    /**
+     * Reloads the values of a method by invoking it again with the arguments rebuilt from the cache key, so that the
+     * cache doesn't need to keep the invocation context of each key.
+     */
+    private static final class KeyReloader implements Function<Object, Object> {
+        private final ExecutableMethod<Object, Object> method;
+        private final Object target;
+        private final int parameterCount;
+
+        @SuppressWarnings("unchecked")
+        KeyReloader(ExecutableMethod<?, ?> method, Object target) {
+            this.method = (ExecutableMethod<Object, Object>) method;
+            this.target = target;
+            this.parameterCount = method.getArguments().length;
+        }
+
+        @Override
+        public Object apply(Object key) {
+            Object[] parameterValues = parameterValues(key);
+            Object result;
+            RELOADING.set(Boolean.TRUE);
+            try {
+                result = method.invoke(target, parameterValues);
+            } finally {
+                RELOADING.remove();
+            }
+            if (result instanceof Optional<?> optional) {
+                return optional.orElse(null);
+            }
+            return result;
+        }
+
+        /**
+         * Rebuilds the arguments of an invocation from the key generated for them by the
+         * {@link DefaultCacheKeyGenerator}.
+         *
+         * @param key The key
+         * @return The arguments
+         */
+        private Object[] parameterValues(Object key) {
+            if (parameterCount == 0) {
+                return ArrayUtils.EMPTY_OBJECT_ARRAY;
+            }
+            if (parameterCount == 1 && !(key instanceof ParametersKey)) {
+                return new Object[] {key};
+            }
+            ParametersKey parametersKey = (ParametersKey) key;
+            Object[] parameterValues = new Object[parametersKey.size()];
+            for (int i = 0; i < parameterValues.length; i++) {
+                parameterValues[i] = parametersKey.get(i);
+            }
+            return parameterValues;
+        }
+    }
+
     /**
      * The value wrapper.
      */
     private static class ValueWrapper {
         Object value;
         boolean optional;
+        boolean invoked;
+        long lookupEnd;
+    }
+
+    /**
+     * The state of a load of {@link #getOrLoad}.
+     */
+    private static final class AsyncLoad {
+        volatile boolean invoked;
+        volatile boolean lookupRecorded;
+        volatile boolean loaded;
+        volatile Object result;
+        volatile long putStart;
+    }
+
+    /**
+     * Carries the failure of a method through the cache, so that it is not mistaken for an error of the cache.
+     */
+    private static final class InvocationException extends RuntimeException {
+        InvocationException(Throwable cause) {
+            super(null, cause, false, false);
+        }
     }
 }
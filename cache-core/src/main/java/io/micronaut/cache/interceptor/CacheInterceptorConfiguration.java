@@ -0,0 +1,582 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.interceptor;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.util.Toggleable;
+import io.micronaut.scheduling.TaskExecutors;
+import jakarta.inject.Inject;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Configuration for the behaviour of the {@link CacheInterceptor}.
+ *
+ * @since 5.1.0
+ */
+@ConfigurationProperties(CacheInterceptorConfiguration.PREFIX)
+public class CacheInterceptorConfiguration {
+
+    /**
+     * The prefix for the cache interceptor configuration.
+     */
+    public static final String PREFIX = "micronaut.cache.interceptor";
+
+    private SingleFlightConfiguration singleFlight = new SingleFlightConfiguration();
+    private CoalescingConfiguration coalescing = new CoalescingConfiguration();
+    private RefreshConfiguration refresh = new RefreshConfiguration();
+    private StreamingConfiguration streaming = new StreamingConfiguration();
+    private WriteBehindConfiguration writeBehind = new WriteBehindConfiguration();
+    private MetricsConfiguration metrics = new MetricsConfiguration();
+
+    /**
+     * @return The configuration for single-flight loading of synchronous cache misses
+     */
+    public SingleFlightConfiguration getSingleFlight() {
+        return singleFlight;
+    }
+
+    /**
+     * @param singleFlight The configuration for single-flight loading of synchronous cache misses
+     */
+    @Inject
+    public void setSingleFlight(SingleFlightConfiguration singleFlight) {
+        this.singleFlight = singleFlight;
+    }
+
+    /**
+     * @return The configuration for coalescing non-blocking cache misses
+     */
+    public CoalescingConfiguration getCoalescing() {
+        return coalescing;
+    }
+
+    /**
+     * @param coalescing The configuration for coalescing non-blocking cache misses
+     */
+    @Inject
+    public void setCoalescing(CoalescingConfiguration coalescing) {
+        this.coalescing = coalescing;
+    }
+
+    /**
+     * @return The configuration for refreshing cached values in the background
+     */
+    public RefreshConfiguration getRefresh() {
+        return refresh;
+    }
+
+    /**
+     * @param refresh The configuration for refreshing cached values in the background
+     */
+    @Inject
+    public void setRefresh(RefreshConfiguration refresh) {
+        this.refresh = refresh;
+    }
+
+    /**
+     * @return The configuration for caching the elements of reactive streams while they are emitted
+     */
+    public StreamingConfiguration getStreaming() {
+        return streaming;
+    }
+
+    /**
+     * @param streaming The configuration for caching the elements of reactive streams while they are emitted
+     */
+    @Inject
+    public void setStreaming(StreamingConfiguration streaming) {
+        this.streaming = streaming;
+    }
+
+    /**
+     * @return The configuration for batching asynchronous cache writes
+     */
+    public WriteBehindConfiguration getWriteBehind() {
+        return writeBehind;
+    }
+
+    /**
+     * @param writeBehind The configuration for batching asynchronous cache writes
+     */
+    @Inject
+    public void setWriteBehind(WriteBehindConfiguration writeBehind) {
+        this.writeBehind = writeBehind;
+    }
+
+    /**
+     * @return The configuration for recording metrics of the cached methods
+     */
+    public MetricsConfiguration getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @param metrics The configuration for recording metrics of the cached methods
+     */
+    @Inject
+    public void setMetrics(MetricsConfiguration metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * <p>Configuration for single-flight loading of non-atomic synchronous {@link io.micronaut.cache.annotation.Cacheable}
+     * methods. When enabled, concurrent misses for the same key wait for a single invocation of the method instead
+     * of each invoking it.</p>
+     */
+    @ConfigurationProperties(SingleFlightConfiguration.PREFIX)
+    public static class SingleFlightConfiguration implements Toggleable {
+
+        /**
+         * The prefix for the single-flight configuration.
+         */
+        public static final String PREFIX = "single-flight";
+
+        /**
+         * The default enable value.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final boolean DEFAULT_ENABLED = false;
+
+        /**
+         * The default wait timeout in seconds.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final long DEFAULT_TIMEOUT_SECONDS = 30;
+
+        private boolean enabled = DEFAULT_ENABLED;
+        private Duration timeout = Duration.ofSeconds(DEFAULT_TIMEOUT_SECONDS);
+        private FailureMode onFailure = FailureMode.PROPAGATE;
+
+        /**
+         * Default value ({@value #DEFAULT_ENABLED}).
+         *
+         * @return Whether single-flight loading is enabled
+         */
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * @param enabled Whether single-flight loading is enabled
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * @return How long a caller waits for the invocation of another caller before invoking the method itself
+         */
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        /**
+         * Default value ({@value #DEFAULT_TIMEOUT_SECONDS} seconds).
+         *
+         * @param timeout How long a caller waits for the invocation of another caller before invoking the method itself
+         */
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+
+        /**
+         * @return What the waiting callers do when the invocation they wait for fails
+         */
+        public FailureMode getOnFailure() {
+            return onFailure;
+        }
+
+        /**
+         * Default value ({@code PROPAGATE}).
+         *
+         * @param onFailure What the waiting callers do when the invocation they wait for fails
+         */
+        public void setOnFailure(FailureMode onFailure) {
+            this.onFailure = onFailure;
+        }
+    }
+
+    /**
+     * <p>Configuration for coalescing the cache misses of {@link io.micronaut.cache.annotation.Cacheable} methods that
+     * return a {@link java.util.concurrent.CompletionStage} or a reactive type. When enabled, concurrent misses for the
+     * same cache and key share a single invocation of the method.</p>
+     */
+    @ConfigurationProperties(CoalescingConfiguration.PREFIX)
+    public static class CoalescingConfiguration implements Toggleable {
+
+        /**
+         * The prefix for the coalescing configuration.
+         */
+        public static final String PREFIX = "coalescing";
+
+        /**
+         * The default enable value.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final boolean DEFAULT_ENABLED = false;
+
+        private boolean enabled = DEFAULT_ENABLED;
+
+        /**
+         * Default value ({@value #DEFAULT_ENABLED}).
+         *
+         * @return Whether coalescing is enabled
+         */
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * @param enabled Whether coalescing is enabled
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    /**
+     * Configuration for refreshing the values of {@link io.micronaut.cache.annotation.Cacheable} methods that specify
+     * {@link io.micronaut.cache.annotation.Cacheable#refreshAfterWrite()}.
+     */
+    @ConfigurationProperties(RefreshConfiguration.PREFIX)
+    public static class RefreshConfiguration {
+
+        /**
+         * The prefix for the refresh configuration.
+         */
+        public static final String PREFIX = "refresh";
+
+        private String executor = TaskExecutors.IO;
+
+        /**
+         * @return The name of the executor that reloads the values
+         */
+        public String getExecutor() {
+            return executor;
+        }
+
+        /**
+         * Default value ({@value TaskExecutors#IO}).
+         *
+         * @param executor The name of the executor that reloads the values
+         */
+        public void setExecutor(String executor) {
+            this.executor = executor;
+        }
+    }
+
+    /**
+     * <p>Configuration for caching the elements of {@link io.micronaut.cache.annotation.Cacheable} and
+     * {@link io.micronaut.cache.annotation.CachePut} methods that return a reactive stream of several elements. When
+     * enabled, the elements are emitted as soon as they are produced and recorded in a bounded buffer that is cached
+     * when the stream completes. Streams that exceed the limits are not cached.</p>
+     */
+    @ConfigurationProperties(StreamingConfiguration.PREFIX)
+    public static class StreamingConfiguration implements Toggleable {
+
+        /**
+         * The prefix for the streaming configuration.
+         */
+        public static final String PREFIX = "streaming";
+
+        /**
+         * The default enable value.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final boolean DEFAULT_ENABLED = false;
+
+        /**
+         * The default maximum number of elements.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_MAX_ELEMENTS = 10_000;
+
+        /**
+         * The default maximum number of bytes.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final long DEFAULT_MAX_BYTES = 16 * 1024 * 1024;
+
+        private boolean enabled = DEFAULT_ENABLED;
+        private int maxElements = DEFAULT_MAX_ELEMENTS;
+        private long maxBytes = DEFAULT_MAX_BYTES;
+
+        /**
+         * Default value ({@value #DEFAULT_ENABLED}).
+         *
+         * @return Whether streaming is enabled
+         */
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * @param enabled Whether streaming is enabled
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * @return The maximum number of elements of a stream that is cached
+         */
+        public int getMaxElements() {
+            return maxElements;
+        }
+
+        /**
+         * Default value ({@value #DEFAULT_MAX_ELEMENTS}).
+         *
+         * @param maxElements The maximum number of elements of a stream that is cached
+         */
+        public void setMaxElements(int maxElements) {
+            this.maxElements = maxElements;
+        }
+
+        /**
+         * @return The maximum estimated number of bytes of a stream that is cached, or a negative value for no limit
+         */
+        public long getMaxBytes() {
+            return maxBytes;
+        }
+
+        /**
+         * Default value ({@value #DEFAULT_MAX_BYTES}).
+         *
+         * @param maxBytes The maximum estimated number of bytes of a stream that is cached, or a negative value for no limit
+         */
+        public void setMaxBytes(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+    }
+
+    /**
+     * <p>Configuration for batching the writes of {@link io.micronaut.cache.annotation.CachePut} and
+     * {@link io.micronaut.cache.annotation.CacheInvalidate} operations with {@code async = true}. When enabled, the
+     * writes are queued per cache, only the last write of each key is kept, and they are flushed with bulk operations
+     * once the batch is full or the flush interval has elapsed.</p>
+     */
+    @ConfigurationProperties(WriteBehindConfiguration.PREFIX)
+    public static class WriteBehindConfiguration implements Toggleable {
+
+        /**
+         * The prefix for the write-behind configuration.
+         */
+        public static final String PREFIX = "write-behind";
+
+        /**
+         * The default enable value.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final boolean DEFAULT_ENABLED = false;
+
+        /**
+         * The default maximum number of writes per batch.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_MAX_BATCH_SIZE = 500;
+
+        /**
+         * The default maximum number of queued writes per cache.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_CAPACITY = 10_000;
+
+        /**
+         * The default flush interval in milliseconds.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 100;
+
+        private boolean enabled = DEFAULT_ENABLED;
+        private List<String> caches = Collections.emptyList();
+        private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+        private int capacity = DEFAULT_CAPACITY;
+        private Duration flushInterval = Duration.ofMillis(DEFAULT_FLUSH_INTERVAL_MILLIS);
+        private OverflowMode onOverflow = OverflowMode.DROP;
+
+        /**
+         * Default value ({@value #DEFAULT_ENABLED}).
+         *
+         * @return Whether write-behind is enabled
+         */
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * @param enabled Whether write-behind is enabled
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * @return The names of the caches whose writes are batched, or an empty list for all caches
+         */
+        public List<String> getCaches() {
+            return caches;
+        }
+
+        /**
+         * @param caches The names of the caches whose writes are batched, or an empty list for all caches
+         */
+        public void setCaches(List<String> caches) {
+            this.caches = caches == null ? Collections.emptyList() : caches;
+        }
+
+        /**
+         * @return The number of queued writes of a cache after which they are flushed
+         */
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        /**
+         * Default value ({@value #DEFAULT_MAX_BATCH_SIZE}).
+         *
+         * @param maxBatchSize The number of queued writes of a cache after which they are flushed
+         */
+        public void setMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        /**
+         * @return The maximum number of queued writes of a cache
+         */
+        public int getCapacity() {
+            return capacity;
+        }
+
+        /**
+         * Default value ({@value #DEFAULT_CAPACITY}).
+         *
+         * @param capacity The maximum number of queued writes of a cache
+         */
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        /**
+         * @return The interval at which the queued writes are flushed
+         */
+        public Duration getFlushInterval() {
+            return flushInterval;
+        }
+
+        /**
+         * Default value ({@value #DEFAULT_FLUSH_INTERVAL_MILLIS} milliseconds).
+         *
+         * @param flushInterval The interval at which the queued writes are flushed
+         */
+        public void setFlushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+        }
+
+        /**
+         * @return What happens to a write when the queue of its cache is full
+         */
+        public OverflowMode getOnOverflow() {
+            return onOverflow;
+        }
+
+        /**
+         * Default value ({@code DROP}).
+         *
+         * @param onOverflow What happens to a write when the queue of its cache is full
+         */
+        public void setOnOverflow(OverflowMode onOverflow) {
+            this.onOverflow = onOverflow;
+        }
+    }
+
+    /**
+     * <p>Configuration for recording the hits, misses and latencies of the {@link io.micronaut.cache.annotation.Cacheable}
+     * methods with a {@link CacheInterceptorMetrics} bean, such as the Micrometer one when Micrometer metrics are
+     * enabled.</p>
+     */
+    @ConfigurationProperties(MetricsConfiguration.PREFIX)
+    public static class MetricsConfiguration implements Toggleable {
+
+        /**
+         * The prefix for the metrics configuration.
+         */
+        public static final String PREFIX = "metrics";
+
+        /**
+         * The default enable value.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final boolean DEFAULT_ENABLED = false;
+
+        private boolean enabled = DEFAULT_ENABLED;
+
+        /**
+         * Default value ({@value #DEFAULT_ENABLED}).
+         *
+         * @return Whether the metrics are recorded
+         */
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * @param enabled Whether the metrics are recorded
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    /**
+     * What happens to a put when the write-behind queue of its cache is full. Invalidations are always queued, and the
+     * caller never waits for the queue.
+     */
+    public enum OverflowMode {
+        /**
+         * The put is counted as dropped and degrades to an invalidation of its key, so that the previous value of the
+         * key is not read once the put is acknowledged.
+         */
+        DROP,
+        /**
+         * The put is counted as dropped and passed to the {@link io.micronaut.cache.CacheErrorHandler} as a
+         * {@link io.micronaut.cache.exceptions.CacheSystemException}, which fails the write if the handler rethrows it.
+         */
+        FAIL
+    }
+
+    /**
+     * What callers waiting for an invocation do when that invocation fails.
+     */
+    public enum FailureMode {
+        /**
+         * The waiting callers fail with the same exception.
+         */
+        PROPAGATE,
+        /**
+         * Each waiting caller invokes the method itself.
+         */
+        RETRY
+    }
+}
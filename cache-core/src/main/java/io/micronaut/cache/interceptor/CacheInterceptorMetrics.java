@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.interceptor;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.inject.ExecutableMethod;
+
+/**
+ * Records the cache operations of the methods intercepted by the {@link CacheInterceptor}, when
+ * {@code micronaut.cache.interceptor.metrics.enabled} is set. The metrics of a method are resolved once, so that
+ * recording them doesn't allocate.
+ *
+ * @since 5.1.0
+ */
+public interface CacheInterceptorMetrics {
+
+    /**
+     * @param method    The cached method
+     * @param cacheName The name of the cache the method reads from
+     * @return The metrics of the method
+     */
+    @NonNull
+    MethodMetrics forMethod(@NonNull ExecutableMethod<?, ?> method, @NonNull String cacheName);
+
+    /**
+     * The metrics of a cached method.
+     */
+    interface MethodMetrics {
+
+        /**
+         * Records a cache hit.
+         */
+        void hit();
+
+        /**
+         * Records a cache miss.
+         */
+        void miss();
+
+        /**
+         * @param nanos The duration of a cache lookup in nanoseconds
+         */
+        void lookup(long nanos);
+
+        /**
+         * @param nanos The duration of an invocation of the method after a cache miss in nanoseconds
+         */
+        void load(long nanos);
+
+        /**
+         * @param nanos The duration of storing the result of the method in the cache in nanoseconds
+         */
+        void put(long nanos);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.interceptor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent non-blocking loads for the same cache key into a single load.
+ *
+ * <p>Each caller receives its own copy of the shared future, so that cancelling it does not affect the other
+ * callers. The shared future is removed once completed, successfully or not.</p>
+ *
+ * @since 5.1.0
+ */
+final class Coalescer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(Coalescer.class);
+
+    private final Map<InFlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Starts the load unless a load for the same key is already in flight, in which case its result is shared.
+     *
+     * @param cacheName The cache name
+     * @param key       The key
+     * @param loader    Starts the load
+     * @return A future for the loaded value
+     */
+    CompletableFuture<Object> coalesce(String cacheName, Object key, Supplier<? extends CompletionStage<?>> loader) {
+        InFlightKey inFlightKey = new InFlightKey(cacheName, key);
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(inFlightKey, future);
+        if (existing != null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Joining in-flight load of key [{}] in cache [{}]", key, cacheName);
+            }
+            return existing.copy();
+        }
+        future.whenComplete((value, throwable) -> inFlight.remove(inFlightKey, future));
+        try {
+            CompletionStage<?> stage = loader.get();
+            if (stage == null) {
+                future.complete(null);
+            } else {
+                stage.whenComplete((value, throwable) -> {
+                    if (throwable == null) {
+                        future.complete(value);
+                    } else {
+                        future.completeExceptionally(unwrap(throwable));
+                    }
+                });
+            }
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        }
+        return future.copy();
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+}
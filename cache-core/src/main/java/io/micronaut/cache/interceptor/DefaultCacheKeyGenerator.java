@@ -45,7 +45,7 @@ public class DefaultCacheKeyGenerator implements CacheKeyGenerator {
                 return new ParametersKey(params);
             }
         } else {
-            return new ParametersKey(params);
+            return ParametersKey.of(params);
         }
     }
 }
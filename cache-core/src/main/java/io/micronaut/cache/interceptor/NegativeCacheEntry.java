@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.interceptor;
+
+import java.io.Serializable;
+
+/**
+ * A marker cached in place of an empty result by {@link io.micronaut.cache.annotation.Cacheable#negativeTtl()}, together
+ * with the time after which it is ignored.
+ *
+ * @since 5.1.0
+ */
+public final class NegativeCacheEntry implements Serializable {
+
+    private final long expiresAt;
+
+    /**
+     * @param expiresAt The time the marker expires in milliseconds since the epoch
+     */
+    public NegativeCacheEntry(long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * @return The time the marker expires in milliseconds since the epoch
+     */
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * @return The time left before the marker expires in milliseconds, or zero if it has expired
+     */
+    public long getRemainingMillis() {
+        return Math.max(0, expiresAt - System.currentTimeMillis());
+    }
+
+    /**
+     * @return Whether the marker has expired
+     */
+    public boolean isExpired() {
+        return System.currentTimeMillis() >= expiresAt;
+    }
+
+    @Override
+    public String toString() {
+        return "NegativeCacheEntry{expiresAt=" + expiresAt + "}";
+    }
+}
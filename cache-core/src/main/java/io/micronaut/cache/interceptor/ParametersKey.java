@@ -17,8 +17,11 @@ package io.micronaut.cache.interceptor;
 
 import io.micronaut.core.util.ArrayUtils;
 
+import java.io.ObjectStreamException;
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * A key that uses the parameters of a method.
@@ -31,6 +34,13 @@ public class ParametersKey implements Serializable {
     public static final ParametersKey ZERO_ARG_KEY = new ParametersKey();
     public static final int EMPTY_OBJECT_ARRAY_HASH_CODE = Arrays.hashCode(ArrayUtils.EMPTY_OBJECT_ARRAY);
 
+    /**
+     * The identifier computed for the class before the arity-specialized keys were added, so that the keys stored in
+     * remote caches by earlier versions can still be read.
+     */
+    @Serial
+    private static final long serialVersionUID = 6055593281460290293L;
+
     private final Object[] params;
     private final int hashCode;
 
@@ -48,12 +58,107 @@ public class ParametersKey implements Serializable {
         }
     }
 
+    /**
+     * Constructor for the arity-specialized keys that hold the parameters in fields.
+     *
+     * @param hashCode The hash code, which must match {@link Arrays#deepHashCode(Object[])} of the parameters
+     */
+    ParametersKey(int hashCode) {
+        this.params = null;
+        this.hashCode = hashCode;
+    }
+
+    /**
+     * Creates a key for the given parameters, using a key specialized for the number of parameters when possible.
+     *
+     * @param params Parameters of the method
+     * @return The key
+     * @since 5.1.0
+     */
+    public static ParametersKey of(Object... params) {
+        if (ArrayUtils.isEmpty(params)) {
+            return ZERO_ARG_KEY;
+        }
+        for (Object param : params) {
+            if (param != null && param.getClass().isArray()) {
+                return new ParametersKey(params);
+            }
+        }
+        return switch (params.length) {
+            case 2 -> new ParametersKey2(params[0], params[1]);
+            case 3 -> new ParametersKey3(params[0], params[1], params[2]);
+            case 4 -> new ParametersKey4(params[0], params[1], params[2], params[3]);
+            default -> new ParametersKey(params);
+        };
+    }
+
+    /**
+     * @return The number of parameters
+     */
+    int size() {
+        return params.length;
+    }
+
+    /**
+     * @param index The index
+     * @return The parameter at the given index
+     */
+    Object get(int index) {
+        return params[index];
+    }
+
+    /**
+     * @return The parameters
+     */
+    Object[] toArray() {
+        return params;
+    }
+
+    /**
+     * Computes the hash code of a parameter the same way as {@link Arrays#deepHashCode(Object[])} for non-array
+     * elements.
+     *
+     * @param param The parameter
+     * @return The hash code
+     */
+    static int hash(Object param) {
+        return param == null ? 0 : param.hashCode();
+    }
+
+    /**
+     * Serializes the arity-specialized keys as array based keys, so that remote caches and the nodes of a cluster
+     * that run earlier versions see the same serialized form and the same key.
+     *
+     * @return The key to serialize
+     * @throws ObjectStreamException never
+     * @since 5.1.0
+     */
+    @Serial
+    protected Object writeReplace() throws ObjectStreamException {
+        return params != null ? this : new ParametersKey(toArray());
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
             return true;
         }
-        return o instanceof ParametersKey && Arrays.deepEquals(params, ((ParametersKey) o).params);
+        if (!(o instanceof ParametersKey other) || hashCode != other.hashCode) {
+            return false;
+        }
+        if (params != null && other.params != null) {
+            return Arrays.deepEquals(params, other.params);
+        }
+        int size = size();
+        if (size != other.size()) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (!Objects.deepEquals(get(i), other.get(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -63,6 +168,6 @@ public class ParametersKey implements Serializable {
 
     @Override
     public String toString() {
-        return ParametersKey.class.getSimpleName() + ": " + ArrayUtils.toString(params);
+        return ParametersKey.class.getSimpleName() + ": " + ArrayUtils.toString(toArray());
     }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.interceptor;
+
+import java.util.Objects;
+
+/**
+ * A {@link ParametersKey} for two parameters that holds the parameters in fields rather than copying them
+ * into an array. Equal to a {@link ParametersKey} with the same parameters.
+ *
+ * @since 5.1.0
+ */
+final class ParametersKey2 extends ParametersKey {
+
+    private final Object first;
+    private final Object second;
+
+    /**
+     * @param first The first parameter
+     * @param second The second parameter
+     */
+    ParametersKey2(Object first, Object second) {
+        super(hashCode(first, second));
+        this.first = first;
+        this.second = second;
+    }
+
+    private static int hashCode(Object first, Object second) {
+        int result = 31 + hash(first);
+        result = 31 * result + hash(second);
+        return result;
+    }
+
+    @Override
+    int size() {
+        return 2;
+    }
+
+    @Override
+    Object get(int index) {
+        return switch (index) {
+            case 0 -> first;
+            case 1 -> second;
+            default -> throw new IndexOutOfBoundsException(index);
+        };
+    }
+
+    @Override
+    Object[] toArray() {
+        return new Object[] {first, second};
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof ParametersKey2 other) {
+            return hashCode() == other.hashCode()
+                && Objects.equals(first, other.first)
+                && Objects.equals(second, other.second);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.interceptor;
+
+import java.util.Objects;
+
+/**
+ * A {@link ParametersKey} for four parameters that holds the parameters in fields rather than copying them
+ * into an array. Equal to a {@link ParametersKey} with the same parameters.
+ *
+ * @since 5.1.0
+ */
+final class ParametersKey4 extends ParametersKey {
+
+    private final Object first;
+    private final Object second;
+    private final Object third;
+    private final Object fourth;
+
+    /**
+     * @param first The first parameter
+     * @param second The second parameter
+     * @param third The third parameter
+     * @param fourth The fourth parameter
+     */
+    ParametersKey4(Object first, Object second, Object third, Object fourth) {
+        super(hashCode(first, second, third, fourth));
+        this.first = first;
+        this.second = second;
+        this.third = third;
+        this.fourth = fourth;
+    }
+
+    private static int hashCode(Object first, Object second, Object third, Object fourth) {
+        int result = 31 + hash(first);
+        result = 31 * result + hash(second);
+        result = 31 * result + hash(third);
+        result = 31 * result + hash(fourth);
+        return result;
+    }
+
+    @Override
+    int size() {
+        return 4;
+    }
+
+    @Override
+    Object get(int index) {
+        return switch (index) {
+            case 0 -> first;
+            case 1 -> second;
+            case 2 -> third;
+            case 3 -> fourth;
+            default -> throw new IndexOutOfBoundsException(index);
+        };
+    }
+
+    @Override
+    Object[] toArray() {
+        return new Object[] {first, second, third, fourth};
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof ParametersKey4 other) {
+            return hashCode() == other.hashCode()
+                && Objects.equals(first, other.first)
+                && Objects.equals(second, other.second)
+                && Objects.equals(third, other.third)
+                && Objects.equals(fourth, other.fourth);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.interceptor;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.io.Serializable;
+
+/**
+ * A cached value stored together with the time it was written, used by
+ * {@link io.micronaut.cache.annotation.Cacheable#refreshAfterWrite()} to decide when to reload it.
+ *
+ * @since 5.1.0
+ */
+public final class RefreshableValue implements Serializable {
+
+    private final Object value;
+    private final long writeTime;
+
+    /**
+     * @param value     The value
+     * @param writeTime The time the value was written in milliseconds since the epoch
+     */
+    public RefreshableValue(@NonNull Object value, long writeTime) {
+        this.value = value;
+        this.writeTime = writeTime;
+    }
+
+    /**
+     * @return The value
+     */
+    @NonNull
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * @return The time the value was written in milliseconds since the epoch
+     */
+    public long getWriteTime() {
+        return writeTime;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.interceptor;
+
+import io.micronaut.cache.exceptions.CacheSystemException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * A registry of in-flight loads that lets concurrent callers for the same cache key wait for a single load.
+ *
+ * @since 5.1.0
+ */
+final class SingleFlight {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SingleFlight.class);
+
+    private final Map<InFlightKey, Flight> flights = new ConcurrentHashMap<>();
+    private final long timeoutNanos;
+    private final CacheInterceptorConfiguration.FailureMode onFailure;
+
+    /**
+     * @param configuration The single-flight configuration
+     */
+    SingleFlight(CacheInterceptorConfiguration.SingleFlightConfiguration configuration) {
+        this.timeoutNanos = configuration.getTimeout().toNanos();
+        this.onFailure = configuration.getOnFailure();
+    }
+
+    /**
+     * Runs the loader unless a load for the same key is already in flight, in which case its result is awaited.
+     *
+     * @param cacheName The cache name
+     * @param key       The key
+     * @param loader    The loader
+     * @param <T>       The value type
+     * @return The loaded value
+     */
+    @SuppressWarnings("unchecked")
+    <T> T load(String cacheName, Object key, Supplier<T> loader) {
+        InFlightKey flightKey = new InFlightKey(cacheName, key);
+        Flight flight = new Flight();
+        Flight existing = flights.putIfAbsent(flightKey, flight);
+        if (existing == null) {
+            try {
+                T value = loader.get();
+                flight.complete(value);
+                return value;
+            } catch (Throwable e) {
+                flight.completeExceptionally(e);
+                throw e;
+            } finally {
+                flights.remove(flightKey, flight);
+            }
+        }
+        if (existing.owner == Thread.currentThread()) {
+            // re-entrant invocation for the same key, waiting would never complete
+            return loader.get();
+        }
+        try {
+            return (T) existing.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Timed out waiting for in-flight load of key [{}] in cache [{}]. Loading independently.", key, cacheName);
+            }
+            return loader.get();
+        } catch (ExecutionException e) {
+            if (onFailure == CacheInterceptorConfiguration.FailureMode.RETRY) {
+                return loader.get();
+            }
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new CompletionException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CacheSystemException("Interrupted waiting for in-flight load of key [" + key + "] in cache [" + cacheName + "]", e);
+        }
+    }
+
+    /**
+     * An in-flight load.
+     */
+    private static final class Flight extends CompletableFuture<Object> {
+        final Thread owner = Thread.currentThread();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.interceptor;
+
+import io.micronaut.cache.ObjectSizeEstimator;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the elements emitted by a publisher so that they can be cached once it completes. Once the element or
+ * byte limit is exceeded, the recorded elements are released and nothing more is recorded.
+ *
+ * @since 5.1.0
+ */
+final class StreamingBuffer {
+
+    private final int maxElements;
+    private final long maxBytes;
+    private List<Object> elements = new ArrayList<>();
+    private long bytes;
+
+    /**
+     * @param maxElements The maximum number of elements
+     * @param maxBytes    The maximum estimated number of bytes, or a negative value for no limit
+     */
+    StreamingBuffer(int maxElements, long maxBytes) {
+        this.maxElements = maxElements;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * @param element The emitted element
+     */
+    void record(Object element) {
+        if (elements == null) {
+            return;
+        }
+        if (elements.size() >= maxElements) {
+            elements = null;
+            return;
+        }
+        if (maxBytes >= 0) {
+            bytes += ObjectSizeEstimator.estimate(element);
+            if (bytes > maxBytes) {
+                elements = null;
+                return;
+            }
+        }
+        elements.add(element);
+    }
+
+    /**
+     * @return The recorded elements, or null if a limit was exceeded
+     */
+    @Nullable
+    List<Object> getElements() {
+        return elements;
+    }
+}
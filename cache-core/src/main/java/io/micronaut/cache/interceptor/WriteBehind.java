@@ -0,0 +1,176 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.interceptor;
+
+import io.micronaut.cache.AsyncCache;
+import io.micronaut.cache.AsyncCacheErrorHandler;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.TaskScheduler;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Batches the writes of asynchronous {@link io.micronaut.cache.annotation.CachePut} and
+ * {@link io.micronaut.cache.annotation.CacheInvalidate} operations in a {@link WriteBehindQueue} per cache, which is
+ * flushed once it holds {@code max-batch-size} writes or every {@code flush-interval}. The pending writes are flushed
+ * when the context is closed.
+ *
+ * @since 5.1.0
+ */
+@Internal
+@Singleton
+@Requires(property = WriteBehind.ENABLED, value = StringUtils.TRUE)
+public final class WriteBehind {
+
+    /**
+     * The property that enables write-behind.
+     */
+    public static final String ENABLED = CacheInterceptorConfiguration.PREFIX + "."
+        + CacheInterceptorConfiguration.WriteBehindConfiguration.PREFIX + ".enabled";
+
+    private static final Logger LOG = LoggerFactory.getLogger(WriteBehind.class);
+    private static final long DRAIN_TIMEOUT_SECONDS = 10;
+
+    private final CacheInterceptorConfiguration.WriteBehindConfiguration configuration;
+    private final AsyncCacheErrorHandler errorHandler;
+    private final ExecutorService executor;
+    private final List<String> cacheNames;
+    private final Map<String, WriteBehindQueue> queues = new ConcurrentHashMap<>();
+    private final List<Consumer<WriteBehindQueue>> listeners = new CopyOnWriteArrayList<>();
+    private final ScheduledFuture<?> flushTask;
+
+    /**
+     * @param configuration The interceptor configuration
+     * @param errorHandler  The error handler of failed flushes
+     * @param executor      The executor that flushes full batches
+     * @param scheduler     The scheduler that flushes the batches periodically
+     */
+    WriteBehind(CacheInterceptorConfiguration configuration,
+                AsyncCacheErrorHandler errorHandler,
+                @Named(TaskExecutors.IO) ExecutorService executor,
+                @Named(TaskExecutors.SCHEDULED) TaskScheduler scheduler) {
+        this.configuration = configuration.getWriteBehind();
+        this.errorHandler = errorHandler;
+        this.executor = executor;
+        this.cacheNames = this.configuration.getCaches();
+        Duration flushInterval = this.configuration.getFlushInterval();
+        this.flushTask = scheduler.scheduleAtFixedRate(flushInterval, flushInterval, this::flushPending);
+    }
+
+    /**
+     * @param cacheName The cache name
+     * @return Whether the writes of the cache are batched
+     */
+    boolean handles(String cacheName) {
+        return cacheNames.isEmpty() || cacheNames.contains(cacheName);
+    }
+
+    /**
+     * @param cache The cache
+     * @param key   The key
+     * @param value The value, or null to invalidate the key
+     */
+    void put(AsyncCache<?> cache, Object key, Object value) {
+        queue(cache).put(key, value);
+    }
+
+    /**
+     * Discards the pending writes of a cache, before all its entries are invalidated.
+     *
+     * @param cache The cache
+     */
+    void discard(AsyncCache<?> cache) {
+        WriteBehindQueue queue = queues.get(cache.getName());
+        if (queue != null) {
+            queue.discard();
+        }
+    }
+
+    /**
+     * @return The queues of the caches that were written to
+     */
+    @NonNull
+    public Collection<WriteBehindQueue> getQueues() {
+        return queues.values();
+    }
+
+    /**
+     * Registers a listener notified of the queues that exist and of the queues created later.
+     *
+     * @param listener The listener
+     */
+    public void addQueueListener(@NonNull Consumer<WriteBehindQueue> listener) {
+        listeners.add(listener);
+        queues.values().forEach(listener);
+    }
+
+    /**
+     * Flushes the pending writes of all the caches and stops the periodic flush.
+     */
+    @PreDestroy
+    void close() {
+        flushTask.cancel(false);
+        CompletableFuture<?>[] futures = queues.values().stream().map(WriteBehindQueue::drain).toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(futures).get(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            LOG.warn("Error flushing the pending cache writes: {}", e.getMessage(), e);
+        }
+    }
+
+    private void flushPending() {
+        for (WriteBehindQueue queue : queues.values()) {
+            try {
+                queue.flushPending();
+            } catch (RuntimeException e) {
+                LOG.warn("Error flushing the pending writes of the cache [{}]: {}", queue.getCacheName(), e.getMessage(), e);
+            }
+        }
+    }
+
+    private WriteBehindQueue queue(AsyncCache<?> cache) {
+        WriteBehindQueue queue = queues.get(cache.getName());
+        if (queue == null) {
+            queue = queues.computeIfAbsent(cache.getName(), name -> {
+                WriteBehindQueue created = new WriteBehindQueue(cache, errorHandler, executor, configuration);
+                listeners.forEach(listener -> listener.accept(created));
+                return created;
+            });
+        }
+        return queue;
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.interceptor;
+
+import io.micronaut.cache.AsyncCache;
+import io.micronaut.cache.CacheErrorHandler;
+import io.micronaut.cache.exceptions.CacheSystemException;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The queue of the pending writes of a cache. Only the last write of each key is kept, and the writes are flushed
+ * with a bulk put and a bulk invalidation. A single flush is in progress at a time, so that writes of the same key are
+ * applied in order. Writes never wait for the queue, since they are queued from the callbacks of asynchronous results:
+ * a put that doesn't fit is either rejected, or dropped and replaced by an invalidation of its key, while an
+ * invalidation is always queued.
+ *
+ * @since 5.1.0
+ */
+@Internal
+public final class WriteBehindQueue {
+
+    private static final Object INVALIDATED = new Object();
+
+    private final AsyncCache<?> cache;
+    private final CacheErrorHandler errorHandler;
+    private final Executor executor;
+    private final int maxBatchSize;
+    private final int capacity;
+    private final CacheInterceptorConfiguration.OverflowMode onOverflow;
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final Object lock = new Object();
+    private Map<Object, Object> pending = new LinkedHashMap<>();
+    private boolean flushing;
+    // incremented when the pending writes are discarded, so that the batch being flushed is discarded as well
+    private long generation;
+
+    /**
+     * @param cache         The cache
+     * @param errorHandler  The error handler of failed flushes
+     * @param executor      The executor that flushes full batches
+     * @param configuration The write-behind configuration
+     */
+    WriteBehindQueue(AsyncCache<?> cache,
+                     CacheErrorHandler errorHandler,
+                     Executor executor,
+                     CacheInterceptorConfiguration.WriteBehindConfiguration configuration) {
+        this.cache = cache;
+        this.errorHandler = errorHandler;
+        this.executor = executor;
+        this.maxBatchSize = Math.max(1, configuration.getMaxBatchSize());
+        this.capacity = Math.max(maxBatchSize, configuration.getCapacity());
+        this.onOverflow = configuration.getOnOverflow();
+    }
+
+    /**
+     * @return The name of the cache
+     */
+    @NonNull
+    public String getCacheName() {
+        return cache.getName();
+    }
+
+    /**
+     * @return The number of writes waiting to be flushed
+     */
+    public int getPendingCount() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * @return The number of writes that were queued
+     */
+    public long getWriteCount() {
+        return writes.sum();
+    }
+
+    /**
+     * @return The number of queued writes that replaced a pending write of the same key
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * @return The number of puts that were dropped or rejected because the queue was full
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return The number of writes that were flushed
+     */
+    public long getFlushedCount() {
+        return flushed.sum();
+    }
+
+    /**
+     * @return The number of batches that were flushed
+     */
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    /**
+     * @param key   The key
+     * @param value The value, or null to invalidate the key
+     */
+    void put(Object key, Object value) {
+        enqueue(key, value == null ? INVALIDATED : value);
+    }
+
+    /**
+     * Discards the pending writes, before all the entries of the cache are invalidated. The puts of a batch that is
+     * being flushed are not written if they weren't yet, and are invalidated again otherwise.
+     */
+    void discard() {
+        synchronized (lock) {
+            pending.clear();
+            generation++;
+        }
+    }
+
+    /**
+     * Flushes the pending writes unless a flush is already in progress.
+     */
+    void flushPending() {
+        synchronized (lock) {
+            if (flushing || pending.isEmpty()) {
+                return;
+            }
+            flushing = true;
+        }
+        flush();
+    }
+
+    /**
+     * Writes the pending writes regardless of a flush in progress, on shutdown.
+     *
+     * @return A future completed once they are written
+     */
+    CompletableFuture<Void> drain() {
+        Map<Object, Object> batch;
+        long batchGeneration;
+        synchronized (lock) {
+            batch = pending;
+            batchGeneration = generation;
+            pending = new LinkedHashMap<>();
+        }
+        return write(batch, batchGeneration);
+    }
+
+    private void enqueue(Object key, Object value) {
+        boolean flush;
+        boolean full;
+        synchronized (lock) {
+            full = value != INVALIDATED && pending.size() >= capacity && !pending.containsKey(key);
+            if (full) {
+                dropped.increment();
+                if (onOverflow == CacheInterceptorConfiguration.OverflowMode.DROP) {
+                    // the previous value of the key is invalidated, so that it isn't read after the put was acknowledged
+                    pending.put(key, INVALIDATED);
+                }
+            } else {
+                writes.increment();
+                if (pending.put(key, value) != null) {
+                    coalesced.increment();
+                }
+            }
+            flush = !flushing && (full || pending.size() >= maxBatchSize);
+            if (flush) {
+                flushing = true;
+            }
+        }
+        if (flush) {
+            flushAsync();
+        }
+        if (full && onOverflow == CacheInterceptorConfiguration.OverflowMode.FAIL) {
+            CacheSystemException e = new CacheSystemException("The write-behind queue of the cache [" + cache.getName() + "] is full");
+            if (errorHandler.handlePutError(cache, key, value, e)) {
+                throw e;
+            }
+        }
+    }
+
+    private void flushAsync() {
+        try {
+            executor.execute(this::flush);
+        } catch (RejectedExecutionException e) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        Map<Object, Object> batch;
+        long batchGeneration;
+        synchronized (lock) {
+            batch = pending;
+            batchGeneration = generation;
+            pending = new LinkedHashMap<>();
+        }
+        write(batch, batchGeneration).whenComplete((ignore, throwable) -> {
+            boolean again;
+            synchronized (lock) {
+                again = pending.size() >= maxBatchSize;
+                flushing = again;
+            }
+            if (again) {
+                flushAsync();
+            }
+        });
+    }
+
+    private CompletableFuture<Void> write(Map<Object, Object> batch, long batchGeneration) {
+        if (batch.isEmpty() || isDiscarded(batchGeneration)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        Map<Object, Object> puts = new LinkedHashMap<>();
+        List<Object> invalidations = new ArrayList<>();
+        for (Map.Entry<Object, Object> entry : batch.entrySet()) {
+            if (entry.getValue() == INVALIDATED) {
+                invalidations.add(entry.getKey());
+            } else {
+                puts.put(entry.getKey(), entry.getValue());
+            }
+        }
+        batches.increment();
+        flushed.add(batch.size());
+        CompletableFuture<?> putFuture = puts.isEmpty() ? CompletableFuture.completedFuture(null) : handle(
+            () -> cache.putAll(puts),
+            e -> errorHandler.handlePutError(cache, puts.keySet(), puts, e)
+        ).thenCompose(ignore -> isDiscarded(batchGeneration) ? handle(
+            // the entries were invalidated while the puts were in flight, so the puts may have been applied after the invalidation
+            () -> cache.invalidateAll(puts.keySet()),
+            e -> errorHandler.handleInvalidateError(cache, puts.keySet(), e)
+        ) : CompletableFuture.completedFuture(null));
+        CompletableFuture<?> invalidateFuture = invalidations.isEmpty() ? CompletableFuture.completedFuture(null) : handle(
+            () -> cache.invalidateAll(invalidations),
+            e -> errorHandler.handleInvalidateError(cache, invalidations, e)
+        );
+        return CompletableFuture.allOf(putFuture, invalidateFuture);
+    }
+
+    private boolean isDiscarded(long batchGeneration) {
+        synchronized (lock) {
+            return generation != batchGeneration;
+        }
+    }
+
+    private static CompletableFuture<?> handle(Supplier<CompletableFuture<Boolean>> operation,
+                                               Consumer<RuntimeException> errorHandler) {
+        CompletableFuture<Boolean> future;
+        try {
+            future = operation.get();
+        } catch (RuntimeException e) {
+            errorHandler.accept(e);
+            return CompletableFuture.completedFuture(null);
+        }
+        return future.exceptionally(throwable -> {
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+            errorHandler.accept(cause instanceof RuntimeException runtimeException ? runtimeException : new CompletionException(cause));
+            return false;
+        });
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.interceptor.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.cache.interceptor.CacheInterceptorConfiguration;
+import io.micronaut.cache.interceptor.CacheInterceptorMetrics;
+import io.micronaut.configuration.metrics.annotation.RequiresMetrics;
+import io.micronaut.context.BeanProvider;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.type.ReturnType;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.inject.ExecutableMethod;
+import jakarta.inject.Singleton;
+
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the cache operations of the intercepted methods with Micrometer. The meters are tagged with the name of the
+ * cache, the method, such as {@code com.example.BookService.find(String)}, and the type of its result ({@code sync},
+ * {@code async} or {@code reactive}):
+ *
+ * <ul>
+ *     <li>{@code cache.method.gets}, with a {@code result} tag of {@code hit} or {@code miss}</li>
+ *     <li>{@code cache.method.lookup}, the time to read from the cache, excluding the time to load a missing value</li>
+ *     <li>{@code cache.method.load}, the time to invoke the method after a miss</li>
+ *     <li>{@code cache.method.put}, the time to store the result in the cache</li>
+ * </ul>
+ *
+ * @since 5.1.0
+ */
+@Singleton
+@RequiresMetrics
+@Requires(property = CacheInterceptorConfiguration.PREFIX + "." + CacheInterceptorConfiguration.MetricsConfiguration.PREFIX + ".enabled", value = StringUtils.TRUE)
+public class MicrometerCacheInterceptorMetrics implements CacheInterceptorMetrics {
+
+    private final BeanProvider<MeterRegistry> meterRegistryProvider;
+
+    /**
+     * Default constructor.
+     *
+     * @param meterRegistryProvider The meter registry.
+     */
+    protected MicrometerCacheInterceptorMetrics(BeanProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    @Override
+    @NonNull
+    public MethodMetrics forMethod(@NonNull ExecutableMethod<?, ?> method, @NonNull String cacheName) {
+        MeterRegistry registry = meterRegistryProvider.get();
+        Tags tags = Tags.of(
+            "cache", cacheName,
+            "method", methodName(method),
+            "type", resultType(method.getReturnType())
+        );
+        return new MicrometerMethodMetrics(
+            gets(registry, tags, "hit"),
+            gets(registry, tags, "miss"),
+            Timer.builder("cache.method.lookup").tags(tags)
+                .description("The time to read the cached value of the method").register(registry),
+            Timer.builder("cache.method.load").tags(tags)
+                .description("The time to invoke the method after a cache miss").register(registry),
+            Timer.builder("cache.method.put").tags(tags)
+                .description("The time to cache the result of the method").register(registry)
+        );
+    }
+
+    /**
+     * Registers the counter of the lookups of a method with the given result. Both results are the same meter, so
+     * they share its description.
+     *
+     * @param registry The registry
+     * @param tags     The tags of the method
+     * @param result   The result of the lookups
+     * @return The counter
+     */
+    private static Counter gets(MeterRegistry registry, Tags tags, String result) {
+        return Counter.builder("cache.method.gets").tags(tags).tag("result", result)
+            .description("The number of cache lookups of the method, by result").register(registry);
+    }
+
+    /**
+     * @return The qualified name of the declaring type, the name of the method and its parameter types, so that
+     * overloaded methods and methods of types with the same simple name are told apart
+     */
+    private static String methodName(ExecutableMethod<?, ?> method) {
+        StringJoiner name = new StringJoiner(",", method.getDeclaringType().getName() + "." + method.getMethodName() + "(", ")");
+        for (Class<?> argumentType : method.getArgumentTypes()) {
+            name.add(argumentType.getSimpleName());
+        }
+        return name.toString();
+    }
+
+    private static String resultType(ReturnType<?> returnType) {
+        if (returnType.isReactive()) {
+            return "reactive";
+        } else if (returnType.isAsync() || returnType.isSuspended()) {
+            return "async";
+        }
+        return "sync";
+    }
+
+    /**
+     * The meters of a method.
+     *
+     * @param hits   The hit counter
+     * @param misses The miss counter
+     * @param lookup The lookup timer
+     * @param load   The load timer
+     * @param put    The put timer
+     */
+    private record MicrometerMethodMetrics(Counter hits,
+                                           Counter misses,
+                                           Timer lookup,
+                                           Timer load,
+                                           Timer put) implements MethodMetrics {
+
+        @Override
+        public void hit() {
+            hits.increment();
+        }
+
+        @Override
+        public void miss() {
+            misses.increment();
+        }
+
+        @Override
+        public void lookup(long nanos) {
+            lookup.record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void load(long nanos) {
+            load.record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void put(long nanos) {
+            put.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
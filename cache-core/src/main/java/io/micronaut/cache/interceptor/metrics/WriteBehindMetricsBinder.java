@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.interceptor.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micronaut.cache.interceptor.WriteBehind;
+import io.micronaut.cache.interceptor.WriteBehindQueue;
+import io.micronaut.configuration.metrics.annotation.RequiresMetrics;
+import io.micronaut.context.BeanProvider;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+import io.micronaut.core.util.StringUtils;
+import jakarta.inject.Singleton;
+
+import java.util.function.ToDoubleFunction;
+
+import static io.micronaut.configuration.metrics.micrometer.MeterRegistryFactory.MICRONAUT_METRICS_BINDERS;
+
+/**
+ * Instruments the write-behind queues of the caches.
+ *
+ * @since 5.1.0
+ */
+@Singleton
+@RequiresMetrics
+@Requires(beans = WriteBehind.class)
+@Requires(property = MICRONAUT_METRICS_BINDERS + ".cache.enabled", notEquals = StringUtils.FALSE)
+public class WriteBehindMetricsBinder implements BeanCreatedEventListener<WriteBehind> {
+
+    private final BeanProvider<MeterRegistry> meterRegistryProvider;
+
+    /**
+     * Default constructor.
+     *
+     * @param meterRegistryProvider The meter registry.
+     */
+    protected WriteBehindMetricsBinder(BeanProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    @Override
+    public WriteBehind onCreated(BeanCreatedEvent<WriteBehind> event) {
+        WriteBehind writeBehind = event.getBean();
+        writeBehind.addQueueListener(queue -> bind(meterRegistryProvider.get(), queue));
+        return writeBehind;
+    }
+
+    private void bind(MeterRegistry registry, WriteBehindQueue queue) {
+        Tags tags = Tags.of("cache", queue.getCacheName());
+        Gauge.builder("cache.write.behind.pending", queue, WriteBehindQueue::getPendingCount)
+            .tags(tags)
+            .description("The number of writes waiting to be flushed")
+            .register(registry);
+        counter(registry, queue, tags, "cache.write.behind.writes", WriteBehindQueue::getWriteCount,
+            "The number of writes that were queued");
+        counter(registry, queue, tags, "cache.write.behind.coalesced", WriteBehindQueue::getCoalescedCount,
+            "The number of queued writes that replaced a pending write of the same key");
+        counter(registry, queue, tags, "cache.write.behind.flushed", WriteBehindQueue::getFlushedCount,
+            "The number of writes that were flushed");
+        counter(registry, queue, tags, "cache.write.behind.batches", WriteBehindQueue::getBatchCount,
+            "The number of batches that were flushed");
+        counter(registry, queue, tags, "cache.write.behind.dropped", WriteBehindQueue::getDroppedCount,
+            "The number of puts that were dropped or rejected because the queue was full");
+    }
+
+    private static void counter(MeterRegistry registry,
+                                WriteBehindQueue queue,
+                                Tags tags,
+                                String name,
+                                ToDoubleFunction<WriteBehindQueue> count,
+                                String description) {
+        FunctionCounter.builder(name, queue, count)
+            .tags(tags)
+            .description(description)
+            .register(registry);
+    }
+}
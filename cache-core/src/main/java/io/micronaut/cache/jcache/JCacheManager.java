@@ -15,6 +15,7 @@
  */
 package io.micronaut.cache.jcache;
 
+import io.micronaut.cache.CacheExecutorResolver;
 import io.micronaut.cache.DefaultCacheManager;
 import io.micronaut.cache.SyncCache;
 import io.micronaut.context.annotation.Primary;
@@ -22,9 +23,11 @@ import io.micronaut.context.annotation.Replaces;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.exceptions.ConfigurationException;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.scheduling.TaskExecutors;
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
 import javax.cache.Cache;
@@ -52,6 +55,7 @@ public class JCacheManager implements io.micronaut.cache.CacheManager<Cache> {
     private final CacheManager cacheManager;
     private final ConversionService conversionService;
     private final ExecutorService executorService;
+    private final CacheExecutorResolver executorResolver;
 
     /**
      * Default constructor.
@@ -59,14 +63,33 @@ public class JCacheManager implements io.micronaut.cache.CacheManager<Cache> {
      * @param cacheManager The cache manager
      * @param executorService The executor to execute I/O operations
      * @param conversionService The conversion service
+     * @deprecated Use {@link #JCacheManager(CacheManager, ExecutorService, ConversionService, CacheExecutorResolver)} instead
      */
+    @Deprecated(since = "5.1.0", forRemoval = true)
     protected JCacheManager(
             @NonNull CacheManager cacheManager,
             @NonNull @Named(TaskExecutors.IO) ExecutorService executorService,
             @NonNull ConversionService conversionService) {
+        this(cacheManager, executorService, conversionService, null);
+    }
+
+    /**
+     * @param cacheManager The cache manager
+     * @param executorService The executor to execute I/O operations
+     * @param conversionService The conversion service
+     * @param executorResolver The resolver of the executor of each cache
+     * @since 5.1.0
+     */
+    @Inject
+    protected JCacheManager(
+            @NonNull CacheManager cacheManager,
+            @NonNull @Named(TaskExecutors.IO) ExecutorService executorService,
+            @NonNull ConversionService conversionService,
+            @Nullable CacheExecutorResolver executorResolver) {
         this.cacheManager = cacheManager;
         this.conversionService = conversionService;
         this.executorService = executorService;
+        this.executorResolver = executorResolver;
     }
 
     @Override
@@ -82,7 +105,8 @@ public class JCacheManager implements io.micronaut.cache.CacheManager<Cache> {
         if (cache == null) {
             throw new ConfigurationException("No cache configured for name: " + name);
         }
-        return new JCacheSyncCache(cache, conversionService, executorService);
+        ExecutorService executor = executorResolver == null ? executorService : executorResolver.resolve(name);
+        return new JCacheSyncCache(cache, conversionService, executor);
     }
 
     /**
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.memory;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.Toggleable;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Configuration of the {@link MemoryPressureMonitor}, which shrinks the {@link io.micronaut.cache.ResizableCache}s
+ * when the heap is nearly full.
+ *
+ * @since 5.1.0
+ */
+@ConfigurationProperties(MemoryPressureConfiguration.PREFIX)
+public class MemoryPressureConfiguration implements Toggleable {
+
+    /**
+     * The prefix for the memory pressure configuration.
+     */
+    public static final String PREFIX = "micronaut.cache.memory-pressure";
+
+    /**
+     * The default enable value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final boolean DEFAULT_ENABLED = false;
+
+    /**
+     * The default usage threshold.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final double DEFAULT_USAGE_THRESHOLD = 0.85;
+
+    /**
+     * The default recovery threshold.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final double DEFAULT_RECOVERY_THRESHOLD = 0.7;
+
+    /**
+     * The default shrink factor.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final double DEFAULT_SHRINK_FACTOR = 0.5;
+
+    /**
+     * The default minimum fraction.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final double DEFAULT_MINIMUM_FRACTION = 0.1;
+
+    /**
+     * The default interval between two shrinks in seconds.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_SHRINK_INTERVAL_SECONDS = 5;
+
+    /**
+     * The default collection usage threshold option value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final boolean DEFAULT_COLLECTION_USAGE_THRESHOLD = false;
+
+    private boolean enabled = DEFAULT_ENABLED;
+    private double usageThreshold = DEFAULT_USAGE_THRESHOLD;
+    private double recoveryThreshold = DEFAULT_RECOVERY_THRESHOLD;
+    private double shrinkFactor = DEFAULT_SHRINK_FACTOR;
+    private double minimumFraction = DEFAULT_MINIMUM_FRACTION;
+    private Duration shrinkInterval = Duration.ofSeconds(DEFAULT_SHRINK_INTERVAL_SECONDS);
+    private boolean collectionUsageThreshold = DEFAULT_COLLECTION_USAGE_THRESHOLD;
+    private Map<String, Double> priorities = Collections.emptyMap();
+
+    /**
+     * Default value ({@value #DEFAULT_ENABLED}).
+     *
+     * @return Whether the caches are resized according to the usage of the heap
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabled Whether the caches are resized according to the usage of the heap
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return The fraction of the old generation still used after a garbage collection above which the caches are shrunk
+     */
+    public double getUsageThreshold() {
+        return usageThreshold;
+    }
+
+    /**
+     * Default value ({@value #DEFAULT_USAGE_THRESHOLD}).
+     *
+     * @param usageThreshold The fraction of the old generation still used after a garbage collection above which the
+     *                       caches are shrunk
+     */
+    public void setUsageThreshold(double usageThreshold) {
+        this.usageThreshold = usageThreshold;
+    }
+
+    /**
+     * @return The fraction of the old generation still used after a garbage collection below which the caches are
+     * restored to their configured maximum
+     */
+    public double getRecoveryThreshold() {
+        return recoveryThreshold;
+    }
+
+    /**
+     * Default value ({@value #DEFAULT_RECOVERY_THRESHOLD}).
+     *
+     * @param recoveryThreshold The fraction of the old generation still used after a garbage collection below which
+     *                          the caches are restored to their configured maximum
+     */
+    public void setRecoveryThreshold(double recoveryThreshold) {
+        this.recoveryThreshold = recoveryThreshold;
+    }
+
+    /**
+     * @return The fraction of its current maximum a cache of priority 1 is shrunk by
+     */
+    public double getShrinkFactor() {
+        return shrinkFactor;
+    }
+
+    /**
+     * Default value ({@value #DEFAULT_SHRINK_FACTOR}). A cache is shrunk by the shrink factor divided by its priority.
+     *
+     * @param shrinkFactor The fraction of its current maximum a cache of priority 1 is shrunk by
+     */
+    public void setShrinkFactor(double shrinkFactor) {
+        this.shrinkFactor = shrinkFactor;
+    }
+
+    /**
+     * @return The fraction of its configured maximum below which a cache is not shrunk
+     */
+    public double getMinimumFraction() {
+        return minimumFraction;
+    }
+
+    /**
+     * Default value ({@value #DEFAULT_MINIMUM_FRACTION}).
+     *
+     * @param minimumFraction The fraction of its configured maximum below which a cache is not shrunk
+     */
+    public void setMinimumFraction(double minimumFraction) {
+        this.minimumFraction = minimumFraction;
+    }
+
+    /**
+     * @return The minimum interval between two shrinks, which lets the heap be collected after a shrink
+     */
+    public Duration getShrinkInterval() {
+        return shrinkInterval;
+    }
+
+    /**
+     * Default value ({@value #DEFAULT_SHRINK_INTERVAL_SECONDS} seconds).
+     *
+     * @param shrinkInterval The minimum interval between two shrinks
+     */
+    public void setShrinkInterval(Duration shrinkInterval) {
+        this.shrinkInterval = shrinkInterval;
+    }
+
+    /**
+     * @return Whether the collection usage threshold of the heap pools is set to the usage threshold
+     */
+    public boolean isCollectionUsageThreshold() {
+        return collectionUsageThreshold;
+    }
+
+    /**
+     * Default value ({@value #DEFAULT_COLLECTION_USAGE_THRESHOLD}). The usage of the heap is evaluated after each
+     * garbage collection either way. The threshold is global to the JVM, so setting it replaces any threshold set by
+     * other libraries until the monitor is closed.
+     *
+     * @param collectionUsageThreshold Whether the collection usage threshold of the heap pools is set to the usage
+     *                                 threshold, so that the pools that exceed it also notify the monitor
+     */
+    public void setCollectionUsageThreshold(boolean collectionUsageThreshold) {
+        this.collectionUsageThreshold = collectionUsageThreshold;
+    }
+
+    /**
+     * @return The priorities of the caches by cache name
+     */
+    @NonNull
+    public Map<String, Double> getPriorities() {
+        return priorities;
+    }
+
+    /**
+     * Sets the priorities of the caches by cache name. The caches have a priority of 1 by default, and a cache of
+     * priority 2 is shrunk half as much as a cache of priority 1.
+     *
+     * @param priorities The priorities of the caches
+     */
+    public void setPriorities(@NonNull Map<String, Double> priorities) {
+        this.priorities = priorities;
+    }
+}
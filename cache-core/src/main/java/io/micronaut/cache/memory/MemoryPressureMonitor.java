@@ -0,0 +1,252 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.memory;
+
+import io.micronaut.cache.CacheResizedEvent;
+import io.micronaut.cache.ResizableCache;
+import io.micronaut.context.BeanProvider;
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.TaskScheduler;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <p>Shrinks the {@link ResizableCache}s when the heap is nearly full, and restores them once it no longer is.</p>
+ *
+ * <p>The usage of the heap pools that report their usage after a garbage collection, such as the old generation, is
+ * evaluated after each garbage collection, and when a pool exceeds its collection usage threshold if
+ * {@link MemoryPressureConfiguration#isCollectionUsageThreshold()} is set. The notifications only schedule an
+ * evaluation on the scheduled executor, where the caches are resolved and resized. When a pool is
+ * still used above the {@link MemoryPressureConfiguration#getUsageThreshold() usage threshold} after a collection,
+ * each cache is shrunk by the {@link MemoryPressureConfiguration#getShrinkFactor() shrink factor} divided by its
+ * priority, at most once per {@link MemoryPressureConfiguration#getShrinkInterval() shrink interval}. Once all the
+ * pools are used below the {@link MemoryPressureConfiguration#getRecoveryThreshold() recovery threshold}, the caches
+ * are restored to the maximum they had before being shrunk. A {@link CacheResizedEvent} is published for each resize.</p>
+ *
+ * <p>Other components that resize the caches, such as a budget, should do so with {@link #resizeUnlessShrunk(Runnable)}
+ * so that they neither undo a shrink nor change the maximums that are restored.</p>
+ *
+ * @since 5.1.0
+ */
+@Context
+@Requires(property = MemoryPressureConfiguration.PREFIX + ".enabled", value = StringUtils.TRUE)
+public class MemoryPressureMonitor implements NotificationListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MemoryPressureMonitor.class);
+    private static final String GARBAGE_COLLECTION_NOTIFICATION = "com.sun.management.gc.notification";
+
+    private final MemoryPressureConfiguration configuration;
+    private final BeanProvider<ResizableCache> caches;
+    private final ApplicationEventPublisher<CacheResizedEvent> eventPublisher;
+    private final TaskScheduler scheduler;
+    private final AtomicBoolean evaluationScheduled = new AtomicBoolean();
+    private final List<MemoryPoolMXBean> pools = new ArrayList<>();
+    private final Map<MemoryPoolMXBean, Long> previousThresholds = new HashMap<>();
+    private final List<NotificationEmitter> emitters = new ArrayList<>();
+    private final Map<String, Long> configuredMaximums = new HashMap<>();
+    private final Map<String, Long> shrunkMaximums = new HashMap<>();
+    private long lastShrink;
+    private boolean shrunk;
+
+    /**
+     * @param configuration  The configuration
+     * @param caches         The caches that can be resized
+     * @param eventPublisher The publisher of the resize events
+     * @param scheduler      The scheduler that evaluates the usage of the heap
+     */
+    public MemoryPressureMonitor(MemoryPressureConfiguration configuration,
+                                 BeanProvider<ResizableCache> caches,
+                                 ApplicationEventPublisher<CacheResizedEvent> eventPublisher,
+                                 @Named(TaskExecutors.SCHEDULED) TaskScheduler scheduler) {
+        this.configuration = configuration;
+        this.caches = caches;
+        this.eventPublisher = eventPublisher;
+        this.scheduler = scheduler;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isCollectionUsageThresholdSupported() && pool.getUsage().getMax() > 0) {
+                if (configuration.isCollectionUsageThreshold()) {
+                    previousThresholds.put(pool, pool.getCollectionUsageThreshold());
+                    pool.setCollectionUsageThreshold((long) (pool.getUsage().getMax() * configuration.getUsageThreshold()));
+                }
+                pools.add(pool);
+            }
+        }
+        addListener(ManagementFactory.getMemoryMXBean());
+        for (GarbageCollectorMXBean garbageCollector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            addListener(garbageCollector);
+        }
+    }
+
+    @Override
+    public void handleNotification(Notification notification, Object handback) {
+        String type = notification.getType();
+        if ((MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED.equals(type) || GARBAGE_COLLECTION_NOTIFICATION.equals(type))
+            && evaluationScheduled.compareAndSet(false, true)) {
+            // the caches are resolved off the thread that delivers the notifications
+            scheduler.schedule(Duration.ZERO, () -> {
+                evaluationScheduled.set(false);
+                try {
+                    evaluate(collectionUsage());
+                } catch (RuntimeException e) {
+                    if (LOG.isErrorEnabled()) {
+                        LOG.error("Error resizing the caches: " + e.getMessage(), e);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Shrinks or restores the caches according to the given usage of the heap.
+     *
+     * @param usage The highest fraction of a heap pool used after the last garbage collection
+     */
+    synchronized void evaluate(double usage) {
+        if (usage >= configuration.getUsageThreshold()) {
+            long now = System.nanoTime();
+            if (!shrunk || now - lastShrink >= configuration.getShrinkInterval().toNanos()) {
+                lastShrink = now;
+                shrunk = true;
+                shrink(usage);
+            }
+        } else if (shrunk && usage < configuration.getRecoveryThreshold()) {
+            shrunk = false;
+            restore(usage);
+        }
+    }
+
+    /**
+     * @return Whether the caches are shrunk because of memory pressure
+     */
+    public synchronized boolean isShrunk() {
+        return shrunk;
+    }
+
+    /**
+     * Runs a resize of the caches by another component, unless the caches are shrunk because of memory pressure. The
+     * caches are neither shrunk nor restored while the resize runs.
+     *
+     * @param resize The resize
+     * @return Whether the resize ran
+     */
+    public synchronized boolean resizeUnlessShrunk(Runnable resize) {
+        if (shrunk) {
+            return false;
+        }
+        resize.run();
+        return true;
+    }
+
+    /**
+     * Stops listening to the memory notifications, and restores the collection usage thresholds it set.
+     */
+    @PreDestroy
+    public void close() {
+        previousThresholds.forEach(MemoryPoolMXBean::setCollectionUsageThreshold);
+        previousThresholds.clear();
+        for (NotificationEmitter emitter : emitters) {
+            try {
+                emitter.removeNotificationListener(this);
+            } catch (ListenerNotFoundException ignored) {
+                // already removed
+            }
+        }
+        emitters.clear();
+    }
+
+    private void shrink(double usage) {
+        caches.stream().forEach(cache -> {
+            OptionalLong maximum = cache.getMaximum();
+            if (maximum.isEmpty()) {
+                return;
+            }
+            long current = maximum.getAsLong();
+            long configured = configuredMaximums.computeIfAbsent(cache.getName(), name -> current);
+            double priority = configuration.getPriorities().getOrDefault(cache.getName(), 1.0);
+            long minimum = (long) Math.ceil(configured * configuration.getMinimumFraction());
+            long target = Math.max(minimum, (long) (current * (1 - configuration.getShrinkFactor() / Math.max(priority, 1.0))));
+            if (target < current) {
+                if (LOG.isInfoEnabled()) {
+                    LOG.info("Shrinking cache [{}] from {} to {}, {}% of the heap is used after garbage collection", cache.getName(), current, target, Math.round(usage * 100));
+                }
+                resize(cache, current, target, CacheResizedEvent.Cause.MEMORY_PRESSURE);
+                shrunkMaximums.put(cache.getName(), target);
+            }
+        });
+    }
+
+    private void restore(double usage) {
+        caches.stream().forEach(cache -> {
+            Long configured = configuredMaximums.remove(cache.getName());
+            Long shrunkMaximum = shrunkMaximums.remove(cache.getName());
+            OptionalLong maximum = cache.getMaximum();
+            // a cache resized by something else since it was shrunk keeps its new maximum
+            if (configured != null && maximum.isPresent() && shrunkMaximum != null && maximum.getAsLong() == shrunkMaximum) {
+                if (LOG.isInfoEnabled()) {
+                    LOG.info("Restoring cache [{}] to {}, {}% of the heap is used after garbage collection", cache.getName(), configured, Math.round(usage * 100));
+                }
+                resize(cache, maximum.getAsLong(), configured, CacheResizedEvent.Cause.MEMORY_RECOVERED);
+            }
+        });
+    }
+
+    private void resize(ResizableCache cache, long previousMaximum, long maximum, CacheResizedEvent.Cause cause) {
+        cache.setMaximum(maximum);
+        eventPublisher.publishEvent(new CacheResizedEvent(cache.getName(), previousMaximum, maximum, cause));
+    }
+
+    private double collectionUsage() {
+        double usage = 0;
+        for (MemoryPoolMXBean pool : pools) {
+            MemoryUsage collectionUsage = pool.getCollectionUsage();
+            if (collectionUsage != null && collectionUsage.getMax() > 0) {
+                usage = Math.max(usage, (double) collectionUsage.getUsed() / collectionUsage.getMax());
+            }
+        }
+        return usage;
+    }
+
+    private void addListener(Object bean) {
+        if (bean instanceof NotificationEmitter emitter) {
+            emitter.addNotificationListener(this, null, null);
+            emitters.add(emitter);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.memory.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micronaut.cache.CacheResizedEvent;
+import io.micronaut.configuration.metrics.annotation.RequiresMetrics;
+import io.micronaut.context.BeanProvider;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.core.util.StringUtils;
+import jakarta.inject.Singleton;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.micronaut.configuration.metrics.micrometer.MeterRegistryFactory.MICRONAUT_METRICS_BINDERS;
+
+/**
+ * Records the resizes of the caches with Micrometer. The meters are tagged with the name of the cache:
+ *
+ * <ul>
+ *     <li>{@code cache.resizes}, the number of resizes, tagged with their {@code cause}</li>
+ *     <li>{@code cache.maximum}, the maximum size or weight of the cache set by the last resize</li>
+ * </ul>
+ *
+ * @since 5.1.0
+ */
+@Singleton
+@RequiresMetrics
+@Requires(property = MICRONAUT_METRICS_BINDERS + ".cache.enabled", notEquals = StringUtils.FALSE)
+public class MicrometerCacheResizeMetrics implements ApplicationEventListener<CacheResizedEvent> {
+
+    private final BeanProvider<MeterRegistry> meterRegistryProvider;
+    private final Map<String, AtomicLong> maximums = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor.
+     *
+     * @param meterRegistryProvider The meter registry.
+     */
+    protected MicrometerCacheResizeMetrics(BeanProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    @Override
+    public void onApplicationEvent(CacheResizedEvent event) {
+        MeterRegistry registry = meterRegistryProvider.get();
+        Tags tags = Tags.of("cache", event.getCacheName());
+        Counter.builder("cache.resizes").tags(tags.and("cause", event.getCause().name().toLowerCase(Locale.ENGLISH)))
+            .description("The number of times the cache was resized").register(registry)
+            .increment();
+        maximums.computeIfAbsent(event.getCacheName(), name -> {
+            AtomicLong maximum = new AtomicLong();
+            Gauge.builder("cache.maximum", maximum, AtomicLong::get).tags(tags)
+                .description("The maximum size or weight of the cache set by the last resize").register(registry);
+            return maximum;
+        }).set(event.getMaximum());
+    }
+}
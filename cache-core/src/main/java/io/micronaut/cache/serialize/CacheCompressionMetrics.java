@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.serialize;
+
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * Records the compression of the values of the caches that compress their values. The metrics of a cache are resolved
+ * once, so that recording them doesn't allocate.
+ *
+ * @since 5.1.0
+ */
+public interface CacheCompressionMetrics {
+
+    /**
+     * @param cacheName The name of the cache
+     * @return The metrics of the cache
+     */
+    @NonNull
+    CompressionMetrics forCache(@NonNull String cacheName);
+
+    /**
+     * The compression metrics of a cache.
+     */
+    interface CompressionMetrics {
+
+        /**
+         * Metrics that record nothing.
+         */
+        CompressionMetrics NOOP = new CompressionMetrics() {
+            @Override
+            public void compressed(int originalBytes, int compressedBytes, long nanos) {
+            }
+
+            @Override
+            public void skipped(int bytes) {
+            }
+
+            @Override
+            public void decompressed(long nanos) {
+            }
+        };
+
+        /**
+         * @param originalBytes   The size of the value before compression
+         * @param compressedBytes The size of the stored value
+         * @param nanos           The duration of the compression in nanoseconds
+         */
+        void compressed(int originalBytes, int compressedBytes, long nanos);
+
+        /**
+         * @param bytes The size of a value that was stored without compression, because it is below the threshold
+         */
+        void skipped(int bytes);
+
+        /**
+         * @param nanos The duration of a decompression in nanoseconds
+         */
+        void decompressed(long nanos);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.serialize;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.serialize.exceptions.SerializationException;
+import io.micronaut.core.type.Argument;
+
+import java.util.Optional;
+
+/**
+ * <p>Encodes the values stored in a remote cache, such as Hazelcast or Infinispan, into bytes, in place of the
+ * serialization of the cache client.</p>
+ *
+ * <p>When a codec bean is available, the remote caches store the encoded bytes and decode them when they are read.
+ * See {@link SerdeCacheValueCodec}.</p>
+ *
+ * @since 5.1.0
+ */
+public interface CacheValueCodec {
+
+    /**
+     * @param value The value
+     * @return The encoded value
+     * @throws SerializationException if the value can't be encoded
+     */
+    @NonNull
+    byte[] encode(@NonNull Object value);
+
+    /**
+     * @param bytes        The encoded value
+     * @param requiredType The required type
+     * @param <T>          The required type
+     * @return The decoded value, or empty if it can't be converted to the required type
+     * @throws SerializationException if the bytes can't be decoded
+     */
+    @NonNull
+    <T> Optional<T> decode(@NonNull byte[] bytes, @NonNull Argument<T> requiredType);
+}
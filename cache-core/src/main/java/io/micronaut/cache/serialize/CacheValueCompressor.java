@@ -0,0 +1,136 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.serialize;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.serialize.exceptions.SerializationException;
+
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * <p>Compresses serialized values with Deflate at its fastest level, once they reach a size threshold.</p>
+ *
+ * <p>The first byte of a compressed value tells whether it is stored as it is or deflated. A deflated value is followed
+ * by its original size, so that it can be inflated into a single array. Values that don't shrink are stored as they
+ * are.</p>
+ *
+ * @since 5.1.0
+ */
+@Internal
+public final class CacheValueCompressor {
+
+    private static final byte RAW = 0;
+    private static final byte DEFLATE = 1;
+    private static final int HEADER = 5;
+
+    private final int threshold;
+    private final CacheCompressionMetrics.CompressionMetrics metrics;
+
+    /**
+     * @param threshold The size from which the values are compressed
+     * @param metrics   The metrics
+     */
+    public CacheValueCompressor(int threshold, @NonNull CacheCompressionMetrics.CompressionMetrics metrics) {
+        this.threshold = threshold;
+        this.metrics = metrics;
+    }
+
+    /**
+     * @param bytes The serialized value
+     * @return The stored value
+     */
+    @NonNull
+    public byte[] compress(@NonNull byte[] bytes) {
+        if (bytes.length < threshold) {
+            metrics.skipped(bytes.length);
+            return raw(bytes);
+        }
+        long start = System.nanoTime();
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            byte[] output = new byte[HEADER + bytes.length];
+            int length = HEADER;
+            while (!deflater.finished() && length < output.length) {
+                length += deflater.deflate(output, length, output.length - length);
+            }
+            if (!deflater.finished()) {
+                // the value doesn't shrink
+                metrics.compressed(bytes.length, bytes.length + 1, System.nanoTime() - start);
+                return raw(bytes);
+            }
+            output[0] = DEFLATE;
+            output[1] = (byte) (bytes.length >>> 24);
+            output[2] = (byte) (bytes.length >>> 16);
+            output[3] = (byte) (bytes.length >>> 8);
+            output[4] = (byte) bytes.length;
+            metrics.compressed(bytes.length, length, System.nanoTime() - start);
+            return Arrays.copyOf(output, length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * @param stored The stored value
+     * @return The serialized value
+     */
+    @NonNull
+    public byte[] decompress(@NonNull byte[] stored) {
+        if (stored.length == 0) {
+            throw new SerializationException("Empty compressed value");
+        }
+        if (stored[0] == RAW) {
+            return Arrays.copyOfRange(stored, 1, stored.length);
+        }
+        if (stored[0] != DEFLATE || stored.length < HEADER) {
+            throw new SerializationException("Unknown compressed value format: " + stored[0]);
+        }
+        long start = System.nanoTime();
+        int length = ((stored[1] & 0xFF) << 24) | ((stored[2] & 0xFF) << 16) | ((stored[3] & 0xFF) << 8) | (stored[4] & 0xFF);
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(stored, HEADER, stored.length - HEADER);
+            byte[] bytes = new byte[length];
+            int offset = 0;
+            while (offset < length) {
+                int inflated = inflater.inflate(bytes, offset, length - offset);
+                if (inflated == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new SerializationException("Truncated compressed value");
+                }
+                offset += inflated;
+            }
+            metrics.decompressed(System.nanoTime() - start);
+            return bytes;
+        } catch (DataFormatException e) {
+            throw new SerializationException("Error decompressing value: " + e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte[] raw(byte[] bytes) {
+        byte[] output = new byte[bytes.length + 1];
+        output[0] = RAW;
+        System.arraycopy(bytes, 0, output, 1, bytes.length);
+        return output;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.serialize;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.ConversionContext;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.Argument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Converts the values of a remote cache from and to their stored form, with the {@link CacheValueCodec} if there is
+ * one, and with the {@link ConversionService} otherwise.
+ *
+ * @since 5.1.0
+ */
+@Internal
+public final class CacheValueConverter {
+
+    private final ConversionService conversionService;
+    @Nullable
+    private final CacheValueCodec codec;
+
+    /**
+     * @param conversionService The conversion service
+     * @param codec             The codec, or null to store the values as they are
+     */
+    public CacheValueConverter(@NonNull ConversionService conversionService, @Nullable CacheValueCodec codec) {
+        this.conversionService = conversionService;
+        this.codec = codec;
+    }
+
+    /**
+     * @return The conversion service
+     */
+    @NonNull
+    public ConversionService getConversionService() {
+        return conversionService;
+    }
+
+    /**
+     * @param value The value
+     * @return The value to store
+     */
+    @NonNull
+    public Object encode(@NonNull Object value) {
+        return codec == null ? value : codec.encode(value);
+    }
+
+    /**
+     * @param values The values
+     * @return The values to store
+     */
+    @NonNull
+    public Map<?, ?> encodeAll(@NonNull Map<?, ?> values) {
+        if (codec == null) {
+            return values;
+        }
+        Map<Object, Object> encoded = new LinkedHashMap<>(values.size());
+        values.forEach((key, value) -> encoded.put(key, codec.encode(value)));
+        return encoded;
+    }
+
+    /**
+     * @param stored       The stored value, if any
+     * @param requiredType The required type
+     * @param <T>          The required type
+     * @return The value
+     */
+    @NonNull
+    public <T> Optional<T> decode(@Nullable Object stored, @NonNull Argument<T> requiredType) {
+        if (stored == null) {
+            return Optional.empty();
+        }
+        if (codec != null && stored instanceof byte[] bytes) {
+            return codec.decode(bytes, requiredType);
+        }
+        return conversionService.convert(stored, ConversionContext.of(requiredType));
+    }
+}
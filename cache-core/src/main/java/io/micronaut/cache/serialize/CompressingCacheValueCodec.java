@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.serialize;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.type.Argument;
+
+import java.util.Optional;
+
+/**
+ * A {@link CacheValueCodec} that compresses the values encoded by another codec once they reach a size threshold.
+ *
+ * @since 5.1.0
+ */
+public class CompressingCacheValueCodec implements CacheValueCodec {
+
+    private final CacheValueCodec codec;
+    private final CacheValueCompressor compressor;
+
+    /**
+     * @param codec     The codec that encodes the values
+     * @param threshold The encoded size from which the values are compressed
+     * @param metrics   The compression metrics
+     */
+    public CompressingCacheValueCodec(@NonNull CacheValueCodec codec,
+                                      int threshold,
+                                      @NonNull CacheCompressionMetrics.CompressionMetrics metrics) {
+        this.codec = codec;
+        this.compressor = new CacheValueCompressor(threshold, metrics);
+    }
+
+    @NonNull
+    @Override
+    public byte[] encode(@NonNull Object value) {
+        return compressor.compress(codec.encode(value));
+    }
+
+    @NonNull
+    @Override
+    public <T> Optional<T> decode(@NonNull byte[] bytes, @NonNull Argument<T> requiredType) {
+        return codec.decode(compressor.decompress(bytes), requiredType);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.serialize;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.serialize.JdkSerializer;
+import io.micronaut.core.serialize.exceptions.SerializationException;
+import io.micronaut.core.type.Argument;
+
+import java.util.Optional;
+
+/**
+ * A {@link CacheValueCodec} that encodes {@link java.io.Serializable} values with Java serialization. It is used to
+ * compress the values of a cache when no other codec is available.
+ *
+ * @since 5.1.0
+ */
+public class JdkCacheValueCodec implements CacheValueCodec {
+
+    private final JdkSerializer serializer;
+
+    /**
+     * @param conversionService The conversion service
+     */
+    public JdkCacheValueCodec(@NonNull ConversionService conversionService) {
+        this.serializer = new JdkSerializer(conversionService);
+    }
+
+    @NonNull
+    @Override
+    public byte[] encode(@NonNull Object value) {
+        return serializer.serialize(value)
+            .orElseThrow(() -> new SerializationException("Error encoding value of type " + value.getClass().getName()));
+    }
+
+    @NonNull
+    @Override
+    public <T> Optional<T> decode(@NonNull byte[] bytes, @NonNull Argument<T> requiredType) {
+        return serializer.deserialize(bytes, requiredType);
+    }
+}
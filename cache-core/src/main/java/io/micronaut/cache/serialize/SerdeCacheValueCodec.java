@@ -0,0 +1,184 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.serialize;
+
+import io.micronaut.cache.interceptor.NegativeCacheEntry;
+import io.micronaut.cache.interceptor.RefreshableValue;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.convert.ConversionContext;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.reflect.ClassUtils;
+import io.micronaut.core.serialize.JdkSerializer;
+import io.micronaut.core.serialize.exceptions.SerializationException;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.ObjectMapper;
+import jakarta.inject.Singleton;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+/**
+ * <p>A {@link CacheValueCodec} that encodes the values with Micronaut Serde, so that the cached types only need to be
+ * {@link io.micronaut.serde.annotation.Serdeable} instead of {@link Serializable}.</p>
+ *
+ * <p>The encoded value starts with a header holding the class of the value, followed by the output of the
+ * {@link ObjectMapper}. Values that Serde can't encode but that are {@link Serializable} are encoded with Java
+ * serialization instead.</p>
+ *
+ * <p>The {@link RefreshableValue} and {@link NegativeCacheEntry} wrappers of the cache interceptor are encoded by the
+ * codec itself, and the value of a {@link RefreshableValue} is encoded like any other value, so that it only needs to
+ * be {@link io.micronaut.serde.annotation.Serdeable}.</p>
+ *
+ * <p>The codec is enabled with {@code micronaut.cache.codec.serde.enabled}.</p>
+ *
+ * @since 5.1.0
+ */
+@Singleton
+@Requires(classes = ObjectMapper.class)
+@Requires(property = SerdeCacheValueCodec.ENABLED, value = "true")
+public class SerdeCacheValueCodec implements CacheValueCodec {
+
+    /**
+     * The property that enables the codec.
+     */
+    public static final String ENABLED = "micronaut.cache.codec.serde.enabled";
+
+    private static final byte SERDE = 1;
+    private static final byte JDK = 2;
+    private static final byte REFRESHABLE = 3;
+    private static final byte NEGATIVE = 4;
+
+    private final ObjectMapper objectMapper;
+    private final JdkSerializer jdkSerializer;
+    private final ConversionService conversionService;
+    private final ClassLoader classLoader;
+
+    /**
+     * @param objectMapper      The object mapper
+     * @param conversionService The conversion service
+     */
+    public SerdeCacheValueCodec(ObjectMapper objectMapper, ConversionService conversionService) {
+        this.objectMapper = objectMapper;
+        this.conversionService = conversionService;
+        this.jdkSerializer = new JdkSerializer(conversionService);
+        this.classLoader = SerdeCacheValueCodec.class.getClassLoader();
+    }
+
+    @NonNull
+    @Override
+    public byte[] encode(@NonNull Object value) {
+        byte format;
+        byte[] payload;
+        if (value instanceof RefreshableValue refreshable) {
+            byte[] encoded = encode(refreshable.getValue());
+            payload = ByteBuffer.allocate(Long.BYTES + encoded.length)
+                .putLong(refreshable.getWriteTime())
+                .put(encoded)
+                .array();
+            format = REFRESHABLE;
+        } else if (value instanceof NegativeCacheEntry negative) {
+            payload = ByteBuffer.allocate(Long.BYTES).putLong(negative.getExpiresAt()).array();
+            format = NEGATIVE;
+        } else {
+            try {
+                payload = objectMapper.writeValueAsBytes(value);
+                format = SERDE;
+            } catch (IOException | RuntimeException e) {
+                if (!(value instanceof Serializable)) {
+                    throw new SerializationException("Error encoding value of type " + value.getClass().getName() + ": " + e.getMessage(), e);
+                }
+                payload = jdkSerializer.serialize(value).orElse(null);
+                format = JDK;
+            }
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(payload.length + 64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(format);
+            out.writeUTF(value.getClass().getName());
+            out.write(payload);
+        } catch (IOException e) {
+            throw new SerializationException("Error encoding value: " + e.getMessage(), e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @NonNull
+    @Override
+    public <T> Optional<T> decode(@NonNull byte[] bytes, @NonNull Argument<T> requiredType) {
+        ByteArrayInputStream input = new ByteArrayInputStream(bytes);
+        byte format;
+        String typeName;
+        try (DataInputStream in = new DataInputStream(input)) {
+            format = in.readByte();
+            typeName = in.readUTF();
+        } catch (IOException e) {
+            throw new SerializationException("Error decoding value: " + e.getMessage(), e);
+        }
+        byte[] payload = input.readAllBytes();
+        if (format == JDK) {
+            return jdkSerializer.deserialize(payload, requiredType);
+        }
+        if (format == NEGATIVE) {
+            return convert(new NegativeCacheEntry(ByteBuffer.wrap(payload).getLong()), requiredType);
+        }
+        if (format == REFRESHABLE) {
+            ByteBuffer buffer = ByteBuffer.wrap(payload);
+            long writeTime = buffer.getLong();
+            byte[] encoded = new byte[buffer.remaining()];
+            buffer.get(encoded);
+            Optional<Object> refreshed = decode(encoded, Argument.OBJECT_ARGUMENT);
+            if (refreshed.isEmpty()) {
+                return Optional.empty();
+            }
+            return convert(new RefreshableValue(refreshed.get(), writeTime), requiredType);
+        }
+        if (format != SERDE) {
+            throw new SerializationException("Unknown cache value format: " + format);
+        }
+        Class<?> storedType = ClassUtils.forName(typeName, classLoader)
+            .orElseThrow(() -> new SerializationException("Cached value type not found: " + typeName));
+        Argument<?> readType = requiredType.getType() != Object.class && requiredType.getType().isAssignableFrom(storedType)
+            ? requiredType : Argument.of(storedType);
+        if (readType.getTypeParameters().length == 0 && readType.getType().getTypeParameters().length > 0) {
+            // raw collections and maps can't be read by type, so they are read as plain JSON values
+            readType = Argument.OBJECT_ARGUMENT;
+        }
+        Object value;
+        try {
+            value = objectMapper.readValue(payload, readType);
+        } catch (IOException e) {
+            throw new SerializationException("Error decoding value of type " + typeName + ": " + e.getMessage(), e);
+        }
+        if (value == null) {
+            return Optional.empty();
+        }
+        return convert(value, requiredType);
+    }
+
+    private <T> Optional<T> convert(Object value, Argument<T> requiredType) {
+        if (requiredType.getType().isInstance(value)) {
+            return Optional.of((T) value);
+        }
+        return conversionService.convert(value, ConversionContext.of(requiredType));
+    }
+}
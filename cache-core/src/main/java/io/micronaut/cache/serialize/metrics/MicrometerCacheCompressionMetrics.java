@@ -0,0 +1,109 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.serialize.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.cache.serialize.CacheCompressionMetrics;
+import io.micronaut.configuration.metrics.annotation.RequiresMetrics;
+import io.micronaut.context.BeanProvider;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.StringUtils;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.micronaut.configuration.metrics.micrometer.MeterRegistryFactory.MICRONAUT_METRICS_BINDERS;
+
+/**
+ * Records the compression of cached values with Micrometer. The meters are tagged with the name of the cache:
+ *
+ * <ul>
+ *     <li>{@code cache.compression.ratio}, the size of the values before compression divided by their stored size</li>
+ *     <li>{@code cache.compression.compress}, the time to compress a value</li>
+ *     <li>{@code cache.compression.decompress}, the time to decompress a value</li>
+ *     <li>{@code cache.compression.skipped}, the number of values stored uncompressed because they are below the threshold</li>
+ * </ul>
+ *
+ * @since 5.1.0
+ */
+@Singleton
+@RequiresMetrics
+@Requires(property = MICRONAUT_METRICS_BINDERS + ".cache.enabled", notEquals = StringUtils.FALSE)
+public class MicrometerCacheCompressionMetrics implements CacheCompressionMetrics {
+
+    private final BeanProvider<MeterRegistry> meterRegistryProvider;
+
+    /**
+     * Default constructor.
+     *
+     * @param meterRegistryProvider The meter registry.
+     */
+    protected MicrometerCacheCompressionMetrics(BeanProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    @Override
+    @NonNull
+    public CompressionMetrics forCache(@NonNull String cacheName) {
+        MeterRegistry registry = meterRegistryProvider.get();
+        Tags tags = Tags.of("cache", cacheName);
+        return new MicrometerCompressionMetrics(
+            DistributionSummary.builder("cache.compression.ratio").tags(tags)
+                .description("The size of the values before compression divided by their stored size").register(registry),
+            Timer.builder("cache.compression.compress").tags(tags)
+                .description("The time to compress a value").register(registry),
+            Timer.builder("cache.compression.decompress").tags(tags)
+                .description("The time to decompress a value").register(registry),
+            Counter.builder("cache.compression.skipped").tags(tags)
+                .description("The number of values stored uncompressed because they are below the threshold").register(registry)
+        );
+    }
+
+    /**
+     * The meters of a cache.
+     *
+     * @param ratio      The compression ratio summary
+     * @param compress   The compression timer
+     * @param decompress The decompression timer
+     * @param skipped    The skipped counter
+     */
+    private record MicrometerCompressionMetrics(DistributionSummary ratio,
+                                                Timer compress,
+                                                Timer decompress,
+                                                Counter skipped) implements CompressionMetrics {
+
+        @Override
+        public void compressed(int originalBytes, int compressedBytes, long nanos) {
+            ratio.record((double) originalBytes / compressedBytes);
+            compress.record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void skipped(int bytes) {
+            skipped.increment();
+        }
+
+        @Override
+        public void decompressed(long nanos) {
+            decompress.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.micronaut.cache
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.runtime.ApplicationConfiguration
+import io.micronaut.scheduling.TaskExecutors
+import spock.lang.Specification
+
+import java.util.concurrent.ExecutorService
+
+class CacheExecutorResolverSpec extends Specification {
+
+    void "test the io executor is used by default"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+
+        expect:
+        context.getBean(CacheExecutorResolver).resolve("books").is(ioExecutor(context))
+
+        cleanup:
+        context.close()
+    }
+
+    void "test the executor of all the caches can be configured"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'micronaut.executors.cache-pool.type': 'fixed',
+                'micronaut.executors.cache-pool.number-of-threads': 2,
+                (CacheExecutorResolver.EXECUTOR): 'cache-pool'
+        )
+
+        expect:
+        context.getBean(CacheExecutorResolver).resolve("books").is(context.getBean(ExecutorService, Qualifiers.byName("cache-pool")))
+
+        cleanup:
+        context.close()
+    }
+
+    void "test the executor of a cache can be configured"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                'micronaut.executors.cache-pool.type': 'fixed',
+                'micronaut.executors.cache-pool.number-of-threads': 2
+        )
+        CacheConfiguration configuration = new CacheConfiguration("books", context.getBean(ApplicationConfiguration))
+        configuration.executor = 'cache-pool'
+        context.registerSingleton(CacheConfiguration, configuration, Qualifiers.byName("books"))
+        CacheExecutorResolver resolver = context.getBean(CacheExecutorResolver)
+
+        expect:
+        resolver.resolve("books").is(context.getBean(ExecutorService, Qualifiers.byName("cache-pool")))
+        resolver.resolve("authors").is(ioExecutor(context))
+        resolver.resolve("authors", "cache-pool").is(context.getBean(ExecutorService, Qualifiers.byName("cache-pool")))
+
+        cleanup:
+        context.close()
+    }
+
+    void "test the io executor is used when the configured executor doesn't exist"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                (CacheExecutorResolver.EXECUTOR): 'missing'
+        )
+
+        expect:
+        context.getBean(CacheExecutorResolver).resolve("books").is(ioExecutor(context))
+
+        cleanup:
+        context.close()
+    }
+
+    private static ExecutorService ioExecutor(ApplicationContext context) {
+        context.getBean(ExecutorService, Qualifiers.byName(TaskExecutors.IO))
+    }
+}
@@ -0,0 +1,72 @@
+package io.micronaut.cache.interceptor
+
+import io.micronaut.core.annotation.AnnotationMetadata
+import spock.lang.Specification
+
+class ParametersKeySpec extends Specification {
+
+    void "test specialized keys are equal to the array based key"() {
+        given:
+        ParametersKey specialized = ParametersKey.of(params as Object[])
+        ParametersKey arrayBased = new ParametersKey(params as Object[])
+
+        expect:
+        specialized.class.simpleName == type
+        specialized == arrayBased
+        arrayBased == specialized
+        specialized.hashCode() == arrayBased.hashCode()
+        specialized.toString() == arrayBased.toString()
+        specialized == ParametersKey.of(params as Object[])
+        specialized != ParametersKey.of((params + "other") as Object[])
+
+        where:
+        params                    | type
+        ["a", 1]                  | "ParametersKey2"
+        ["a", null, 2L]           | "ParametersKey3"
+        [1, 2.5d, "c", true]      | "ParametersKey4"
+        [1, 2, 3, 4, 5]           | "ParametersKey"
+        [[1, 2] as int[], "b"]    | "ParametersKey"
+    }
+
+    void "test specialized keys are serialized as array based keys"() {
+        given:
+        ParametersKey specialized = ParametersKey.of("a", 1)
+        ByteArrayOutputStream specializedBytes = new ByteArrayOutputStream()
+        ByteArrayOutputStream arrayBasedBytes = new ByteArrayOutputStream()
+
+        when:
+        new ObjectOutputStream(specializedBytes).withCloseable { it.writeObject(specialized) }
+        new ObjectOutputStream(arrayBasedBytes).withCloseable { it.writeObject(new ParametersKey("a", 1)) }
+        Object deserialized = new ObjectInputStream(new ByteArrayInputStream(specializedBytes.toByteArray())).readObject()
+
+        then:
+        specializedBytes.toByteArray() == arrayBasedBytes.toByteArray()
+        deserialized.class == ParametersKey
+        deserialized == specialized
+        specialized == deserialized
+        ObjectStreamClass.lookup(ParametersKey).serialVersionUID == 6055593281460290293L
+    }
+
+    void "test the default key generator uses the specialized keys"() {
+        given:
+        def generator = new DefaultCacheKeyGenerator()
+
+        expect:
+        generator.generateKey(AnnotationMetadata.EMPTY_METADATA) == ParametersKey.ZERO_ARG_KEY
+        generator.generateKey(AnnotationMetadata.EMPTY_METADATA, "a") == "a"
+        generator.generateKey(AnnotationMetadata.EMPTY_METADATA, "a", "b") instanceof ParametersKey2
+        generator.generateKey(AnnotationMetadata.EMPTY_METADATA, "a", "b") == new ParametersKey("a", "b")
+    }
+
+    void "test the long hash key generator"() {
+        given:
+        def generator = new LongHashCacheKeyGenerator()
+
+        expect:
+        generator.generateKey(AnnotationMetadata.EMPTY_METADATA, "a", 1) instanceof Long
+        generator.generateKey(AnnotationMetadata.EMPTY_METADATA, "a", 1) == generator.generateKey(AnnotationMetadata.EMPTY_METADATA, "a", 1)
+        generator.generateKey(AnnotationMetadata.EMPTY_METADATA, "a", 1) != generator.generateKey(AnnotationMetadata.EMPTY_METADATA, 1, "a")
+        generator.generateKey(AnnotationMetadata.EMPTY_METADATA, "a") != generator.generateKey(AnnotationMetadata.EMPTY_METADATA, "a", null)
+        generator.generateKey(AnnotationMetadata.EMPTY_METADATA, 1L) != generator.generateKey(AnnotationMetadata.EMPTY_METADATA, 1L << 32)
+    }
+}
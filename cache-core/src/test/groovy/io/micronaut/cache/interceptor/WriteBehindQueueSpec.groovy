@@ -0,0 +1,64 @@
+package io.micronaut.cache.interceptor
+
+import io.micronaut.cache.AsyncCache
+import io.micronaut.cache.CacheErrorHandler
+import io.micronaut.cache.exceptions.CacheSystemException
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.Executor
+
+class WriteBehindQueueSpec extends Specification {
+
+    AsyncCache cache = Mock(AsyncCache) {
+        getName() >> "books"
+    }
+
+    void "test the puts of a batch in flight are invalidated again when the queue is discarded"() {
+        given:
+        CompletableFuture<Boolean> putAll = new CompletableFuture<>()
+        WriteBehindQueue queue = new WriteBehindQueue(cache, new CacheErrorHandler() {}, { it.run() } as Executor,
+                new CacheInterceptorConfiguration.WriteBehindConfiguration())
+
+        when:
+        queue.put("one", "first")
+        queue.flushPending()
+
+        then:
+        1 * cache.putAll([one: "first"]) >> putAll
+
+        when:
+        queue.discard()
+        putAll.complete(true)
+
+        then:
+        1 * cache.invalidateAll({ it as List == ["one"] }) >> CompletableFuture.completedFuture(true)
+    }
+
+    void "test puts are rejected without waiting when the queue is full"() {
+        given:
+        List<Runnable> flushes = []
+        CacheInterceptorConfiguration.WriteBehindConfiguration configuration = new CacheInterceptorConfiguration.WriteBehindConfiguration()
+        configuration.maxBatchSize = 2
+        configuration.capacity = 2
+        configuration.onOverflow = CacheInterceptorConfiguration.OverflowMode.FAIL
+        WriteBehindQueue queue = new WriteBehindQueue(cache, new CacheErrorHandler() {}, { flushes << it } as Executor, configuration)
+
+        when:
+        queue.put("one", "first")
+        queue.put("two", "first")
+        queue.put("three", "first")
+
+        then:
+        thrown(CacheSystemException)
+        queue.droppedCount == 1
+        flushes.size() == 1
+
+        when: "invalidations are queued regardless"
+        queue.put("four", null)
+
+        then:
+        queue.pendingCount == 3
+        0 * cache._(*_)
+    }
+}
@@ -1,5 +1,6 @@
 package io.micronaut.cache.jcache
 
+import io.micronaut.cache.SyncCache
 import io.micronaut.cache.annotation.CacheConfig
 import io.micronaut.cache.annotation.CacheInvalidate
 import io.micronaut.cache.annotation.CachePut
@@ -10,6 +11,8 @@ import io.micronaut.context.ApplicationContext
 import io.micronaut.context.annotation.Factory
 import io.micronaut.context.annotation.Requires
 import io.micronaut.core.async.annotation.SingleResult
+import io.micronaut.core.convert.ConversionService
+import io.micronaut.core.type.Argument
 import jakarta.inject.Singleton
 import org.reactivestreams.Publisher
 import reactor.core.publisher.Flux
@@ -116,6 +119,22 @@ class JCacheSyncCacheSpec extends Specification {
         counterService.getValue2("test") == 1
     }
 
+    void "test putAll invalidates the keys of null values"() {
+        given:
+        CacheManager cacheManager = Caching.getCachingProvider().cacheManager
+        SyncCache syncCache = new JCacheSyncCache(cacheManager.createCache('bulk', new MutableConfiguration()), ConversionService.SHARED, null)
+
+        when:
+        syncCache.putAll(ten: 10, eleven: 11)
+        syncCache.putAll(ten: null, eleven: 12, twelve: null)
+
+        then:
+        syncCache.getAll(["ten", "eleven", "twelve"], Argument.of(Integer)) == [eleven: 12]
+
+        cleanup:
+        cacheManager.destroyCache('bulk')
+    }
+
     @Factory
     @Requires(property = JCacheManager.JCACHE_ENABLED, value = "true")
     @Requires(property = "spec.name", value = "JCacheSyncCacheSpec")
@@ -0,0 +1,73 @@
+package io.micronaut.cache.serialize
+
+import io.micronaut.core.convert.ConversionService
+import io.micronaut.core.type.Argument
+import spock.lang.Specification
+
+class CompressingCacheValueCodecSpec extends Specification {
+
+    RecordingMetrics metrics = new RecordingMetrics()
+    CacheValueCodec codec = new CompressingCacheValueCodec(new JdkCacheValueCodec(ConversionService.SHARED), 1024, metrics)
+
+    void "test values below the threshold are stored uncompressed"() {
+        when:
+        byte[] encoded = codec.encode("small")
+
+        then:
+        encoded[0] == 0 as byte
+        codec.decode(encoded, Argument.STRING).get() == "small"
+        metrics.skipped == 1
+        metrics.ratios.isEmpty()
+    }
+
+    void "test values above the threshold are compressed"() {
+        given:
+        String value = "cached value " * 10_000
+
+        when:
+        byte[] encoded = codec.encode(value)
+
+        then:
+        encoded[0] == 1 as byte
+        encoded.length < value.length() / 10
+        codec.decode(encoded, Argument.STRING).get() == value
+        metrics.ratios.size() == 1
+        metrics.ratios[0] > 10
+        metrics.decompressions == 1
+    }
+
+    void "test values that don't shrink are stored uncompressed"() {
+        given:
+        byte[] random = new byte[4096]
+        new Random(42).nextBytes(random)
+
+        when:
+        byte[] encoded = codec.encode(random)
+
+        then:
+        encoded[0] == 0 as byte
+        codec.decode(encoded, Argument.of(byte[])).get() == random
+    }
+
+    static class RecordingMetrics implements CacheCompressionMetrics.CompressionMetrics {
+
+        List<Double> ratios = []
+        int skipped
+        int decompressions
+
+        @Override
+        void compressed(int originalBytes, int compressedBytes, long nanos) {
+            ratios << (double) originalBytes / compressedBytes
+        }
+
+        @Override
+        void skipped(int bytes) {
+            skipped++
+        }
+
+        @Override
+        void decompressed(long nanos) {
+            decompressions++
+        }
+    }
+}
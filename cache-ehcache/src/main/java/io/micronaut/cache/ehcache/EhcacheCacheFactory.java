@@ -15,21 +15,27 @@
  */
 package io.micronaut.cache.ehcache;
 
+import io.micronaut.cache.CacheExecutorResolver;
 import io.micronaut.cache.ehcache.configuration.EhcacheCacheManagerConfiguration;
 import io.micronaut.cache.ehcache.configuration.EhcacheConfiguration;
+import io.micronaut.cache.ehcache.serialization.CompressingSerializer;
+import io.micronaut.cache.serialize.CacheCompressionMetrics;
+import io.micronaut.cache.serialize.CacheValueCompressor;
 import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.EachBean;
 import io.micronaut.context.annotation.Factory;
 import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.convert.ConversionService;
-import io.micronaut.scheduling.TaskExecutors;
-import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import org.ehcache.Cache;
 import org.ehcache.CacheManager;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
 import org.ehcache.config.builders.CacheManagerBuilder;
 import org.ehcache.core.internal.statistics.DefaultStatisticsService;
 import org.ehcache.core.spi.service.StatisticsService;
+import org.ehcache.core.util.ClassLoading;
+import org.ehcache.impl.serialization.PlainJavaSerializer;
 
 import java.util.concurrent.ExecutorService;
 
@@ -85,17 +91,29 @@ public class EhcacheCacheFactory {
      * @param configuration     The configuration
      * @param cacheManager      The cache manager
      * @param conversionService The conversion service
-     * @param executorService   The executor
+     * @param executorResolver  The resolver of the executor of the cache
      * @param statisticsService The statistics service
+     * @param compressionMetrics The compression metrics, if any
      * @return The sync cache
      */
+    @SuppressWarnings({"unchecked", "rawtypes"})
     @EachBean(EhcacheConfiguration.class)
     EhcacheSyncCache syncCache(@Parameter EhcacheConfiguration configuration,
                                CacheManager cacheManager,
                                ConversionService conversionService,
-                               @Named(TaskExecutors.IO) ExecutorService executorService,
-                               StatisticsService statisticsService) {
-        Cache<?, ?> nativeCache = cacheManager.createCache(configuration.getName(), configuration.getBuilder());
+                               CacheExecutorResolver executorResolver,
+                               StatisticsService statisticsService,
+                               @Nullable CacheCompressionMetrics compressionMetrics) {
+        CacheConfigurationBuilder builder = configuration.getBuilder();
+        if (configuration.getCompressionThreshold() != null) {
+            CacheValueCompressor compressor = new CacheValueCompressor(
+                configuration.getCompressionThreshold(),
+                compressionMetrics == null ? CacheCompressionMetrics.CompressionMetrics.NOOP : compressionMetrics.forCache(configuration.getName())
+            );
+            builder = builder.withValueSerializer(new CompressingSerializer<>(new PlainJavaSerializer<>(ClassLoading.getDefaultClassLoader()), compressor));
+        }
+        Cache<?, ?> nativeCache = cacheManager.createCache(configuration.getName(), builder);
+        ExecutorService executorService = executorResolver.resolve(configuration.getName(), configuration.getExecutor());
         return new EhcacheSyncCache(conversionService, configuration, nativeCache, executorService, statisticsService);
     }
 
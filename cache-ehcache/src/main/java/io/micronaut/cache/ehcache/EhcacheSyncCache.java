@@ -31,9 +31,12 @@ import org.ehcache.core.spi.service.StatisticsService;
 import org.ehcache.core.statistics.CacheStatistics;
 import org.reactivestreams.Publisher;
 
+import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 
@@ -100,6 +103,23 @@ public class EhcacheSyncCache implements SyncCache<Cache> {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    @NonNull
+    @Override
+    public <T> Map<Object, T> getAll(@NonNull Collection<?> keys, @NonNull Argument<T> requiredType) {
+        ArgumentUtils.requireNonNull("keys", keys);
+        Map<Object, Object> entries = nativeCache.getAll(new LinkedHashSet<>(keys));
+        Map<Object, T> values = new LinkedHashMap<>(entries.size());
+        for (Object key : keys) {
+            Object value = entries.get(key);
+            if (value != null) {
+                conversionService.convert(value, ConversionContext.of(requiredType))
+                    .ifPresent(converted -> values.put(key, converted));
+            }
+        }
+        return values;
+    }
+
     @SuppressWarnings("unchecked")
     @NonNull
     @Override
@@ -126,6 +146,33 @@ public class EhcacheSyncCache implements SyncCache<Cache> {
         nativeCache.remove(key);
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public void putAll(@NonNull Map<?, ?> values) {
+        ArgumentUtils.requireNonNull("values", values);
+        Map<Object, Object> nonNullValues = new LinkedHashMap<>(values.size());
+        Set<Object> nullKeys = new LinkedHashSet<>();
+        values.forEach((key, value) -> {
+            ArgumentUtils.requireNonNull("key", key);
+            if (value != null) {
+                nonNullValues.put(key, value);
+            } else {
+                nullKeys.add(key);
+            }
+        });
+        nativeCache.putAll(nonNullValues);
+        if (!nullKeys.isEmpty()) {
+            nativeCache.removeAll(nullKeys);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void invalidateAll(@NonNull Collection<?> keys) {
+        ArgumentUtils.requireNonNull("keys", keys);
+        nativeCache.removeAll(new LinkedHashSet<>(keys));
+    }
+
     @Override
     public void invalidateAll() {
         nativeCache.clear();
@@ -55,6 +55,8 @@ public class EhcacheConfiguration implements Named {
 
     private Class<?> keyType = DEFAULT_KEY_TYPE;
     private Class<?> valueType = DEFAULT_VALUE_TYPE;
+    private String executor;
+    private Integer compressionThreshold;
 
     private HeapTieredCacheConfiguration heap;
     private OffheapTieredCacheConfiguration offheap;
@@ -180,6 +182,41 @@ public class EhcacheConfiguration implements Named {
         this.valueType = valueType;
     }
 
+    /**
+     * @return The name of the executor that runs the operations of the asynchronous view of the cache
+     * @since 5.1.0
+     */
+    public String getExecutor() {
+        return executor;
+    }
+
+    /**
+     * @param executor The name of the executor that runs the operations of the asynchronous view of the cache, such as
+     *                 {@code virtual}. Defaults to {@code micronaut.cache.executor}, or {@code io}.
+     * @since 5.1.0
+     */
+    public void setExecutor(String executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * @return The serialized size from which the values stored in the off-heap and disk tiers are compressed, or null
+     *         to never compress them
+     * @since 5.1.0
+     */
+    public Integer getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    /**
+     * @param compressionThreshold The serialized size from which the values stored in the off-heap and disk tiers are
+     *                             compressed, such as {@code 16KB}. The values are serialized with Java serialization.
+     * @since 5.1.0
+     */
+    public void setCompressionThreshold(@ReadableBytes Integer compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
     /**
      * @return the heap tier configuration
      */
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.ehcache.serialization;
+
+import io.micronaut.cache.serialize.CacheValueCompressor;
+import org.ehcache.spi.serialization.Serializer;
+import org.ehcache.spi.serialization.SerializerException;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * A {@link Serializer} that compresses the output of another serializer once it reaches a size threshold, so that
+ * large values take less space in the off-heap and disk tiers.
+ *
+ * @param <T> The type of the values
+ * @since 5.1.0
+ */
+public class CompressingSerializer<T> implements Serializer<T> {
+
+    private final Serializer<T> serializer;
+    private final CacheValueCompressor compressor;
+
+    /**
+     * @param serializer The serializer of the values
+     * @param compressor The compressor
+     */
+    public CompressingSerializer(Serializer<T> serializer, CacheValueCompressor compressor) {
+        this.serializer = serializer;
+        this.compressor = compressor;
+    }
+
+    @Override
+    public ByteBuffer serialize(T object) throws SerializerException {
+        return ByteBuffer.wrap(compressor.compress(toBytes(serializer.serialize(object))));
+    }
+
+    @Override
+    public T read(ByteBuffer binary) throws ClassNotFoundException, SerializerException {
+        try {
+            return serializer.read(ByteBuffer.wrap(compressor.decompress(toBytes(binary))));
+        } catch (io.micronaut.core.serialize.exceptions.SerializationException e) {
+            throw new SerializerException(e);
+        }
+    }
+
+    @Override
+    public boolean equals(T object, ByteBuffer binary) throws ClassNotFoundException, SerializerException {
+        return Objects.equals(object, read(binary));
+    }
+
+    private static byte[] toBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
@@ -105,6 +105,28 @@ class CacheManagerSpec extends Specification {
         ctx.close()
     }
 
+    void "it can compress the values of an offheap tier"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run([
+                "ehcache.caches.foo.offheap.max-size": '23Mb',
+                "ehcache.caches.foo.compression-threshold": '1KB'
+        ])
+        CacheManager cacheManager = ctx.getBean(CacheManager)
+        SyncCache cache = cacheManager.getCache('foo')
+        String large = "cached value " * 10_000
+
+        when:
+        cache.put("small", "small")
+        cache.put("large", large)
+
+        then:
+        cache.get("small", String).get() == "small"
+        cache.get("large", String).get() == large
+
+        cleanup:
+        ctx.close()
+    }
+
     void "it can create a disk tier"() {
         ApplicationContext ctx = ApplicationContext.run([
                 "ehcache.caches.foo.disk.max-size": '50Mb',
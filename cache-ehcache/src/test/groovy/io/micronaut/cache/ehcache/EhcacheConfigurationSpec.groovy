@@ -17,8 +17,11 @@ package io.micronaut.cache.ehcache
 
 import io.micronaut.cache.ehcache.configuration.EhcacheConfiguration
 import io.micronaut.context.ApplicationContext
+import io.micronaut.inject.qualifiers.Qualifiers
 import spock.lang.Specification
 
+import java.util.concurrent.ExecutorService
+
 class EhcacheConfigurationSpec extends Specification{
 
     void "it creates cache configurations"() {
@@ -38,4 +41,22 @@ class EhcacheConfigurationSpec extends Specification{
         ehcacheConfigurations.first().getValueType() == String
     }
 
+    void "it runs the asynchronous operations of a cache on the configured executor"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run(ApplicationContext, [
+                "micronaut.executors.cache-pool.type": "fixed",
+                "micronaut.executors.cache-pool.number-of-threads": 2,
+                "ehcache.caches.foo.executor": "cache-pool"
+        ])
+
+        when:
+        EhcacheSyncCache cache = ctx.getBean(EhcacheSyncCache, Qualifiers.byName("foo"))
+
+        then:
+        cache.executorService.is(ctx.getBean(ExecutorService, Qualifiers.byName("cache-pool")))
+
+        cleanup:
+        ctx.close()
+    }
+
 }
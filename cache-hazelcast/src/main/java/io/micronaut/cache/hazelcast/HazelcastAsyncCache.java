@@ -17,15 +17,24 @@ package io.micronaut.cache.hazelcast;
 
 import com.hazelcast.map.IMap;
 import io.micronaut.cache.AsyncCache;
+import io.micronaut.cache.interceptor.NegativeCacheEntry;
+import io.micronaut.cache.serialize.CacheValueConverter;
 import io.micronaut.core.annotation.NonNull;
-import io.micronaut.core.convert.ConversionContext;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.ArgumentUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 /**
@@ -36,7 +45,7 @@ import java.util.function.Supplier;
  */
 public class HazelcastAsyncCache implements AsyncCache<IMap<Object, Object>> {
 
-    private final ConversionService conversionService;
+    private final CacheValueConverter valueConverter;
     private final IMap<Object, Object> nativeCache;
     private final ExecutorService executorService;
 
@@ -48,7 +57,18 @@ public class HazelcastAsyncCache implements AsyncCache<IMap<Object, Object>> {
     public HazelcastAsyncCache(ConversionService conversionService,
                                IMap<Object, Object> nativeCache,
                                ExecutorService executorService) {
-        this.conversionService = conversionService;
+        this(new CacheValueConverter(conversionService, null), nativeCache, executorService);
+    }
+
+    /**
+     * @param valueConverter the converter of the stored values
+     * @param nativeCache the native cache
+     * @param executorService managers the pool of executors
+     */
+    HazelcastAsyncCache(CacheValueConverter valueConverter,
+                        IMap<Object, Object> nativeCache,
+                        ExecutorService executorService) {
+        this.valueConverter = valueConverter;
         this.nativeCache = nativeCache;
         this.executorService = executorService;
     }
@@ -60,11 +80,7 @@ public class HazelcastAsyncCache implements AsyncCache<IMap<Object, Object>> {
         CompletableFuture<Optional<T>> future = new CompletableFuture<>();
         nativeCache.getAsync(key).whenCompleteAsync((response, throwable) -> {
             if (throwable == null) {
-                if (response != null) {
-                    future.complete(conversionService.convert(response, ConversionContext.of(requiredType)));
-                } else {
-                    future.complete(Optional.empty());
-                }
+                future.complete(valueConverter.decode(response, requiredType));
             } else {
                 future.completeExceptionally(throwable);
             }
@@ -87,6 +103,15 @@ public class HazelcastAsyncCache implements AsyncCache<IMap<Object, Object>> {
         });
     }
 
+    @Override
+    public <T> CompletableFuture<Map<Object, T>> getAll(@NonNull Collection<?> keys, @NonNull Argument<T> requiredType) {
+        ArgumentUtils.requireNonNull("keys", keys);
+        return CompletableFuture.supplyAsync(() -> {
+            Map<Object, Object> entries = nativeCache.getAll(new LinkedHashSet<>(keys));
+            return HazelcastSyncCache.convertAll(valueConverter, keys, entries, requiredType);
+        }, executorService);
+    }
+
     @SuppressWarnings("unchecked")
     @NonNull
     @Override
@@ -94,12 +119,9 @@ public class HazelcastAsyncCache implements AsyncCache<IMap<Object, Object>> {
         ArgumentUtils.requireNonNull("key", key);
         ArgumentUtils.requireNonNull("value", value);
         return CompletableFuture.supplyAsync(() -> {
-            Object remoteValue = nativeCache.putIfAbsent(key, value);
-            if (remoteValue == null) {
-                return Optional.empty();
-            }
+            Object remoteValue = nativeCache.putIfAbsent(key, valueConverter.encode(value));
             final Class<T> aClass = (Class<T>) value.getClass();
-            return conversionService.convert(remoteValue, aClass);
+            return valueConverter.decode(remoteValue, Argument.of(aClass));
         }, executorService);
     }
 
@@ -109,7 +131,10 @@ public class HazelcastAsyncCache implements AsyncCache<IMap<Object, Object>> {
         ArgumentUtils.requireNonNull("key", key);
         ArgumentUtils.requireNonNull("value", value);
         CompletableFuture<Boolean> future = new CompletableFuture<>();
-        nativeCache.setAsync(key, value).whenCompleteAsync((response, throwable) -> {
+        CompletionStage<Void> set = value instanceof NegativeCacheEntry negativeCacheEntry
+            ? nativeCache.setAsync(key, valueConverter.encode(value), Math.max(1, negativeCacheEntry.getRemainingMillis()), TimeUnit.MILLISECONDS)
+            : nativeCache.setAsync(key, valueConverter.encode(value));
+        set.whenCompleteAsync((response, throwable) -> {
             if (throwable == null) {
                 future.complete(true);
             }  else {
@@ -134,6 +159,50 @@ public class HazelcastAsyncCache implements AsyncCache<IMap<Object, Object>> {
         return future;
     }
 
+    @Override
+    public CompletableFuture<Boolean> putAll(@NonNull Map<?, ?> values) {
+        ArgumentUtils.requireNonNull("values", values);
+        Map<Object, Object> nonNullValues = new LinkedHashMap<>(values.size());
+        List<Object> nullKeys = new ArrayList<>();
+        values.forEach((key, value) -> {
+            if (value != null) {
+                nonNullValues.put(key, value);
+            } else {
+                nullKeys.add(key);
+            }
+        });
+        CompletableFuture<?> puts = nativeCache.putAllAsync(valueConverter.encodeAll(nonNullValues)).toCompletableFuture();
+        CompletableFuture<?> writes = nullKeys.isEmpty() ? puts : CompletableFuture.allOf(puts, invalidateAll(nullKeys));
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        writes.whenCompleteAsync((response, throwable) -> {
+            if (throwable == null) {
+                future.complete(true);
+            } else {
+                future.completeExceptionally(throwable);
+            }
+        }, executorService);
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> invalidateAll(@NonNull Collection<?> keys) {
+        ArgumentUtils.requireNonNull("keys", keys);
+        // IMap has no bulk removal by key, so the removals are sent concurrently rather than one after the other
+        List<CompletableFuture<Object>> removals = new ArrayList<>(keys.size());
+        for (Object key : keys) {
+            removals.add(nativeCache.removeAsync(key).toCompletableFuture());
+        }
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        CompletableFuture.allOf(removals.toArray(new CompletableFuture[0])).whenCompleteAsync((response, throwable) -> {
+            if (throwable == null) {
+                future.complete(true);
+            } else {
+                future.completeExceptionally(throwable);
+            }
+        }, executorService);
+        return future;
+    }
+
     @Override
     public CompletableFuture<Boolean> invalidateAll() {
         return CompletableFuture.supplyAsync(() -> {
@@ -0,0 +1,447 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.hazelcast;
+
+import com.hazelcast.config.EvictionConfig;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.config.NearCacheConfig;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.format.ReadableBytes;
+import io.micronaut.core.naming.Named;
+
+import java.time.Duration;
+
+/**
+ * <p>Configuration of the Hazelcast map of a cache, and of its near cache.</p>
+ *
+ * <p>The map settings are registered in the member configuration, or added to the cluster as a dynamic configuration
+ * when Hazelcast runs as a client. The near cache is registered in the member or client configuration. Only the
+ * settings that are set are applied, so the others keep the values of the Hazelcast configuration.</p>
+ *
+ * @since 5.1.0
+ */
+@EachProperty(HazelcastCacheConfiguration.PREFIX)
+public class HazelcastCacheConfiguration implements Named {
+
+    /**
+     * The prefix of the cache configurations.
+     */
+    public static final String PREFIX = "hazelcast.caches";
+
+    private final String name;
+
+    private Integer backupCount;
+    private Integer asyncBackupCount;
+    private Duration timeToLive;
+    private Duration maxIdle;
+    private InMemoryFormat inMemoryFormat;
+    private Integer maxSize;
+    private MaxSizePolicy maxSizePolicy;
+    private EvictionPolicy evictionPolicy;
+    private Integer compressionThreshold;
+    private NearCacheConfiguration nearCache;
+
+    /**
+     * @param name The name of the cache
+     */
+    public HazelcastCacheConfiguration(@Parameter String name) {
+        this.name = name;
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The number of synchronous backups
+     */
+    @Nullable
+    public Integer getBackupCount() {
+        return backupCount;
+    }
+
+    /**
+     * @param backupCount The number of synchronous backups
+     */
+    public void setBackupCount(@Nullable Integer backupCount) {
+        this.backupCount = backupCount;
+    }
+
+    /**
+     * @return The number of asynchronous backups
+     */
+    @Nullable
+    public Integer getAsyncBackupCount() {
+        return asyncBackupCount;
+    }
+
+    /**
+     * @param asyncBackupCount The number of asynchronous backups
+     */
+    public void setAsyncBackupCount(@Nullable Integer asyncBackupCount) {
+        this.asyncBackupCount = asyncBackupCount;
+    }
+
+    /**
+     * @return The duration after which an entry is removed once it is written
+     */
+    @Nullable
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * @param timeToLive The duration after which an entry is removed once it is written, with a precision of a second
+     */
+    public void setTimeToLive(@Nullable Duration timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * @return The duration after which an entry is removed once it was last accessed
+     */
+    @Nullable
+    public Duration getMaxIdle() {
+        return maxIdle;
+    }
+
+    /**
+     * @param maxIdle The duration after which an entry is removed once it was last accessed, with a precision of a
+     *                second
+     */
+    public void setMaxIdle(@Nullable Duration maxIdle) {
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * @return The format in which the values are stored
+     */
+    @Nullable
+    public InMemoryFormat getInMemoryFormat() {
+        return inMemoryFormat;
+    }
+
+    /**
+     * @param inMemoryFormat The format in which the values are stored
+     */
+    public void setInMemoryFormat(@Nullable InMemoryFormat inMemoryFormat) {
+        this.inMemoryFormat = inMemoryFormat;
+    }
+
+    /**
+     * @return The maximum size of the map, interpreted according to the {@link #getMaxSizePolicy() max size policy}
+     */
+    @Nullable
+    public Integer getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @param maxSize The maximum size of the map
+     */
+    public void setMaxSize(@Nullable Integer maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return How the maximum size is interpreted
+     */
+    @Nullable
+    public MaxSizePolicy getMaxSizePolicy() {
+        return maxSizePolicy;
+    }
+
+    /**
+     * @param maxSizePolicy How the maximum size is interpreted
+     */
+    public void setMaxSizePolicy(@Nullable MaxSizePolicy maxSizePolicy) {
+        this.maxSizePolicy = maxSizePolicy;
+    }
+
+    /**
+     * @return The policy used to evict entries once the maximum size is reached
+     */
+    @Nullable
+    public EvictionPolicy getEvictionPolicy() {
+        return evictionPolicy;
+    }
+
+    /**
+     * @param evictionPolicy The policy used to evict entries once the maximum size is reached
+     */
+    public void setEvictionPolicy(@Nullable EvictionPolicy evictionPolicy) {
+        this.evictionPolicy = evictionPolicy;
+    }
+
+    /**
+     * @return The encoded size from which the values are compressed, or null to never compress them
+     */
+    @Nullable
+    public Integer getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    /**
+     * @param compressionThreshold The encoded size from which the values are compressed, such as {@code 16KB}. The
+     *                             values are encoded with the {@link io.micronaut.cache.serialize.CacheValueCodec}
+     *                             bean, or with Java serialization if there is none.
+     */
+    public void setCompressionThreshold(@Nullable @ReadableBytes Integer compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    /**
+     * @return The near cache configuration
+     */
+    @Nullable
+    public NearCacheConfiguration getNearCache() {
+        return nearCache;
+    }
+
+    /**
+     * @param nearCache The near cache configuration
+     */
+    public void setNearCache(@Nullable NearCacheConfiguration nearCache) {
+        this.nearCache = nearCache;
+    }
+
+    /**
+     * Applies the settings that are set to the configuration of the map, including its near cache.
+     *
+     * @param mapConfig The map configuration
+     * @return The map configuration
+     */
+    @NonNull
+    public MapConfig apply(@NonNull MapConfig mapConfig) {
+        if (backupCount != null) {
+            mapConfig.setBackupCount(backupCount);
+        }
+        if (asyncBackupCount != null) {
+            mapConfig.setAsyncBackupCount(asyncBackupCount);
+        }
+        if (timeToLive != null) {
+            mapConfig.setTimeToLiveSeconds(toSeconds(timeToLive));
+        }
+        if (maxIdle != null) {
+            mapConfig.setMaxIdleSeconds(toSeconds(maxIdle));
+        }
+        if (inMemoryFormat != null) {
+            mapConfig.setInMemoryFormat(inMemoryFormat);
+        }
+        applyEviction(mapConfig.getEvictionConfig(), maxSize, maxSizePolicy, evictionPolicy);
+        NearCacheConfig nearCacheConfig = getNearCacheConfig();
+        if (nearCacheConfig != null) {
+            mapConfig.setNearCacheConfig(nearCacheConfig);
+        }
+        return mapConfig;
+    }
+
+    /**
+     * @return The configuration of the near cache, or null if it is not enabled
+     */
+    @Nullable
+    public NearCacheConfig getNearCacheConfig() {
+        if (nearCache == null || !nearCache.isEnabled()) {
+            return null;
+        }
+        NearCacheConfig nearCacheConfig = new NearCacheConfig(name);
+        if (nearCache.inMemoryFormat != null) {
+            nearCacheConfig.setInMemoryFormat(nearCache.inMemoryFormat);
+        }
+        if (nearCache.timeToLive != null) {
+            nearCacheConfig.setTimeToLiveSeconds(toSeconds(nearCache.timeToLive));
+        }
+        if (nearCache.maxIdle != null) {
+            nearCacheConfig.setMaxIdleSeconds(toSeconds(nearCache.maxIdle));
+        }
+        if (nearCache.invalidateOnChange != null) {
+            nearCacheConfig.setInvalidateOnChange(nearCache.invalidateOnChange);
+        }
+        if (nearCache.cacheLocalEntries != null) {
+            nearCacheConfig.setCacheLocalEntries(nearCache.cacheLocalEntries);
+        }
+        applyEviction(nearCacheConfig.getEvictionConfig(), nearCache.maxSize, null, nearCache.evictionPolicy);
+        return nearCacheConfig;
+    }
+
+    private static void applyEviction(EvictionConfig evictionConfig,
+                                      @Nullable Integer maxSize,
+                                      @Nullable MaxSizePolicy maxSizePolicy,
+                                      @Nullable EvictionPolicy evictionPolicy) {
+        if (maxSize != null) {
+            evictionConfig.setSize(maxSize);
+        }
+        if (maxSizePolicy != null) {
+            evictionConfig.setMaxSizePolicy(maxSizePolicy);
+        }
+        if (evictionPolicy != null) {
+            evictionConfig.setEvictionPolicy(evictionPolicy);
+        }
+    }
+
+    private static int toSeconds(Duration duration) {
+        return (int) Math.min(Integer.MAX_VALUE, duration.toSeconds());
+    }
+
+    /**
+     * Configuration of the near cache of a map, which keeps the entries read by a member or a client locally.
+     */
+    @ConfigurationProperties(NearCacheConfiguration.PREFIX)
+    public static class NearCacheConfiguration {
+
+        /**
+         * The prefix of the near cache configuration.
+         */
+        public static final String PREFIX = "near-cache";
+
+        private boolean enabled = true;
+        private InMemoryFormat inMemoryFormat;
+        private Duration timeToLive;
+        private Duration maxIdle;
+        private Boolean invalidateOnChange;
+        private Boolean cacheLocalEntries;
+        private Integer maxSize;
+        private EvictionPolicy evictionPolicy;
+
+        /**
+         * @return Whether the near cache is enabled. Defaults to true once the near cache is configured.
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * @param enabled Whether the near cache is enabled
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * @return The format in which the values are stored
+         */
+        @Nullable
+        public InMemoryFormat getInMemoryFormat() {
+            return inMemoryFormat;
+        }
+
+        /**
+         * @param inMemoryFormat The format in which the values are stored
+         */
+        public void setInMemoryFormat(@Nullable InMemoryFormat inMemoryFormat) {
+            this.inMemoryFormat = inMemoryFormat;
+        }
+
+        /**
+         * @return The duration after which an entry is removed once it is cached
+         */
+        @Nullable
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        /**
+         * @param timeToLive The duration after which an entry is removed once it is cached
+         */
+        public void setTimeToLive(@Nullable Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+
+        /**
+         * @return The duration after which an entry is removed once it was last accessed
+         */
+        @Nullable
+        public Duration getMaxIdle() {
+            return maxIdle;
+        }
+
+        /**
+         * @param maxIdle The duration after which an entry is removed once it was last accessed
+         */
+        public void setMaxIdle(@Nullable Duration maxIdle) {
+            this.maxIdle = maxIdle;
+        }
+
+        /**
+         * @return Whether the entries are invalidated when they change in the cluster
+         */
+        @Nullable
+        public Boolean getInvalidateOnChange() {
+            return invalidateOnChange;
+        }
+
+        /**
+         * @param invalidateOnChange Whether the entries are invalidated when they change in the cluster
+         */
+        public void setInvalidateOnChange(@Nullable Boolean invalidateOnChange) {
+            this.invalidateOnChange = invalidateOnChange;
+        }
+
+        /**
+         * @return Whether the entries owned by the member are also cached
+         */
+        @Nullable
+        public Boolean getCacheLocalEntries() {
+            return cacheLocalEntries;
+        }
+
+        /**
+         * @param cacheLocalEntries Whether the entries owned by the member are also cached
+         */
+        public void setCacheLocalEntries(@Nullable Boolean cacheLocalEntries) {
+            this.cacheLocalEntries = cacheLocalEntries;
+        }
+
+        /**
+         * @return The maximum number of entries
+         */
+        @Nullable
+        public Integer getMaxSize() {
+            return maxSize;
+        }
+
+        /**
+         * @param maxSize The maximum number of entries
+         */
+        public void setMaxSize(@Nullable Integer maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * @return The policy used to evict entries once the maximum size is reached
+         */
+        @Nullable
+        public EvictionPolicy getEvictionPolicy() {
+            return evictionPolicy;
+        }
+
+        /**
+         * @param evictionPolicy The policy used to evict entries once the maximum size is reached
+         */
+        public void setEvictionPolicy(@Nullable EvictionPolicy evictionPolicy) {
+            this.evictionPolicy = evictionPolicy;
+        }
+    }
+}
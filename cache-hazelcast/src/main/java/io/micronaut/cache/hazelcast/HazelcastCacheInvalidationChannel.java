@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.hazelcast;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.topic.ITopic;
+import com.hazelcast.topic.Message;
+import io.micronaut.cache.CacheInvalidationChannel;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import jakarta.inject.Singleton;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A {@link CacheInvalidationChannel} that publishes the invalidations on a Hazelcast topic. The keys must be
+ * serializable by Hazelcast.
+ *
+ * @since 5.1.0
+ */
+@Singleton
+@Requires(beans = HazelcastInstance.class)
+public class HazelcastCacheInvalidationChannel implements CacheInvalidationChannel {
+
+    /**
+     * The default name of the topic.
+     */
+    public static final String DEFAULT_TOPIC = "micronaut-cache-invalidation";
+
+    private final String origin = UUID.randomUUID().toString();
+    private final ITopic<Invalidation> topic;
+    private final Map<String, List<Listener>> listeners = new ConcurrentHashMap<>();
+
+    /**
+     * @param hazelcastInstance The Hazelcast instance
+     * @param topicName         The name of the topic
+     */
+    public HazelcastCacheInvalidationChannel(HazelcastInstance hazelcastInstance,
+                                             @Value("${hazelcast.cache.invalidation-topic:" + DEFAULT_TOPIC + "}") String topicName) {
+        this.topic = hazelcastInstance.getTopic(topicName);
+        this.topic.addMessageListener(this::onMessage);
+    }
+
+    @Override
+    public void publish(@NonNull String cacheName, @NonNull Object key) {
+        topic.publish(new Invalidation(origin, cacheName, key));
+    }
+
+    @Override
+    public void publishAll(@NonNull String cacheName) {
+        topic.publish(new Invalidation(origin, cacheName, null));
+    }
+
+    @Override
+    public void subscribe(@NonNull String cacheName, @NonNull Listener listener) {
+        listeners.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    private void onMessage(Message<Invalidation> message) {
+        Invalidation invalidation = message.getMessageObject();
+        if (origin.equals(invalidation.origin)) {
+            return;
+        }
+        List<Listener> cacheListeners = listeners.get(invalidation.cacheName);
+        if (cacheListeners != null) {
+            for (Listener listener : cacheListeners) {
+                if (invalidation.key == null) {
+                    listener.onInvalidateAll();
+                } else {
+                    listener.onInvalidate(invalidation.key);
+                }
+            }
+        }
+    }
+
+    /**
+     * The message published on the topic.
+     */
+    static final class Invalidation implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        final String origin;
+        final String cacheName;
+        @Nullable
+        final Object key;
+
+        Invalidation(String origin, String cacheName, @Nullable Object key) {
+            this.origin = origin;
+            this.cacheName = cacheName;
+            this.key = key;
+        }
+    }
+}
@@ -17,14 +17,25 @@ package io.micronaut.cache.hazelcast;
 
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
+import io.micronaut.cache.CacheExecutorResolver;
 import io.micronaut.cache.DynamicCacheManager;
 import io.micronaut.cache.SyncCache;
+import io.micronaut.cache.serialize.CacheCompressionMetrics;
+import io.micronaut.cache.serialize.CacheValueCodec;
+import io.micronaut.cache.serialize.CompressingCacheValueCodec;
+import io.micronaut.cache.serialize.JdkCacheValueCodec;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.scheduling.TaskExecutors;
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 
 /**
@@ -39,6 +50,10 @@ public class HazelcastCacheManager implements DynamicCacheManager<IMap<Object, O
     private final ConversionService conversionService;
     private final ExecutorService executorService;
     private final HazelcastInstance hazelcastInstance;
+    private final CacheExecutorResolver executorResolver;
+    private final CacheValueCodec codec;
+    private final Map<String, HazelcastCacheConfiguration> cacheConfigurations = new HashMap<>();
+    private final CacheCompressionMetrics compressionMetrics;
 
     /**
      * Constructor.
@@ -46,13 +61,44 @@ public class HazelcastCacheManager implements DynamicCacheManager<IMap<Object, O
      * @param conversionService convert values that are returned
      * @param hazelcastInstance the client instance of hazelcast client
      * @param executorService managers the pool of executors
+     * @deprecated Use {@link #HazelcastCacheManager(ConversionService, HazelcastInstance, ExecutorService, CacheExecutorResolver, CacheValueCodec, List, CacheCompressionMetrics)} instead
      */
+    @Deprecated(since = "5.1.0", forRemoval = true)
     public HazelcastCacheManager(ConversionService conversionService,
                                  HazelcastInstance hazelcastInstance,
                                  @Named(TaskExecutors.IO) ExecutorService executorService) {
+        this(conversionService, hazelcastInstance, executorService, null, null, Collections.emptyList(), null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param conversionService convert values that are returned
+     * @param hazelcastInstance the client instance of hazelcast client
+     * @param executorService managers the pool of executors
+     * @param executorResolver resolves the executor of each map
+     * @param codec encodes the values stored in the maps, if any
+     * @param cacheConfigurations the configurations of the maps
+     * @param compressionMetrics records the compression of the values, if any
+     * @since 5.1.0
+     */
+    @Inject
+    public HazelcastCacheManager(ConversionService conversionService,
+                                 HazelcastInstance hazelcastInstance,
+                                 @Named(TaskExecutors.IO) ExecutorService executorService,
+                                 @Nullable CacheExecutorResolver executorResolver,
+                                 @Nullable CacheValueCodec codec,
+                                 List<HazelcastCacheConfiguration> cacheConfigurations,
+                                 @Nullable CacheCompressionMetrics compressionMetrics) {
         this.conversionService = conversionService;
         this.executorService = executorService;
         this.hazelcastInstance = hazelcastInstance;
+        this.executorResolver = executorResolver;
+        this.codec = codec;
+        this.compressionMetrics = compressionMetrics;
+        for (HazelcastCacheConfiguration cacheConfiguration : cacheConfigurations) {
+            this.cacheConfigurations.put(cacheConfiguration.getName(), cacheConfiguration);
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -60,6 +106,19 @@ public class HazelcastCacheManager implements DynamicCacheManager<IMap<Object, O
     @Override
     public SyncCache<IMap<Object, Object>> getCache(String name) {
         IMap<Object, Object> nativeCache = hazelcastInstance.getMap(name);
-        return new HazelcastSyncCache(conversionService, nativeCache, executorService);
+        ExecutorService executor = executorResolver == null ? executorService : executorResolver.resolve(name);
+        return new HazelcastSyncCache(conversionService, nativeCache, executor, resolveCodec(name));
+    }
+
+    private CacheValueCodec resolveCodec(String name) {
+        HazelcastCacheConfiguration cacheConfiguration = cacheConfigurations.get(name);
+        if (cacheConfiguration == null || cacheConfiguration.getCompressionThreshold() == null) {
+            return codec;
+        }
+        return new CompressingCacheValueCodec(
+            codec == null ? new JdkCacheValueCodec(conversionService) : codec,
+            cacheConfiguration.getCompressionThreshold(),
+            compressionMetrics == null ? CacheCompressionMetrics.CompressionMetrics.NOOP : compressionMetrics.forCache(name)
+        );
     }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.hazelcast;
+
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.config.NearCacheConfig;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+import io.micronaut.core.annotation.Internal;
+import jakarta.inject.Singleton;
+
+import java.util.List;
+
+/**
+ * Registers the {@link HazelcastCacheConfiguration.NearCacheConfiguration near caches} in the configuration of a
+ * Hazelcast client.
+ *
+ * @since 5.1.0
+ */
+@Internal
+@Singleton
+public class HazelcastClientCacheConfigurer implements BeanCreatedEventListener<ClientConfig> {
+
+    private final List<HazelcastCacheConfiguration> cacheConfigurations;
+
+    /**
+     * @param cacheConfigurations The cache configurations
+     */
+    public HazelcastClientCacheConfigurer(List<HazelcastCacheConfiguration> cacheConfigurations) {
+        this.cacheConfigurations = cacheConfigurations;
+    }
+
+    @Override
+    public ClientConfig onCreated(BeanCreatedEvent<ClientConfig> event) {
+        ClientConfig clientConfig = event.getBean();
+        for (HazelcastCacheConfiguration cacheConfiguration : cacheConfigurations) {
+            NearCacheConfig nearCacheConfig = cacheConfiguration.getNearCacheConfig();
+            if (nearCacheConfig != null) {
+                clientConfig.addNearCacheConfig(nearCacheConfig);
+            }
+        }
+        return clientConfig;
+    }
+}
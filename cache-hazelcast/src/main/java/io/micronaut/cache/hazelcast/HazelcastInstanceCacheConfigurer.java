@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.hazelcast;
+
+import com.hazelcast.cluster.Member;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InvalidConfigurationException;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.core.HazelcastInstance;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+import io.micronaut.core.annotation.Internal;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * <p>Adds the {@link HazelcastCacheConfiguration map configurations} to the cluster as dynamic configurations, before
+ * any map is created, when they could not be registered in the configuration of the instance. This is the case of
+ * clients, and of members configured with a configuration file.</p>
+ *
+ * @since 5.1.0
+ */
+@Internal
+@Singleton
+public class HazelcastInstanceCacheConfigurer implements BeanCreatedEventListener<HazelcastInstance> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HazelcastInstanceCacheConfigurer.class);
+
+    private final List<HazelcastCacheConfiguration> cacheConfigurations;
+
+    /**
+     * @param cacheConfigurations The cache configurations
+     */
+    public HazelcastInstanceCacheConfigurer(List<HazelcastCacheConfiguration> cacheConfigurations) {
+        this.cacheConfigurations = cacheConfigurations;
+    }
+
+    @Override
+    public HazelcastInstance onCreated(BeanCreatedEvent<HazelcastInstance> event) {
+        HazelcastInstance hazelcastInstance = event.getBean();
+        boolean member = hazelcastInstance.getLocalEndpoint() instanceof Member;
+        Config config = hazelcastInstance.getConfig();
+        for (HazelcastCacheConfiguration cacheConfiguration : cacheConfigurations) {
+            String name = cacheConfiguration.getName();
+            if (member && config.getMapConfigOrNull(name) != null) {
+                // already registered in the member configuration
+                continue;
+            }
+            MapConfig mapConfig = cacheConfiguration.apply(new MapConfig(name));
+            if (!member) {
+                // the near cache of a client is part of the client configuration
+                mapConfig.setNearCacheConfig(null);
+            }
+            try {
+                config.addMapConfig(mapConfig);
+            } catch (InvalidConfigurationException e) {
+                if (LOG.isWarnEnabled()) {
+                    LOG.warn("The configuration of the cache [{}] conflicts with the configuration of the cluster and is not applied: {}", name, e.getMessage());
+                }
+            }
+        }
+        return hazelcastInstance;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.hazelcast;
+
+import com.hazelcast.config.Config;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+import io.micronaut.core.annotation.Internal;
+import jakarta.inject.Singleton;
+
+import java.util.List;
+
+/**
+ * Registers the {@link HazelcastCacheConfiguration map configurations} in the configuration of a Hazelcast member.
+ *
+ * @since 5.1.0
+ */
+@Internal
+@Singleton
+public class HazelcastMemberCacheConfigurer implements BeanCreatedEventListener<Config> {
+
+    private final List<HazelcastCacheConfiguration> cacheConfigurations;
+
+    /**
+     * @param cacheConfigurations The cache configurations
+     */
+    public HazelcastMemberCacheConfigurer(List<HazelcastCacheConfiguration> cacheConfigurations) {
+        this.cacheConfigurations = cacheConfigurations;
+    }
+
+    @Override
+    public Config onCreated(BeanCreatedEvent<Config> event) {
+        Config config = event.getBean();
+        for (HazelcastCacheConfiguration cacheConfiguration : cacheConfigurations) {
+            config.addMapConfig(cacheConfiguration.apply(config.getMapConfig(cacheConfiguration.getName())));
+        }
+        return config;
+    }
+}
@@ -18,11 +18,25 @@ package io.micronaut.cache.hazelcast;
 import com.hazelcast.map.IMap;
 import io.micronaut.cache.AbstractMapBasedSyncCache;
 import io.micronaut.cache.AsyncCache;
+import io.micronaut.cache.interceptor.NegativeCacheEntry;
+import io.micronaut.cache.serialize.CacheValueCodec;
+import io.micronaut.cache.serialize.CacheValueConverter;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.ArgumentUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A {@link io.micronaut.cache.SyncCache} implementation based on Hazelcast.
@@ -42,7 +56,21 @@ public class HazelcastSyncCache extends AbstractMapBasedSyncCache<IMap<Object, O
     public HazelcastSyncCache(ConversionService conversionService,
                               IMap<Object, Object> nativeCache,
                               ExecutorService executorService) {
-        super(conversionService, nativeCache);
+        this(conversionService, nativeCache, executorService, null);
+    }
+
+    /**
+     * @param conversionService the conversion service
+     * @param nativeCache the native cache
+     * @param executorService managers the pool of executors
+     * @param codec the codec of the stored values, or null to store them as they are
+     * @since 5.1.0
+     */
+    public HazelcastSyncCache(ConversionService conversionService,
+                              IMap<Object, Object> nativeCache,
+                              ExecutorService executorService,
+                              @Nullable CacheValueCodec codec) {
+        super(conversionService, nativeCache, codec);
         this.executorService = executorService;
     }
 
@@ -51,7 +79,38 @@ public class HazelcastSyncCache extends AbstractMapBasedSyncCache<IMap<Object, O
     public void put(@NonNull Object key, @NonNull Object value) {
         ArgumentUtils.requireNonNull("key", key);
         ArgumentUtils.requireNonNull("value", value);
-        getNativeCache().set(key, value);
+        if (value instanceof NegativeCacheEntry negativeCacheEntry) {
+            // a time to live of zero would keep the entry forever
+            getNativeCache().set(key, getValueConverter().encode(value), Math.max(1, negativeCacheEntry.getRemainingMillis()), TimeUnit.MILLISECONDS);
+        } else {
+            getNativeCache().set(key, getValueConverter().encode(value));
+        }
+    }
+
+    @NonNull
+    @Override
+    public <T> Map<Object, T> getAll(@NonNull Collection<?> keys, @NonNull Argument<T> requiredType) {
+        ArgumentUtils.requireNonNull("keys", keys);
+        Map<Object, Object> entries = getNativeCache().getAll(new LinkedHashSet<>(keys));
+        return HazelcastSyncCache.convertAll(getValueConverter(), keys, entries, requiredType);
+    }
+
+    @Override
+    public void invalidateAll(@NonNull Collection<?> keys) {
+        ArgumentUtils.requireNonNull("keys", keys);
+        // IMap has no bulk removal by key, so the removals are sent concurrently rather than one after the other
+        List<CompletableFuture<Object>> removals = new ArrayList<>(keys.size());
+        for (Object key : keys) {
+            removals.add(getNativeCache().removeAsync(key).toCompletableFuture());
+        }
+        try {
+            CompletableFuture.allOf(removals.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
     }
 
     @Override
@@ -61,6 +120,28 @@ public class HazelcastSyncCache extends AbstractMapBasedSyncCache<IMap<Object, O
 
     @Override
     public AsyncCache<IMap<Object, Object>> async() {
-        return new HazelcastAsyncCache(getConversionService(), getNativeCache(), executorService);
+        return new HazelcastAsyncCache(getValueConverter(), getNativeCache(), executorService);
+    }
+
+    /**
+     * Converts the values retrieved for the given keys, in the iteration order of the keys.
+     *
+     * @param valueConverter    The converter of the stored values
+     * @param keys              The keys
+     * @param entries           The retrieved entries
+     * @param requiredType      The required type
+     * @param <T>               The concrete type
+     * @return The converted values
+     */
+    static <T> Map<Object, T> convertAll(CacheValueConverter valueConverter,
+                                         Collection<?> keys,
+                                         Map<Object, Object> entries,
+                                         Argument<T> requiredType) {
+        Map<Object, T> values = new LinkedHashMap<>(entries.size());
+        for (Object key : keys) {
+            valueConverter.decode(entries.get(key), requiredType)
+                .ifPresent(converted -> values.put(key, converted));
+        }
+        return values;
     }
 }
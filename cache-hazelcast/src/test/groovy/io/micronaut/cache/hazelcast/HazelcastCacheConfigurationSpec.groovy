@@ -0,0 +1,87 @@
+package io.micronaut.cache.hazelcast
+
+import com.hazelcast.client.config.ClientConfig
+import com.hazelcast.config.EvictionPolicy
+import com.hazelcast.config.InMemoryFormat
+import com.hazelcast.config.MapConfig
+import com.hazelcast.config.MaxSizePolicy
+import com.hazelcast.config.NearCacheConfig
+import com.hazelcast.core.HazelcastInstance
+import io.micronaut.cache.CacheManager
+import io.micronaut.cache.SyncCache
+import io.micronaut.context.ApplicationContext
+import spock.lang.Specification
+
+class HazelcastCacheConfigurationSpec extends Specification {
+
+    void "test the maps of a member are configured"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run(
+                'hazelcast.caches.books.backup-count': 2,
+                'hazelcast.caches.books.async-backup-count': 1,
+                'hazelcast.caches.books.time-to-live': '10m',
+                'hazelcast.caches.books.max-idle': '1m',
+                'hazelcast.caches.books.in-memory-format': 'OBJECT',
+                'hazelcast.caches.books.max-size': 1000,
+                'hazelcast.caches.books.max-size-policy': 'PER_NODE',
+                'hazelcast.caches.books.eviction-policy': 'LFU',
+                'hazelcast.caches.books.near-cache.in-memory-format': 'OBJECT',
+                'hazelcast.caches.books.near-cache.time-to-live': '30s',
+                'hazelcast.caches.books.near-cache.max-size': 100,
+                'hazelcast.caches.authors.backup-count': 0
+        )
+
+        when:
+        HazelcastInstance hazelcastInstance = ctx.getBean(HazelcastInstance)
+        MapConfig books = hazelcastInstance.config.getMapConfig("books")
+
+        then:
+        books.backupCount == 2
+        books.asyncBackupCount == 1
+        books.timeToLiveSeconds == 600
+        books.maxIdleSeconds == 60
+        books.inMemoryFormat == InMemoryFormat.OBJECT
+        books.evictionConfig.size == 1000
+        books.evictionConfig.maxSizePolicy == MaxSizePolicy.PER_NODE
+        books.evictionConfig.evictionPolicy == EvictionPolicy.LFU
+        books.nearCacheConfig.inMemoryFormat == InMemoryFormat.OBJECT
+        books.nearCacheConfig.timeToLiveSeconds == 30
+        books.nearCacheConfig.evictionConfig.size == 100
+        hazelcastInstance.config.getMapConfig("authors").backupCount == 0
+        hazelcastInstance.config.getMapConfig("authors").nearCacheConfig == null
+
+        when:
+        SyncCache cache = ctx.getBean(CacheManager).getCache("books")
+        cache.put("one", "Book one")
+
+        then:
+        cache.get("one", String).get() == "Book one"
+
+        cleanup:
+        ctx.close()
+    }
+
+    void "test the near caches of a client are configured"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run(
+                'hazelcast.client.network.addresses': ['127.0.0.1:5701'],
+                'hazelcast.caches.books.near-cache.invalidate-on-change': true,
+                'hazelcast.caches.books.near-cache.max-idle': '5m',
+                'hazelcast.caches.books.near-cache.eviction-policy': 'LRU',
+                'hazelcast.caches.authors.near-cache.enabled': false
+        )
+
+        when:
+        ClientConfig clientConfig = ctx.getBean(ClientConfig)
+        NearCacheConfig books = clientConfig.nearCacheConfigMap.get("books")
+
+        then:
+        books.invalidateOnChange
+        books.maxIdleSeconds == 300
+        books.evictionConfig.evictionPolicy == EvictionPolicy.LRU
+        !clientConfig.nearCacheConfigMap.containsKey("authors")
+
+        cleanup:
+        ctx.close()
+    }
+}
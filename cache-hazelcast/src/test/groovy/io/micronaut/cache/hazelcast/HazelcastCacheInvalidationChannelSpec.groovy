@@ -0,0 +1,59 @@
+package io.micronaut.cache.hazelcast
+
+import com.hazelcast.core.HazelcastInstance
+import io.micronaut.cache.CacheInvalidationChannel
+import io.micronaut.context.ApplicationContext
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CopyOnWriteArrayList
+
+class HazelcastCacheInvalidationChannelSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext applicationContext = ApplicationContext.run()
+
+    PollingConditions conditions = new PollingConditions(timeout: 5)
+
+    void "test invalidations are delivered to the other channels"() {
+        given:
+        HazelcastInstance hazelcastInstance = applicationContext.getBean(HazelcastInstance)
+        CacheInvalidationChannel local = new HazelcastCacheInvalidationChannel(hazelcastInstance, "test-invalidations")
+        CacheInvalidationChannel remote = new HazelcastCacheInvalidationChannel(hazelcastInstance, "test-invalidations")
+        RecordingListener localListener = new RecordingListener()
+        RecordingListener remoteListener = new RecordingListener()
+        RecordingListener otherCacheListener = new RecordingListener()
+        local.subscribe("books", localListener)
+        remote.subscribe("books", remoteListener)
+        remote.subscribe("authors", otherCacheListener)
+
+        when:
+        local.publish("books", "one")
+        local.publishAll("books")
+
+        then:
+        conditions.eventually {
+            assert remoteListener.events == ["one", "*"]
+        }
+        localListener.events.isEmpty()
+        otherCacheListener.events.isEmpty()
+    }
+
+    static class RecordingListener implements CacheInvalidationChannel.Listener {
+
+        final List<Object> events = new CopyOnWriteArrayList<>()
+
+        @Override
+        void onInvalidate(Object key) {
+            events.add(key)
+        }
+
+        @Override
+        void onInvalidateAll() {
+            events.add("*")
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package io.micronaut.cache.hazelcast
+
+import com.hazelcast.map.IMap
+import io.micronaut.cache.SyncCache
+import io.micronaut.cache.annotation.Cacheable
+import io.micronaut.cache.interceptor.NegativeCacheEntry
+import io.micronaut.cache.interceptor.RefreshableValue
+import io.micronaut.cache.serialize.CacheValueCodec
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.type.Argument
+import io.micronaut.serde.annotation.Serdeable
+import jakarta.inject.Singleton
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.atomic.AtomicInteger
+
+class HazelcastCacheValueCodecSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext applicationContext = ApplicationContext.run([
+        'spec.name': HazelcastCacheValueCodecSpec.simpleName,
+        'micronaut.cache.codec.serde.enabled': true,
+        'hazelcast.caches.compressed.compression-threshold': '1KB'
+    ])
+
+    void "test values are stored with the codec"() {
+        given:
+        SyncCache<IMap<Object, Object>> cache = applicationContext.getBean(HazelcastCacheManager).getCache("codec")
+        Map<String, Object> book = [title: "The Stand", pages: 1153]
+
+        when:
+        cache.put("book", book)
+        cache.putAll([titles: ["The Stand", "It"]])
+
+        then:
+        cache.nativeCache.get("book") instanceof byte[]
+        cache.get("book", Map).get() == book
+        cache.get("titles", List).get() == ["The Stand", "It"]
+        cache.async().get("book", Map).get().get() == book
+        cache.getAll(["book", "missing"], Argument.of(Map)) == [book: book]
+        cache.putIfAbsent("book", [title: "It"]).get() == book
+    }
+
+    void "test values that serde can't encode fall back to java serialization"() {
+        given:
+        SyncCache<IMap<Object, Object>> cache = applicationContext.getBean(HazelcastCacheManager).getCache("codec")
+
+        when:
+        cache.put("legacy", new Legacy(name: "legacy"))
+
+        then:
+        cache.nativeCache.get("legacy") instanceof byte[]
+        cache.get("legacy", Legacy).get().name == "legacy"
+    }
+
+    void "test serdeable values are cached with and without refresh"() {
+        given:
+        DtoService service = applicationContext.getBean(DtoService)
+
+        expect:
+        service.find("plain").title == "plain"
+        service.find("plain").title == "plain"
+        service.findRefreshed("refreshed").title == "refreshed"
+        service.findRefreshed("refreshed").title == "refreshed"
+        service.findMissing("missing") == null
+        service.findMissing("missing") == null
+        service.invocations.get() == 3
+    }
+
+    void "test the wrappers of the interceptor are encoded with serdeable values"() {
+        given:
+        SyncCache<IMap<Object, Object>> cache = applicationContext.getBean(HazelcastCacheManager).getCache("codec")
+
+        when:
+        cache.put("refreshable", new RefreshableValue(new Dto(title: "refreshable"), 42))
+        long expiresAt = System.currentTimeMillis() + 3_600_000
+        cache.put("negative", new NegativeCacheEntry(expiresAt))
+        RefreshableValue refreshable = cache.get("refreshable", RefreshableValue).get()
+
+        then:
+        cache.nativeCache.get("refreshable") instanceof byte[]
+        refreshable.writeTime == 42
+        refreshable.value instanceof Dto
+        ((Dto) refreshable.value).title == "refreshable"
+        cache.get("negative", Object).get() instanceof NegativeCacheEntry
+        cache.get("negative", NegativeCacheEntry).get().expiresAt == expiresAt
+    }
+
+    void "test large values are compressed"() {
+        given:
+        SyncCache<IMap<Object, Object>> cache = applicationContext.getBean(HazelcastCacheManager).getCache("compressed")
+        String large = "cached value " * 10_000
+
+        when:
+        cache.put("small", "small")
+        cache.put("large", large)
+
+        then:
+        ((byte[]) cache.nativeCache.get("small"))[0] == 0 as byte
+        ((byte[]) cache.nativeCache.get("large"))[0] == 1 as byte
+        ((byte[]) cache.nativeCache.get("large")).length < large.length() / 10
+        cache.get("small", String).get() == "small"
+        cache.get("large", String).get() == large
+    }
+
+    void "test the codec is disabled by default"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+
+        expect:
+        !context.containsBean(CacheValueCodec)
+
+        cleanup:
+        context.close()
+    }
+
+    static class Legacy implements Serializable {
+        String name
+    }
+
+    @Serdeable
+    static class Dto {
+        String title
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'HazelcastCacheValueCodecSpec')
+    static class DtoService {
+
+        AtomicInteger invocations = new AtomicInteger()
+
+        @Cacheable("dtos")
+        Dto find(String title) {
+            invocations.incrementAndGet()
+            return new Dto(title: title)
+        }
+
+        @Cacheable(value = "refreshed-dtos", refreshAfterWrite = "1h")
+        Dto findRefreshed(String title) {
+            invocations.incrementAndGet()
+            return new Dto(title: title)
+        }
+
+        @Cacheable(value = "missing-dtos", negativeTtl = "1h")
+        Dto findMissing(String title) {
+            invocations.incrementAndGet()
+            return null
+        }
+    }
+}
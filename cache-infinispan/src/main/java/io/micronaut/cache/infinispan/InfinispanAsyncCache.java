@@ -17,18 +17,26 @@ package io.micronaut.cache.infinispan;
 
 import io.micronaut.cache.AsyncCache;
 import io.micronaut.cache.CacheInfo;
+import io.micronaut.cache.interceptor.NegativeCacheEntry;
+import io.micronaut.cache.serialize.CacheValueConverter;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.async.publisher.Publishers;
-import io.micronaut.core.convert.ConversionContext;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.ArgumentUtils;
 import org.infinispan.client.hotrod.RemoteCache;
 import org.reactivestreams.Publisher;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 /**
@@ -40,22 +48,30 @@ import java.util.function.Supplier;
 public class InfinispanAsyncCache implements AsyncCache<RemoteCache<Object, Object>> {
 
     private final RemoteCache<Object, Object> nativeCache;
-    private final ConversionService conversionService;
+    private final CacheValueConverter valueConverter;
 
     /**
      * @param nativeCache the Infinispan remote cache
      * @param conversionService the conversion service
      */
     public InfinispanAsyncCache(RemoteCache<Object, Object> nativeCache, ConversionService conversionService) {
+        this(nativeCache, new CacheValueConverter(conversionService, null));
+    }
+
+    /**
+     * @param nativeCache the Infinispan remote cache
+     * @param valueConverter the converter of the stored values
+     */
+    InfinispanAsyncCache(RemoteCache<Object, Object> nativeCache, CacheValueConverter valueConverter) {
         this.nativeCache = nativeCache;
-        this.conversionService = conversionService;
+        this.valueConverter = valueConverter;
     }
 
     @NonNull
     @Override
     public <T> CompletableFuture<Optional<T>> get(@NonNull Object key, @NonNull Argument<T> requiredType) {
         ArgumentUtils.requireNonNull("key", key);
-        return nativeCache.getAsync(key).thenApply(value -> conversionService.convert(value, ConversionContext.of(requiredType)));
+        return nativeCache.getAsync(key).thenApply(value -> valueConverter.decode(value, requiredType));
     }
 
     @Override
@@ -73,16 +89,23 @@ public class InfinispanAsyncCache implements AsyncCache<RemoteCache<Object, Obje
         });
     }
 
+    @Override
+    public <T> CompletableFuture<Map<Object, T>> getAll(@NonNull Collection<?> keys, @NonNull Argument<T> requiredType) {
+        ArgumentUtils.requireNonNull("keys", keys);
+        return nativeCache
+                .getAllAsync(new LinkedHashSet<>(keys))
+                .thenApply(entries -> InfinispanSyncCache.convertAll(valueConverter, keys, entries, requiredType));
+    }
+
     @SuppressWarnings("unchecked")
     @NonNull
     @Override
     public <T> CompletableFuture<Optional<T>> putIfAbsent(@NonNull Object key, @NonNull T value) {
         ArgumentUtils.requireNonNull("key", key);
         ArgumentUtils.requireNonNull("value", value);
-        return nativeCache.putIfAbsentAsync(key, value).thenApply(val -> {
-            final T v = (T) val;
+        return nativeCache.putIfAbsentAsync(key, valueConverter.encode(value)).thenApply(val -> {
             final Class<T> aClass = (Class<T>) value.getClass();
-            return conversionService.convert(v, aClass);
+            return valueConverter.decode(val, Argument.of(aClass));
         });
     }
 
@@ -90,9 +113,10 @@ public class InfinispanAsyncCache implements AsyncCache<RemoteCache<Object, Obje
     public CompletableFuture<Boolean> put(@NonNull Object key, @NonNull Object value) {
         ArgumentUtils.requireNonNull("key", key);
         ArgumentUtils.requireNonNull("value", value);
-        return nativeCache
-                .putAsync(key, value)
-                .thenApply(Objects::nonNull);
+        CompletableFuture<Object> put = value instanceof NegativeCacheEntry negativeCacheEntry
+            ? nativeCache.putAsync(key, valueConverter.encode(value), Math.max(1, negativeCacheEntry.getRemainingMillis()), TimeUnit.MILLISECONDS)
+            : nativeCache.putAsync(key, valueConverter.encode(value));
+        return put.thenApply(Objects::nonNull);
     }
 
     @Override
@@ -103,6 +127,36 @@ public class InfinispanAsyncCache implements AsyncCache<RemoteCache<Object, Obje
                 .thenApply(Objects::nonNull);
     }
 
+    @Override
+    public CompletableFuture<Boolean> putAll(@NonNull Map<?, ?> values) {
+        ArgumentUtils.requireNonNull("values", values);
+        Map<Object, Object> nonNullValues = new LinkedHashMap<>(values.size());
+        List<Object> nullKeys = new ArrayList<>();
+        values.forEach((key, value) -> {
+            if (value != null) {
+                nonNullValues.put(key, value);
+            } else {
+                nullKeys.add(key);
+            }
+        });
+        CompletableFuture<Void> puts = nativeCache.putAllAsync(valueConverter.encodeAll(nonNullValues));
+        return (nullKeys.isEmpty() ? puts : CompletableFuture.allOf(puts, invalidateAll(nullKeys)))
+                .thenApply(ignore -> true);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> invalidateAll(@NonNull Collection<?> keys) {
+        ArgumentUtils.requireNonNull("keys", keys);
+        // the remote cache has no bulk removal by key, so the removals are sent concurrently
+        List<CompletableFuture<Object>> removals = new ArrayList<>(keys.size());
+        for (Object key : keys) {
+            removals.add(nativeCache.removeAsync(key));
+        }
+        return CompletableFuture
+                .allOf(removals.toArray(new CompletableFuture[0]))
+                .thenApply(ignore -> true);
+    }
+
     @Override
     public CompletableFuture<Boolean> invalidateAll() {
         return nativeCache
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.infinispan;
+
+import io.micronaut.cache.CacheInvalidationChannel;
+import io.micronaut.cache.serialize.CacheValueCodec;
+import io.micronaut.cache.serialize.JdkCacheValueCodec;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.SupplierUtil;
+import jakarta.inject.Singleton;
+import org.infinispan.client.hotrod.RemoteCache;
+import org.infinispan.client.hotrod.RemoteCacheManager;
+import org.infinispan.client.hotrod.annotation.ClientCacheEntryCreated;
+import org.infinispan.client.hotrod.annotation.ClientCacheFailover;
+import org.infinispan.client.hotrod.annotation.ClientListener;
+import org.infinispan.client.hotrod.event.ClientCacheEntryCreatedEvent;
+import org.infinispan.client.hotrod.event.ClientCacheFailoverEvent;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * <p>A {@link CacheInvalidationChannel} that publishes the invalidations as entries of an Infinispan cache, and
+ * registers a Hot Rod client listener on that cache to receive the invalidations of the other nodes.</p>
+ *
+ * <p>The invalidations are encoded in the keys of the entries with Java serialization, so the keys of the caches
+ * must be {@link Serializable}. The entries expire after a minute.</p>
+ *
+ * @since 5.1.0
+ */
+@Singleton
+@Requires(beans = RemoteCacheManager.class)
+public class InfinispanCacheInvalidationChannel implements CacheInvalidationChannel {
+
+    /**
+     * The default name of the cache that holds the invalidations.
+     */
+    public static final String DEFAULT_CACHE = "micronaut-cache-invalidation";
+
+    private static final byte[] NO_VALUE = new byte[0];
+    private static final long LIFESPAN_SECONDS = 60;
+
+    private final String origin = UUID.randomUUID().toString();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, List<Listener>> listeners = new ConcurrentHashMap<>();
+    private final CacheValueCodec codec;
+    private final Supplier<RemoteCache<byte[], byte[]>> invalidations;
+
+    /**
+     * @param remoteCacheManager The Infinispan remote cache manager
+     * @param conversionService  The conversion service
+     * @param cacheName          The name of the cache that holds the invalidations
+     */
+    public InfinispanCacheInvalidationChannel(RemoteCacheManager remoteCacheManager,
+                                              ConversionService conversionService,
+                                              @Value("${infinispan.cache.invalidation-cache:" + DEFAULT_CACHE + "}") String cacheName) {
+        this.codec = new JdkCacheValueCodec(conversionService);
+        this.invalidations = SupplierUtil.memoized(() -> {
+            RemoteCache<byte[], byte[]> cache = remoteCacheManager.administration()
+                .getOrCreateCache(cacheName, new ConfigurationBuilder().build());
+            cache.addClientListener(new InvalidationListener(this));
+            return cache;
+        });
+    }
+
+    @Override
+    public void publish(@NonNull String cacheName, @NonNull Object key) {
+        send(cacheName, key);
+    }
+
+    @Override
+    public void publishAll(@NonNull String cacheName) {
+        send(cacheName, null);
+    }
+
+    @Override
+    public void subscribe(@NonNull String cacheName, @NonNull Listener listener) {
+        listeners.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(listener);
+        invalidations.get();
+    }
+
+    private void send(String cacheName, @Nullable Object key) {
+        byte[] message = codec.encode(new Invalidation(origin, sequence.incrementAndGet(), cacheName, key));
+        invalidations.get().putAsync(message, NO_VALUE, LIFESPAN_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private void onMessage(byte[] message) {
+        Invalidation invalidation = codec.decode(message, Argument.of(Invalidation.class)).orElse(null);
+        if (invalidation == null || origin.equals(invalidation.origin)) {
+            return;
+        }
+        List<Listener> cacheListeners = listeners.get(invalidation.cacheName);
+        if (cacheListeners != null) {
+            for (Listener listener : cacheListeners) {
+                if (invalidation.key == null) {
+                    listener.onInvalidateAll();
+                } else {
+                    listener.onInvalidate(invalidation.key);
+                }
+            }
+        }
+    }
+
+    private void onFailover() {
+        for (List<Listener> cacheListeners : listeners.values()) {
+            for (Listener listener : cacheListeners) {
+                listener.onInvalidateAll();
+            }
+        }
+    }
+
+    /**
+     * The invalidation encoded in the key of an entry. The sequence makes the keys of a node unique.
+     */
+    static final class Invalidation implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        final String origin;
+        final long sequence;
+        final String cacheName;
+        @Nullable
+        final Object key;
+
+        Invalidation(String origin, long sequence, String cacheName, @Nullable Object key) {
+            this.origin = origin;
+            this.sequence = sequence;
+            this.cacheName = cacheName;
+            this.key = key;
+        }
+    }
+
+    /**
+     * Forwards the invalidations that are created on the server to the channel.
+     */
+    @Internal
+    @ClientListener
+    public static final class InvalidationListener {
+
+        private final InfinispanCacheInvalidationChannel channel;
+
+        InvalidationListener(InfinispanCacheInvalidationChannel channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * @param event The event
+         */
+        @ClientCacheEntryCreated
+        public void onCreated(ClientCacheEntryCreatedEvent<byte[]> event) {
+            channel.onMessage(event.getKey());
+        }
+
+        /**
+         * Invalidations may have been missed while failing over to another server.
+         *
+         * @param event The event
+         */
+        @ClientCacheFailover
+        public void onFailover(ClientCacheFailoverEvent event) {
+            channel.onFailover();
+        }
+    }
+}
@@ -17,8 +17,11 @@ package io.micronaut.cache.infinispan;
 
 import io.micronaut.cache.DynamicCacheManager;
 import io.micronaut.cache.SyncCache;
+import io.micronaut.cache.serialize.CacheValueCodec;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.convert.ConversionService;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import org.infinispan.client.hotrod.RemoteCache;
 import org.infinispan.client.hotrod.RemoteCacheManager;
@@ -37,14 +40,31 @@ public class InfinispanCacheManager implements DynamicCacheManager<RemoteCache<O
 
     private final RemoteCacheManager remoteCacheManager;
     private final ConversionService conversionService;
+    private final CacheValueCodec codec;
 
     /**
      * @param remoteCacheManager the Infinispan remote cache manager
      * @param conversionService the conversion service
+     * @deprecated Use {@link #InfinispanCacheManager(RemoteCacheManager, ConversionService, CacheValueCodec)} instead
      */
+    @Deprecated(since = "5.1.0", forRemoval = true)
     public InfinispanCacheManager(RemoteCacheManager remoteCacheManager, ConversionService conversionService) {
+        this(remoteCacheManager, conversionService, null);
+    }
+
+    /**
+     * @param remoteCacheManager the Infinispan remote cache manager
+     * @param conversionService the conversion service
+     * @param codec encodes the values stored in the caches, if any
+     * @since 5.1.0
+     */
+    @Inject
+    public InfinispanCacheManager(RemoteCacheManager remoteCacheManager,
+                                  ConversionService conversionService,
+                                  @Nullable CacheValueCodec codec) {
         this.remoteCacheManager = remoteCacheManager;
         this.conversionService = conversionService;
+        this.codec = codec;
     }
 
     @NonNull
@@ -52,6 +72,6 @@ public class InfinispanCacheManager implements DynamicCacheManager<RemoteCache<O
     public SyncCache<RemoteCache<Object, Object>> getCache(String name) {
         BasicConfiguration basicConfiguration = new ConfigurationBuilder().build();
         RemoteCache<Object, Object> nativeCache = remoteCacheManager.administration().getOrCreateCache(name, basicConfiguration);
-        return new InfinispanSyncCache(conversionService, nativeCache);
+        return new InfinispanSyncCache(conversionService, nativeCache, codec);
     }
 }
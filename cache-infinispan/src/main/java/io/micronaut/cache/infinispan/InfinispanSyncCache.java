@@ -18,12 +18,28 @@ package io.micronaut.cache.infinispan;
 import io.micronaut.cache.AbstractMapBasedSyncCache;
 import io.micronaut.cache.AsyncCache;
 import io.micronaut.cache.CacheInfo;
+import io.micronaut.cache.interceptor.NegativeCacheEntry;
+import io.micronaut.cache.serialize.CacheValueCodec;
+import io.micronaut.cache.serialize.CacheValueConverter;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.async.publisher.Publishers;
 import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.ArgumentUtils;
 import org.infinispan.client.hotrod.RemoteCache;
 import org.reactivestreams.Publisher;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
 /**
  * A {@link io.micronaut.cache.SyncCache} implementation based on Infinispan's {@link RemoteCache}.
  *
@@ -37,7 +53,31 @@ public class InfinispanSyncCache extends AbstractMapBasedSyncCache<RemoteCache<O
      * @param nativeCache       the native cache
      */
     public InfinispanSyncCache(ConversionService conversionService, RemoteCache<Object, Object> nativeCache) {
-        super(conversionService, nativeCache);
+        this(conversionService, nativeCache, null);
+    }
+
+    /**
+     * @param conversionService the conversion service
+     * @param nativeCache       the native cache
+     * @param codec             the codec of the stored values, or null to store them as they are
+     * @since 5.1.0
+     */
+    public InfinispanSyncCache(ConversionService conversionService,
+                               RemoteCache<Object, Object> nativeCache,
+                               @Nullable CacheValueCodec codec) {
+        super(conversionService, nativeCache, codec);
+    }
+
+    @Override
+    public void put(@NonNull Object key, @NonNull Object value) {
+        ArgumentUtils.requireNonNull("key", key);
+        ArgumentUtils.requireNonNull("value", value);
+        if (value instanceof NegativeCacheEntry negativeCacheEntry) {
+            // a lifespan of zero would keep the entry forever
+            getNativeCache().put(key, getValueConverter().encode(value), Math.max(1, negativeCacheEntry.getRemainingMillis()), TimeUnit.MILLISECONDS);
+        } else {
+            getNativeCache().put(key, getValueConverter().encode(value));
+        }
     }
 
     @Override
@@ -45,10 +85,36 @@ public class InfinispanSyncCache extends AbstractMapBasedSyncCache<RemoteCache<O
         return getNativeCache().getName();
     }
 
+    @NonNull
+    @Override
+    public <T> Map<Object, T> getAll(@NonNull Collection<?> keys, @NonNull Argument<T> requiredType) {
+        ArgumentUtils.requireNonNull("keys", keys);
+        Map<Object, Object> entries = getNativeCache().getAll(new LinkedHashSet<>(keys));
+        return InfinispanSyncCache.convertAll(getValueConverter(), keys, entries, requiredType);
+    }
+
+    @Override
+    public void invalidateAll(@NonNull Collection<?> keys) {
+        ArgumentUtils.requireNonNull("keys", keys);
+        // the remote cache has no bulk removal by key, so the removals are sent concurrently
+        List<CompletableFuture<Object>> removals = new ArrayList<>(keys.size());
+        for (Object key : keys) {
+            removals.add(getNativeCache().removeAsync(key));
+        }
+        try {
+            CompletableFuture.allOf(removals.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
     @NonNull
     @Override
     public AsyncCache<RemoteCache<Object, Object>> async() {
-        return new InfinispanAsyncCache(getNativeCache(), getConversionService());
+        return new InfinispanAsyncCache(getNativeCache(), getValueConverter());
     }
 
     @Override
@@ -56,4 +122,25 @@ public class InfinispanSyncCache extends AbstractMapBasedSyncCache<RemoteCache<O
         return Publishers.just(new InfinispanCacheInfo(getNativeCache()));
     }
 
+    /**
+     * Converts the values retrieved for the given keys, in the iteration order of the keys.
+     *
+     * @param valueConverter    The converter of the stored values
+     * @param keys              The keys
+     * @param entries           The retrieved entries
+     * @param requiredType      The required type
+     * @param <T>               The concrete type
+     * @return The converted values
+     */
+    static <T> Map<Object, T> convertAll(CacheValueConverter valueConverter,
+                                         Collection<?> keys,
+                                         Map<Object, Object> entries,
+                                         Argument<T> requiredType) {
+        Map<Object, T> values = new LinkedHashMap<>(entries.size());
+        for (Object key : keys) {
+            valueConverter.decode(entries.get(key), requiredType)
+                .ifPresent(converted -> values.put(key, converted));
+        }
+        return values;
+    }
 }
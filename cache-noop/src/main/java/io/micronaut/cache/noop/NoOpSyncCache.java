@@ -78,6 +78,11 @@ public class NoOpSyncCache implements SyncCache<Object> {
         return name;
     }
 
+    @Override
+    public boolean isNonBlocking() {
+        return true;
+    }
+
     @Override
     public Object getNativeCache() {
         return this;
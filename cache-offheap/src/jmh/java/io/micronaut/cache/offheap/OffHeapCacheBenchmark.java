@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.offheap;
+
+import io.micronaut.cache.CacheManager;
+import io.micronaut.cache.SyncCache;
+import io.micronaut.context.ApplicationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading and writing a Caffeine cache and an off-heap cache of the same number of entries, from several
+ * threads. Run with {@code ./gradlew cache-offheap:jmh} and {@code -prof gc} to compare the allocation rate and the
+ * time spent in garbage collection, which grows with the number of entries for Caffeine only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g", "-XX:MaxDirectMemorySize=4g"})
+public class OffHeapCacheBenchmark {
+
+    private static final int ENTRIES = 200_000;
+
+    @Param({"100", "10000"})
+    int valueSize;
+
+    private ApplicationContext applicationContext;
+    private SyncCache<?> caffeine;
+    private SyncCache<?> offHeap;
+    private String value;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        applicationContext = ApplicationContext.run(Map.of(
+            "micronaut.caches.caffeine.maximum-size", ENTRIES,
+            "micronaut.offheap.caches.offheap.maximum-weight", (long) ENTRIES * (valueSize + 256)
+        ));
+        CacheManager<?> cacheManager = applicationContext.getBean(CacheManager.class);
+        caffeine = cacheManager.getCache("caffeine");
+        offHeap = cacheManager.getCache("offheap");
+        value = "x".repeat(valueSize);
+        for (int i = 0; i < ENTRIES; i++) {
+            caffeine.put("key" + i, value);
+            offHeap.put("key" + i, value);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public Object caffeineGet() {
+        return caffeine.get(randomKey(), String.class);
+    }
+
+    @Benchmark
+    public Object offHeapGet() {
+        return offHeap.get(randomKey(), String.class);
+    }
+
+    @Benchmark
+    public void caffeinePut() {
+        caffeine.put(randomKey(), value);
+    }
+
+    @Benchmark
+    public void offHeapPut() {
+        offHeap.put(randomKey(), value);
+    }
+
+    private static String randomKey() {
+        return "key" + ThreadLocalRandom.current().nextInt(ENTRIES);
+    }
+}
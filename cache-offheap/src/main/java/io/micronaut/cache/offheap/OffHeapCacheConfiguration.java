@@ -0,0 +1,208 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.offheap;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.convert.format.ReadableBytes;
+import io.micronaut.core.naming.Named;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+/**
+ * <p>The configuration of an {@link OffHeapSyncCache}. It accepts the same properties as
+ * {@link io.micronaut.cache.CacheConfiguration}, under its own prefix so that the caches are not also created by the
+ * Caffeine module.</p>
+ *
+ * @since 5.1.0
+ */
+@EachProperty(OffHeapCacheConfiguration.PREFIX)
+public class OffHeapCacheConfiguration implements Named {
+
+    /**
+     * The prefix of the off-heap cache configurations.
+     */
+    public static final String PREFIX = "micronaut.offheap.caches";
+
+    /**
+     * The default maximum weight, 64 megabytes.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 64L * 1024 * 1024;
+
+    /**
+     * The default number of segments.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_SEGMENTS = 16;
+
+    /**
+     * The default block size.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_BLOCK_SIZE = 64;
+
+    /**
+     * The default slab size, 1 megabyte.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_SLAB_SIZE = 1024 * 1024;
+
+    private final String cacheName;
+
+    private Integer initialCapacity;
+    private Long maximumSize;
+    private long maximumWeight = DEFAULT_MAXIMUM_WEIGHT;
+    private Duration expireAfterWrite;
+    private Duration expireAfterAccess;
+    private int segments = DEFAULT_SEGMENTS;
+    private int blockSize = DEFAULT_BLOCK_SIZE;
+    private int slabSize = DEFAULT_SLAB_SIZE;
+
+    /**
+     * @param cacheName The name of the cache
+     */
+    public OffHeapCacheConfiguration(@Parameter String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return cacheName;
+    }
+
+    /**
+     * @return The initial capacity of the index
+     */
+    public OptionalInt getInitialCapacity() {
+        return initialCapacity == null ? OptionalInt.empty() : OptionalInt.of(initialCapacity);
+    }
+
+    /**
+     * @param initialCapacity The expected number of entries
+     */
+    public void setInitialCapacity(Integer initialCapacity) {
+        this.initialCapacity = initialCapacity;
+    }
+
+    /**
+     * @return The maximum number of entries
+     */
+    public OptionalLong getMaximumSize() {
+        return maximumSize == null ? OptionalLong.empty() : OptionalLong.of(maximumSize);
+    }
+
+    /**
+     * @param maximumSize The maximum number of entries
+     */
+    public void setMaximumSize(Long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * @return The maximum number of bytes of off-heap memory
+     */
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * @param maximumWeight The maximum number of bytes of off-heap memory, such as {@code 4GB}. Defaults to
+     *                      {@value #DEFAULT_MAXIMUM_WEIGHT}.
+     */
+    public void setMaximumWeight(@ReadableBytes long maximumWeight) {
+        this.maximumWeight = maximumWeight;
+    }
+
+    /**
+     * @return The time after which the entries expire once written
+     */
+    public Optional<Duration> getExpireAfterWrite() {
+        return Optional.ofNullable(expireAfterWrite);
+    }
+
+    /**
+     * @param expireAfterWrite The time after which the entries expire once written
+     */
+    public void setExpireAfterWrite(Duration expireAfterWrite) {
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    /**
+     * @return The time after which the entries expire once read or written
+     */
+    public Optional<Duration> getExpireAfterAccess() {
+        return Optional.ofNullable(expireAfterAccess);
+    }
+
+    /**
+     * @param expireAfterAccess The time after which the entries expire once read or written
+     */
+    public void setExpireAfterAccess(Duration expireAfterAccess) {
+        this.expireAfterAccess = expireAfterAccess;
+    }
+
+    /**
+     * @return The number of segments
+     */
+    public int getSegments() {
+        return segments;
+    }
+
+    /**
+     * @param segments The number of segments, each guarded by its own lock. Rounded up to a power of two. Defaults
+     *                 to {@value #DEFAULT_SEGMENTS}.
+     */
+    public void setSegments(int segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * @return The size of the blocks that hold the entries
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * @param blockSize The size of the blocks that hold the entries. Each block loses 4 bytes to link it to the next
+     *                  block of its entry, and the last block of an entry is partly unused on average, so larger
+     *                  blocks suit larger entries. Defaults to {@value #DEFAULT_BLOCK_SIZE}.
+     */
+    public void setBlockSize(@ReadableBytes int blockSize) {
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * @return The size of the direct buffers allocated for the blocks
+     */
+    public int getSlabSize() {
+        return slabSize;
+    }
+
+    /**
+     * @param slabSize The size of the direct buffers allocated for the blocks as the cache grows. Defaults to
+     *                 {@value #DEFAULT_SLAB_SIZE}.
+     */
+    public void setSlabSize(@ReadableBytes int slabSize) {
+        this.slabSize = slabSize;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.offheap;
+
+import io.micronaut.cache.serialize.CacheValueCodec;
+import io.micronaut.cache.serialize.JdkCacheValueCodec;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.ConversionService;
+
+/**
+ * Creates an {@link OffHeapSyncCache} for each {@link OffHeapCacheConfiguration}.
+ *
+ * @since 5.1.0
+ */
+@Factory
+public class OffHeapCacheFactory {
+
+    /**
+     * @param configuration     The configuration
+     * @param conversionService The conversion service
+     * @param codec             The codec of the values, if any
+     * @return The sync cache
+     */
+    @EachBean(OffHeapCacheConfiguration.class)
+    @Bean(preDestroy = "close")
+    OffHeapSyncCache syncCache(@Parameter OffHeapCacheConfiguration configuration,
+                               ConversionService conversionService,
+                               @Nullable CacheValueCodec codec) {
+        return new OffHeapSyncCache(configuration, codec == null ? new JdkCacheValueCodec(conversionService) : codec);
+    }
+}
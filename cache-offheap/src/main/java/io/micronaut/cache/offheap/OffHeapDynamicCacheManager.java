@@ -0,0 +1,59 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.offheap;
+
+import io.micronaut.cache.DynamicCacheManager;
+import io.micronaut.cache.SyncCache;
+import io.micronaut.cache.serialize.CacheValueCodec;
+import io.micronaut.cache.serialize.JdkCacheValueCodec;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.util.StringUtils;
+import jakarta.inject.Singleton;
+
+/**
+ * A {@link DynamicCacheManager} that creates {@link OffHeapSyncCache}s with the default configuration. It is enabled
+ * with {@code micronaut.offheap.dynamic}.
+ *
+ * @since 5.1.0
+ */
+@Singleton
+@Requires(property = OffHeapDynamicCacheManager.ENABLED, value = StringUtils.TRUE)
+public class OffHeapDynamicCacheManager implements DynamicCacheManager<OffHeapStore> {
+
+    /**
+     * The property that enables the manager.
+     */
+    public static final String ENABLED = "micronaut.offheap.dynamic";
+
+    private final CacheValueCodec codec;
+
+    /**
+     * @param conversionService The conversion service
+     * @param codec             The codec of the values, if any
+     */
+    public OffHeapDynamicCacheManager(ConversionService conversionService, @Nullable CacheValueCodec codec) {
+        this.codec = codec == null ? new JdkCacheValueCodec(conversionService) : codec;
+    }
+
+    @NonNull
+    @Override
+    public SyncCache<OffHeapStore> getCache(String name) {
+        return new OffHeapSyncCache(new OffHeapCacheConfiguration(name), codec);
+    }
+}
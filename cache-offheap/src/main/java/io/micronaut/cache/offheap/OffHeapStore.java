@@ -0,0 +1,625 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.offheap;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>A map of serialized keys to serialized values that stores its entries outside the Java heap, so that the size of
+ * the cache has no effect on garbage collection.</p>
+ *
+ * <p>The store is split into segments, each guarded by its own lock. A segment stores the entries in fixed size blocks
+ * of direct {@link ByteBuffer} slabs, which are allocated on demand up to the maximum weight of the segment. An entry
+ * spans as many chained blocks as it needs, so freed blocks can hold entries of any size. The entries are found with an
+ * open addressing index made of primitive arrays, which also holds the timestamps used for expiration and the
+ * reference bits of the clock that chooses the entries to evict.</p>
+ *
+ * @since 5.1.0
+ */
+public final class OffHeapStore {
+
+    private static final int NEXT = 4;
+    private static final int ENTRY_HEADER = 8;
+    private static final int END = -1;
+
+    private final Segment[] segments;
+    private final int segmentShift;
+    private final int blockSize;
+    private final long maximumWeight;
+    private final long expireAfterWriteNanos;
+    private final long expireAfterAccessNanos;
+    private final LongSupplier ticker;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    /**
+     * @param maximumWeight          The maximum number of bytes of the slabs
+     * @param maximumSize            The maximum number of entries, or a negative value for no limit
+     * @param segmentCount           The number of segments, rounded up to a power of two
+     * @param blockSize              The size of a block
+     * @param slabSize               The size of a slab
+     * @param initialCapacity        The expected number of entries
+     * @param expireAfterWriteNanos  The time after which the entries expire once written, or 0 for never
+     * @param expireAfterAccessNanos The time after which the entries expire once read or written, or 0 for never
+     * @param ticker                 The source of the time in nanoseconds
+     */
+    public OffHeapStore(long maximumWeight,
+                        long maximumSize,
+                        int segmentCount,
+                        int blockSize,
+                        int slabSize,
+                        int initialCapacity,
+                        long expireAfterWriteNanos,
+                        long expireAfterAccessNanos,
+                        @NonNull LongSupplier ticker) {
+        if (blockSize <= NEXT + ENTRY_HEADER) {
+            throw new IllegalArgumentException("The block size must be greater than " + (NEXT + ENTRY_HEADER) + " bytes");
+        }
+        if (slabSize < blockSize) {
+            throw new IllegalArgumentException("The slab size must be at least the block size");
+        }
+        int count = segmentCount <= 1 ? 1 : Integer.highestOneBit(segmentCount - 1) << 1;
+        long blocks = maximumWeight / blockSize;
+        // a segment addresses its blocks with an int
+        while (blocks / count > Integer.MAX_VALUE) {
+            count <<= 1;
+        }
+        this.segments = new Segment[count];
+        this.segmentShift = 32 - Integer.numberOfTrailingZeros(count);
+        this.blockSize = blockSize;
+        this.maximumWeight = maximumWeight;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.expireAfterAccessNanos = expireAfterAccessNanos;
+        this.ticker = ticker;
+        int blocksPerSlab = slabSize / blockSize;
+        long entriesPerSegment = maximumSize < 0 ? -1 : Math.max(1, maximumSize / count);
+        int capacityPerSegment = Math.max(8, initialCapacity / count);
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment((int) (blocks / count), blocksPerSlab, entriesPerSegment, capacityPerSegment);
+        }
+    }
+
+    /**
+     * @param key The serialized key
+     * @return The serialized value, or null if there is no entry for the key
+     */
+    @Nullable
+    public byte[] get(@NonNull byte[] key) {
+        int hash = hash(key);
+        byte[] value = segmentFor(hash).get(hash, key);
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Stores an entry, unless it is larger than a segment.
+     *
+     * @param key   The serialized key
+     * @param value The serialized value
+     * @return Whether the entry was stored
+     */
+    public boolean put(@NonNull byte[] key, @NonNull byte[] value) {
+        int hash = hash(key);
+        return segmentFor(hash).put(hash, key, value, false) != Segment.REJECTED;
+    }
+
+    /**
+     * @param key   The serialized key
+     * @param value The serialized value
+     * @return The serialized value of the existing entry, or null if the entry was stored
+     */
+    @Nullable
+    public byte[] putIfAbsent(@NonNull byte[] key, @NonNull byte[] value) {
+        int hash = hash(key);
+        byte[] existing = segmentFor(hash).put(hash, key, value, true);
+        return existing == Segment.REJECTED ? null : existing;
+    }
+
+    /**
+     * @param key The serialized key
+     * @return Whether there was an entry for the key
+     */
+    public boolean remove(@NonNull byte[] key) {
+        int hash = hash(key);
+        return segmentFor(hash).remove(hash, key);
+    }
+
+    /**
+     * Removes all the entries. The slabs are kept to store the next entries.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Removes all the entries and releases the slabs.
+     */
+    public void release() {
+        for (Segment segment : segments) {
+            segment.release();
+        }
+    }
+
+    /**
+     * @return The number of entries, including the expired entries that were not removed yet
+     */
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    /**
+     * @return The number of bytes of the blocks that hold entries
+     */
+    public long getUsedBytes() {
+        long used = 0;
+        for (Segment segment : segments) {
+            used += (long) (segment.allocatedBlocks - segment.freeBlocks) * blockSize;
+        }
+        return used;
+    }
+
+    /**
+     * @return The number of bytes of the allocated slabs
+     */
+    public long getAllocatedBytes() {
+        long allocated = 0;
+        for (Segment segment : segments) {
+            for (ByteBuffer slab : segment.slabs) {
+                allocated += slab.capacity();
+            }
+        }
+        return allocated;
+    }
+
+    /**
+     * @return The maximum number of bytes of the slabs
+     */
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * @return The number of segments
+     */
+    public int getSegmentCount() {
+        return segments.length;
+    }
+
+    /**
+     * @return The number of reads that found an entry
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of reads that found no entry
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The number of entries evicted to make room for other entries
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return The number of entries that were not stored because they are larger than a segment
+     */
+    public long getRejectionCount() {
+        return rejections.sum();
+    }
+
+    private Segment segmentFor(int hash) {
+        return segments.length == 1 ? segments[0] : segments[hash >>> segmentShift];
+    }
+
+    private static int hash(byte[] key) {
+        int h = Arrays.hashCode(key) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * A part of the store guarded by a lock.
+     */
+    private final class Segment {
+
+        static final byte[] REJECTED = new byte[0];
+
+        final ReentrantLock lock = new ReentrantLock();
+        final List<ByteBuffer> slabs = new ArrayList<>();
+        final int maxBlocks;
+        final int blocksPerSlab;
+        final long maxEntries;
+        final int payloadPerBlock;
+
+        int allocatedBlocks;
+        int freeBlocks;
+        int freeList = END;
+
+        // the index, a slot is empty when its block is 0, otherwise it holds the first block of the entry plus one
+        int[] hashes;
+        int[] blocks;
+        long[] writeTimes;
+        long[] accessTimes;
+        boolean[] referenced;
+        int mask;
+        int size;
+        int hand;
+
+        Segment(int maxBlocks, int blocksPerSlab, long maxEntries, int initialCapacity) {
+            this.maxBlocks = maxBlocks;
+            this.blocksPerSlab = blocksPerSlab;
+            this.maxEntries = maxEntries;
+            this.payloadPerBlock = blockSize - NEXT;
+            allocateIndex(Integer.highestOneBit(Math.max(8, initialCapacity * 4 / 3) - 1) << 1, false);
+        }
+
+        byte[] get(int hash, byte[] key) {
+            lock.lock();
+            try {
+                int slot = find(hash, key);
+                if (slot < 0) {
+                    return null;
+                }
+                long now = ticker.getAsLong();
+                if (isExpired(slot, now)) {
+                    removeSlot(slot);
+                    return null;
+                }
+                referenced[slot] = true;
+                accessTimes[slot] = now;
+                return readValue(blocks[slot] - 1);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        byte[] put(int hash, byte[] key, byte[] value, boolean onlyIfAbsent) {
+            lock.lock();
+            try {
+                long now = ticker.getAsLong();
+                int slot = find(hash, key);
+                if (slot >= 0) {
+                    if (onlyIfAbsent && !isExpired(slot, now)) {
+                        referenced[slot] = true;
+                        accessTimes[slot] = now;
+                        return readValue(blocks[slot] - 1);
+                    }
+                    removeSlot(slot);
+                }
+                long payload = (long) ENTRY_HEADER + key.length + value.length;
+                long needed = (payload + payloadPerBlock - 1) / payloadPerBlock;
+                if (needed > maxBlocks) {
+                    rejections.increment();
+                    return REJECTED;
+                }
+                while ((freeBlocks + maxBlocks - allocatedBlocks < needed || (maxEntries > 0 && size >= maxEntries)) && evictOne(now)) {
+                    // evict until the entry fits
+                }
+                int first = write(key, value, (int) needed);
+                if (size + 1 > (mask + 1) * 3L / 4) {
+                    allocateIndex((mask + 1) << 1, true);
+                }
+                insert(hash, first + 1, now, now, false);
+                return null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean remove(int hash, byte[] key) {
+            lock.lock();
+            try {
+                int slot = find(hash, key);
+                if (slot < 0) {
+                    return false;
+                }
+                removeSlot(slot);
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                allocatedBlocks = 0;
+                freeBlocks = 0;
+                freeList = END;
+                allocateIndex(mask + 1, false);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void release() {
+            lock.lock();
+            try {
+                clear();
+                slabs.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean isExpired(int slot, long now) {
+            return (expireAfterWriteNanos > 0 && now - writeTimes[slot] >= expireAfterWriteNanos)
+                || (expireAfterAccessNanos > 0 && now - accessTimes[slot] >= expireAfterAccessNanos);
+        }
+
+        /**
+         * Moves the clock hand until it removes an entry, giving a second chance to the entries read since the hand
+         * last passed them.
+         */
+        private boolean evictOne(long now) {
+            if (size == 0) {
+                return false;
+            }
+            while (true) {
+                int slot = hand;
+                if (blocks[slot] != 0) {
+                    if (isExpired(slot, now)) {
+                        removeSlot(slot);
+                        return true;
+                    }
+                    if (referenced[slot]) {
+                        referenced[slot] = false;
+                    } else {
+                        removeSlot(slot);
+                        evictions.increment();
+                        return true;
+                    }
+                }
+                hand = (slot + 1) & mask;
+            }
+        }
+
+        private int find(int hash, byte[] key) {
+            int slot = hash & mask;
+            while (blocks[slot] != 0) {
+                if (hashes[slot] == hash && keyEquals(blocks[slot] - 1, key)) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        private void insert(int hash, int block, long writeTime, long accessTime, boolean ref) {
+            int slot = hash & mask;
+            while (blocks[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            hashes[slot] = hash;
+            blocks[slot] = block;
+            writeTimes[slot] = writeTime;
+            accessTimes[slot] = accessTime;
+            referenced[slot] = ref;
+            size++;
+        }
+
+        /**
+         * Frees the blocks of an entry and shifts the following entries of its probe sequence back, so that the
+         * index needs no tombstones.
+         */
+        private void removeSlot(int slot) {
+            free(blocks[slot] - 1);
+            size--;
+            int i = slot;
+            int j = slot;
+            while (true) {
+                j = (j + 1) & mask;
+                if (blocks[j] == 0) {
+                    blocks[i] = 0;
+                    referenced[i] = false;
+                    return;
+                }
+                int ideal = hashes[j] & mask;
+                boolean stays = i <= j ? (i < ideal && ideal <= j) : (i < ideal || ideal <= j);
+                if (!stays) {
+                    hashes[i] = hashes[j];
+                    blocks[i] = blocks[j];
+                    writeTimes[i] = writeTimes[j];
+                    accessTimes[i] = accessTimes[j];
+                    referenced[i] = referenced[j];
+                    i = j;
+                }
+            }
+        }
+
+        private void allocateIndex(int capacity, boolean rehash) {
+            int[] oldHashes = hashes;
+            int[] oldBlocks = blocks;
+            long[] oldWriteTimes = writeTimes;
+            long[] oldAccessTimes = accessTimes;
+            boolean[] oldReferenced = referenced;
+            hashes = new int[capacity];
+            blocks = new int[capacity];
+            writeTimes = new long[capacity];
+            accessTimes = new long[capacity];
+            referenced = new boolean[capacity];
+            mask = capacity - 1;
+            hand = 0;
+            size = 0;
+            if (rehash) {
+                for (int i = 0; i < oldBlocks.length; i++) {
+                    if (oldBlocks[i] != 0) {
+                        insert(oldHashes[i], oldBlocks[i], oldWriteTimes[i], oldAccessTimes[i], oldReferenced[i]);
+                    }
+                }
+            }
+        }
+
+        private int allocateBlock() {
+            if (freeList != END) {
+                int block = freeList;
+                freeList = next(block);
+                freeBlocks--;
+                return block;
+            }
+            int block = allocatedBlocks++;
+            if (block / blocksPerSlab >= slabs.size()) {
+                int slabBlocks = Math.min(blocksPerSlab, maxBlocks - block);
+                slabs.add(ByteBuffer.allocateDirect(slabBlocks * blockSize));
+            }
+            return block;
+        }
+
+        private void free(int first) {
+            int block = first;
+            while (block != END) {
+                int next = next(block);
+                setNext(block, freeList);
+                freeList = block;
+                freeBlocks++;
+                block = next;
+            }
+        }
+
+        private int write(byte[] key, byte[] value, int count) {
+            int[] chain = new int[count];
+            for (int i = 0; i < count; i++) {
+                chain[i] = allocateBlock();
+            }
+            for (int i = 0; i < count; i++) {
+                setNext(chain[i], i + 1 < count ? chain[i + 1] : END);
+            }
+            ByteBuffer slab = slab(chain[0]);
+            int offset = offset(chain[0]);
+            slab.putInt(offset + NEXT, key.length);
+            slab.putInt(offset + NEXT + 4, value.length);
+            Cursor cursor = new Cursor(chain[0], ENTRY_HEADER);
+            cursor.write(key);
+            cursor.write(value);
+            return chain[0];
+        }
+
+        private byte[] readValue(int first) {
+            ByteBuffer slab = slab(first);
+            int offset = offset(first);
+            int keyLength = slab.getInt(offset + NEXT);
+            byte[] value = new byte[slab.getInt(offset + NEXT + 4)];
+            Cursor cursor = new Cursor(first, ENTRY_HEADER);
+            cursor.skip(keyLength);
+            cursor.read(value);
+            return value;
+        }
+
+        private boolean keyEquals(int first, byte[] key) {
+            if (slab(first).getInt(offset(first) + NEXT) != key.length) {
+                return false;
+            }
+            byte[] stored = new byte[key.length];
+            new Cursor(first, ENTRY_HEADER).read(stored);
+            return Arrays.equals(stored, key);
+        }
+
+        private ByteBuffer slab(int block) {
+            return slabs.get(block / blocksPerSlab);
+        }
+
+        private int offset(int block) {
+            return (block % blocksPerSlab) * blockSize;
+        }
+
+        private int next(int block) {
+            return slab(block).getInt(offset(block));
+        }
+
+        private void setNext(int block, int next) {
+            slab(block).putInt(offset(block), next);
+        }
+
+        /**
+         * A position in the payload of a chain of blocks.
+         */
+        private final class Cursor {
+
+            int block;
+            int position;
+
+            Cursor(int block, int position) {
+                this.block = block;
+                this.position = position;
+            }
+
+            void write(byte[] bytes) {
+                int written = 0;
+                while (written < bytes.length) {
+                    advanceIfFull();
+                    int length = Math.min(bytes.length - written, payloadPerBlock - position);
+                    slab(block).put(offset(block) + NEXT + position, bytes, written, length);
+                    written += length;
+                    position += length;
+                }
+            }
+
+            void read(byte[] bytes) {
+                int read = 0;
+                while (read < bytes.length) {
+                    advanceIfFull();
+                    int length = Math.min(bytes.length - read, payloadPerBlock - position);
+                    slab(block).get(offset(block) + NEXT + position, bytes, read, length);
+                    read += length;
+                    position += length;
+                }
+            }
+
+            void skip(int length) {
+                int remaining = length;
+                while (remaining > 0) {
+                    advanceIfFull();
+                    int skipped = Math.min(remaining, payloadPerBlock - position);
+                    remaining -= skipped;
+                    position += skipped;
+                }
+            }
+
+            private void advanceIfFull() {
+                if (position == payloadPerBlock) {
+                    block = next(block);
+                    position = 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.offheap;
+
+import io.micronaut.cache.CacheInfo;
+import io.micronaut.cache.SyncCache;
+import io.micronaut.cache.serialize.CacheValueCodec;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.serialize.JdkSerializer;
+import io.micronaut.core.serialize.exceptions.SerializationException;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.ArgumentUtils;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * <p>A {@link SyncCache} that stores its entries outside the Java heap, in an {@link OffHeapStore}, so that caches of
+ * several gigabytes don't lengthen garbage collection pauses.</p>
+ *
+ * <p>The keys and values are serialized on every write and deserialized on every read. String keys are stored as
+ * UTF-8 and the other keys with Java serialization, so keys are equal when their serialized forms are. The values are
+ * encoded with the given {@link CacheValueCodec}.</p>
+ *
+ * <p>An entry larger than a segment is not stored. The first such entry is logged as a warning, and the following ones
+ * at debug level.</p>
+ *
+ * @since 5.1.0
+ */
+public class OffHeapSyncCache implements SyncCache<OffHeapStore>, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OffHeapSyncCache.class);
+    private static final byte STRING_KEY = 1;
+    private static final byte SERIALIZED_KEY = 2;
+
+    private final String name;
+    private final OffHeapStore store;
+    private final CacheValueCodec codec;
+    private final JdkSerializer keySerializer = new JdkSerializer();
+    private final AtomicBoolean rejectionLogged = new AtomicBoolean();
+
+    /**
+     * @param configuration The configuration
+     * @param codec         The codec of the values
+     */
+    public OffHeapSyncCache(@NonNull OffHeapCacheConfiguration configuration, @NonNull CacheValueCodec codec) {
+        this.name = configuration.getName();
+        this.codec = codec;
+        this.store = new OffHeapStore(
+            configuration.getMaximumWeight(),
+            configuration.getMaximumSize().orElse(-1),
+            configuration.getSegments(),
+            configuration.getBlockSize(),
+            configuration.getSlabSize(),
+            configuration.getInitialCapacity().orElse(16),
+            configuration.getExpireAfterWrite().map(Duration::toNanos).orElse(0L),
+            configuration.getExpireAfterAccess().map(Duration::toNanos).orElse(0L),
+            System::nanoTime
+        );
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public OffHeapStore getNativeCache() {
+        return store;
+    }
+
+    @NonNull
+    @Override
+    public <T> Optional<T> get(@NonNull Object key, @NonNull Argument<T> requiredType) {
+        ArgumentUtils.requireNonNull("key", key);
+        byte[] value = store.get(encodeKey(key));
+        return value == null ? Optional.empty() : codec.decode(value, requiredType);
+    }
+
+    @Override
+    public <T> T get(@NonNull Object key, @NonNull Argument<T> requiredType, @NonNull Supplier<T> supplier) {
+        ArgumentUtils.requireNonNull("key", key);
+        Optional<T> existingValue = get(key, requiredType);
+        if (existingValue.isPresent()) {
+            return existingValue.get();
+        }
+        T value = supplier.get();
+        put(key, value);
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    @NonNull
+    @Override
+    public <T> Optional<T> putIfAbsent(@NonNull Object key, @NonNull T value) {
+        ArgumentUtils.requireNonNull("key", key);
+        ArgumentUtils.requireNonNull("value", value);
+        byte[] existing = store.putIfAbsent(encodeKey(key), codec.encode(value));
+        return existing == null ? Optional.empty() : codec.decode(existing, Argument.of((Class<T>) value.getClass()));
+    }
+
+    /**
+     * <p>Cache the specified value using the specified key. If the value is null, it will call
+     * {@link #invalidate(Object)} passing the key</p>
+     *
+     * @param key   the key with which the specified value is to be associated
+     * @param value the value to be associated with the specified key
+     */
+    @Override
+    public void put(@NonNull Object key, @Nullable Object value) {
+        ArgumentUtils.requireNonNull("key", key);
+        if (value == null) {
+            invalidate(key);
+        } else {
+            byte[] encodedValue = codec.encode(value);
+            if (!store.put(encodeKey(key), encodedValue)) {
+                logRejection(key, encodedValue.length);
+            }
+        }
+    }
+
+    @Override
+    public void invalidate(@NonNull Object key) {
+        ArgumentUtils.requireNonNull("key", key);
+        store.remove(encodeKey(key));
+    }
+
+    @Override
+    public void invalidateAll() {
+        store.clear();
+    }
+
+    /**
+     * Releases the off-heap memory of the cache.
+     */
+    @Override
+    public void close() {
+        store.release();
+    }
+
+    @Override
+    public Publisher<CacheInfo> getCacheInfo() {
+        return Flux.just(new CacheInfo() {
+            @NonNull
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @NonNull
+            @Override
+            public Map<String, Object> get() {
+                Map<String, Object> data = new LinkedHashMap<>(2);
+                data.put("implementationClass", getNativeCache().getClass().getName());
+                data.put("offheap", getStoreData());
+                return data;
+            }
+        });
+    }
+
+    private Map<String, Object> getStoreData() {
+        Map<String, Object> values = new LinkedHashMap<>(10);
+        values.put("estimatedSize", store.size());
+        values.put("maximumWeight", store.getMaximumWeight());
+        values.put("usedBytes", store.getUsedBytes());
+        values.put("allocatedBytes", store.getAllocatedBytes());
+        values.put("segments", store.getSegmentCount());
+        values.put("hitCount", store.getHitCount());
+        values.put("missCount", store.getMissCount());
+        values.put("evictionCount", store.getEvictionCount());
+        values.put("rejectionCount", store.getRejectionCount());
+        return values;
+    }
+
+    private void logRejection(Object key, int valueSize) {
+        if (rejectionLogged.compareAndSet(false, true)) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("The value of {} bytes for the key [{}] is larger than a segment of the off-heap cache [{}] and was not stored. Further rejections are logged at debug level", valueSize, key, name);
+            }
+        } else if (LOG.isDebugEnabled()) {
+            LOG.debug("The value of {} bytes for the key [{}] is larger than a segment of the off-heap cache [{}] and was not stored", valueSize, key, name);
+        }
+    }
+
+    private byte[] encodeKey(Object key) {
+        if (key instanceof String string) {
+            return prefixed(STRING_KEY, string.getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] serialized = keySerializer.serialize(key)
+            .orElseThrow(() -> new SerializationException("Error serializing key of type " + key.getClass().getName()));
+        return prefixed(SERIALIZED_KEY, serialized);
+    }
+
+    private static byte[] prefixed(byte type, byte[] bytes) {
+        byte[] key = new byte[bytes.length + 1];
+        key[0] = type;
+        System.arraycopy(bytes, 0, key, 1, bytes.length);
+        return key;
+    }
+}
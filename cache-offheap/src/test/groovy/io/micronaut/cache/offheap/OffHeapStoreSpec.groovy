@@ -0,0 +1,182 @@
+package io.micronaut.cache.offheap
+
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.TimeUnit
+import java.util.function.LongSupplier
+
+class OffHeapStoreSpec extends Specification {
+
+    long now = 0
+    LongSupplier ticker = { now } as LongSupplier
+
+    void "test entries spanning several blocks are stored and removed"() {
+        given:
+        OffHeapStore store = store(1024 * 1024)
+        byte[] large = new byte[10_000]
+        new Random(1).nextBytes(large)
+
+        when:
+        store.put(bytes("small"), bytes("value"))
+        store.put(bytes("large"), large)
+
+        then:
+        store.get(bytes("small")) == bytes("value")
+        store.get(bytes("large")) == large
+        store.get(bytes("missing")) == null
+        store.size() == 2
+        store.hitCount == 2
+        store.missCount == 1
+
+        when:
+        store.put(bytes("small"), bytes("other"))
+        store.remove(bytes("large"))
+
+        then:
+        store.get(bytes("small")) == bytes("other")
+        store.get(bytes("large")) == null
+        store.size() == 1
+        store.usedBytes == 64
+    }
+
+    void "test putIfAbsent keeps the existing value"() {
+        given:
+        OffHeapStore store = store(1024 * 1024)
+
+        expect:
+        store.putIfAbsent(bytes("key"), bytes("one")) == null
+        store.putIfAbsent(bytes("key"), bytes("two")) == bytes("one")
+        store.get(bytes("key")) == bytes("one")
+    }
+
+    void "test the store behaves as a map under random operations"() {
+        given:
+        OffHeapStore store = store(64 * 1024 * 1024)
+        Map<String, String> model = [:]
+        Random random = new Random(42)
+
+        when:
+        100_000.times {
+            String key = "key" + random.nextInt(5_000)
+            switch (random.nextInt(4)) {
+                case 0:
+                    store.remove(bytes(key))
+                    model.remove(key)
+                    break
+                case 1:
+                    String value = "value" * random.nextInt(40)
+                    store.put(bytes(key), bytes(value))
+                    model.put(key, value)
+                    break
+                default:
+                    byte[] value = store.get(bytes(key))
+                    assert (value == null ? null : new String(value, StandardCharsets.UTF_8)) == model.get(key)
+            }
+        }
+
+        then:
+        store.size() == model.size()
+        store.evictionCount == 0
+        model.every { key, value -> store.get(bytes(key)) == bytes(value) }
+    }
+
+    void "test entries are evicted once the maximum weight is reached, sparing the entries that were read"() {
+        given:
+        OffHeapStore store = new OffHeapStore(64 * 100, -1, 1, 64, 64 * 10, 16, 0, 0, ticker)
+
+        when:
+        100.times { store.put(bytes("key" + it), bytes("value")) }
+        (0..<100).findAll { it != 5 }.each { store.get(bytes("key" + it)) }
+        store.put(bytes("other"), bytes("value"))
+
+        then:
+        store.usedBytes == 64 * 100
+        store.size() == 100
+        store.evictionCount == 1
+        store.get(bytes("key5")) == null
+        store.get(bytes("other")) != null
+    }
+
+    void "test entries are evicted once the maximum size is reached"() {
+        given:
+        OffHeapStore store = new OffHeapStore(1024 * 1024, 10, 1, 64, 64 * 1024, 16, 0, 0, ticker)
+
+        when:
+        20.times { store.put(bytes("key" + it), bytes("value")) }
+
+        then:
+        store.size() == 10
+        store.evictionCount == 10
+    }
+
+    void "test entries larger than a segment are rejected"() {
+        given:
+        OffHeapStore store = new OffHeapStore(64 * 100, -1, 1, 64, 64 * 10, 16, 0, 0, ticker)
+        store.put(bytes("key"), bytes("value"))
+
+        expect:
+        !store.put(bytes("key"), new byte[64 * 100])
+        store.get(bytes("key")) == null
+        store.rejectionCount == 1
+    }
+
+    void "test entries expire after write and after access"() {
+        given:
+        OffHeapStore afterWrite = new OffHeapStore(1024 * 1024, -1, 1, 64, 64 * 1024, 16, TimeUnit.SECONDS.toNanos(10), 0, ticker)
+        OffHeapStore afterAccess = new OffHeapStore(1024 * 1024, -1, 1, 64, 64 * 1024, 16, 0, TimeUnit.SECONDS.toNanos(10), ticker)
+        afterWrite.put(bytes("key"), bytes("value"))
+        afterAccess.put(bytes("key"), bytes("value"))
+
+        when:
+        now = TimeUnit.SECONDS.toNanos(6)
+
+        then:
+        afterWrite.get(bytes("key")) != null
+        afterAccess.get(bytes("key")) != null
+
+        when:
+        now = TimeUnit.SECONDS.toNanos(12)
+
+        then:
+        afterWrite.get(bytes("key")) == null
+        afterAccess.get(bytes("key")) != null
+
+        when:
+        now = TimeUnit.SECONDS.toNanos(30)
+
+        then:
+        afterAccess.get(bytes("key")) == null
+        afterAccess.size() == 0
+    }
+
+    void "test clear keeps the slabs"() {
+        given:
+        OffHeapStore store = store(1024 * 1024)
+        1000.times { store.put(bytes("key" + it), bytes("value")) }
+        long allocated = store.allocatedBytes
+
+        when:
+        store.clear()
+        1000.times { store.put(bytes("key" + it), bytes("value")) }
+
+        then:
+        store.allocatedBytes == allocated
+        store.get(bytes("key999")) == bytes("value")
+
+        when:
+        store.release()
+
+        then:
+        store.allocatedBytes == 0
+        store.size() == 0
+    }
+
+    private OffHeapStore store(long maximumWeight) {
+        new OffHeapStore(maximumWeight, -1, 4, 64, 64 * 1024, 16, 0, 0, ticker)
+    }
+
+    private static byte[] bytes(String value) {
+        value.getBytes(StandardCharsets.UTF_8)
+    }
+}
@@ -0,0 +1,107 @@
+package io.micronaut.cache.offheap
+
+import io.micronaut.cache.CacheManager
+import io.micronaut.cache.SyncCache
+import io.micronaut.cache.annotation.Cacheable
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import jakarta.inject.Singleton
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.atomic.AtomicInteger
+
+class OffHeapSyncCacheSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext applicationContext = ApplicationContext.run([
+        'spec.name'                                  : 'OffHeapSyncCacheSpec',
+        'micronaut.offheap.caches.books.maximum-weight': '8MB',
+        'micronaut.offheap.caches.books.segments'      : 4
+    ])
+
+    void "test the configured cache is stored off heap"() {
+        given:
+        SyncCache<OffHeapStore> cache = applicationContext.getBean(CacheManager).getCache("books")
+
+        when:
+        cache.put("one", new Book(title: "The Stand"))
+        cache.put(1L, "number")
+        cache.put(new Key(id: 1), "composite")
+
+        then:
+        cache instanceof OffHeapSyncCache
+        cache.nativeCache.maximumWeight == 8 * 1024 * 1024
+        cache.nativeCache.segmentCount == 4
+        cache.get("one", Book).get().title == "The Stand"
+        cache.get(1L, String).get() == "number"
+        cache.get(new Key(id: 1), String).get() == "composite"
+        cache.get(new Key(id: 2), String).isEmpty()
+        cache.putIfAbsent("one", new Book(title: "It")).get().title == "The Stand"
+
+        when:
+        cache.put("one", null)
+
+        then:
+        cache.get("one", Book).isEmpty()
+    }
+
+    void "test cacheable methods use the off-heap cache"() {
+        given:
+        BookService bookService = applicationContext.getBean(BookService)
+
+        expect:
+        bookService.find("The Stand").title == "The Stand"
+        bookService.find("The Stand").title == "The Stand"
+        bookService.invocations.get() == 1
+    }
+
+    void "test the dynamic cache manager creates off-heap caches"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(['micronaut.offheap.dynamic': true])
+
+        when:
+        SyncCache cache = context.getBean(CacheManager).getCache("dynamic")
+        cache.put("key", "value")
+
+        then:
+        cache instanceof OffHeapSyncCache
+        cache.get("key", String).get() == "value"
+
+        cleanup:
+        context.close()
+    }
+
+    static class Book implements Serializable {
+        String title
+    }
+
+    static class Key implements Serializable {
+        int id
+
+        @Override
+        boolean equals(Object o) {
+            o instanceof Key && o.id == id
+        }
+
+        @Override
+        int hashCode() {
+            id
+        }
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'OffHeapSyncCacheSpec')
+    static class BookService {
+
+        AtomicInteger invocations = new AtomicInteger()
+
+        @Cacheable("books")
+        Book find(String title) {
+            invocations.incrementAndGet()
+            new Book(title: title)
+        }
+    }
+}
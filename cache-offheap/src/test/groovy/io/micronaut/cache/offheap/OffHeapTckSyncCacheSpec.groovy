@@ -0,0 +1,16 @@
+package io.micronaut.cache.offheap
+
+import io.micronaut.cache.tck.AbstractSyncCacheSpec
+import io.micronaut.context.ApplicationContext
+
+class OffHeapTckSyncCacheSpec extends AbstractSyncCacheSpec {
+
+    @Override
+    ApplicationContext createApplicationContext() {
+        return ApplicationContext.run(
+                "micronaut.offheap.caches.counter.maximum-weight": "1MB",
+                "micronaut.offheap.caches.counter2.maximum-weight": "1MB",
+                "micronaut.offheap.caches.test.maximum-weight": "1MB"
+        )
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017-2025 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.cache.processor;
+
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.inject.ast.MethodElement;
+import io.micronaut.inject.ast.ParameterElement;
+import io.micronaut.inject.visitor.TypeElementVisitor;
+import io.micronaut.inject.visitor.VisitorContext;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * <p>Validates the {@code parameters} member of the {@code @Cacheable}, {@code @CachePut} and
+ * {@code @CacheInvalidate} annotations at compile time.</p>
+ *
+ * <p>The cache interceptor builds keys from the parameters whose name is listed, so a name that doesn't match a
+ * parameter of the method would otherwise be silently left out of the key.</p>
+ *
+ * @since 5.1.0
+ */
+@Internal
+public final class CacheParametersVisitor implements TypeElementVisitor<Object, Object> {
+
+    private static final String PACKAGE = "io.micronaut.cache.annotation.";
+    private static final String CACHEABLE = PACKAGE + "Cacheable";
+    private static final String CACHE_PUT = PACKAGE + "CachePut";
+    private static final String CACHE_INVALIDATE = PACKAGE + "CacheInvalidate";
+    private static final List<String> ANNOTATIONS = List.of(CACHEABLE, CACHE_PUT, CACHE_INVALIDATE);
+    private static final String MEMBER_PARAMETERS = "parameters";
+
+    @NonNull
+    @Override
+    public Set<String> getSupportedAnnotationNames() {
+        return Set.of(CACHEABLE, CACHE_PUT, CACHE_INVALIDATE, PACKAGE + "PutOperations", PACKAGE + "InvalidateOperations");
+    }
+
+    @NonNull
+    @Override
+    public VisitorKind getVisitorKind() {
+        return VisitorKind.ISOLATING;
+    }
+
+    @Override
+    public void visitMethod(MethodElement element, VisitorContext context) {
+        Set<String> parameterNames = null;
+        for (String annotation : ANNOTATIONS) {
+            for (AnnotationValue<Annotation> value : annotationValues(element, annotation)) {
+                String[] parameters = value.stringValues(MEMBER_PARAMETERS);
+                if (parameters.length == 0) {
+                    continue;
+                }
+                if (parameterNames == null) {
+                    parameterNames = Arrays.stream(element.getParameters())
+                        .map(ParameterElement::getName)
+                        .collect(Collectors.toCollection(LinkedHashSet::new));
+                }
+                for (String parameter : parameters) {
+                    if (!parameterNames.contains(parameter)) {
+                        context.fail("Parameter [" + parameter + "] of @"
+                            + annotation.substring(PACKAGE.length())
+                            + " is not a parameter of the method " + element.getName()
+                            + ". Declared parameters: " + parameterNames, element);
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<AnnotationValue<Annotation>> annotationValues(MethodElement element, String annotation) {
+        List<AnnotationValue<Annotation>> values = element.getAnnotationValuesByName(annotation);
+        if (values.isEmpty()) {
+            return element.<Annotation>findAnnotation(annotation).map(List::of).orElse(List.of());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,87 @@
+package io.micronaut.cache.processor
+
+import org.codehaus.groovy.control.MultipleCompilationErrorsException
+import spock.lang.Specification
+
+class CacheParametersVisitorSpec extends Specification {
+
+    void "test unknown parameter names fail the compilation"() {
+        when:
+        compile("""
+package test
+
+import io.micronaut.cache.annotation.*
+import jakarta.inject.Singleton
+
+@Singleton
+class BookService {
+
+    @Cacheable(cacheNames = "books", parameters = "isbn")
+    String find(String title, int year) {
+        return title
+    }
+}
+""")
+
+        then:
+        def e = thrown(MultipleCompilationErrorsException)
+        e.message.contains('Parameter [isbn] of @Cacheable is not a parameter of the method find. Declared parameters: [title, year]')
+    }
+
+    void "test repeated annotations are validated"() {
+        when:
+        compile("""
+package test
+
+import io.micronaut.cache.annotation.*
+import jakarta.inject.Singleton
+
+@Singleton
+class BookService {
+
+    @CachePut(cacheNames = "books", parameters = "title")
+    @CachePut(cacheNames = "authors", parameters = "author")
+    @CacheInvalidate(cacheNames = "titles", parameters = "year")
+    String save(String title, int year) {
+        return title
+    }
+}
+""")
+
+        then:
+        def e = thrown(MultipleCompilationErrorsException)
+        e.message.contains('Parameter [author] of @CachePut is not a parameter of the method save')
+        !e.message.contains('Parameter [title]')
+        !e.message.contains('Parameter [year]')
+    }
+
+    void "test known parameter names compile"() {
+        when:
+        Class<?> type = compile("""
+package test
+
+import io.micronaut.cache.annotation.*
+import jakarta.inject.Singleton
+
+@Singleton
+class BookService {
+
+    @Cacheable(cacheNames = "books", parameters = ["title", "year"])
+    String find(String title, int year, boolean refresh) {
+        return title
+    }
+
+    @CacheInvalidate(cacheNames = "books", all = true)
+    void clear() {
+    }
+}
+""")
+
+        then:
+        type.simpleName == 'BookService'
+    }
+
+    private static Class<?> compile(String source) {
+        return new GroovyClassLoader(CacheParametersVisitorSpec.classLoader).parseClass(source)
+    }
+}
@@ -18,6 +18,7 @@ package io.micronaut.cache.tck
 import io.micronaut.cache.AsyncCache
 import io.micronaut.cache.CacheManager
 import io.micronaut.context.ApplicationContext
+import io.micronaut.core.type.Argument
 import reactor.core.publisher.Flux
 import reactor.core.publisher.Mono
 import spock.lang.Retry
@@ -268,4 +269,43 @@ abstract class AbstractAsyncCacheSpec extends Specification {
         applicationContext.stop()
     }
 
+    void "test async bulk operations"() {
+        given:
+        ApplicationContext applicationContext = createApplicationContext()
+        CacheManager cacheManager = applicationContext.getBean(CacheManager)
+
+        when:
+        AsyncCache asyncCache = applicationContext.get("test", AsyncCache).orElse(cacheManager.getCache('test').async())
+
+        then:
+        asyncCache.putAll(seven: 7, eight: 8, nine: 9).get()
+        asyncCache.getAll(["nine", "seven", "ten"], Argument.of(Integer)).get() == [nine: 9, seven: 7]
+
+        when:
+        asyncCache.invalidateAll(["seven", "nine"]).get()
+
+        then:
+        asyncCache.getAll(["seven", "eight", "nine"], Argument.of(Integer)).get() == [eight: 8]
+
+        cleanup:
+        applicationContext.stop()
+    }
+
+    void "test async putAll invalidates the keys of null values"() {
+        given:
+        ApplicationContext applicationContext = createApplicationContext()
+        CacheManager cacheManager = applicationContext.getBean(CacheManager)
+        AsyncCache asyncCache = applicationContext.get("test", AsyncCache).orElse(cacheManager.getCache('test').async())
+
+        when:
+        asyncCache.putAll(ten: 10, eleven: 11).get()
+        asyncCache.putAll(ten: null, eleven: 12, twelve: null).get()
+
+        then:
+        asyncCache.getAll(["ten", "eleven", "twelve"], Argument.of(Integer)).get() == [eleven: 12]
+
+        cleanup:
+        applicationContext.stop()
+    }
+
 }
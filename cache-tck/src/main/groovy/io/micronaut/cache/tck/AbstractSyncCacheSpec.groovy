@@ -24,6 +24,7 @@ import io.micronaut.cache.SyncCache
 import io.micronaut.context.ApplicationContext
 import io.micronaut.context.annotation.Primary
 import io.micronaut.context.annotation.Replaces
+import io.micronaut.core.type.Argument
 import jakarta.inject.Singleton
 import reactor.core.publisher.Flux
 import reactor.core.publisher.Mono
@@ -275,6 +276,46 @@ abstract class AbstractSyncCacheSpec extends Specification {
         syncCache.get("six", Integer).get() == 6
     }
 
+    void "test bulk operations"() {
+        given:
+        ApplicationContext applicationContext = createApplicationContext()
+        CacheManager cacheManager = applicationContext.getBean(CacheManager)
+
+        when:
+        SyncCache syncCache = applicationContext.get("test", SyncCache).orElse(cacheManager.getCache('test'))
+        syncCache.putAll(seven: 7, eight: 8, nine: 9)
+
+        then:
+        syncCache.getAll(["nine", "seven", "ten"], Argument.of(Integer)) == [nine: 9, seven: 7]
+        syncCache.getAll(["nine", "seven", "ten"], Argument.of(Integer)).keySet().toList() == ["nine", "seven"]
+
+        when:
+        syncCache.invalidateAll(["seven", "nine"])
+
+        then:
+        syncCache.getAll(["seven", "eight", "nine"], Argument.of(Integer)) == [eight: 8]
+
+        cleanup:
+        applicationContext.stop()
+    }
+
+    void "test putAll invalidates the keys of null values"() {
+        given:
+        ApplicationContext applicationContext = createApplicationContext()
+        CacheManager cacheManager = applicationContext.getBean(CacheManager)
+        SyncCache syncCache = applicationContext.get("test", SyncCache).orElse(cacheManager.getCache('test'))
+
+        when:
+        syncCache.putAll(ten: 10, eleven: 11)
+        syncCache.putAll(ten: null, eleven: 12, twelve: null)
+
+        then:
+        syncCache.getAll(["ten", "eleven", "twelve"], Argument.of(Integer)) == [eleven: 12]
+
+        cleanup:
+        applicationContext.stop()
+    }
+
     @Singleton
     @Replaces(DefaultCacheErrorHandler)
     @Primary
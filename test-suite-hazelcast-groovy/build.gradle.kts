@@ -10,6 +10,7 @@ dependencies {
     testImplementation(projects.micronautCacheHazelcast)
 
     testImplementation(mn.micronaut.inject.groovy)
+    testCompileOnly(projects.micronautCacheProcessor)
     testImplementation(mn.micronaut.http.client)
     testImplementation(mn.micronaut.http.server.netty)
     testImplementation(mnSerde.micronaut.serde.jackson)
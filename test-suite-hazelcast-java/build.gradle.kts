@@ -8,6 +8,7 @@ repositories {
 
 dependencies {
     testAnnotationProcessor(mn.micronaut.inject.java)
+    testAnnotationProcessor(projects.micronautCacheProcessor)
 
     testImplementation(projects.micronautCacheHazelcast)
 
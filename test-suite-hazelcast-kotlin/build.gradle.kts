@@ -9,6 +9,7 @@ repositories {
 
 dependencies {
     kaptTest(mn.micronaut.inject.java)
+    kaptTest(projects.micronautCacheProcessor)
 
     testImplementation(projects.micronautCacheHazelcast)
 